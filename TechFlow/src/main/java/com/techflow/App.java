@@ -1,9 +1,34 @@
 package com.techflow;
 
+import com.techflow.controller.TaskController;
+import com.techflow.controller.TaskScript;
+import com.techflow.logging.EventLog;
+import com.techflow.logging.LogLevel;
+import com.techflow.model.AsyncTaskService;
+import com.techflow.model.BatchResult;
+import com.techflow.model.ConcurrentTaskRepository;
+import com.techflow.model.DeadlineEvent;
+import com.techflow.model.DeadlineScheduler;
 import com.techflow.model.TaskService;
+import com.techflow.persistence.MappedTaskRepository;
+import com.techflow.persistence.TaskStore;
+import com.techflow.persistence.WriteAheadLog;
+import com.techflow.server.TaskHttpServer;
+import com.techflow.transfer.TaskExporter;
+import com.techflow.transfer.TaskImporter;
 import com.techflow.visual.TaskAppGUI;
 
 import javax.swing.SwingUtilities;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.util.concurrent.Executors;
 
 /**
  * Classe principal para rodar a aplicação.
@@ -11,15 +36,188 @@ import javax.swing.SwingUtilities;
  */
 public class App {
 
-    // Instancia o TaskService, que será passado para a GUI.
-    private static final TaskService taskService = new TaskService();
-
     public static void main(String[] args) {
         System.out.println("--- INICIANDO SISTEMA DE GERENCIAMENTO DE TAREFAS (SWING) ---");
 
+        // Instancia o TaskService; a GUI o usa pela fachada assíncrona, fora da EDT.
+        TaskService taskService = createTaskService();
+
+        // Migração entre ambientes: -Dtechflow.import=arquivo (.csv ou .jsonl) carrega as tarefas na
+        // inicialização; -Dtechflow.export=arquivo grava o quadro inteiro e encerra.
+        String importFile = System.getProperty("techflow.import");
+        if (importFile != null) {
+            importBoard(taskService, Path.of(importFile));
+        }
+        String exportFile = System.getProperty("techflow.export");
+        if (exportFile != null) {
+            exportBoard(taskService, Path.of(exportFile));
+            System.exit(0);
+        }
+
+        // Modo script (sem GUI): -Dtechflow.script=arquivo (ou "-" para a entrada padrão) executa os comandos e encerra.
+        String script = System.getProperty("techflow.script");
+        if (script != null) {
+            System.exit(runScript(taskService, script));
+        }
+
+        // O repositório mapeado não é thread-safe: suas operações ficam em uma única thread.
+        AsyncTaskService asyncService = System.getProperty("techflow.mapped") != null
+                ? new AsyncTaskService(taskService, 1)
+                : new AsyncTaskService(taskService);
+        // Avisos de prazo no console; a carga inicial lê o repositório em outra thread, o que o
+        // repositório mapeado não admite.
+        if (System.getProperty("techflow.mapped") == null) {
+            startDeadlineWarnings(taskService);
+        }
+
+        // Modo servidor (sem GUI): -Dtechflow.http=porta expõe a API HTTP/JSON para os sistemas de despacho.
+        String httpPort = System.getProperty("techflow.http");
+        if (httpPort != null) {
+            startHttpServer(taskService, Integer.parseInt(httpPort));
+            return;
+        }
+
         // Inicializa a aplicação Swing na Thread de Despacho de Eventos (EDT).
         SwingUtilities.invokeLater(() -> {
-            new TaskAppGUI(taskService);
+            new TaskAppGUI(asyncService);
+        });
+    }
+
+    private static final int MAX_REPORTED_REJECTIONS = 20;
+
+    private static void importBoard(TaskService taskService, Path file) {
+        try {
+            long start = System.nanoTime();
+            BatchResult result = TaskImporter.importFile(taskService, file);
+            System.out.printf("Importação de %s: %d tarefas em %d ms, %d rejeitadas.%n", file.getFileName(),
+                    result.successCount(), (System.nanoTime() - start) / 1_000_000, result.failureCount());
+            // Só as primeiras rejeições: um arquivo errado inteiro geraria uma linha por registro.
+            result.failures().stream().limit(MAX_REPORTED_REJECTIONS).forEach(failure ->
+                    System.err.println("❌ Registro " + (failure.index() + 1) + ": " + failure.error()));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Não foi possível importar " + file + ": " + e.getMessage(), e);
+        }
+    }
+
+    private static void exportBoard(TaskService taskService, Path file) {
+        try {
+            long start = System.nanoTime();
+            long count = TaskExporter.exportFile(taskService, file);
+            System.out.printf("Exportação para %s: %d tarefas em %d ms.%n", file.getFileName(), count,
+                    (System.nanoTime() - start) / 1_000_000);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Não foi possível exportar para " + file, e);
+        }
+    }
+
+    /**
+     * Executa um script de comandos (formato em TaskScript).
+     * @return Código de saída: 0 se todos os comandos tiveram sucesso, 1 caso contrário.
+     */
+    private static int runScript(TaskService taskService, String script) {
+        // Uma mensagem de log por operação atrasaria a reprodução; os erros já saem na saída do script.
+        if (System.getProperty("techflow.log.level") == null) {
+            EventLog.console().setLevel(LogLevel.OFF);
+        }
+        OutputStreamWriter out = new OutputStreamWriter(System.out);
+        try (Reader in = "-".equals(script) ? new InputStreamReader(System.in) : Files.newBufferedReader(Path.of(script))) {
+            TaskScript.Result result = new TaskController(taskService).runScript(in, out);
+            return result.failures() == 0 ? 0 : 1;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Não foi possível executar o script: " + script, e);
+        }
+    }
+
+    private static void startHttpServer(TaskService taskService, int port) {
+        try {
+            InetSocketAddress address = new InetSocketAddress(port);
+            // O repositório mapeado não é thread-safe: as requisições são atendidas uma por vez.
+            TaskHttpServer server = System.getProperty("techflow.mapped") != null
+                    ? TaskHttpServer.start(taskService, address, Executors.newSingleThreadExecutor())
+                    : TaskHttpServer.start(taskService, address);
+            System.out.println("API HTTP disponível em http://localhost:" + server.port() + "/tasks");
+            Runtime.getRuntime().addShutdownHook(new Thread(server::close));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Não foi possível iniciar a API HTTP na porta " + port, e);
+        }
+    }
+
+    // Prazos: aviso com 3 dias de antecedência; a verificação a cada minuto só dispara os dias que passaram.
+    private static final int DUE_SOON_DAYS = 3;
+    private static final long DEADLINE_CHECK_MILLIS = 60_000;
+
+    private static void startDeadlineWarnings(TaskService taskService) {
+        DeadlineScheduler deadlines = new DeadlineScheduler(taskService, DUE_SOON_DAYS, Clock.systemDefaultZone(), events -> {
+            for (DeadlineEvent event : events) {
+                if (event.type() == DeadlineEvent.Type.OVERDUE) {
+                    EventLog.console().warn("⚠ Tarefa atrasada: {} (entrega em {})", event.task().title(), event.task().deliveryDate());
+                } else {
+                    EventLog.console().info("Tarefa perto do prazo: {} (entrega em {})", event.task().title(), event.task().deliveryDate());
+                }
+            }
         });
+        deadlines.start(DEADLINE_CHECK_MILLIS);
+    }
+
+    // Snapshots em segundo plano: verificação a cada minuto, só com mais de 4 MB de log desde o último.
+    private static final long SNAPSHOT_CHECK_MILLIS = 60_000;
+    private static final long SNAPSHOT_MIN_LOG_BYTES = 4L * 1024 * 1024;
+
+    /**
+     * Com -Dtechflow.data=diretório as tarefas são persistidas (snapshot + write-ahead log) e
+     * recuperadas na inicialização; sem a propriedade, ficam apenas em memória (repositório
+     * concorrente, pois a GUI escreve a partir de várias threads).
+     * A política de fsync é escolhida com -Dtechflow.wal.fsync=ALWAYS|INTERVAL|NEVER (padrão INTERVAL).
+     * Com -Dtechflow.mapped=diretório as tarefas ficam em arquivos mapeados, fora do heap.
+     */
+    private static TaskService createTaskService() {
+        String mappedDir = System.getProperty("techflow.mapped");
+        if (mappedDir != null) {
+            return createMappedTaskService(Path.of(mappedDir));
+        }
+        String dataDir = System.getProperty("techflow.data");
+        if (dataDir == null) {
+            return TaskService.concurrent();
+        }
+        WriteAheadLog.FsyncPolicy policy = WriteAheadLog.FsyncPolicy.valueOf(
+                System.getProperty("techflow.wal.fsync", WriteAheadLog.FsyncPolicy.INTERVAL.name()));
+        try {
+            // O snapshot em segundo plano lê o repositório enquanto a GUI escreve: precisa ser concorrente.
+            ConcurrentTaskRepository repository = new ConcurrentTaskRepository();
+            TaskStore store = TaskStore.open(Path.of(dataDir), policy, repository);
+            System.out.println("Tarefas recuperadas: " + repository.count());
+
+            TaskService service = new TaskService(repository, store);
+            store.startBackgroundSnapshots(service, SNAPSHOT_CHECK_MILLIS, SNAPSHOT_MIN_LOG_BYTES);
+
+            // Garante que os registros pendentes cheguem ao disco ao fechar a aplicação.
+            Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+                try {
+                    store.close();
+                } catch (IOException e) {
+                    System.err.println("❌ ERRO ao fechar o armazenamento de tarefas: " + e.getMessage());
+                }
+            }));
+            return service;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Não foi possível abrir o diretório de tarefas: " + dataDir, e);
+        }
+    }
+
+    private static TaskService createMappedTaskService(Path dir) {
+        try {
+            MappedTaskRepository repository = MappedTaskRepository.open(dir);
+            System.out.println("Tarefas recuperadas: " + repository.count());
+            Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+                try {
+                    repository.close();
+                } catch (IOException e) {
+                    System.err.println("❌ ERRO ao fechar o armazenamento de tarefas: " + e.getMessage());
+                }
+            }));
+            return new TaskService(repository);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Não foi possível abrir o diretório de tarefas: " + dir, e);
+        }
     }
 }
\ No newline at end of file
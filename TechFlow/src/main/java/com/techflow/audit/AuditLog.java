@@ -0,0 +1,465 @@
+package com.techflow.audit;
+
+import com.techflow.model.Task;
+import com.techflow.model.TaskChangeEvent;
+import com.techflow.model.TaskChangeFeed;
+import com.techflow.model.TaskChangeListener;
+import com.techflow.model.TaskIds;
+import com.techflow.model.TaskService;
+import com.techflow.model.TaskSnapshot;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Histórico das alterações das tarefas (trilha de auditoria), com consultas no tempo: o estado
+ * de uma tarefa em um instante, as mudanças de status em um intervalo e quanto tempo uma tarefa
+ * passou em cada status (ex.: IN_PROGRESS, para o tempo de ciclo).
+ *
+ * Cada alteração vira um registro compacto em um log só de acréscimo (DeltaBuffer), com apenas
+ * os campos que mudaram:
+ * <pre>
+ *   cabeçalho   1 byte: tipo (2 bits) e campos presentes (5 bits)
+ *   tarefa      varint: número da tarefa no log (TaskNumbers), não os 16 bytes do ID
+ *   instante    varint: milissegundos desde o instante base do bloco de 64 KB do registro
+ *   anterior    varint: distância até o registro anterior da mesma tarefa (0 = nenhum)
+ *   campos      título e descrição como números do dicionário (StringDictionary), prioridade
+ *               em um byte, status anterior e novo em um byte, datas em dias (varint)
+ * </pre>
+ * Os registros de estado completo (criação e estado inicial) trazem também a versão da tarefa;
+ * como cada alteração avança a versão em 1, as demais versões saem da contagem de registros.
+ * Uma mudança de status ocupa em torno de 8 bytes: dezenas de milhões de alterações cabem em
+ * poucas centenas de MB de arrays de bytes, sem nenhum objeto por alteração.
+ *
+ * O encadeamento pelo registro anterior leva ao estado em T sem varrer o log (só o histórico da
+ * tarefa, do fim para o começo); o instante base de cada bloco permite achar por busca binária
+ * onde começa um intervalo de tempo. Os instantes nunca recuam (um relógio que volta fica no
+ * último instante registrado), o que mantém o log ordenado no tempo.
+ *
+ * As tarefas que já existiam quando o log começou recebem um registro do estado completo na
+ * primeira alteração observada; antes dele, o estado é desconhecido. O log fica só em memória.
+ *
+ * O instante de cada registro é o da publicação da alteração (TaskChangeEvent.timeMillis), não
+ * o da entrega: as alterações chegam em uma thread própria, fora das travas de quem escreve.
+ */
+public final class AuditLog implements TaskChangeListener, AutoCloseable {
+
+    // Tipo do registro: os dois bits baixos do cabeçalho.
+    private static final int CREATED = 0;
+    private static final int BASELINE = 1; // Estado de uma tarefa anterior ao log
+    private static final int CHANGED = 2;
+    private static final int DELETED = 3;
+
+    // Campos presentes: os bits seguintes do cabeçalho.
+    private static final int TITLE = 1;
+    private static final int DESCRIPTION = 1 << 1;
+    private static final int PRIORITY = 1 << 2;
+    private static final int STATUS = 1 << 3;
+    private static final int DELIVERY_DATE = 1 << 4;
+    private static final int ALL_FIELDS = (1 << 5) - 1;
+
+    private static final Task.TaskStatus[] STATUSES = Task.TaskStatus.values();
+    private static final long NONE = -1;
+
+    private final ExecutorService executor;
+    private final TaskChangeFeed.Subscription subscription;
+    private final DeltaBuffer log = new DeltaBuffer();
+    private final StringDictionary strings = new StringDictionary();
+    private final TaskNumbers numbers = new TaskNumbers();
+    private long[] lastRecords = new long[64];     // Posição do último registro de cada tarefa
+    private long[] blockTimes = new long[16];      // Instante base de cada bloco
+    private long[] blockFirstRecords = new long[16]; // Primeiro registro iniciado em cada bloco
+    private int timedBlocks;
+    private long lastTime = Long.MIN_VALUE;
+    private long recordCount;
+
+    /**
+     * Log alimentado manualmente, por tasksChanged().
+     */
+    public AuditLog() {
+        this.executor = null;
+        this.subscription = null;
+        Arrays.fill(lastRecords, NONE);
+    }
+
+    /**
+     * Passa a registrar as alterações do serviço. A gravação roda em uma thread dedicada: quem
+     * altera só enfileira o evento, sem disputar o monitor do log com as outras faixas de trava.
+     * @param taskService Serviço cujas alterações são registradas.
+     */
+    public AuditLog(TaskService taskService) {
+        Arrays.fill(lastRecords, NONE);
+        this.executor = Executors.newSingleThreadExecutor(r -> {
+            Thread t = new Thread(r, "techflow-audit");
+            t.setDaemon(true);
+            return t;
+        });
+        this.subscription = taskService.subscribe(executor, this);
+    }
+
+    @Override
+    public synchronized void tasksChanged(List<TaskChangeEvent> events) {
+        for (TaskChangeEvent event : events) {
+            // Faixas diferentes publicam em paralelo: um instante um pouco anterior ao último
+            // registrado fica no último, e o log continua ordenado no tempo.
+            long time = Math.max(event.timeMillis(), lastTime);
+            lastTime = time;
+            record(event.before(), event.after(), time);
+        }
+    }
+
+    private void record(TaskSnapshot before, TaskSnapshot after, long time) {
+        TaskSnapshot task = after != null ? after : before;
+        int number = numbers.number(task.idHigh(), task.idLow());
+        if (number == lastRecords.length) {
+            lastRecords = Arrays.copyOf(lastRecords, number * 2);
+            Arrays.fill(lastRecords, number, lastRecords.length, NONE);
+        }
+        if (before == null) {
+            append(number, CREATED, ALL_FIELDS, time, null, after);
+            return;
+        }
+        if (lastRecords[number] == NONE) {
+            append(number, BASELINE, ALL_FIELDS, time, null, before);
+        }
+        if (after == null) {
+            append(number, DELETED, 0, time, null, null);
+            return;
+        }
+        // Mesmo sem campos diferentes (ex.: o mesmo status de novo) a versão avançou: o registro
+        // vazio mantém a contagem.
+        append(number, CHANGED, changedFields(before, after), time, before, after);
+    }
+
+    private static int changedFields(TaskSnapshot before, TaskSnapshot after) {
+        int fields = 0;
+        if (!before.title().equals(after.title())) {
+            fields |= TITLE;
+        }
+        if (!Objects.equals(before.description(), after.description())) {
+            fields |= DESCRIPTION;
+        }
+        if (before.priority() != after.priority()) {
+            fields |= PRIORITY;
+        }
+        if (before.status() != after.status()) {
+            fields |= STATUS;
+        }
+        if (!Objects.equals(before.deliveryDate(), after.deliveryDate())) {
+            fields |= DELIVERY_DATE;
+        }
+        return fields;
+    }
+
+    private void append(int number, int type, int fields, long time, TaskSnapshot before, TaskSnapshot after) {
+        long position = log.size();
+        int block = (int) (position >>> DeltaBuffer.BLOCK_BITS);
+        // Registros têm poucas dezenas de bytes: todo bloco começa pelo menos um.
+        if (block == timedBlocks) {
+            if (block == blockTimes.length) {
+                blockTimes = Arrays.copyOf(blockTimes, block * 2);
+                blockFirstRecords = Arrays.copyOf(blockFirstRecords, block * 2);
+            }
+            blockTimes[block] = time;
+            blockFirstRecords[block] = position;
+            timedBlocks++;
+        }
+        long previous = lastRecords[number];
+        log.put(type | fields << 2);
+        log.putVarint(number);
+        log.putVarint(time - blockTimes[block]);
+        log.putVarint(previous == NONE ? 0 : position - previous);
+        if (type == CREATED || type == BASELINE) {
+            log.putVarint(DeltaBuffer.zigzag(after.createdAt().toEpochDay()));
+            log.putVarint(after.version() & 0xFFFFFFFFL);
+        }
+        if ((fields & TITLE) != 0) {
+            log.putVarint(strings.id(after.title()));
+        }
+        if ((fields & DESCRIPTION) != 0) {
+            log.putVarint(after.description() == null ? 0 : strings.id(after.description()) + 1L);
+        }
+        if ((fields & PRIORITY) != 0) {
+            log.put(after.priority());
+        }
+        if ((fields & STATUS) != 0) {
+            log.put((before == null ? 0 : before.status().ordinal() + 1) << 4 | after.status().ordinal());
+        }
+        if ((fields & DELIVERY_DATE) != 0) {
+            LocalDate date = after.deliveryDate();
+            log.putVarint(date == null ? 0 : DeltaBuffer.zigzag(date.toEpochDay()) + 1);
+        }
+        lastRecords[number] = position;
+        recordCount++;
+    }
+
+    /**
+     * Estado da tarefa em um instante, refeito a partir do seu histórico.
+     * @return O estado em time (alterações feitas exatamente em time incluídas), ou vazio se a
+     *         tarefa ainda não existia, já tinha sido excluída ou não aparece no log até lá.
+     */
+    public synchronized Optional<TaskSnapshot> stateAt(String taskId, Instant time) {
+        int number = find(taskId);
+        if (number == NONE) {
+            return Optional.empty();
+        }
+        long millis = time.toEpochMilli();
+        Entry entry = new Entry();
+        String title = null;
+        String description = null;
+        int priority = 0;
+        Task.TaskStatus status = null;
+        LocalDate deliveryDate = null;
+        int known = 0;
+        int changes = 0;
+        // Do registro mais recente para o mais antigo: cada campo vale o da alteração mais
+        // recente até time; o registro do estado completo encerra a busca.
+        for (long position = lastRecords[number]; position != NONE; position = entry.previous) {
+            entry.read(position);
+            if (entry.time > millis) {
+                continue;
+            }
+            if (entry.type == DELETED) {
+                return Optional.empty();
+            }
+            int missing = entry.fields & ~known;
+            if ((missing & TITLE) != 0) {
+                title = strings.text(entry.title);
+            }
+            if ((missing & DESCRIPTION) != 0) {
+                description = entry.description == 0 ? null : strings.text((int) entry.description - 1);
+            }
+            if ((missing & PRIORITY) != 0) {
+                priority = entry.priority;
+            }
+            if ((missing & STATUS) != 0) {
+                status = STATUSES[entry.statusTo];
+            }
+            if ((missing & DELIVERY_DATE) != 0) {
+                deliveryDate = entry.deliveryDate == 0 ? null
+                        : LocalDate.ofEpochDay(DeltaBuffer.unzigzag(entry.deliveryDate - 1));
+            }
+            known |= entry.fields;
+            if (entry.type == CHANGED) {
+                changes++;
+            } else {
+                return Optional.of(new TaskSnapshot(numbers.high(number), numbers.low(number), title, description,
+                        priority, status, LocalDate.ofEpochDay(entry.createdAt), deliveryDate, entry.version + changes));
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Mudanças de status de todas as tarefas em [from, to), em ordem cronológica (a criação
+     * conta como mudança, com status anterior null). Começa pelo bloco do log onde o intervalo
+     * começa e para no primeiro registro depois dele.
+     */
+    public synchronized List<StatusTransition> statusTransitions(Instant from, Instant to) {
+        long start = from.toEpochMilli();
+        long end = to.toEpochMilli();
+        List<StatusTransition> transitions = new ArrayList<>();
+        if (timedBlocks == 0 || start >= end) {
+            return transitions;
+        }
+        Entry entry = new Entry();
+        for (long position = blockFirstRecords[firstBlockReaching(start)]; position < log.size(); position = entry.end) {
+            entry.read(position);
+            if (entry.time >= end) {
+                break;
+            }
+            if (entry.time >= start && isTransition(entry)) {
+                transitions.add(transition(entry));
+            }
+        }
+        return transitions;
+    }
+
+    // Último bloco com instante base antes de start: os registros dos blocos anteriores são
+    // todos anteriores a ele (os instantes não recuam).
+    private int firstBlockReaching(long start) {
+        int low = 0;
+        int high = timedBlocks - 1;
+        while (low < high) {
+            int middle = (low + high + 1) >>> 1;
+            if (blockTimes[middle] < start) {
+                low = middle;
+            } else {
+                high = middle - 1;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * @return Mudanças de status da tarefa, em ordem cronológica (a primeira é a criação, se
+     *         ela aconteceu com o log ativo).
+     */
+    public synchronized List<StatusTransition> statusHistory(String taskId) {
+        int number = find(taskId);
+        List<StatusTransition> transitions = new ArrayList<>();
+        if (number == NONE) {
+            return transitions;
+        }
+        Entry entry = new Entry();
+        for (long position = lastRecords[number]; position != NONE; position = entry.previous) {
+            entry.read(position);
+            if (isTransition(entry)) {
+                transitions.add(transition(entry));
+            }
+        }
+        Collections.reverse(transitions);
+        return transitions;
+    }
+
+    /**
+     * Tempo total que a tarefa passou no status até um instante, somando todas as passagens
+     * (ex.: tarefa reaberta que voltou a IN_PROGRESS). A exclusão encerra a contagem.
+     * @param asOf Fim da contagem (ex.: agora, para uma tarefa ainda no status).
+     */
+    public synchronized Duration timeInStatus(String taskId, Task.TaskStatus status, Instant asOf) {
+        int number = find(taskId);
+        if (number == NONE) {
+            return Duration.ZERO;
+        }
+        long total = 0;
+        long until = asOf.toEpochMilli();
+        Entry entry = new Entry();
+        // De trás para frente: cada status vale do seu registro até o registro de status seguinte.
+        for (long position = lastRecords[number]; position != NONE; position = entry.previous) {
+            entry.read(position);
+            if ((entry.fields & STATUS) == 0 && entry.type != DELETED) {
+                continue;
+            }
+            if (entry.type != DELETED && entry.statusTo == status.ordinal() && entry.time < until) {
+                total += until - entry.time;
+            }
+            until = Math.min(until, entry.time);
+        }
+        return Duration.ofMillis(total);
+    }
+
+    /**
+     * @return Quantidade de registros (criações, alterações e exclusões).
+     */
+    public synchronized long recordCount() {
+        return recordCount;
+    }
+
+    /**
+     * @return Tamanho do log codificado, em bytes (sem o dicionário de textos e os índices).
+     */
+    public synchronized long encodedBytes() {
+        return log.size();
+    }
+
+    /**
+     * Espera o registro das alterações publicadas até aqui (ex.: antes de uma consulta que
+     * precisa vê-las). Duas voltas pela thread do log: uma entrega em andamento reagenda as
+     * alterações que chegaram durante ela antes de terminar, então a segunda volta já as encontra
+     * na fila à frente.
+     */
+    public void awaitRecorded() {
+        if (executor == null || executor.isShutdown()) {
+            return;
+        }
+        try {
+            for (int i = 0; i < 2; i++) {
+                executor.submit(() -> { }).get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    /**
+     * Para de registrar as alterações do serviço; o histórico continua consultável.
+     */
+    @Override
+    public void close() {
+        if (subscription != null) {
+            subscription.close();
+            executor.shutdown();
+        }
+    }
+
+    private int find(String taskId) {
+        TaskIds.Parsed parsed = TaskIds.parse(taskId);
+        return parsed.valid() ? numbers.find(parsed.high(), parsed.low()) : (int) NONE;
+    }
+
+    private static boolean isTransition(Entry entry) {
+        return (entry.fields & STATUS) != 0 && entry.type != BASELINE;
+    }
+
+    private StatusTransition transition(Entry entry) {
+        return new StatusTransition(TaskIds.format(numbers.high(entry.number), numbers.low(entry.number)),
+                Instant.ofEpochMilli(entry.time), entry.statusFrom == 0 ? null : STATUSES[entry.statusFrom - 1],
+                STATUSES[entry.statusTo]);
+    }
+
+    /**
+     * Registro decodificado; reaproveitado ao longo de uma consulta.
+     */
+    private final class Entry {
+        int type;
+        int fields;
+        int number;
+        long time;
+        long previous;
+        long end;
+        long createdAt;
+        int version;
+        int title;
+        long description;
+        int priority;
+        int statusFrom;
+        int statusTo;
+        long deliveryDate;
+
+        void read(long position) {
+            DeltaBuffer.Cursor cursor = log.new Cursor(position);
+            int header = cursor.next();
+            type = header & 3;
+            fields = header >>> 2;
+            number = (int) cursor.varint();
+            time = blockTimes[(int) (position >>> DeltaBuffer.BLOCK_BITS)] + cursor.varint();
+            long distance = cursor.varint();
+            previous = distance == 0 ? NONE : position - distance;
+            if (type == CREATED || type == BASELINE) {
+                createdAt = DeltaBuffer.unzigzag(cursor.varint());
+                version = (int) cursor.varint();
+            }
+            if ((fields & TITLE) != 0) {
+                title = (int) cursor.varint();
+            }
+            if ((fields & DESCRIPTION) != 0) {
+                description = cursor.varint();
+            }
+            if ((fields & PRIORITY) != 0) {
+                priority = cursor.next();
+            }
+            if ((fields & STATUS) != 0) {
+                int statuses = cursor.next();
+                statusFrom = statuses >>> 4;
+                statusTo = statuses & 0xF;
+            }
+            if ((fields & DELIVERY_DATE) != 0) {
+                deliveryDate = cursor.varint();
+            }
+            end = cursor.position;
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.techflow.audit;
+
+import java.util.Arrays;
+
+/**
+ * Sequência de bytes só de acréscimo, em blocos de 64 KB: crescer nunca copia o que já foi
+ * gravado, e cada byte é endereçado por uma posição long (o log passa de 2 GB sem problemas).
+ * Inteiros vão em varint (7 bits por byte, o bit alto indica continuação): valores pequenos,
+ * a maioria no log, ocupam um byte só.
+ */
+final class DeltaBuffer {
+
+    static final int BLOCK_BITS = 16;
+    static final int BLOCK_SIZE = 1 << BLOCK_BITS;
+    private static final int BLOCK_MASK = BLOCK_SIZE - 1;
+
+    private byte[][] blocks = new byte[16][];
+    private long size;
+
+    long size() {
+        return size;
+    }
+
+    void put(int value) {
+        int block = (int) (size >>> BLOCK_BITS);
+        if (block == blocks.length) {
+            blocks = Arrays.copyOf(blocks, block * 2);
+        }
+        if (blocks[block] == null) {
+            blocks[block] = new byte[BLOCK_SIZE];
+        }
+        blocks[block][(int) size & BLOCK_MASK] = (byte) value;
+        size++;
+    }
+
+    void putVarint(long value) {
+        while ((value & ~0x7FL) != 0) {
+            put((int) (value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        put((int) value);
+    }
+
+    int get(long position) {
+        return blocks[(int) (position >>> BLOCK_BITS)][(int) position & BLOCK_MASK] & 0xFF;
+    }
+
+    /**
+     * Leitura sequencial a partir de uma posição.
+     */
+    final class Cursor {
+
+        long position;
+
+        Cursor(long position) {
+            this.position = position;
+        }
+
+        int next() {
+            return get(position++);
+        }
+
+        long varint() {
+            long value = 0;
+            for (int shift = 0; ; shift += 7) {
+                int b = next();
+                value |= (long) (b & 0x7F) << shift;
+                if (b < 0x80) {
+                    return value;
+                }
+            }
+        }
+    }
+
+    static long zigzag(long value) {
+        return value << 1 ^ value >> 63;
+    }
+
+    static long unzigzag(long value) {
+        return value >>> 1 ^ -(value & 1);
+    }
+}
@@ -0,0 +1,16 @@
+package com.techflow.audit;
+
+import com.techflow.model.Task;
+
+import java.time.Instant;
+
+/**
+ * Mudança de status registrada no AuditLog.
+ *
+ * @param taskId ID da tarefa.
+ * @param at Instante da mudança.
+ * @param from Status anterior; null na criação da tarefa.
+ * @param to Status novo.
+ */
+public record StatusTransition(String taskId, Instant at, Task.TaskStatus from, Task.TaskStatus to) {
+}
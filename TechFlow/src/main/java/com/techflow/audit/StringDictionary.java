@@ -0,0 +1,61 @@
+package com.techflow.audit;
+
+import java.util.Arrays;
+
+/**
+ * Dicionário de textos: cada título ou descrição distinto é guardado uma vez e o log grava só o
+ * seu número. Reverter um título, ou repetir a mesma descrição em mil tarefas, não custa texto
+ * novo. As Strings são as mesmas instâncias das tarefas: enquanto a tarefa existe, o dicionário
+ * só acrescenta a referência.
+ *
+ * Endereçamento aberto sobre um int[] de números, como em TaskNumbers: 8 a 16 bytes por texto
+ * (a entrada e a referência), contra uns 50 de um HashMap&lt;String, Integer&gt;.
+ */
+final class StringDictionary {
+
+    private int[] slots = new int[128]; // número + 1; 0 = vazio
+    private String[] strings = new String[64];
+    private int count;
+
+    int id(String text) {
+        int mask = slots.length - 1;
+        int i = hash(text) & mask;
+        for (; slots[i] != 0; i = (i + 1) & mask) {
+            if (strings[slots[i] - 1].equals(text)) {
+                return slots[i] - 1;
+            }
+        }
+        if (count == strings.length) {
+            strings = Arrays.copyOf(strings, count * 2);
+        }
+        strings[count] = text;
+        slots[i] = count + 1;
+        if (2 * ++count > slots.length) {
+            rehash(slots.length * 2);
+        }
+        return count - 1;
+    }
+
+    String text(int id) {
+        return strings[id];
+    }
+
+    // Fator de carga de até 1/2: as sondagens continuam curtas.
+    private void rehash(int capacity) {
+        slots = new int[capacity];
+        int mask = capacity - 1;
+        for (int id = 0; id < count; id++) {
+            int i = hash(strings[id]) & mask;
+            while (slots[i] != 0) {
+                i = (i + 1) & mask;
+            }
+            slots[i] = id + 1;
+        }
+    }
+
+    // O hashCode da String fica em cache nela; o espalhamento evita agrupar textos parecidos.
+    private static int hash(String text) {
+        int h = text.hashCode() * 0x9E3779B9;
+        return h ^ h >>> 16;
+    }
+}
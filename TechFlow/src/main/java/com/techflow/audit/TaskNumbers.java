@@ -0,0 +1,87 @@
+package com.techflow.audit;
+
+import java.util.Arrays;
+
+/**
+ * Numeração compacta das tarefas do log: o primeiro evento de um ID recebe o próximo número
+ * (0, 1, 2...), que é o que cada registro grava em varint no lugar dos 16 bytes do ID.
+ *
+ * Endereçamento aberto sobre um int[] de números, com os IDs lado a lado em um long[] indexado
+ * pelo número: a mesma tabela resolve ID → número e número → ID, sem um objeto por tarefa.
+ */
+final class TaskNumbers {
+
+    private static final int NONE = -1;
+
+    private int[] slots = new int[64]; // número + 1; 0 = vazio
+    private long[] ids = new long[2 * 32];
+    private int count;
+
+    /**
+     * @return Número da tarefa, ou -1 se o ID nunca apareceu no log.
+     */
+    int find(long high, long low) {
+        int mask = slots.length - 1;
+        for (int i = hash(high, low) & mask; slots[i] != 0; i = (i + 1) & mask) {
+            int number = slots[i] - 1;
+            if (ids[2 * number] == high && ids[2 * number + 1] == low) {
+                return number;
+            }
+        }
+        return NONE;
+    }
+
+    /**
+     * @return Número da tarefa, atribuído agora se o ID ainda não tinha um.
+     */
+    int number(long high, long low) {
+        int number = find(high, low);
+        if (number != NONE) {
+            return number;
+        }
+        if (2 * (count + 1) > slots.length) {
+            rehash(slots.length * 2);
+        }
+        if (2 * count == ids.length) {
+            ids = Arrays.copyOf(ids, ids.length * 2);
+        }
+        number = count++;
+        ids[2 * number] = high;
+        ids[2 * number + 1] = low;
+        insert(number);
+        return number;
+    }
+
+    long high(int number) {
+        return ids[2 * number];
+    }
+
+    long low(int number) {
+        return ids[2 * number + 1];
+    }
+
+    private void insert(int number) {
+        int mask = slots.length - 1;
+        int i = hash(ids[2 * number], ids[2 * number + 1]) & mask;
+        while (slots[i] != 0) {
+            i = (i + 1) & mask;
+        }
+        slots[i] = number + 1;
+    }
+
+    // Fator de carga de até 1/2: as sondagens continuam curtas.
+    private void rehash(int capacity) {
+        slots = new int[capacity];
+        for (int number = 0; number < count; number++) {
+            insert(number);
+        }
+    }
+
+    private static int hash(long high, long low) {
+        long h = high * 0x9E3779B97F4A7C15L ^ low;
+        h ^= h >>> 33;
+        h *= 0xFF51AFD7ED558CCDL;
+        h ^= h >>> 33;
+        return (int) h;
+    }
+}
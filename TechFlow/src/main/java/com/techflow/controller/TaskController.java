@@ -1,11 +1,14 @@
 package com.techflow.controller;
 
+import com.techflow.logging.EventLog;
 import com.techflow.model.Task;
 import com.techflow.model.TaskService;
 
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
 import java.util.List;
 import java.util.Scanner;
-import java.util.stream.Collectors;
 
 /**
  * Controladora de Tarefas: Lida com a interação do usuário no console,
@@ -59,7 +62,18 @@ public class TaskController {
         }
     }
 
+    /**
+     * Modo script: executa os comandos de in sem menu e sem listagens, com a saída em out.
+     * O formato dos comandos está descrito em TaskScript.
+     * @return Totais da execução (comandos, erros e tempo).
+     */
+    public TaskScript.Result runScript(Reader in, Writer out) throws IOException {
+        return new TaskScript(taskService).run(in, out);
+    }
+
     private void displayMenu() {
+        // As mensagens do serviço são escritas em segundo plano; o menu só aparece depois delas.
+        EventLog.console().flush();
         System.out.println("\n--- MENU ---");
         System.out.println("1. Criar Nova Tarefa");
         System.out.println("2. Listar Todas as Tarefas (Por Prioridade)");
@@ -97,13 +111,8 @@ public class TaskController {
         String partialId = scanner.nextLine();
 
         // Encontra o ID completo
-        Task taskToUpdate = taskService.getAllTasks().stream()
-                .filter(t -> t.getId().startsWith(partialId))
-                .findFirst()
-                .orElse(null);
-
+        Task taskToUpdate = resolvePartialId(partialId);
         if (taskToUpdate == null) {
-            System.err.println("❌ Tarefa não encontrada com o ID parcial fornecido.");
             return;
         }
 
@@ -124,13 +133,8 @@ public class TaskController {
         System.out.print("Digite os 4 primeiros dígitos do ID da Tarefa a editar: ");
         String partialId = scanner.nextLine();
 
-        Task taskToUpdate = taskService.getAllTasks().stream()
-                .filter(t -> t.getId().startsWith(partialId))
-                .findFirst()
-                .orElse(null);
-
+        Task taskToUpdate = resolvePartialId(partialId);
         if (taskToUpdate == null) {
-            System.err.println("❌ Tarefa não encontrada com o ID parcial fornecido.");
             return;
         }
 
@@ -155,15 +159,29 @@ public class TaskController {
         System.out.print("Digite os 4 primeiros dígitos do ID da Tarefa para Excluir: ");
         String partialId = scanner.nextLine();
 
-        Task taskToDelete = taskService.getAllTasks().stream()
-                .filter(t -> t.getId().startsWith(partialId))
-                .findFirst()
-                .orElse(null);
-
+        Task taskToDelete = resolvePartialId(partialId);
         if (taskToDelete != null) {
             taskService.deleteTask(taskToDelete.getId());
-        } else {
+        }
+    }
+
+    /**
+     * Resolve o ID parcial digitado pelo usuário usando o índice de prefixos do serviço.
+     * Se mais de uma tarefa começar com o mesmo prefixo, lista as candidatas em vez de escolher uma.
+     * @return A tarefa encontrada, ou null se não houver correspondência única.
+     */
+    private Task resolvePartialId(String partialId) {
+        List<Task> matches = taskService.findByIdPrefix(partialId);
+        if (matches.isEmpty()) {
             System.err.println("❌ Tarefa não encontrada com o ID parcial fornecido.");
+            return null;
+        }
+        if (matches.size() > 1) {
+            System.err.println("❌ ID parcial ambíguo: " + matches.size() + " tarefas começam com '" + partialId
+                    + "'. Digite mais caracteres do ID:");
+            matches.forEach(t -> System.err.println("   " + t.getId() + " - " + t.getTitle()));
+            return null;
         }
+        return matches.get(0);
     }
 }
\ No newline at end of file
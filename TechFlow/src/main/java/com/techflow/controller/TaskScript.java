@@ -0,0 +1,249 @@
+package com.techflow.controller;
+
+import com.techflow.model.Task;
+import com.techflow.model.TaskService;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Modo script da controladora: executa um comando por linha, sem menu e sem listagens entre
+ * os comandos, para reproduzir cargas de produção contra um quadro.
+ *
+ * Formato (campos separados por '|'; nos textos, "\|", "\\" e "\n" são escapes):
+ * <pre>
+ * # comentário (linhas em branco também são ignoradas)
+ * C|prioridade|título[|descrição]          cria uma tarefa
+ * S|tarefa|status                          muda o status (TO_DO, IN_PROGRESS, DONE)
+ * U|tarefa|prioridade|título[|descrição]   altera os detalhes; campo vazio mantém o valor atual
+ * P|tarefa|AAAA-MM-DD                      define a data de entrega; vazio remove
+ * D|tarefa                                 exclui
+ * L                                        lista todas as tarefas
+ * </pre>
+ * A tarefa é o ID completo, um prefixo único do ID ou @n, a n-ésima tarefa criada pelo script.
+ *
+ * A saída passa por um único BufferedWriter: o ID de cada tarefa criada, as listagens, uma linha
+ * por comando com erro (a execução continua) e, ao final, o total de comandos por segundo.
+ */
+public final class TaskScript {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final int MAX_FIELDS = 5;
+
+    private final TaskService taskService;
+    // IDs das tarefas criadas pelo script, para as referências @n.
+    private final List<String> createdIds = new ArrayList<>();
+    // Campos da linha atual; reaproveitados de uma linha para a outra.
+    private final String[] fields = new String[MAX_FIELDS];
+    private final StringBuilder field = new StringBuilder();
+
+    public TaskScript(TaskService taskService) {
+        this.taskService = taskService;
+    }
+
+    /**
+     * Resultado de uma execução: comandos lidos (sem comentários e linhas em branco), quantos
+     * falharam e o tempo total.
+     */
+    public record Result(long commands, long failures, long elapsedNanos) {
+
+        public double commandsPerSecond() {
+            return elapsedNanos == 0 ? 0 : commands * 1e9 / elapsedNanos;
+        }
+
+        public String summary() {
+            return String.format("Comandos: %d (%d com erro) em %.1f ms — %.0f comandos/s",
+                    commands, failures, elapsedNanos / 1e6, commandsPerSecond());
+        }
+    }
+
+    /**
+     * Executa todos os comandos de in. Nenhum dos dois fluxos é fechado; out recebe flush ao final.
+     */
+    public Result run(Reader in, Writer out) throws IOException {
+        BufferedReader reader = in instanceof BufferedReader buffered ? buffered : new BufferedReader(in, BUFFER_SIZE);
+        BufferedWriter writer = out instanceof BufferedWriter buffered ? buffered : new BufferedWriter(out, BUFFER_SIZE);
+        long start = System.nanoTime();
+        long commands = 0;
+        long failures = 0;
+        int lineNumber = 0;
+        String line;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (line.isBlank() || line.charAt(0) == '#') {
+                continue;
+            }
+            commands++;
+            try {
+                execute(line, writer);
+            } catch (IllegalArgumentException e) {
+                failures++;
+                writer.write("ERRO linha " + lineNumber + ": " + e.getMessage());
+                writer.newLine();
+            }
+        }
+        Result result = new Result(commands, failures, System.nanoTime() - start);
+        writer.write(result.summary());
+        writer.newLine();
+        writer.flush();
+        return result;
+    }
+
+    private void execute(String line, BufferedWriter writer) throws IOException {
+        int count = split(line);
+        if (fields[0].length() != 1) {
+            throw new IllegalArgumentException("comando desconhecido: " + fields[0]);
+        }
+        switch (Character.toUpperCase(fields[0].charAt(0))) {
+            case 'C' -> {
+                requireFields(count, 3, 4, "C|prioridade|título[|descrição]");
+                Task task = taskService.createTask(fields[2], count > 3 ? fields[3] : "", priority(fields[1]));
+                if (task == null) {
+                    throw new IllegalArgumentException("tarefa não criada: título vazio ou prioridade fora de 1 a 5.");
+                }
+                createdIds.add(task.getId());
+                writer.write("@" + createdIds.size() + " " + task.getId());
+                writer.newLine();
+            }
+            case 'S' -> {
+                requireFields(count, 3, 3, "S|tarefa|status");
+                Task task = resolve(fields[1]);
+                Task.TaskStatus status = status(fields[2]);
+                succeeded(taskService.updateTaskStatus(task.getId(), status), "status não alterado.");
+            }
+            case 'U' -> {
+                requireFields(count, 4, 5, "U|tarefa|prioridade|título[|descrição]");
+                Task task = resolve(fields[1]);
+                int priority = fields[2].isEmpty() ? task.getPriority() : priority(fields[2]);
+                String title = fields[3].isEmpty() ? task.getTitle() : fields[3];
+                String description = count < 5 || fields[4].isEmpty() ? task.getDescription() : fields[4];
+                succeeded(taskService.updateTaskDetails(task.getId(), title, description, priority),
+                        "detalhes não alterados: prioridade fora de 1 a 5.");
+            }
+            case 'P' -> {
+                requireFields(count, 3, 3, "P|tarefa|AAAA-MM-DD");
+                Task task = resolve(fields[1]);
+                LocalDate date = fields[2].isEmpty() ? null : date(fields[2]);
+                succeeded(taskService.updateTaskDeliveryDate(task.getId(), date), "data de entrega não alterada.");
+            }
+            case 'D' -> {
+                requireFields(count, 2, 2, "D|tarefa");
+                succeeded(taskService.deleteTask(resolve(fields[1]).getId()), "tarefa não excluída.");
+            }
+            case 'L' -> {
+                requireFields(count, 1, 1, "L");
+                for (Iterator<Task> tasks = taskService.streamTasks().iterator(); tasks.hasNext(); ) {
+                    writer.write(tasks.next().toString());
+                    writer.newLine();
+                }
+            }
+            default -> throw new IllegalArgumentException("comando desconhecido: " + fields[0]);
+        }
+    }
+
+    /**
+     * Divide a linha nos campos separados por '|', tratando os escapes, sem expressões regulares.
+     * @return Quantidade de campos.
+     */
+    private int split(String line) {
+        int count = 0;
+        field.setLength(0);
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (c == '\\' && i + 1 < line.length()) {
+                char escaped = line.charAt(++i);
+                field.append(escaped == 'n' ? '\n' : escaped);
+            } else if (c == '|') {
+                count = store(count);
+            } else {
+                field.append(c);
+            }
+        }
+        return store(count);
+    }
+
+    private int store(int count) {
+        if (count == MAX_FIELDS) {
+            throw new IllegalArgumentException("campos demais (no máximo " + MAX_FIELDS + ").");
+        }
+        fields[count] = field.toString();
+        field.setLength(0);
+        return count + 1;
+    }
+
+    private static void requireFields(int count, int min, int max, String usage) {
+        if (count < min || count > max) {
+            throw new IllegalArgumentException("formato esperado: " + usage);
+        }
+    }
+
+    private static void succeeded(boolean result, String message) {
+        if (!result) {
+            throw new IllegalArgumentException(message);
+        }
+    }
+
+    /**
+     * Resolve @n, um ID completo ou um prefixo único do ID.
+     */
+    private Task resolve(String reference) {
+        if (reference.startsWith("@")) {
+            int index;
+            try {
+                index = Integer.parseInt(reference, 1, reference.length(), 10);
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("referência inválida: " + reference);
+            }
+            if (index < 1 || index > createdIds.size()) {
+                throw new IllegalArgumentException("referência inexistente: " + reference);
+            }
+            return found(taskService.getTaskById(createdIds.get(index - 1)), reference);
+        }
+        if (reference.length() == 36) {
+            return found(taskService.getTaskById(reference), reference);
+        }
+        List<Task> matches = taskService.findByIdPrefix(reference);
+        if (matches.size() > 1) {
+            throw new IllegalArgumentException("ID parcial ambíguo: " + matches.size() + " tarefas começam com '"
+                    + reference + "'.");
+        }
+        return found(matches.isEmpty() ? Optional.empty() : Optional.of(matches.get(0)), reference);
+    }
+
+    private static Task found(Optional<Task> task, String reference) {
+        return task.orElseThrow(() -> new IllegalArgumentException("tarefa não encontrada: " + reference));
+    }
+
+    private static int priority(String text) {
+        try {
+            return Integer.parseInt(text);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("prioridade inválida: " + text);
+        }
+    }
+
+    private static Task.TaskStatus status(String text) {
+        try {
+            return Task.TaskStatus.valueOf(text.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("status inválido: " + text + ". Use TO_DO, IN_PROGRESS ou DONE.");
+        }
+    }
+
+    private static LocalDate date(String text) {
+        try {
+            return LocalDate.parse(text);
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("data inválida (use AAAA-MM-DD): " + text);
+        }
+    }
+}
@@ -0,0 +1,306 @@
+package com.techflow.logging;
+
+import java.io.Closeable;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Log de eventos assíncrono e com níveis, usado no lugar de System.out/err nas operações do serviço.
+ *
+ * Quem registra uma mensagem nunca espera pelo console:
+ * - Nível desligado: o método retorna após comparar um inteiro, sem criar objetos. As mensagens
+ *   usam padrões com "{}" e argumentos fixos (sem varargs), montados só na hora da escrita.
+ * - Nível ligado: a mensagem entra em um buffer circular sem travas (vários produtores, um
+ *   consumidor) e uma thread em segundo plano a formata e entrega ao EventSink. Sem mensagens,
+ *   essa thread dorme sem prazo; o produtor que encontra o buffer vazio a acorda.
+ * - Buffer cheio: a mensagem é descartada e contada, em vez de bloquear quem a registrou; a
+ *   thread de escoamento avisa quantas foram perdidas.
+ *
+ * Os argumentos são formatados depois, em outra thread: passe valores imutáveis (textos,
+ * números, enums), nunca objetos que ainda serão alterados. Uma exceção como último argumento
+ * também tem o stack trace acrescentado à mensagem.
+ */
+public final class EventLog implements Closeable {
+
+    /** Capacidade padrão do buffer, em mensagens. */
+    public static final int DEFAULT_CAPACITY = 8192;
+
+    // flush() espera o escoamento com pausas que dobram a cada volta, até o teto.
+    private static final long FLUSH_MIN_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(10);
+    private static final long FLUSH_MAX_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private static final EventLog DISABLED = new EventLog();
+    private static volatile EventLog console;
+
+    private final EventSink sink;
+    private final AtomicReferenceArray<Event> slots;
+    private final int mask;
+    // Próxima posição a ser reservada por um produtor e próxima a ser lida pelo consumidor.
+    private final AtomicLong tail = new AtomicLong();
+    private final AtomicLong head = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+    // Ligado pela thread de escoamento antes de dormir; quem o desliga (CAS) é quem a acorda.
+    private final AtomicBoolean sleeping = new AtomicBoolean();
+    private final Thread drainer;
+    private volatile int threshold;
+    private volatile boolean closed;
+
+    /**
+     * Cria o log e inicia sua thread de escoamento (daemon).
+     * @param sink Destino das mensagens.
+     * @param level Nível mínimo registrado.
+     * @param capacity Tamanho do buffer; arredondado para a próxima potência de 2 (mínimo 2).
+     */
+    public EventLog(EventSink sink, LogLevel level, int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("A capacidade do log deve ser positiva.");
+        }
+        this.sink = sink;
+        this.slots = new AtomicReferenceArray<>(Integer.highestOneBit(Math.max(1, capacity - 1)) << 1);
+        this.mask = slots.length() - 1;
+        this.threshold = level.ordinal();
+        this.drainer = new Thread(this::drain, "techflow-event-log");
+        drainer.setDaemon(true);
+        drainer.start();
+    }
+
+    // Log sem destino nem thread: todos os níveis desligados.
+    private EventLog() {
+        this.sink = (level, message) -> { };
+        this.slots = new AtomicReferenceArray<>(1);
+        this.mask = 0;
+        this.threshold = LogLevel.OFF.ordinal();
+        this.drainer = null;
+        this.closed = true;
+    }
+
+    /**
+     * Log compartilhado do console da aplicação. O nível vem de -Dtechflow.log.level
+     * (DEBUG, INFO, WARN, ERROR ou OFF, em maiúsculas ou minúsculas; padrão INFO, também usado,
+     * com um aviso, quando o valor não é um nível). As mensagens pendentes são escoadas quando
+     * a JVM termina.
+     */
+    public static EventLog console() {
+        if (console == null) {
+            synchronized (EventLog.class) {
+                if (console == null) {
+                    String property = System.getProperty("techflow.log.level");
+                    LogLevel level = parseLevel(property);
+                    EventLog log = new EventLog(EventSink.CONSOLE, level == null ? LogLevel.INFO : level, DEFAULT_CAPACITY);
+                    Runtime.getRuntime().addShutdownHook(new Thread(log::close));
+                    if (level == null && property != null) {
+                        log.warn("⚠ Nível de log desconhecido em techflow.log.level: \"{}\"; usando {}.", property, LogLevel.INFO);
+                    }
+                    console = log;
+                }
+            }
+        }
+        return console;
+    }
+
+    /**
+     * @return O nível com este nome, sem diferenciar maiúsculas de minúsculas e ignorando espaços
+     *     nas pontas; null se o texto for nulo ou não for um nível.
+     */
+    static LogLevel parseLevel(String name) {
+        if (name != null) {
+            for (LogLevel level : LogLevel.values()) {
+                if (level.name().equalsIgnoreCase(name.strip())) {
+                    return level;
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Log que descarta tudo, sem thread de escoamento (ex.: testes e benchmarks).
+     */
+    public static EventLog disabled() {
+        return DISABLED;
+    }
+
+    public LogLevel getLevel() {
+        return LogLevel.values()[threshold];
+    }
+
+    /**
+     * Altera o nível mínimo registrado. Não tem efeito no log de disabled().
+     */
+    public void setLevel(LogLevel level) {
+        if (this != DISABLED) {
+            threshold = level.ordinal();
+        }
+    }
+
+    public boolean isEnabled(LogLevel level) {
+        return level.ordinal() >= threshold && level != LogLevel.OFF;
+    }
+
+    public void debug(String pattern, Object arg) {
+        log(LogLevel.DEBUG, pattern, arg, null);
+    }
+
+    public void debug(String pattern, Object first, Object second) {
+        log(LogLevel.DEBUG, pattern, first, second);
+    }
+
+    public void info(String pattern, Object arg) {
+        log(LogLevel.INFO, pattern, arg, null);
+    }
+
+    public void info(String pattern, Object first, Object second) {
+        log(LogLevel.INFO, pattern, first, second);
+    }
+
+    public void warn(String pattern, Object arg) {
+        log(LogLevel.WARN, pattern, arg, null);
+    }
+
+    public void warn(String pattern, Object first, Object second) {
+        log(LogLevel.WARN, pattern, first, second);
+    }
+
+    public void error(String pattern, Object arg) {
+        log(LogLevel.ERROR, pattern, arg, null);
+    }
+
+    public void error(String pattern, Object first, Object second) {
+        log(LogLevel.ERROR, pattern, first, second);
+    }
+
+    /**
+     * Registra uma mensagem. Cada "{}" do padrão é trocado, em ordem, pelos argumentos.
+     */
+    public void log(LogLevel level, String pattern, Object first, Object second) {
+        if (level.ordinal() < threshold || level == LogLevel.OFF) {
+            return;
+        }
+        long position;
+        do {
+            position = tail.get();
+            if (position - head.get() > mask) {
+                dropped.incrementAndGet();
+                wakeDrainer();
+                return;
+            }
+        } while (!tail.compareAndSet(position, position + 1));
+        // A posição já é deste produtor; o consumidor espera até o evento aparecer no slot.
+        slots.set((int) position & mask, new Event(level, pattern, first, second));
+        wakeDrainer();
+    }
+
+    // Só custa uma leitura volátil enquanto a thread de escoamento está trabalhando.
+    private void wakeDrainer() {
+        if (sleeping.get() && sleeping.compareAndSet(true, false)) {
+            LockSupport.unpark(drainer);
+        }
+    }
+
+    /**
+     * Mensagens descartadas por buffer cheio desde a criação do log.
+     */
+    public long droppedCount() {
+        return dropped.get();
+    }
+
+    /**
+     * Espera até que todas as mensagens registradas antes da chamada tenham sido entregues ao EventSink.
+     */
+    public void flush() {
+        long target = tail.get();
+        long parkNanos = FLUSH_MIN_PARK_NANOS;
+        while (head.get() < target && drainer != null && drainer.isAlive()) {
+            LockSupport.parkNanos(parkNanos);
+            parkNanos = Math.min(parkNanos * 2, FLUSH_MAX_PARK_NANOS);
+        }
+    }
+
+    /**
+     * Entrega as mensagens pendentes e encerra a thread de escoamento.
+     * Mensagens registradas depois disso são descartadas.
+     */
+    @Override
+    public void close() {
+        if (drainer == null || closed) {
+            return;
+        }
+        flush();
+        closed = true;
+        LockSupport.unpark(drainer);
+        try {
+            drainer.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void drain() {
+        long reportedDrops = 0;
+        while (!closed) {
+            long position = head.get();
+            int slot = (int) position & mask;
+            Event event = slots.get(slot);
+            if (event == null) {
+                long drops = dropped.get();
+                if (drops > reportedDrops) {
+                    deliver(LogLevel.WARN, "⚠ " + (drops - reportedDrops) + " mensagens de log descartadas (buffer cheio).");
+                    reportedDrops = drops;
+                }
+                // O aviso é publicado antes da nova leitura do slot: um produtor que chegue
+                // depois dela vê o aviso e acorda esta thread.
+                sleeping.set(true);
+                if (slots.get(slot) == null && !closed) {
+                    LockSupport.park(this);
+                }
+                sleeping.set(false);
+                continue;
+            }
+            deliver(event.level(), format(event.pattern(), event.first(), event.second()));
+            // O slot é liberado antes de a posição avançar: um produtor só o reutiliza depois disso.
+            slots.set(slot, null);
+            head.set(position + 1);
+        }
+    }
+
+    private void deliver(LogLevel level, String message) {
+        try {
+            sink.write(level, message);
+        } catch (RuntimeException e) {
+            // Um destino com falha não pode derrubar a thread de escoamento.
+        }
+    }
+
+    static String format(String pattern, Object first, Object second) {
+        String message = substitute(pattern, first, second);
+        Object last = second != null ? second : first;
+        if (!(last instanceof Throwable error)) {
+            return message;
+        }
+        StringWriter trace = new StringWriter();
+        error.printStackTrace(new PrintWriter(trace));
+        return message + System.lineSeparator() + trace.toString().stripTrailing();
+    }
+
+    private static String substitute(String pattern, Object first, Object second) {
+        int at = pattern.indexOf("{}");
+        if (at < 0) {
+            return pattern;
+        }
+        StringBuilder message = new StringBuilder(pattern.length() + 32);
+        message.append(pattern, 0, at).append(first);
+        int next = pattern.indexOf("{}", at + 2);
+        if (next < 0) {
+            return message.append(pattern, at + 2, pattern.length()).toString();
+        }
+        return message.append(pattern, at + 2, next).append(second).append(pattern, next + 2, pattern.length()).toString();
+    }
+
+    private record Event(LogLevel level, String pattern, Object first, Object second) {
+    }
+}
@@ -0,0 +1,23 @@
+package com.techflow.logging;
+
+/**
+ * Destino final das mensagens do EventLog. É chamado apenas pela thread de escoamento
+ * do log, nunca por quem registrou a mensagem, e por isso pode ser lento.
+ */
+@FunctionalInterface
+public interface EventSink {
+
+    /**
+     * Console da aplicação: DEBUG e INFO vão para System.out; WARN e ERROR, para System.err.
+     * Os streams são lidos a cada mensagem, respeitando um System.setOut posterior.
+     */
+    EventSink CONSOLE = (level, message) -> {
+        if (level.compareTo(LogLevel.WARN) >= 0) {
+            System.err.println(message);
+        } else {
+            System.out.println(message);
+        }
+    };
+
+    void write(LogLevel level, String message);
+}
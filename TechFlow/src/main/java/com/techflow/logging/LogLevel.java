@@ -0,0 +1,13 @@
+package com.techflow.logging;
+
+/**
+ * Níveis das mensagens do EventLog, do mais detalhado ao mais grave.
+ * OFF desliga todas as mensagens.
+ */
+public enum LogLevel {
+    DEBUG,
+    INFO,
+    WARN,
+    ERROR,
+    OFF
+}
@@ -0,0 +1,170 @@
+package com.techflow.model;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Fachada assíncrona do TaskService: cada operação roda em um executor próprio e devolve um
+ * CompletableFuture, de modo que a thread que chama (ex.: a EDT do Swing) nunca espera pelo
+ * repositório nem pela durabilidade do journal.
+ *
+ * O resultado deve ser tratado na thread adequada, ex.: future.thenAcceptAsync(..., SwingUtilities::invokeLater).
+ * As alterações também chegam aos assinantes do TaskService (ver TaskService.subscribe).
+ */
+public class AsyncTaskService implements AutoCloseable {
+
+    // Escritas em tarefas diferentes seguem em paralelo no TaskService; poucas threads bastam.
+    private static final int DEFAULT_THREADS = Math.min(4, Runtime.getRuntime().availableProcessors());
+
+    private final TaskService taskService;
+    private final ExecutorService executor;
+    private final boolean ownsExecutor;
+
+    /**
+     * Cria a fachada com um executor próprio (threads daemon "techflow-service-N"),
+     * encerrado em close().
+     * @param taskService Serviço que executa as operações; para várias threads, use um
+     *                    repositório concorrente (TaskService.concurrent()).
+     */
+    public AsyncTaskService(TaskService taskService) {
+        this(taskService, DEFAULT_THREADS);
+    }
+
+    /**
+     * Cria a fachada com um executor próprio de tamanho fixo, encerrado em close().
+     * @param threads Número de threads; use 1 para repositórios que não são thread-safe
+     *                (ex.: InMemoryTaskRepository, MappedTaskRepository).
+     */
+    public AsyncTaskService(TaskService taskService, int threads) {
+        this(taskService, Executors.newFixedThreadPool(threads, daemonThreads()), true);
+    }
+
+    /**
+     * Cria a fachada sobre um executor externo, que não é encerrado em close().
+     */
+    public AsyncTaskService(TaskService taskService, ExecutorService executor) {
+        this(taskService, executor, false);
+    }
+
+    private AsyncTaskService(TaskService taskService, ExecutorService executor, boolean ownsExecutor) {
+        this.taskService = taskService;
+        this.executor = executor;
+        this.ownsExecutor = ownsExecutor;
+    }
+
+    /**
+     * @return Serviço síncrono por trás da fachada (ex.: para assinar as alterações).
+     */
+    public TaskService getTaskService() {
+        return taskService;
+    }
+
+    /**
+     * @return A tarefa criada, ou null se a validação falhar (como TaskService.createTask).
+     */
+    public CompletableFuture<Task> createTask(String title, String description, int priority) {
+        return CompletableFuture.supplyAsync(() -> taskService.createTask(title, description, priority), executor);
+    }
+
+    public CompletableFuture<List<Task>> getAllTasks() {
+        return CompletableFuture.supplyAsync(taskService::getAllTasks, executor);
+    }
+
+    public CompletableFuture<TaskPage> getTaskPage(TaskCursor after, int limit) {
+        return CompletableFuture.supplyAsync(() -> taskService.getTaskPage(after, limit), executor);
+    }
+
+    public CompletableFuture<Optional<Task>> getTaskById(String id) {
+        return CompletableFuture.supplyAsync(() -> taskService.getTaskById(id), executor);
+    }
+
+    public CompletableFuture<List<Task>> findByIdPrefix(String prefix) {
+        return CompletableFuture.supplyAsync(() -> taskService.findByIdPrefix(prefix), executor);
+    }
+
+    public CompletableFuture<List<Task>> search(String query) {
+        return CompletableFuture.supplyAsync(() -> taskService.search(query), executor);
+    }
+
+    public CompletableFuture<List<Task>> search(String query, int limit) {
+        return CompletableFuture.supplyAsync(() -> taskService.search(query, limit), executor);
+    }
+
+    public CompletableFuture<Boolean> updateTaskStatus(String id, Task.TaskStatus newStatus) {
+        return CompletableFuture.supplyAsync(() -> taskService.updateTaskStatus(id, newStatus), executor);
+    }
+
+    public CompletableFuture<Boolean> updateTaskDetails(String id, String newTitle, String newDescription, int newPriority) {
+        return CompletableFuture.supplyAsync(
+                () -> taskService.updateTaskDetails(id, newTitle, newDescription, newPriority), executor);
+    }
+
+    public CompletableFuture<Boolean> updateTaskDeliveryDate(String id, LocalDate newDeliveryDate) {
+        return CompletableFuture.supplyAsync(() -> taskService.updateTaskDeliveryDate(id, newDeliveryDate), executor);
+    }
+
+    public CompletableFuture<UpdateResult> updateTaskStatus(String id, Task.TaskStatus newStatus, int expectedVersion) {
+        return CompletableFuture.supplyAsync(() -> taskService.updateTaskStatus(id, newStatus, expectedVersion), executor);
+    }
+
+    public CompletableFuture<UpdateResult> updateTaskDetails(String id, String newTitle, String newDescription,
+                                                             int newPriority, int expectedVersion) {
+        return CompletableFuture.supplyAsync(
+                () -> taskService.updateTaskDetails(id, newTitle, newDescription, newPriority, expectedVersion), executor);
+    }
+
+    public CompletableFuture<List<Task>> findByStatus(Task.TaskStatus status) {
+        return CompletableFuture.supplyAsync(() -> taskService.findByStatus(status), executor);
+    }
+
+    public CompletableFuture<List<Task>> findDueBetween(LocalDate from, LocalDate to) {
+        return CompletableFuture.supplyAsync(() -> taskService.findDueBetween(from, to), executor);
+    }
+
+    public CompletableFuture<List<Task>> findOverdue(LocalDate today) {
+        return CompletableFuture.supplyAsync(() -> taskService.findOverdue(today), executor);
+    }
+
+    public CompletableFuture<Boolean> deleteTask(String id) {
+        return CompletableFuture.supplyAsync(() -> taskService.deleteTask(id), executor);
+    }
+
+    public CompletableFuture<BatchResult> createTasks(Collection<TaskSpec> specs) {
+        return CompletableFuture.supplyAsync(() -> taskService.createTasks(specs), executor);
+    }
+
+    public CompletableFuture<BatchResult> updateStatuses(Map<String, Task.TaskStatus> changes) {
+        return CompletableFuture.supplyAsync(() -> taskService.updateStatuses(changes), executor);
+    }
+
+    public CompletableFuture<BatchResult> deleteTasks(Collection<String> ids) {
+        return CompletableFuture.supplyAsync(() -> taskService.deleteTasks(ids), executor);
+    }
+
+    /**
+     * Encerra o executor próprio após as operações já enviadas. Um executor externo é mantido.
+     */
+    @Override
+    public void close() {
+        if (ownsExecutor) {
+            executor.shutdown();
+        }
+    }
+
+    private static ThreadFactory daemonThreads() {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, "techflow-service-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
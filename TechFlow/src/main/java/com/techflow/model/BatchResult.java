@@ -0,0 +1,65 @@
+package com.techflow.model;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Resultado de uma operação em lote do TaskService: um item por entrada, na ordem recebida.
+ * Substitui o null/false e a mensagem de console das operações individuais.
+ */
+public final class BatchResult {
+
+    /**
+     * Resultado de uma entrada do lote.
+     * @param index Posição da entrada no lote.
+     * @param requestedId ID informado na entrada (null na criação; na importação, só nas rejeições por ID repetido).
+     * @param task Tarefa criada ou alterada; null se a entrada foi rejeitada.
+     * @param error Motivo da rejeição; null em caso de sucesso.
+     */
+    public record Item(int index, String requestedId, Task task, String error) {
+
+        public boolean succeeded() {
+            return error == null;
+        }
+    }
+
+    private final List<Item> items;
+    private final int successCount;
+
+    BatchResult(List<Item> items) {
+        this.items = Collections.unmodifiableList(items);
+        int succeeded = 0;
+        for (Item item : items) {
+            if (item.succeeded()) {
+                succeeded++;
+            }
+        }
+        this.successCount = succeeded;
+    }
+
+    public List<Item> items() {
+        return items;
+    }
+
+    public int successCount() {
+        return successCount;
+    }
+
+    public int failureCount() {
+        return items.size() - successCount;
+    }
+
+    /**
+     * @return Apenas os itens rejeitados, na ordem do lote.
+     */
+    public List<Item> failures() {
+        List<Item> failures = new ArrayList<>(failureCount());
+        for (Item item : items) {
+            if (!item.succeeded()) {
+                failures.add(item);
+            }
+        }
+        return failures;
+    }
+}
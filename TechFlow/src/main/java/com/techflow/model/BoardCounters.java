@@ -0,0 +1,46 @@
+package com.techflow.model;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Contadores vivos do quadro (status x prioridade), mantidos pelo TaskService a cada alteração.
+ *
+ * Cada célula é um LongAdder: escritores em threads diferentes incrementam células internas
+ * distintas, sem disputar a mesma linha de cache. A leitura soma 15 células, independente do
+ * número de tarefas. Durante escritas concorrentes, uma mudança de coluna pode aparecer pela
+ * metade (saiu de uma, ainda não entrou na outra); sem escritas em andamento, os totais são exatos.
+ */
+final class BoardCounters {
+
+    private final LongAdder[] cells = new LongAdder[BoardSummary.cells()];
+
+    BoardCounters() {
+        for (int i = 0; i < cells.length; i++) {
+            cells[i] = new LongAdder();
+        }
+    }
+
+    /**
+     * Aplica uma alteração de tarefa: before null = criação; after null = exclusão.
+     */
+    void apply(TaskSnapshot before, TaskSnapshot after) {
+        if (before != null && after != null
+                && before.status() == after.status() && before.priority() == after.priority()) {
+            return;
+        }
+        if (before != null) {
+            cells[BoardSummary.index(before.status(), before.priority())].decrement();
+        }
+        if (after != null) {
+            cells[BoardSummary.index(after.status(), after.priority())].increment();
+        }
+    }
+
+    BoardSummary summary() {
+        long[] counts = new long[cells.length];
+        for (int i = 0; i < cells.length; i++) {
+            counts[i] = cells[i].sum();
+        }
+        return new BoardSummary(counts);
+    }
+}
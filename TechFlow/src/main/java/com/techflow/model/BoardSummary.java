@@ -0,0 +1,71 @@
+package com.techflow.model;
+
+/**
+ * Contagem de tarefas do quadro Kanban por coluna (status) e prioridade em um dado instante.
+ * Obtida em TaskService.getBoardSummary() sem percorrer o repositório.
+ */
+public final class BoardSummary {
+
+    private static final int PRIORITIES = Task.MAX_PRIORITY - Task.MIN_PRIORITY + 1;
+
+    // Contagens indexadas por status.ordinal() * PRIORITIES + (prioridade - MIN_PRIORITY).
+    private final long[] counts;
+
+    BoardSummary(long[] counts) {
+        this.counts = counts;
+    }
+
+    /**
+     * @return Quantidade de tarefas na coluna (status) com a prioridade informada.
+     */
+    public long count(Task.TaskStatus status, int priority) {
+        return counts[index(status, priority)];
+    }
+
+    /**
+     * @return Quantidade de tarefas na coluna (status).
+     */
+    public long count(Task.TaskStatus status) {
+        long total = 0;
+        for (int p = Task.MIN_PRIORITY; p <= Task.MAX_PRIORITY; p++) {
+            total += count(status, p);
+        }
+        return total;
+    }
+
+    /**
+     * @return Quantidade de tarefas com a prioridade informada, em todas as colunas.
+     */
+    public long countByPriority(int priority) {
+        long total = 0;
+        for (Task.TaskStatus status : Task.TaskStatus.values()) {
+            total += count(status, priority);
+        }
+        return total;
+    }
+
+    /**
+     * @return Total de tarefas no quadro.
+     */
+    public long total() {
+        long total = 0;
+        for (long count : counts) {
+            total += count;
+        }
+        return total;
+    }
+
+    static int cells() {
+        return Task.TaskStatus.values().length * PRIORITIES;
+    }
+
+    static int index(Task.TaskStatus status, int priority) {
+        return status.ordinal() * PRIORITIES + (priority - Task.MIN_PRIORITY);
+    }
+
+    @Override
+    public String toString() {
+        return "BoardSummary{TO_DO=" + count(Task.TaskStatus.TO_DO) + ", IN_PROGRESS=" + count(Task.TaskStatus.IN_PROGRESS)
+                + ", DONE=" + count(Task.TaskStatus.DONE) + "}";
+    }
+}
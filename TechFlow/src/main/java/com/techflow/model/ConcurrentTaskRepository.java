@@ -0,0 +1,281 @@
+package com.techflow.model;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Spliterator;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.Consumer;
+
+/**
+ * Repositório thread-safe para o modo concorrente do TaskService.
+ *
+ * O índice por ID é dividido em segmentos (TaskIdMap de chaves primitivas), cada um com
+ * um StampedLock: escritas travam apenas o segmento da chave e buscas usam leitura
+ * otimista, sem travar. A ordem por prioridade usa um ConcurrentSkipListMap por nível,
+ * sem travas. Leituras nunca bloqueiam escritores: a listagem, as páginas e o spliterator
+ * percorrem os baldes de forma fracamente consistente (uma tarefa que muda de prioridade durante
+ * o percurso pode aparecer duas vezes ou nenhuma; as demais aparecem exatamente uma vez).
+ */
+public class ConcurrentTaskRepository implements TaskRepository {
+
+    private static final int SEGMENTS = 64;
+
+    private final Segment[] segments = new Segment[SEGMENTS];
+    private final List<ConcurrentSkipListMap<Long, Task>> buckets = new ArrayList<>();
+    private final AtomicLong nextSequence = new AtomicLong();
+    private final AtomicInteger size = new AtomicInteger();
+
+    public ConcurrentTaskRepository() {
+        for (int i = 0; i < SEGMENTS; i++) {
+            segments[i] = new Segment();
+        }
+        for (int p = Task.MIN_PRIORITY; p <= Task.MAX_PRIORITY; p++) {
+            buckets.add(new ConcurrentSkipListMap<>());
+        }
+    }
+
+    @Override
+    public void save(Task task) {
+        long high = task.getIdHigh();
+        long low = task.getIdLow();
+        Segment segment = segment(high, low);
+        // A trava do segmento mantém índice por ID e balde de prioridade atômicos para a mesma chave.
+        long stamp = segment.lock.writeLock();
+        try {
+            Entry entry = segment.entries.get(high, low);
+            int priority = task.getPriority();
+            if (entry == null) {
+                Entry created = new Entry(task, nextSequence.getAndIncrement(), priority);
+                bucket(priority).put(created.sequence, task);
+                segment.entries.put(high, low, created);
+                size.incrementAndGet();
+                return;
+            }
+            if (entry.indexedPriority != priority || entry.task != task) {
+                bucket(entry.indexedPriority).remove(entry.sequence);
+                bucket(priority).put(entry.sequence, task);
+            }
+            segment.entries.put(high, low, new Entry(task, entry.sequence, priority));
+        } finally {
+            segment.lock.unlockWrite(stamp);
+        }
+    }
+
+    @Override
+    public Optional<Task> findById(String id) {
+        TaskIds.Parsed parsed = TaskIds.parse(id);
+        return parsed.valid() ? findById(parsed.high(), parsed.low()) : Optional.empty();
+    }
+
+    @Override
+    public Optional<Task> findById(long high, long low) {
+        Segment segment = segment(high, low);
+        long stamp = segment.lock.tryOptimisticRead();
+        Entry entry = segment.entries.get(high, low);
+        if (!segment.lock.validate(stamp)) {
+            // Houve escrita no segmento durante a leitura: repete com a trava de leitura.
+            stamp = segment.lock.readLock();
+            try {
+                entry = segment.entries.get(high, low);
+            } finally {
+                segment.lock.unlockRead(stamp);
+            }
+        }
+        return entry == null ? Optional.empty() : Optional.of(entry.task);
+    }
+
+    @Override
+    public Optional<Task> deleteById(String id) {
+        TaskIds.Parsed parsed = TaskIds.parse(id);
+        if (!parsed.valid()) {
+            return Optional.empty();
+        }
+        long high = parsed.high();
+        long low = parsed.low();
+        Segment segment = segment(high, low);
+        long stamp = segment.lock.writeLock();
+        try {
+            Entry entry = segment.entries.remove(high, low);
+            if (entry == null) {
+                return Optional.empty();
+            }
+            bucket(entry.indexedPriority).remove(entry.sequence);
+            size.decrementAndGet();
+            return Optional.of(entry.task);
+        } finally {
+            segment.lock.unlockWrite(stamp);
+        }
+    }
+
+    @Override
+    public List<Task> findAll() {
+        List<Task> ordered = new ArrayList<>(size.get());
+        for (int p = Task.MAX_PRIORITY; p >= Task.MIN_PRIORITY; p--) {
+            ordered.addAll(bucket(p).values());
+        }
+        return ordered;
+    }
+
+    @Override
+    public TaskPage findPage(TaskCursor after, int limit) {
+        List<Task> tasks = new ArrayList<>(Math.min(limit, size.get()));
+        int first = after == null ? Task.MAX_PRIORITY : after.priority();
+        int lastPriority = 0;
+        long lastSequence = 0;
+        for (int p = first; p >= Task.MIN_PRIORITY; p--) {
+            Map<Long, Task> view = p == first && after != null
+                    ? bucket(p).tailMap(after.sequence(), false)
+                    : bucket(p);
+            for (Map.Entry<Long, Task> entry : view.entrySet()) {
+                if (tasks.size() == limit) {
+                    // Ainda há tarefas: a próxima página continua da última incluída.
+                    return new TaskPage(tasks, new TaskCursor(lastPriority, lastSequence));
+                }
+                tasks.add(entry.getValue());
+                lastPriority = p;
+                lastSequence = entry.getKey();
+            }
+        }
+        return new TaskPage(tasks, null);
+    }
+
+    @Override
+    public Spliterator<Task> spliterator() {
+        return new BucketSpliterator(Task.MAX_PRIORITY, Task.MIN_PRIORITY - 1, null);
+    }
+
+    @Override
+    public List<TaskSnapshot> snapshotAll() {
+        // Percorre o índice por ID (e não os baldes), que não perde tarefas trocando de prioridade.
+        // Cada segmento fica travado só durante a cópia das suas entradas.
+        List<Entry> entries = new ArrayList<>(size.get());
+        for (Segment segment : segments) {
+            long stamp = segment.lock.readLock();
+            try {
+                segment.entries.forEachValue(entries::add);
+            } finally {
+                segment.lock.unlockRead(stamp);
+            }
+        }
+        entries.sort((e1, e2) -> Long.compare(e1.sequence, e2.sequence));
+        List<TaskSnapshot> snapshots = new ArrayList<>(entries.size());
+        for (Entry entry : entries) {
+            snapshots.add(entry.task.snapshot());
+        }
+        return snapshots;
+    }
+
+    @Override
+    public int count() {
+        return size.get();
+    }
+
+    private Segment segment(long high, long low) {
+        long h = high ^ low;
+        return segments[(int) (h ^ (h >>> 32)) & (SEGMENTS - 1)];
+    }
+
+    private ConcurrentSkipListMap<Long, Task> bucket(int priority) {
+        return buckets.get(priority - Task.MIN_PRIORITY);
+    }
+
+    /**
+     * Entrada imutável do índice por ID; uma nova é publicada a cada reindexação.
+     */
+    private static final class Entry {
+        private final Task task;
+        private final long sequence;
+        private final int indexedPriority;
+
+        private Entry(Task task, long sequence, int indexedPriority) {
+            this.task = task;
+            this.sequence = sequence;
+            this.indexedPriority = indexedPriority;
+        }
+    }
+
+    /**
+     * Percorre os baldes das prioridades from até to + 1 (to é exclusivo), sem copiá-los.
+     * Divide primeiro entre baldes; restando um só, delega ao spliterator do ConcurrentSkipListMap,
+     * que se divide pelos níveis do seu índice.
+     */
+    private final class BucketSpliterator implements Spliterator<Task> {
+        private int from;
+        private final int to;
+        private Spliterator<Task> current;
+
+        private BucketSpliterator(int from, int to, Spliterator<Task> current) {
+            this.from = from;
+            this.to = to;
+            this.current = current;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super Task> action) {
+            while (from > to) {
+                if (current == null) {
+                    current = bucket(from).values().spliterator();
+                }
+                if (current.tryAdvance(action)) {
+                    return true;
+                }
+                current = null;
+                from--;
+            }
+            return false;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super Task> action) {
+            for (; from > to; from--) {
+                if (current == null) {
+                    current = bucket(from).values().spliterator();
+                }
+                current.forEachRemaining(action);
+                current = null;
+            }
+        }
+
+        @Override
+        public Spliterator<Task> trySplit() {
+            if (from - to > 1) {
+                // A metade com as prioridades mais altas (o início da ordem) vai para o novo spliterator.
+                int middle = from - (from - to) / 2;
+                Spliterator<Task> prefix = new BucketSpliterator(from, middle, current);
+                from = middle;
+                current = null;
+                return prefix;
+            }
+            if (from > to) {
+                if (current == null) {
+                    current = bucket(from).values().spliterator();
+                }
+                return current.trySplit();
+            }
+            return null;
+        }
+
+        @Override
+        public long estimateSize() {
+            if (from - to == 1 && current != null) {
+                return current.estimateSize();
+            }
+            return (long) size.get() * Math.max(0, from - to) / buckets.size();
+        }
+
+        @Override
+        public int characteristics() {
+            return ORDERED | NONNULL | CONCURRENT;
+        }
+    }
+
+    private static final class Segment {
+        private final StampedLock lock = new StampedLock();
+        private final TaskIdMap<Entry> entries = new TaskIdMap<>();
+    }
+}
@@ -0,0 +1,27 @@
+package com.techflow.model;
+
+import java.time.LocalDate;
+
+/**
+ * Prazo atingido por uma tarefa, disparado pelo DeadlineScheduler.
+ *
+ * @param type Tipo do aviso.
+ * @param task Estado da tarefa quando o aviso foi disparado.
+ * @param date Dia em que o prazo foi detectado.
+ */
+public record DeadlineEvent(Type type, TaskSnapshot task, LocalDate date) {
+
+    public enum Type {
+        /** A entrega está a até N dias (ver DeadlineScheduler); disparado uma vez por data de entrega. */
+        DUE_SOON,
+        /** A data de entrega passou e a tarefa não foi concluída; depois disso a tarefa deixa de ser acompanhada. */
+        OVERDUE
+    }
+
+    /**
+     * @return ID da tarefa.
+     */
+    public String taskId() {
+        return task.id();
+    }
+}
@@ -0,0 +1,17 @@
+package com.techflow.model;
+
+import java.util.List;
+
+/**
+ * Destino dos avisos de prazo do DeadlineScheduler.
+ */
+@FunctionalInterface
+public interface DeadlineListener {
+
+    /**
+     * Recebe, na thread do scheduler, os prazos atingidos em uma verificação.
+     * Para atualizar a GUI, repasse à EDT (SwingUtilities.invokeLater).
+     * @param events Avisos em ordem de detecção; nunca vazia.
+     */
+    void deadlinesReached(List<DeadlineEvent> events);
+}
@@ -0,0 +1,125 @@
+package com.techflow.model;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Avisa quando as tarefas se aproximam ou passam da data de entrega.
+ *
+ * As datas ficam em uma roda de tempo (DeadlineWheel) mantida pelas notificações do TaskService:
+ * definir a data, mudar o status ou excluir a tarefa só move o seu registro, e tarefas concluídas
+ * deixam de ser acompanhadas. Cada verificação dispara apenas os prazos do(s) dia(s) que
+ * passaram, sem percorrer a lista de tarefas; com milhões de tarefas, verificar a cada minuto
+ * continua custando quase nada.
+ *
+ * Tudo roda em uma thread própria ("techflow-deadlines"), inclusive o DeadlineListener. A carga
+ * inicial lê as tarefas com data pelo índice do serviço nessa thread: o repositório precisa
+ * aceitar leituras concorrentes (ex.: TaskService.concurrent()).
+ */
+public final class DeadlineScheduler implements AutoCloseable {
+
+    private final TaskService taskService;
+    private final Clock clock;
+    private final DeadlineListener listener;
+    private final ScheduledExecutorService executor;
+    private final DeadlineWheel wheel; // Acessada somente pela thread do executor
+    private final TaskChangeFeed.Subscription subscription;
+    private boolean started;
+
+    /**
+     * Passa a acompanhar as tarefas do serviço. As verificações começam com start() (ou check()).
+     * @param taskService Serviço cujas tarefas são acompanhadas.
+     * @param dueSoonDays Antecedência do aviso DUE_SOON, em dias (0 = no próprio dia da entrega).
+     * @param clock Relógio que define o dia atual (Clock.systemDefaultZone() fora dos testes).
+     * @param listener Destino dos avisos.
+     */
+    public DeadlineScheduler(TaskService taskService, int dueSoonDays, Clock clock, DeadlineListener listener) {
+        if (dueSoonDays < 0) {
+            throw new IllegalArgumentException("A antecedência do aviso não pode ser negativa: " + dueSoonDays);
+        }
+        this.taskService = taskService;
+        this.clock = clock;
+        this.listener = listener;
+        this.wheel = new DeadlineWheel(dueSoonDays, LocalDate.now(clock));
+        this.executor = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "techflow-deadlines");
+            t.setDaemon(true);
+            return t;
+        });
+        // Assina antes da carga inicial: uma alteração concorrente chega pela notificação depois
+        // (ou antes) da leitura e, como as notificações de uma tarefa vêm em ordem, a última aplicada
+        // é sempre o estado mais recente.
+        this.subscription = taskService.subscribe(executor, this::tasksChanged);
+        executor.execute(this::loadTasks);
+    }
+
+    /**
+     * Agenda verificações periódicas; a primeira roda imediatamente.
+     * @param checkIntervalMillis Intervalo entre verificações (ex.: um minuto).
+     */
+    public synchronized void start(long checkIntervalMillis) {
+        if (started) {
+            return;
+        }
+        started = true;
+        executor.scheduleWithFixedDelay(this::runCheck, 0, checkIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Verifica os prazos agora, depois das alterações já notificadas.
+     * @return Número de avisos disparados.
+     */
+    public CompletableFuture<Integer> check() {
+        return CompletableFuture.supplyAsync(this::runCheck, executor);
+    }
+
+    /**
+     * @return Número de tarefas acompanhadas (com data de entrega e não concluídas).
+     */
+    public CompletableFuture<Integer> trackedCount() {
+        return CompletableFuture.supplyAsync(wheel::size, executor);
+    }
+
+    /**
+     * Cancela a assinatura e encerra a thread do scheduler.
+     */
+    @Override
+    public void close() {
+        subscription.close();
+        executor.shutdown();
+    }
+
+    private void loadTasks() {
+        for (Task task : taskService.findDueBetween(LocalDate.MIN, LocalDate.MAX)) {
+            TaskSnapshot state = task.snapshot();
+            wheel.update(new TaskQueryIndex.TaskKey(state.idHigh(), state.idLow()), state);
+        }
+    }
+
+    private void tasksChanged(List<TaskChangeEvent> events) {
+        for (TaskChangeEvent event : events) {
+            Task task = event.task();
+            wheel.update(new TaskQueryIndex.TaskKey(task.getIdHigh(), task.getIdLow()), event.after());
+        }
+    }
+
+    // Roda na thread do executor; uma falha do listener não pode cancelar as verificações periódicas.
+    private int runCheck() {
+        List<DeadlineEvent> fired = new ArrayList<>();
+        wheel.advance(LocalDate.now(clock), fired);
+        if (!fired.isEmpty()) {
+            try {
+                listener.deadlinesReached(fired);
+            } catch (RuntimeException e) {
+                taskService.getEventLog().error("❌ ERRO ao tratar avisos de prazo: {}", e);
+            }
+        }
+        return fired.size();
+    }
+}
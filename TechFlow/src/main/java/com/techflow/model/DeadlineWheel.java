@@ -0,0 +1,220 @@
+package com.techflow.model;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Roda de tempo hierárquica, em dias, com o próximo prazo de cada tarefa acompanhada.
+ *
+ * Três níveis de 64 posições: o primeiro cobre os próximos 64 dias (uma posição por dia), o
+ * segundo blocos de 64 dias (~11 anos) e o terceiro blocos de 4096 dias (~700 anos); datas além
+ * disso ficam em uma lista de excedentes. Incluir, mover ou remover uma tarefa custa O(1) (listas
+ * duplamente encadeadas). Ao avançar um dia, só a posição daquele dia é disparada; no início de
+ * cada bloco, as tarefas do bloco descem um nível. Cada tarefa desce no máximo três vezes, então
+ * o custo por prazo disparado é O(1) amortizado, sem percorrer as tarefas que não venceram.
+ *
+ * Cada tarefa tem um único registro: primeiro agendado para o aviso de "vence em breve"
+ * (data de entrega - dueSoonDays) e, depois dele, para o dia seguinte à entrega (atrasada).
+ * Após o aviso de atraso o registro sai da roda, mas continua no mapa marcado como disparado:
+ * editar a tarefa sem mudar a data não a reagenda; só outra data, a conclusão ou a exclusão.
+ *
+ * Não é thread-safe: usada apenas pela thread do DeadlineScheduler.
+ */
+final class DeadlineWheel {
+
+    private static final int SLOT_BITS = 6;
+    private static final int SLOTS = 1 << SLOT_BITS;
+    private static final int MASK = SLOTS - 1;
+    private static final int LEVELS = 3;
+    private static final int OVERFLOW = LEVELS * SLOTS;
+    // Prazos que já passaram quando foram agendados: disparam na próxima verificação.
+    private static final int DUE = OVERFLOW + 1;
+
+    private final int dueSoonDays;
+    private final Entry[] buckets = new Entry[DUE + 1];
+    private final Map<TaskQueryIndex.TaskKey, Entry> entries = new HashMap<>();
+    private int overdueCount; // Registros em entries cujo aviso de atraso já foi dado
+    private long today;
+
+    /**
+     * @param dueSoonDays Antecedência do aviso DUE_SOON, em dias (0 = no próprio dia da entrega).
+     * @param today Dia inicial da roda.
+     */
+    DeadlineWheel(int dueSoonDays, LocalDate today) {
+        this.dueSoonDays = dueSoonDays;
+        this.today = today.toEpochDay();
+    }
+
+    /**
+     * Acompanha a tarefa conforme seu estado atual: sem data de entrega, concluída ou excluída
+     * (state null), deixa de ser acompanhada. Com a mesma data de antes, mantém o aviso já dado.
+     */
+    void update(TaskQueryIndex.TaskKey key, TaskSnapshot state) {
+        Entry entry = entries.get(key);
+        if (state == null || state.deliveryDate() == null || state.status() == Task.TaskStatus.DONE) {
+            if (entry != null) {
+                unlink(entry);
+                clearOverdue(entry);
+                entries.remove(key);
+            }
+            return;
+        }
+        if (entry == null) {
+            entry = new Entry(key);
+            entries.put(key, entry);
+        } else if (entry.state.deliveryDate().equals(state.deliveryDate())) {
+            entry.state = state;
+            return;
+        } else {
+            unlink(entry);
+            clearOverdue(entry);
+        }
+        entry.state = state;
+        schedule(entry, state.deliveryDate().toEpochDay() - dueSoonDays);
+    }
+
+    /**
+     * Avança a roda até o dia informado, disparando os prazos de cada dia intermediário.
+     * Um dia anterior ao atual (relógio atrasado) só dispara os prazos já vencidos.
+     * @param date Dia atual.
+     * @param fired Recebe os avisos disparados, em ordem.
+     */
+    void advance(LocalDate date, List<DeadlineEvent> fired) {
+        fireDue(fired);
+        long target = date.toEpochDay();
+        while (today < target) {
+            today++;
+            // No início de um bloco, suas tarefas descem de nível (do mais alto para o mais baixo).
+            for (int level = LEVELS; level >= 1; level--) {
+                if ((today & ((1L << (SLOT_BITS * level)) - 1)) == 0) {
+                    cascade(level == LEVELS ? OVERFLOW : level * SLOTS + slot(today, level));
+                }
+            }
+            Entry entry = detach(slot(today, 0));
+            while (entry != null) {
+                Entry next = entry.next;
+                entry.next = null;
+                fire(entry, fired);
+                entry = next;
+            }
+            fireDue(fired);
+        }
+    }
+
+    /**
+     * @return Número de tarefas acompanhadas (com algum aviso ainda por disparar).
+     */
+    int size() {
+        return entries.size() - overdueCount;
+    }
+
+    private void fire(Entry entry, List<DeadlineEvent> fired) {
+        long deliveryDay = entry.state.deliveryDate().toEpochDay();
+        LocalDate date = LocalDate.ofEpochDay(today);
+        if (today > deliveryDay) {
+            // Fica fora da roda (bucket -1), lembrando que o atraso já foi avisado.
+            entry.overdueFired = true;
+            overdueCount++;
+            fired.add(new DeadlineEvent(DeadlineEvent.Type.OVERDUE, entry.state, date));
+        } else {
+            fired.add(new DeadlineEvent(DeadlineEvent.Type.DUE_SOON, entry.state, date));
+            schedule(entry, deliveryDay + 1);
+        }
+    }
+
+    private void fireDue(List<DeadlineEvent> fired) {
+        while (buckets[DUE] != null) {
+            Entry entry = detach(DUE);
+            while (entry != null) {
+                Entry next = entry.next;
+                entry.next = null;
+                fire(entry, fired);
+                entry = next;
+            }
+        }
+    }
+
+    private void cascade(int bucket) {
+        Entry entry = detach(bucket);
+        while (entry != null) {
+            Entry next = entry.next;
+            entry.next = null;
+            schedule(entry, entry.day);
+            entry = next;
+        }
+    }
+
+    private void schedule(Entry entry, long day) {
+        entry.day = day;
+        long delta = day - today;
+        int bucket = delta <= 0 ? DUE : OVERFLOW;
+        for (int level = 0; level < LEVELS && delta > 0; level++) {
+            if (delta < 1L << (SLOT_BITS * (level + 1))) {
+                bucket = level * SLOTS + slot(day, level);
+                break;
+            }
+        }
+        entry.bucket = bucket;
+        entry.prev = null;
+        entry.next = buckets[bucket];
+        if (entry.next != null) {
+            entry.next.prev = entry;
+        }
+        buckets[bucket] = entry;
+    }
+
+    private void clearOverdue(Entry entry) {
+        if (entry.overdueFired) {
+            entry.overdueFired = false;
+            overdueCount--;
+        }
+    }
+
+    private void unlink(Entry entry) {
+        if (entry.bucket < 0) {
+            return;
+        }
+        if (entry.prev != null) {
+            entry.prev.next = entry.next;
+        } else {
+            buckets[entry.bucket] = entry.next;
+        }
+        if (entry.next != null) {
+            entry.next.prev = entry.prev;
+        }
+        entry.prev = null;
+        entry.next = null;
+        entry.bucket = -1;
+    }
+
+    // Esvazia a posição e devolve sua lista; os registros ficam fora da roda até serem reagendados.
+    private Entry detach(int bucket) {
+        Entry head = buckets[bucket];
+        buckets[bucket] = null;
+        for (Entry entry = head; entry != null; entry = entry.next) {
+            entry.prev = null;
+            entry.bucket = -1;
+        }
+        return head;
+    }
+
+    private static int slot(long day, int level) {
+        return (int) ((day >> (SLOT_BITS * level)) & MASK);
+    }
+
+    private static final class Entry {
+        final TaskQueryIndex.TaskKey key;
+        TaskSnapshot state;
+        long day;
+        int bucket = -1;
+        boolean overdueFired;
+        Entry prev;
+        Entry next;
+
+        Entry(TaskQueryIndex.TaskKey key) {
+            this.key = key;
+        }
+    }
+}
@@ -0,0 +1,299 @@
+package com.techflow.model;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.List;
+import java.util.Optional;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * Repositório em memória indexado pelo ID (UUID) da tarefa.
+ * Busca, atualização e exclusão custam O(1), sem varrer a lista de tarefas.
+ * O índice usa os dois longs do ID (TaskIdMap), sem guardar a forma textual; um ID textual
+ * inválido não corresponde a nenhuma tarefa.
+ *
+ * Mantém também um índice por prioridade: um "balde" por nível (1 a 5), cada um
+ * ordenado pela sequência de criação. A listagem é apenas um percurso dos baldes,
+ * sem reordenar nada a cada leitura. A paginação localiza o cursor por busca binária no
+ * balde e o spliterator percorre os próprios arrays dos baldes, sem copiá-los.
+ *
+ * Não é thread-safe; para várias threads use o ConcurrentTaskRepository (TaskService.concurrent()).
+ */
+public class InMemoryTaskRepository implements TaskRepository {
+
+    private final TaskIdMap<Entry> entriesById = new TaskIdMap<>();
+    private final PriorityBucket[] buckets = new PriorityBucket[Task.MAX_PRIORITY - Task.MIN_PRIORITY + 1];
+    private long nextSequence;
+    // Incrementado a cada inserção, remoção ou troca de balde, para os spliterators falharem cedo.
+    private int modCount;
+
+    public InMemoryTaskRepository() {
+        for (int i = 0; i < buckets.length; i++) {
+            buckets[i] = new PriorityBucket();
+        }
+    }
+
+    @Override
+    public void save(Task task) {
+        long high = task.getIdHigh();
+        long low = task.getIdLow();
+        Entry entry = entriesById.get(high, low);
+        if (entry == null) {
+            entry = new Entry(task, nextSequence++, task.getPriority());
+            entriesById.put(high, low, entry);
+            bucket(entry.indexedPriority).insert(entry.sequence, task);
+            modCount++;
+            return;
+        }
+        // Tarefa já existente: só troca de balde se a prioridade mudou.
+        // A sequência original é mantida, preservando a ordem de criação.
+        if (entry.indexedPriority != task.getPriority() || entry.task != task) {
+            bucket(entry.indexedPriority).remove(entry.sequence);
+            entry.task = task;
+            entry.indexedPriority = task.getPriority();
+            bucket(entry.indexedPriority).insert(entry.sequence, task);
+            modCount++;
+        }
+    }
+
+    @Override
+    public Optional<Task> findById(String id) {
+        TaskIds.Parsed parsed = TaskIds.parse(id);
+        return parsed.valid() ? findById(parsed.high(), parsed.low()) : Optional.empty();
+    }
+
+    @Override
+    public Optional<Task> findById(long high, long low) {
+        Entry entry = entriesById.get(high, low);
+        return entry == null ? Optional.empty() : Optional.of(entry.task);
+    }
+
+    @Override
+    public Optional<Task> deleteById(String id) {
+        TaskIds.Parsed parsed = TaskIds.parse(id);
+        Entry entry = parsed.valid() ? entriesById.remove(parsed.high(), parsed.low()) : null;
+        if (entry == null) {
+            return Optional.empty();
+        }
+        bucket(entry.indexedPriority).remove(entry.sequence);
+        modCount++;
+        return Optional.of(entry.task);
+    }
+
+    @Override
+    public List<Task> findAll() {
+        List<Task> ordered = new ArrayList<>(entriesById.size());
+        for (int p = Task.MAX_PRIORITY; p >= Task.MIN_PRIORITY; p--) {
+            bucket(p).appendTo(ordered);
+        }
+        return ordered;
+    }
+
+    @Override
+    public TaskPage findPage(TaskCursor after, int limit) {
+        List<Task> tasks = new ArrayList<>(Math.min(limit, entriesById.size()));
+        int first = after == null ? Task.MAX_PRIORITY : after.priority();
+        int index = after == null ? 0 : bucket(first).indexAfter(after.sequence());
+        int lastPriority = 0;
+        long lastSequence = 0;
+        for (int p = first; p >= Task.MIN_PRIORITY; p--, index = 0) {
+            PriorityBucket bucket = bucket(p);
+            for (; index < bucket.size; index++) {
+                if (tasks.size() == limit) {
+                    // Ainda há tarefas: a próxima página continua da última incluída.
+                    return new TaskPage(tasks, new TaskCursor(lastPriority, lastSequence));
+                }
+                tasks.add(bucket.tasks[index]);
+                lastPriority = p;
+                lastSequence = bucket.sequences[index];
+            }
+        }
+        return new TaskPage(tasks, null);
+    }
+
+    /**
+     * Percorre os arrays dos baldes sem copiá-los; divide-se ao meio pela posição, de modo que
+     * streams paralelos recebem partes de tamanho conhecido. Falha com ConcurrentModificationException
+     * se uma tarefa for criada, excluída ou mudar de prioridade durante o percurso (como o ArrayList);
+     * mudanças de status, título ou data não afetam o percurso.
+     */
+    @Override
+    public Spliterator<Task> spliterator() {
+        Task[][] arrays = new Task[buckets.length][];
+        int[] ends = new int[buckets.length];
+        int total = 0;
+        for (int p = Task.MAX_PRIORITY, b = 0; p >= Task.MIN_PRIORITY; p--, b++) {
+            arrays[b] = bucket(p).tasks;
+            total += bucket(p).size;
+            ends[b] = total;
+        }
+        return new BucketSpliterator(arrays, ends, 0, total, modCount);
+    }
+
+    @Override
+    public List<TaskSnapshot> snapshotAll() {
+        List<Entry> entries = new ArrayList<>(entriesById.size());
+        entriesById.forEachValue(entries::add);
+        entries.sort((e1, e2) -> Long.compare(e1.sequence, e2.sequence));
+        List<TaskSnapshot> snapshots = new ArrayList<>(entries.size());
+        for (Entry entry : entries) {
+            snapshots.add(entry.task.snapshot());
+        }
+        return snapshots;
+    }
+
+    @Override
+    public int count() {
+        return entriesById.size();
+    }
+
+    private PriorityBucket bucket(int priority) {
+        return buckets[priority - Task.MIN_PRIORITY];
+    }
+
+    /**
+     * Posição de uma tarefa no índice: a sequência de criação e a prioridade
+     * com que ela foi indexada (para localizá-la mesmo após um setPriority).
+     */
+    private static final class Entry {
+        private Task task;
+        private final long sequence;
+        private int indexedPriority;
+
+        private Entry(Task task, long sequence, int indexedPriority) {
+            this.task = task;
+            this.sequence = sequence;
+            this.indexedPriority = indexedPriority;
+        }
+    }
+
+    /**
+     * Tarefas de uma mesma prioridade em arrays contíguos, ordenados pela sequência.
+     * Novas tarefas entram no fim (O(1)); remoções e mudanças de prioridade usam busca
+     * binária e um deslocamento do array, e o percurso é sequencial na memória.
+     */
+    private static final class PriorityBucket {
+        private long[] sequences = new long[16];
+        private Task[] tasks = new Task[16];
+        private int size;
+
+        void insert(long sequence, Task task) {
+            int index = size == 0 || sequences[size - 1] < sequence
+                    ? size
+                    : -Arrays.binarySearch(sequences, 0, size, sequence) - 1;
+            if (size == tasks.length) {
+                sequences = Arrays.copyOf(sequences, size * 2);
+                tasks = Arrays.copyOf(tasks, size * 2);
+            }
+            System.arraycopy(sequences, index, sequences, index + 1, size - index);
+            System.arraycopy(tasks, index, tasks, index + 1, size - index);
+            sequences[index] = sequence;
+            tasks[index] = task;
+            size++;
+        }
+
+        void remove(long sequence) {
+            int index = Arrays.binarySearch(sequences, 0, size, sequence);
+            if (index < 0) {
+                return;
+            }
+            System.arraycopy(sequences, index + 1, sequences, index, size - index - 1);
+            System.arraycopy(tasks, index + 1, tasks, index, size - index - 1);
+            tasks[--size] = null;
+        }
+
+        void appendTo(List<Task> target) {
+            for (int i = 0; i < size; i++) {
+                target.add(tasks[i]);
+            }
+        }
+
+        /**
+         * @return Posição da primeira tarefa com sequência maior que a informada.
+         */
+        int indexAfter(long sequence) {
+            int index = Arrays.binarySearch(sequences, 0, size, sequence);
+            return index >= 0 ? index + 1 : -index - 1;
+        }
+    }
+
+    /**
+     * Intervalo [index, fence) da concatenação dos baldes (da prioridade 5 para a 1).
+     * ends[b] é a posição final do balde b nessa concatenação.
+     */
+    private final class BucketSpliterator implements Spliterator<Task> {
+        private final Task[][] arrays;
+        private final int[] ends;
+        private int index;
+        private final int fence;
+        private final int expectedModCount;
+
+        private BucketSpliterator(Task[][] arrays, int[] ends, int index, int fence, int expectedModCount) {
+            this.arrays = arrays;
+            this.ends = ends;
+            this.index = index;
+            this.fence = fence;
+            this.expectedModCount = expectedModCount;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super Task> action) {
+            if (index >= fence) {
+                return false;
+            }
+            checkForComodification();
+            int b = 0;
+            while (index >= ends[b]) {
+                b++;
+            }
+            action.accept(arrays[b][index - start(b)]);
+            index++;
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super Task> action) {
+            for (int b = 0; b < arrays.length && index < fence; b++) {
+                Task[] tasks = arrays[b];
+                int end = Math.min(ends[b], fence);
+                for (int start = start(b); index < end && modCount == expectedModCount; index++) {
+                    action.accept(tasks[index - start]);
+                }
+            }
+            checkForComodification();
+        }
+
+        @Override
+        public Spliterator<Task> trySplit() {
+            int lo = index;
+            int mid = (lo + fence) >>> 1;
+            if (lo >= mid) {
+                return null;
+            }
+            index = mid;
+            return new BucketSpliterator(arrays, ends, lo, mid, expectedModCount);
+        }
+
+        @Override
+        public long estimateSize() {
+            return fence - index;
+        }
+
+        @Override
+        public int characteristics() {
+            return ORDERED | SIZED | SUBSIZED | NONNULL;
+        }
+
+        private int start(int b) {
+            return b == 0 ? 0 : ends[b - 1];
+        }
+
+        private void checkForComodification() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+    }
+}
@@ -1,7 +1,8 @@
 package com.techflow.model;
 
 import java.time.LocalDate;
-import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+import java.util.function.UnaryOperator;
 
 /**
  * Classe que representa o modelo de dados de uma Tarefa no sistema.
@@ -18,15 +19,17 @@ public class Task {
         DONE            // Concluído (Done)
     }
 
-    private final String id;
-    private String title;
-    private String description;
-    private int priority; // 1 (Baixa) a 5 (Alta)
-    private TaskStatus status;
-    private LocalDate createdAt;
+    // Limites de prioridade aceitos pelo sistema
+    public static final int MIN_PRIORITY = 1;
+    public static final int MAX_PRIORITY = 5;
 
-    // Adicionado no COMMIT #10 (Mudança de Escopo)
-    private LocalDate deliveryDate;
+    // Todo o estado mutável fica em um snapshot imutável, trocado atomicamente a cada alteração.
+    // O campo volátil garante publicação segura entre threads (ex.: produtores e a EDT do Swing).
+    // O snapshot também carrega o ID, a data de criação e a deliveryDate (COMMIT #10).
+    private volatile TaskSnapshot state;
+
+    private static final AtomicReferenceFieldUpdater<Task, TaskSnapshot> STATE =
+            AtomicReferenceFieldUpdater.newUpdater(Task.class, TaskSnapshot.class, "state");
 
     /**
      * Construtor da Tarefa.
@@ -36,78 +39,182 @@ public class Task {
      * @throws IllegalArgumentException Se o título for inválido.
      */
     public Task(String title, String description, int priority) {
+        this(title, description, priority, null);
+    }
+
+    /**
+     * Construtor da Tarefa já com a data de entrega.
+     * @param deliveryDate Data de entrega (pode ser null).
+     * @throws IllegalArgumentException Se o título ou a prioridade forem inválidos.
+     */
+    public Task(String title, String description, int priority, LocalDate deliveryDate) {
+        String error = validationError(title, priority);
+        if (error != null) {
+            throw new IllegalArgumentException(error);
+        }
+
+        this.state = new TaskSnapshot(
+                TaskIds.randomHigh(),
+                TaskIds.randomLow(),
+                title,
+                description,
+                priority,
+                TaskStatus.TO_DO, // Status inicial no Kanban
+                LocalDate.now(),
+                deliveryDate);
+    }
+
+    /**
+     * Valida os dados de uma nova tarefa sem lançar exceção (usado nas operações em lote).
+     * @return Mensagem de erro, ou null se título e prioridade forem válidos.
+     */
+    static String validationError(String title, int priority) {
         if (title == null || title.trim().isEmpty()) {
-            throw new IllegalArgumentException("O título da tarefa não pode ser vazio.");
+            return "O título da tarefa não pode ser vazio.";
         }
-        if (priority < 1 || priority > 5) {
-            throw new IllegalArgumentException("A prioridade deve ser entre 1 e 5.");
+        if (priority < MIN_PRIORITY || priority > MAX_PRIORITY) {
+            return "A prioridade deve ser entre 1 e 5.";
         }
+        return null;
+    }
 
-        this.id = UUID.randomUUID().toString();
-        this.title = title;
-        this.description = description;
-        this.priority = priority;
-        this.status = TaskStatus.TO_DO; // Status inicial no Kanban
-        this.createdAt = LocalDate.now();
-        this.deliveryDate = null;
+    /**
+     * Reconstrói uma tarefa já existente a partir do seu estado salvo (ex.: recuperação do log).
+     * Não gera um novo ID nem revalida os campos.
+     * @param snapshot Estado completo da tarefa.
+     * @return Tarefa com o mesmo ID e campos do snapshot.
+     */
+    public static Task restore(TaskSnapshot snapshot) {
+        return new Task(snapshot);
+    }
+
+    private Task(TaskSnapshot snapshot) {
+        this.state = snapshot;
     }
 
     // --- Getters ---
 
+    /**
+     * @return ID no formato textual; montado a cada chamada, prefira getIdHigh/getIdLow em laços.
+     */
     public String getId() {
-        return id;
+        return state.id();
+    }
+
+    public long getIdHigh() {
+        return state.idHigh();
+    }
+
+    public long getIdLow() {
+        return state.idLow();
+    }
+
+    /**
+     * @return Os primeiros dígitos do ID, como exibidos na GUI e no console.
+     */
+    public String getShortId() {
+        return TaskIds.shortId(state.idHigh());
     }
 
     public String getTitle() {
-        return title;
+        return state.title();
     }
 
     public String getDescription() {
-        return description;
+        return state.description();
     }
 
     public int getPriority() {
-        return priority;
+        return state.priority();
     }
 
     public TaskStatus getStatus() {
-        return status;
+        return state.status();
     }
 
     public LocalDate getCreatedAt() {
-        return createdAt;
+        return state.createdAt();
     }
 
     public LocalDate getDeliveryDate() {
-        return deliveryDate;
+        return state.deliveryDate();
+    }
+
+    /**
+     * @return Versão do estado atual: 0 na criação, + 1 a cada alteração.
+     */
+    public int getVersion() {
+        return state.version();
+    }
+
+    /**
+     * @return Estado completo e consistente da tarefa neste instante.
+     */
+    public TaskSnapshot snapshot() {
+        return state;
     }
 
     // --- Setters ---
+    // Cada setter troca o snapshot inteiro via CAS, sem bloquear leitores.
 
     public void setTitle(String title) {
-        this.title = title;
+        update(s -> s.withTitle(title));
     }
 
     public void setDescription(String description) {
-        this.description = description;
+        update(s -> s.withDescription(description));
     }
 
     public void setPriority(int priority) {
-        this.priority = priority;
+        update(s -> s.withPriority(priority));
     }
 
     public void setStatus(TaskStatus status) {
-        this.status = status;
+        update(s -> s.withStatus(status));
     }
 
     public void setDeliveryDate(LocalDate deliveryDate) {
-        this.deliveryDate = deliveryDate;
+        update(s -> s.withDeliveryDate(deliveryDate));
+    }
+
+    /**
+     * Altera título, descrição e prioridade em uma única troca de estado (e uma única versão),
+     * para que nenhum leitor observe a edição pela metade.
+     */
+    public void updateDetails(String title, String description, int priority) {
+        update(s -> s.withDetails(title, description, priority));
+    }
+
+    /**
+     * Aplica a alteração só se a tarefa ainda estiver na versão esperada (controle de
+     * concorrência otimista): a conferência e a troca do estado são um único CAS, sem travas.
+     * Cada versão é um snapshot diferente, então o CAS falha exatamente quando outra alteração
+     * chegou antes.
+     * @param expectedVersion Versão lida pelo cliente antes de editar.
+     * @param change Estado seguinte a partir do atual (ex.: s -> s.withStatus(DONE)).
+     * @return O novo estado, ou null se a versão não confere.
+     */
+    public TaskSnapshot updateIfVersion(int expectedVersion, UnaryOperator<TaskSnapshot> change) {
+        TaskSnapshot current = state;
+        if (current.version() != expectedVersion) {
+            return null;
+        }
+        TaskSnapshot next = change.apply(current);
+        return STATE.compareAndSet(this, current, next) ? next : null;
+    }
+
+    private void update(UnaryOperator<TaskSnapshot> change) {
+        TaskSnapshot current;
+        do {
+            current = state;
+        } while (!STATE.compareAndSet(this, current, change.apply(current)));
     }
 
     @Override
     public String toString() {
-        String deliveryInfo = deliveryDate != null ? " | Entrega: " + deliveryDate : "";
+        TaskSnapshot s = state;
+        String deliveryInfo = s.deliveryDate() != null ? " | Entrega: " + s.deliveryDate() : "";
         return String.format("[ID: %s] Título: %s | Prioridade: %d | Status: %s%s",
-                id.substring(0, 4), title, priority, status, deliveryInfo);
+                TaskIds.shortId(s.idHigh()), s.title(), s.priority(), s.status(), deliveryInfo);
     }
 }
\ No newline at end of file
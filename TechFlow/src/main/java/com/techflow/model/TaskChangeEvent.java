@@ -0,0 +1,30 @@
+package com.techflow.model;
+
+/**
+ * Alteração de uma tarefa publicada pelo TaskService para os assinantes (ver TaskService.subscribe).
+ *
+ * @param type Tipo da alteração.
+ * @param task Tarefa alterada (na exclusão, a instância removida).
+ * @param before Estado anterior; null na criação.
+ * @param after Estado posterior; null na exclusão.
+ * @param timeMillis Instante da alteração (ms desde a época), lido na publicação: não depende de
+ *                   quando o assinante recebe o evento.
+ */
+public record TaskChangeEvent(Type type, Task task, TaskSnapshot before, TaskSnapshot after, long timeMillis) {
+
+    public enum Type {
+        CREATED,
+        STATUS_CHANGED,
+        DETAILS_CHANGED,
+        DELIVERY_DATE_CHANGED,
+        UPDATED, // Campos de mais de um grupo acima (ou nenhum) em uma única alteração (TaskService.updateTask)
+        DELETED
+    }
+
+    /**
+     * @return ID da tarefa alterada.
+     */
+    public String taskId() {
+        return task.getId();
+    }
+}
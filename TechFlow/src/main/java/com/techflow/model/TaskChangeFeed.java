@@ -0,0 +1,120 @@
+package com.techflow.model;
+
+import com.techflow.logging.EventLog;
+
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Distribui as alterações do TaskService para os assinantes, cada um no seu executor.
+ *
+ * Cada assinante tem uma fila própria e no máximo uma entrega agendada: enquanto ela não roda,
+ * novas alterações só entram na fila. Quando a entrega roda, leva tudo o que se acumulou, de
+ * modo que uma rajada de 10 mil alterações vira uma ou poucas chamadas (um repaint na EDT),
+ * e um assinante lento não atrasa quem publica nem os demais assinantes.
+ */
+public final class TaskChangeFeed {
+
+    /**
+     * Assinatura ativa; close() cancela as entregas futuras.
+     */
+    public interface Subscription extends AutoCloseable {
+        @Override
+        void close();
+    }
+
+    private final List<Subscriber> subscribers = new CopyOnWriteArrayList<>();
+    private final EventLog log;
+    private final Clock clock;
+
+    TaskChangeFeed(EventLog log, Clock clock) {
+        this.log = log;
+        this.clock = clock;
+    }
+
+    Subscription subscribe(Executor executor, TaskChangeListener listener) {
+        Subscriber subscriber = new Subscriber(executor, listener);
+        subscribers.add(subscriber);
+        return subscriber;
+    }
+
+    /**
+     * Publica uma alteração. Sem assinantes, não cria o evento.
+     * Chamado com a trava da tarefa, para que os assinantes vejam as alterações de uma mesma
+     * tarefa na ordem em que foram aplicadas.
+     */
+    void publish(TaskChangeEvent.Type type, Task task, TaskSnapshot before, TaskSnapshot after) {
+        if (subscribers.isEmpty()) {
+            return;
+        }
+        TaskChangeEvent event = new TaskChangeEvent(type, task, before, after, clock.millis());
+        for (Subscriber subscriber : subscribers) {
+            subscriber.offer(event);
+        }
+    }
+
+    private final class Subscriber implements Subscription {
+        private final Executor executor;
+        private final TaskChangeListener listener;
+        private final Queue<TaskChangeEvent> pending = new ConcurrentLinkedQueue<>();
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+        private volatile boolean active = true;
+
+        Subscriber(Executor executor, TaskChangeListener listener) {
+            this.executor = executor;
+            this.listener = listener;
+        }
+
+        void offer(TaskChangeEvent event) {
+            pending.offer(event);
+            schedule();
+        }
+
+        private void schedule() {
+            if (!scheduled.compareAndSet(false, true)) {
+                return;
+            }
+            try {
+                executor.execute(this::deliver);
+            } catch (RejectedExecutionException e) {
+                // Executor encerrado: a assinatura não tem mais onde receber as alterações.
+                log.warn("⚠ Assinatura de alterações cancelada: executor recusou a entrega ({}).", e.getMessage());
+                close();
+            }
+        }
+
+        private void deliver() {
+            List<TaskChangeEvent> batch = new ArrayList<>();
+            for (TaskChangeEvent event = pending.poll(); event != null; event = pending.poll()) {
+                batch.add(event);
+            }
+            try {
+                if (active && !batch.isEmpty()) {
+                    listener.tasksChanged(batch);
+                }
+            } catch (RuntimeException e) {
+                log.error("❌ ERRO em um assinante de alterações de tarefas: {}", e.getMessage());
+            } finally {
+                scheduled.set(false);
+                // Alterações publicadas durante a entrega ficam para a próxima.
+                if (active && !pending.isEmpty()) {
+                    schedule();
+                }
+            }
+        }
+
+        @Override
+        public void close() {
+            active = false;
+            subscribers.remove(this);
+            pending.clear();
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.techflow.model;
+
+import java.util.List;
+
+/**
+ * Assinante das alterações do TaskService.
+ */
+@FunctionalInterface
+public interface TaskChangeListener {
+
+    /**
+     * Recebe, no executor escolhido na assinatura, as alterações acumuladas desde a última
+     * entrega, na ordem em que aconteceram. Uma rajada (ex.: uma importação) chega em poucas
+     * listas grandes, não em uma chamada por tarefa.
+     * @param events Alterações em ordem; nunca vazia.
+     */
+    void tasksChanged(List<TaskChangeEvent> events);
+}
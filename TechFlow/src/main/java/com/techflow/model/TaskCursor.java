@@ -0,0 +1,20 @@
+package com.techflow.model;
+
+/**
+ * Posição na listagem de tarefas (prioridade decrescente, empates pela ordem de criação),
+ * usada para paginar por chave: a próxima página começa logo após a última tarefa vista.
+ *
+ * Continua válida mesmo que essa tarefa seja excluída ou mude de prioridade depois; tarefas
+ * criadas entre uma página e outra entram no fim da sua prioridade.
+ *
+ * @param priority Prioridade da última tarefa vista, no momento em que a página foi montada.
+ * @param sequence Sequência de criação dessa tarefa no repositório.
+ */
+public record TaskCursor(int priority, long sequence) {
+
+    public TaskCursor {
+        if (priority < Task.MIN_PRIORITY || priority > Task.MAX_PRIORITY) {
+            throw new IllegalArgumentException("A prioridade do cursor deve ser entre 1 e 5.");
+        }
+    }
+}
@@ -0,0 +1,149 @@
+package com.techflow.model;
+
+import java.util.function.Consumer;
+
+/**
+ * Mapa de ID de tarefa (dois longs) para valor, com endereçamento aberto e sondagem linear.
+ * Não cria objetos por entrada nem precisa da forma textual do ID: as chaves ficam em
+ * um array de long e a comparação é de dois longs, em vez de String.equals.
+ *
+ * Não é thread-safe. get() pode ser chamado durante uma escrita concorrente sem lançar
+ * exceção nem entrar em laço infinito, mas o resultado só vale se a escrita for descartada
+ * por quem chama (ex.: leitura otimista validada por um StampedLock).
+ */
+public final class TaskIdMap<V> {
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    // Arrays trocados juntos no redimensionamento, para que um leitor nunca misture tabelas.
+    private Table table = new Table(INITIAL_CAPACITY);
+    private int size;
+
+    public V get(long high, long low) {
+        Table t = table;
+        int mask = t.values.length - 1;
+        int i = hash(high, low) & mask;
+        for (int probes = 0; probes <= mask; probes++, i = (i + 1) & mask) {
+            Object value = t.values[i];
+            if (value == null) {
+                return null;
+            }
+            if (t.keys[2 * i] == high && t.keys[2 * i + 1] == low) {
+                @SuppressWarnings("unchecked")
+                V found = (V) value;
+                return found;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * @return Valor anterior da chave, ou null se ela não existia.
+     */
+    public V put(long high, long low, V value) {
+        if ((size + 1) * 4 > table.values.length * 3) {
+            resize();
+        }
+        Table t = table;
+        int mask = t.values.length - 1;
+        int i = hash(high, low) & mask;
+        while (t.values[i] != null) {
+            if (t.keys[2 * i] == high && t.keys[2 * i + 1] == low) {
+                @SuppressWarnings("unchecked")
+                V previous = (V) t.values[i];
+                t.values[i] = value;
+                return previous;
+            }
+            i = (i + 1) & mask;
+        }
+        t.keys[2 * i] = high;
+        t.keys[2 * i + 1] = low;
+        t.values[i] = value;
+        size++;
+        return null;
+    }
+
+    /**
+     * @return Valor removido, ou null se a chave não existia.
+     */
+    public V remove(long high, long low) {
+        Table t = table;
+        int mask = t.values.length - 1;
+        int i = hash(high, low) & mask;
+        while (t.values[i] != null && (t.keys[2 * i] != high || t.keys[2 * i + 1] != low)) {
+            i = (i + 1) & mask;
+        }
+        if (t.values[i] == null) {
+            return null;
+        }
+        @SuppressWarnings("unchecked")
+        V removed = (V) t.values[i];
+        // Desloca para o buraco as entradas cuja posição ideal não fica entre o buraco e elas,
+        // dispensando marcadores de remoção.
+        int hole = i;
+        for (int j = (hole + 1) & mask; t.values[j] != null; j = (j + 1) & mask) {
+            int ideal = hash(t.keys[2 * j], t.keys[2 * j + 1]) & mask;
+            if (((j - ideal) & mask) >= ((j - hole) & mask)) {
+                t.keys[2 * hole] = t.keys[2 * j];
+                t.keys[2 * hole + 1] = t.keys[2 * j + 1];
+                t.values[hole] = t.values[j];
+                hole = j;
+            }
+        }
+        t.values[hole] = null;
+        size--;
+        return removed;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public void forEachValue(Consumer<? super V> action) {
+        Object[] values = table.values;
+        for (Object value : values) {
+            if (value != null) {
+                @SuppressWarnings("unchecked")
+                V v = (V) value;
+                action.accept(v);
+            }
+        }
+    }
+
+    private void resize() {
+        Table old = table;
+        Table bigger = new Table(old.values.length * 2);
+        int mask = bigger.values.length - 1;
+        for (int j = 0; j < old.values.length; j++) {
+            if (old.values[j] != null) {
+                int i = hash(old.keys[2 * j], old.keys[2 * j + 1]) & mask;
+                while (bigger.values[i] != null) {
+                    i = (i + 1) & mask;
+                }
+                bigger.keys[2 * i] = old.keys[2 * j];
+                bigger.keys[2 * i + 1] = old.keys[2 * j + 1];
+                bigger.values[i] = old.values[j];
+            }
+        }
+        table = bigger;
+    }
+
+    private static int hash(long high, long low) {
+        long h = high * 0x9E3779B97F4A7C15L ^ low;
+        h ^= h >>> 33;
+        h *= 0xFF51AFD7ED558CCDL;
+        h ^= h >>> 33;
+        return (int) h;
+    }
+
+    private static final class Table {
+        // Metade alta e baixa de cada ID lado a lado: uma única linha de cache por comparação.
+        private final long[] keys;
+        private final Object[] values;
+
+        private Table(int capacity) {
+            keys = new long[2 * capacity];
+            values = new Object[capacity];
+        }
+    }
+}
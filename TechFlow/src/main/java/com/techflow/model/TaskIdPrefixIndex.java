@@ -0,0 +1,141 @@
+package com.techflow.model;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Índice de IDs para a busca por ID parcial (os 4 primeiros dígitos
+ * exibidos na GUI e no console).
+ *
+ * Os IDs são distribuídos em 65.536 baldes pelos seus 16 bits mais altos, que são exatamente
+ * os 4 dígitos exibidos: uma busca pelo prefixo da tela lê um único balde. Cada balde é um
+ * array de longs (metades alta e baixa lado a lado) trocado por cópia a cada alteração, de modo
+ * que leituras não travam e a inclusão não cria objetos por tarefa nem reordena nada.
+ *
+ * Guarda apenas os IDs; as tarefas são lidas do repositório, que pode não manter
+ * instâncias de Task em memória (ex.: MappedTaskRepository).
+ */
+public class TaskIdPrefixIndex {
+
+    private static final int BUCKET_BITS = 16;
+    private static final int HEX_DIGITS = 32;
+    private static final long[] EMPTY = new long[0];
+
+    private final TaskRepository repository;
+    private final AtomicReferenceArray<long[]> buckets = new AtomicReferenceArray<>(1 << BUCKET_BITS);
+
+    public TaskIdPrefixIndex(TaskRepository repository) {
+        this.repository = repository;
+    }
+
+    public void add(Task task) {
+        long high = task.getIdHigh();
+        long low = task.getIdLow();
+        int bucket = bucketOf(high);
+        long[] current;
+        long[] updated;
+        do {
+            current = idsIn(bucket);
+            updated = Arrays.copyOf(current, current.length + 2);
+            updated[current.length] = high;
+            updated[current.length + 1] = low;
+        } while (!buckets.compareAndSet(bucket, current == EMPTY ? null : current, updated));
+    }
+
+    public void remove(String id) {
+        TaskIds.Parsed parsed = TaskIds.parse(id);
+        if (!parsed.valid()) {
+            return;
+        }
+        long high = parsed.high();
+        long low = parsed.low();
+        int bucket = bucketOf(high);
+        long[] current;
+        long[] updated;
+        do {
+            current = idsIn(bucket);
+            int index = indexOf(current, high, low);
+            if (index < 0) {
+                return;
+            }
+            updated = new long[current.length - 2];
+            System.arraycopy(current, 0, updated, 0, index);
+            System.arraycopy(current, index + 2, updated, index, current.length - index - 2);
+        } while (!buckets.compareAndSet(bucket, current, updated.length == 0 ? null : updated));
+    }
+
+    /**
+     * @param prefix Início do ID (sem diferenciar maiúsculas de minúsculas; hífens são ignorados).
+     * @return Tarefas cujo ID começa com o prefixo, em ordem de ID; vazio se o prefixo for
+     *         vazio ou não for hexadecimal.
+     */
+    public List<Task> findByPrefix(String prefix) {
+        List<Task> matches = new ArrayList<>();
+        if (prefix == null || prefix.isBlank()) {
+            return matches;
+        }
+        String digits = prefix.trim().replace("-", "");
+        if (digits.isEmpty() || digits.length() > HEX_DIGITS) {
+            return matches;
+        }
+        // O intervalo vai do prefixo completado com zeros até o prefixo completado com "f".
+        long[] from = new long[2];
+        long[] to = new long[2];
+        for (int i = 0; i < HEX_DIGITS; i++) {
+            int digit = 0;
+            int last = 0xF;
+            if (i < digits.length()) {
+                digit = Character.digit(digits.charAt(i), 16);
+                if (digit < 0) {
+                    return matches;
+                }
+                last = digit;
+            }
+            int half = i / 16;
+            from[half] = (from[half] << 4) | digit;
+            to[half] = (to[half] << 4) | last;
+        }
+
+        // Prefixos com menos de 4 dígitos abrangem vários baldes consecutivos.
+        List<long[]> found = new ArrayList<>();
+        for (int bucket = bucketOf(from[0]); bucket <= bucketOf(to[0]); bucket++) {
+            long[] ids = idsIn(bucket);
+            for (int i = 0; i < ids.length; i += 2) {
+                if (compare(ids[i], ids[i + 1], from[0], from[1]) >= 0 && compare(ids[i], ids[i + 1], to[0], to[1]) <= 0) {
+                    found.add(new long[] {ids[i], ids[i + 1]});
+                }
+            }
+        }
+        found.sort((a, b) -> compare(a[0], a[1], b[0], b[1]));
+        for (long[] id : found) {
+            repository.findById(id[0], id[1]).ifPresent(matches::add);
+        }
+        return matches;
+    }
+
+    private long[] idsIn(int bucket) {
+        long[] ids = buckets.get(bucket);
+        return ids == null ? EMPTY : ids;
+    }
+
+    private static int bucketOf(long high) {
+        return (int) (high >>> (Long.SIZE - BUCKET_BITS));
+    }
+
+    private static int indexOf(long[] ids, long high, long low) {
+        for (int i = 0; i < ids.length; i += 2) {
+            if (ids[i] == high && ids[i + 1] == low) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    // Ordem dos IDs como números de 128 bits sem sinal, a mesma do texto hexadecimal.
+    private static int compare(long high1, long low1, long high2, long low2) {
+        int byHigh = Long.compareUnsigned(high1, high2);
+        return byHigh != 0 ? byHigh : Long.compareUnsigned(low1, low2);
+    }
+}
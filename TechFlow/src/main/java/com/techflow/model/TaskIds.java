@@ -0,0 +1,124 @@
+package com.techflow.model;
+
+import java.util.Arrays;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * IDs de tarefa: UUIDs aleatórios (versão 4) guardados como dois longs.
+ *
+ * Os bits vêm do ThreadLocalRandom em vez do SecureRandom do UUID.randomUUID(): o ID só
+ * precisa ser único, não imprevisível, e assim a criação nunca espera por entropia.
+ * A forma textual de 36 caracteres só é montada quando alguém pede (exibição, arquivos).
+ */
+public final class TaskIds {
+
+    /**
+     * Metade reservada: nenhum ID gerado tem uma metade com todos os bits ligados (a versão 4 e
+     * a variante IETF fixam bits em zero). parse a usa nas duas metades quando o texto não é um ID.
+     */
+    public static final long INVALID = -1L;
+
+    private static final int TEXT_LENGTH = 36;
+
+    // Valor de cada dígito hexadecimal por código ASCII; -1 para os demais caracteres.
+    private static final byte[] HEX_VALUES = new byte[128];
+    // Posições dos 32 dígitos no texto 8-4-4-4-12 (os 16 primeiros formam a metade alta).
+    private static final int[] DIGIT_POSITIONS = new int[32];
+
+    static {
+        for (int i = 0, digit = 0; i < TEXT_LENGTH; i++) {
+            if (i != 8 && i != 13 && i != 18 && i != 23) {
+                DIGIT_POSITIONS[digit++] = i;
+            }
+        }
+        Arrays.fill(HEX_VALUES, (byte) -1);
+        for (int i = 0; i < 16; i++) {
+            HEX_VALUES[Character.forDigit(i, 16)] = (byte) i;
+            HEX_VALUES[Character.toUpperCase(Character.forDigit(i, 16))] = (byte) i;
+        }
+    }
+
+    private TaskIds() {
+    }
+
+    static long randomHigh() {
+        // Marca a versão 4, como o UUID.randomUUID().
+        return (ThreadLocalRandom.current().nextLong() & ~0xF000L) | 0x4000L;
+    }
+
+    static long randomLow() {
+        // Marca a variante IETF (bits 10 no topo).
+        return (ThreadLocalRandom.current().nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+    }
+
+    /**
+     * @return ID no formato textual canônico (ex.: "3f2a9c1e-...").
+     */
+    public static String format(long high, long low) {
+        return new UUID(high, low).toString();
+    }
+
+    /**
+     * @return Os 4 primeiros dígitos do ID, como exibidos na GUI e no console.
+     */
+    public static String shortId(long high) {
+        return Long.toHexString((high >>> 48) | 0x10000L).substring(1);
+    }
+
+    /**
+     * Decodifica o ID textual de uma vez: uma verificação de formato e cada dígito lido uma
+     * única vez. O resultado sai de um único ponto (nunca null), para que o JIT o elimine
+     * quando a chamada é compilada junto com quem o usa.
+     * @return As duas metades; ambas INVALID (valid() falso) se o texto não for um ID canônico
+     *         (8-4-4-4-12 dígitos hexadecimais).
+     */
+    public static Parsed parse(String id) {
+        long high = INVALID;
+        long low = INVALID;
+        if (hasCanonicalShape(id)) {
+            // Dois laços curtos sobre as posições dos dígitos: com o método pequeno, o JIT o
+            // compila dentro de quem chama e o Parsed nem chega a ser alocado.
+            long highBits = 0;
+            long lowBits = 0;
+            int digits = 0;
+            for (int i = 0; i < 16; i++) {
+                int value = hexValue(id.charAt(DIGIT_POSITIONS[i]));
+                digits |= value;
+                highBits = (highBits << 4) | (value & 0xF);
+            }
+            for (int i = 16; i < 32; i++) {
+                int value = hexValue(id.charAt(DIGIT_POSITIONS[i]));
+                digits |= value;
+                lowBits = (lowBits << 4) | (value & 0xF);
+            }
+            if (digits >= 0) {
+                high = highBits;
+                low = lowBits;
+            }
+        }
+        return new Parsed(high, low);
+    }
+
+    private static int hexValue(char c) {
+        return c < HEX_VALUES.length ? HEX_VALUES[c] : -1;
+    }
+
+    private static boolean hasCanonicalShape(String id) {
+        return id != null && id.length() == TEXT_LENGTH
+                && id.charAt(8) == '-' && id.charAt(13) == '-' && id.charAt(18) == '-' && id.charAt(23) == '-';
+    }
+
+    /**
+     * ID textual decodificado nas suas duas metades.
+     */
+    public record Parsed(long high, long low) {
+
+        /**
+         * @return false se o texto não era um ID ou tinha uma metade igual a INVALID.
+         */
+        public boolean valid() {
+            return high != INVALID && low != INVALID;
+        }
+    }
+}
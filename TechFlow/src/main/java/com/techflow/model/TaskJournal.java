@@ -0,0 +1,74 @@
+package com.techflow.model;
+
+import java.time.LocalDate;
+
+/**
+ * Registro das alterações feitas pelo TaskService, para persistência (ex.: write-ahead log).
+ *
+ * O serviço chama o journal ANTES de aplicar a alteração em memória e sob a trava da tarefa,
+ * garantindo que o log siga a mesma ordem das alterações. Cada chamada devolve a posição do
+ * registro no log; o serviço aguarda sua durabilidade com awaitDurable(), já fora da trava.
+ * As alterações informam também a versão resultante da tarefa (newVersion), para que a
+ * reaplicação do log chegue à mesma versão em vez de contá-la de novo.
+ */
+public interface TaskJournal {
+
+    /** Journal que não persiste nada (modo padrão, somente em memória). */
+    TaskJournal NONE = new TaskJournal() {
+        @Override
+        public long taskCreated(TaskSnapshot task) {
+            return 0;
+        }
+
+        @Override
+        public long statusChanged(String id, Task.TaskStatus newStatus, int newVersion) {
+            return 0;
+        }
+
+        @Override
+        public long detailsChanged(String id, String newTitle, String newDescription, int newPriority, int newVersion) {
+            return 0;
+        }
+
+        @Override
+        public long deliveryDateChanged(String id, LocalDate newDeliveryDate, int newVersion) {
+            return 0;
+        }
+
+        @Override
+        public long taskReplaced(TaskSnapshot task) {
+            return 0;
+        }
+
+        @Override
+        public long taskDeleted(String id) {
+            return 0;
+        }
+
+        @Override
+        public void awaitDurable(long position) {
+        }
+    };
+
+    long taskCreated(TaskSnapshot task);
+
+    long statusChanged(String id, Task.TaskStatus newStatus, int newVersion);
+
+    long detailsChanged(String id, String newTitle, String newDescription, int newPriority, int newVersion);
+
+    long deliveryDateChanged(String id, LocalDate newDeliveryDate, int newVersion);
+
+    /**
+     * Estado completo de uma tarefa existente após uma alteração de vários campos de uma vez,
+     * já com a versão resultante.
+     */
+    long taskReplaced(TaskSnapshot task);
+
+    long taskDeleted(String id);
+
+    /**
+     * Bloqueia até que o registro na posição informada esteja durável, conforme a política do journal.
+     * @param position Posição devolvida por um dos métodos de registro.
+     */
+    void awaitDurable(long position);
+}
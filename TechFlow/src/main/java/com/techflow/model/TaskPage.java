@@ -0,0 +1,20 @@
+package com.techflow.model;
+
+import java.util.List;
+
+/**
+ * Página da listagem de tarefas.
+ *
+ * @param tasks Tarefas da página, na ordem da listagem.
+ * @param next Cursor para a página seguinte; null quando não há mais tarefas.
+ */
+public record TaskPage(List<Task> tasks, TaskCursor next) {
+
+    public TaskPage {
+        tasks = List.copyOf(tasks);
+    }
+
+    public boolean hasNext() {
+        return next != null;
+    }
+}
@@ -0,0 +1,138 @@
+package com.techflow.model;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * Índices secundários para as consultas filtradas do TaskService:
+ * - por status: um conjunto de IDs por coluna do Kanban (EnumMap), consulta em O(1) + resultado;
+ * - por data de entrega: um mapa ordenado data -> IDs (skip list), faixas em O(log n) + resultado.
+ *
+ * Mantidos pelo TaskService a cada alteração (ver recordChange), com o estado anterior e o
+ * novo de cada tarefa. Como o TaskIdPrefixIndex, guardam apenas IDs; as tarefas são lidas do
+ * repositório, que pode não mantê-las em memória. Leituras não travam e podem acontecer
+ * durante as escritas: quem consulta confere o estado atual de cada tarefa encontrada.
+ */
+class TaskQueryIndex {
+
+    private final Map<Task.TaskStatus, Set<TaskKey>> byStatus = new EnumMap<>(Task.TaskStatus.class);
+    // Datas sem tarefas ficam com um conjunto vazio: remover a chave disputaria com inclusões
+    // simultâneas na mesma data, e o número de datas distintas é pequeno.
+    private final ConcurrentSkipListMap<LocalDate, Set<TaskKey>> byDeliveryDate = new ConcurrentSkipListMap<>();
+
+    TaskQueryIndex() {
+        for (Task.TaskStatus status : Task.TaskStatus.values()) {
+            byStatus.put(status, ConcurrentHashMap.newKeySet());
+        }
+    }
+
+    /**
+     * Aplica uma alteração de tarefa: before null = criação; after null = exclusão.
+     */
+    void apply(TaskSnapshot before, TaskSnapshot after) {
+        TaskSnapshot any = after != null ? after : before;
+        TaskKey key = new TaskKey(any.idHigh(), any.idLow());
+        Task.TaskStatus oldStatus = before == null ? null : before.status();
+        Task.TaskStatus newStatus = after == null ? null : after.status();
+        if (oldStatus != newStatus) {
+            if (oldStatus != null) {
+                byStatus.get(oldStatus).remove(key);
+            }
+            if (newStatus != null) {
+                byStatus.get(newStatus).add(key);
+            }
+        }
+        LocalDate oldDate = before == null ? null : before.deliveryDate();
+        LocalDate newDate = after == null ? null : after.deliveryDate();
+        if (oldDate == null ? newDate != null : !oldDate.equals(newDate)) {
+            if (oldDate != null) {
+                Set<TaskKey> keys = byDeliveryDate.get(oldDate);
+                if (keys != null) {
+                    keys.remove(key);
+                }
+            }
+            if (newDate != null) {
+                dateBucket(newDate).add(key);
+            }
+        }
+    }
+
+    /**
+     * Indexa várias tarefas novas de uma vez (ex.: importação): os IDs são agrupados por status
+     * e por data, e cada conjunto recebe o seu grupo em uma chamada.
+     */
+    void addAll(List<TaskSnapshot> created) {
+        Map<Task.TaskStatus, List<TaskKey>> statusGroups = new EnumMap<>(Task.TaskStatus.class);
+        Map<LocalDate, List<TaskKey>> dateGroups = new HashMap<>();
+        for (TaskSnapshot state : created) {
+            TaskKey key = new TaskKey(state.idHigh(), state.idLow());
+            statusGroups.computeIfAbsent(state.status(), s -> new ArrayList<>()).add(key);
+            if (state.deliveryDate() != null) {
+                dateGroups.computeIfAbsent(state.deliveryDate(), d -> new ArrayList<>()).add(key);
+            }
+        }
+        statusGroups.forEach((status, keys) -> byStatus.get(status).addAll(keys));
+        dateGroups.forEach((date, keys) -> dateBucket(date).addAll(keys));
+    }
+
+    Collection<TaskKey> withStatus(Task.TaskStatus status) {
+        return byStatus.get(status);
+    }
+
+    /**
+     * @return IDs com entrega entre as datas (inclusive), em ordem de data.
+     */
+    List<TaskKey> dueBetween(LocalDate from, LocalDate to) {
+        List<TaskKey> keys = new ArrayList<>();
+        if (from.isAfter(to)) {
+            return keys;
+        }
+        ConcurrentNavigableMap<LocalDate, Set<TaskKey>> range = byDeliveryDate.subMap(from, true, to, true);
+        for (Set<TaskKey> bucket : range.values()) {
+            keys.addAll(bucket);
+        }
+        return keys;
+    }
+
+    /**
+     * @return IDs com entrega antes da data, em ordem de data.
+     */
+    List<TaskKey> dueBefore(LocalDate date) {
+        List<TaskKey> keys = new ArrayList<>();
+        for (Set<TaskKey> bucket : byDeliveryDate.headMap(date, false).values()) {
+            keys.addAll(bucket);
+        }
+        return keys;
+    }
+
+    private Set<TaskKey> dateBucket(LocalDate date) {
+        Set<TaskKey> keys = byDeliveryDate.get(date);
+        if (keys == null) {
+            Set<TaskKey> created = ConcurrentHashMap.newKeySet();
+            keys = byDeliveryDate.putIfAbsent(date, created);
+            if (keys == null) {
+                keys = created;
+            }
+        }
+        return keys;
+    }
+
+    /**
+     * ID de uma tarefa nos índices (os dois longs do UUID).
+     */
+    record TaskKey(long high, long low) {
+
+        String id() {
+            return TaskIds.format(high, low);
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.techflow.model;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Spliterator;
+
+/**
+ * Abstração do armazenamento de tarefas usada pelo TaskService.
+ * Permite trocar a estrutura de dados (memória, arquivo, etc.) sem alterar a lógica de negócio.
+ */
+public interface TaskRepository {
+
+    /**
+     * Insere a tarefa ou substitui a tarefa já armazenada com o mesmo ID.
+     * @param task Tarefa a ser armazenada.
+     */
+    void save(Task task);
+
+    /**
+     * Busca uma tarefa pelo ID único.
+     * @param id ID da tarefa.
+     * @return Optional contendo a tarefa, se encontrada.
+     */
+    Optional<Task> findById(String id);
+
+    /**
+     * Busca uma tarefa pelos dois longs do ID (ver TaskIds), sem montar o texto do ID.
+     * Usado pelos índices do TaskService, que guardam apenas os longs.
+     */
+    default Optional<Task> findById(long idHigh, long idLow) {
+        return findById(TaskIds.format(idHigh, idLow));
+    }
+
+    /**
+     * Remove uma tarefa pelo ID.
+     * @param id ID da tarefa a ser removida.
+     * @return Optional contendo a tarefa removida, se existia.
+     */
+    Optional<Task> deleteById(String id);
+
+    /**
+     * @return Nova lista com todas as tarefas, da maior para a menor prioridade;
+     *         empates seguem a ordem de criação.
+     */
+    List<Task> findAll();
+
+    /**
+     * Página da listagem, na mesma ordem de findAll, começando logo após o cursor.
+     * Custa O(limit) (mais a localização do cursor), sem montar a lista inteira.
+     * @param after Última posição já vista; null para a primeira página.
+     * @param limit Máximo de tarefas na página (maior que zero).
+     * @return Tarefas da página e o cursor da seguinte (null se não houver mais tarefas).
+     */
+    TaskPage findPage(TaskCursor after, int limit);
+
+    /**
+     * Percorre as tarefas na ordem de findAll. Pode ser dividido para streams paralelos.
+     * A implementação padrão copia findAll(); os repositórios em memória percorrem seus
+     * baldes diretamente, sem cópia.
+     * @return Spliterator sobre as tarefas.
+     */
+    default Spliterator<Task> spliterator() {
+        return findAll().spliterator();
+    }
+
+    /**
+     * Captura o estado de todas as tarefas, na ordem de criação, sem bloquear escritores.
+     * Em repositórios concorrentes, toda tarefa presente durante toda a captura aparece
+     * exatamente uma vez; tarefas criadas ou excluídas durante a captura podem ou não aparecer.
+     * @return Snapshots imutáveis das tarefas.
+     */
+    List<TaskSnapshot> snapshotAll();
+
+    /**
+     * @return Quantidade de tarefas armazenadas.
+     */
+    int count();
+}
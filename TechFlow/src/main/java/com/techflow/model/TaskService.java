@@ -1,13 +1,120 @@
 package com.techflow.model;
 
+import com.techflow.logging.EventLog;
+import com.techflow.logging.LogLevel;
+
+import java.time.Clock;
+import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.function.Predicate;
+import java.util.function.ToLongFunction;
+import java.util.function.UnaryOperator;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 public class TaskService {
-    // Simula o armazenamento em memória (repositório simples)
-    private final List<Task> taskRepository = new ArrayList<>();
+    // Escritas na mesma tarefa são serializadas por uma trava da sua faixa de ID;
+    // escritas em tarefas diferentes seguem em paralelo e leituras nunca travam.
+    private static final int LOCK_STRIPES = 64;
+    // Tarefas inseridas por vez na importação: as escritas comuns esperam no máximo uma fatia.
+    private static final int IMPORT_SLICE = 8_192;
+
+    // Armazenamento das tarefas, indexado pelo ID
+    private final TaskRepository taskRepository;
+    // Registro das alterações para persistência (TaskJournal.NONE = somente memória)
+    private final TaskJournal journal;
+    // Índice ordenado de IDs para as buscas por ID parcial
+    private final TaskIdPrefixIndex idPrefixIndex;
+    // Mensagens de sucesso e erro das operações, escritas em segundo plano
+    private final EventLog log;
+    // Assinantes das alterações (GUI, console, integrações)
+    private final TaskChangeFeed changeFeed;
+    // Contagem de tarefas por status x prioridade, mantida a cada alteração
+    private final BoardCounters boardCounters = new BoardCounters();
+    // Índices secundários por status e por data de entrega, para as consultas filtradas
+    private final TaskQueryIndex queryIndex = new TaskQueryIndex();
+    // Índice invertido das palavras do título e da descrição, para a busca textual
+    private final TaskTextIndex textIndex = new TaskTextIndex();
+    private final Object[] writeLocks = new Object[LOCK_STRIPES];
+
+    /**
+     * Cria o serviço com o repositório padrão em memória.
+     */
+    public TaskService() {
+        this(new InMemoryTaskRepository());
+    }
+
+    /**
+     * Cria o serviço sobre um repositório específico.
+     * @param taskRepository Implementação de armazenamento das tarefas.
+     */
+    public TaskService(TaskRepository taskRepository) {
+        this(taskRepository, TaskJournal.NONE);
+    }
+
+    /**
+     * Cria o serviço sobre um repositório e um journal de persistência.
+     * O repositório deve já conter o estado recuperado do journal (ex.: WriteAheadLog.open).
+     * @param taskRepository Implementação de armazenamento das tarefas.
+     * @param journal Destino do registro de cada alteração.
+     */
+    public TaskService(TaskRepository taskRepository, TaskJournal journal) {
+        this(taskRepository, journal, EventLog.console());
+    }
 
+    /**
+     * Cria o serviço com um log de eventos específico (ex.: EventLog.disabled() em benchmarks).
+     * @param taskRepository Implementação de armazenamento das tarefas.
+     * @param journal Destino do registro de cada alteração.
+     * @param log Destino das mensagens de sucesso e erro das operações.
+     */
+    public TaskService(TaskRepository taskRepository, TaskJournal journal, EventLog log) {
+        this(taskRepository, journal, log, Clock.systemUTC());
+    }
+
+    /**
+     * Cria o serviço com um relógio específico para os instantes das alterações publicadas
+     * (TaskChangeEvent.timeMillis), ex.: um relógio controlado nos testes.
+     * @param taskRepository Implementação de armazenamento das tarefas.
+     * @param journal Destino do registro de cada alteração.
+     * @param log Destino das mensagens de sucesso e erro das operações.
+     * @param clock Relógio das alterações publicadas.
+     */
+    public TaskService(TaskRepository taskRepository, TaskJournal journal, EventLog log, Clock clock) {
+        this.taskRepository = taskRepository;
+        this.journal = journal;
+        this.log = log;
+        this.changeFeed = new TaskChangeFeed(log, clock);
+        this.idPrefixIndex = new TaskIdPrefixIndex(taskRepository);
+        for (int i = 0; i < LOCK_STRIPES; i++) {
+            writeLocks[i] = new Object();
+        }
+        // Um repositório já populado (ex.: carregado de disco) precisa ter suas tarefas indexadas e contadas.
+        for (Task task : taskRepository.findAll()) {
+            idPrefixIndex.add(task);
+            TaskSnapshot state = task.snapshot();
+            boardCounters.apply(null, state);
+            queryIndex.apply(null, state);
+            textIndex.apply(null, state);
+        }
+    }
+
+    /**
+     * Cria o serviço em modo concorrente: seguro para várias threads de ingestão
+     * escrevendo enquanto outras (ex.: a EDT do Swing) leem.
+     * @return Serviço apoiado em um ConcurrentTaskRepository.
+     */
+    public static TaskService concurrent() {
+        return new TaskService(new ConcurrentTaskRepository());
+    }
 
     /* Cria e adiciona uma nova tarefa ao repositório, validando a entrada.
      * @param title Título da tarefa.
@@ -16,16 +123,34 @@ public class TaskService {
      * @return A tarefa criada ou null em caso de falha na validação.
      */
     public Task createTask(String title, String description, int priority) {
+        return createTask(title, description, priority, null);
+    }
+
+    /**
+     * Cria a tarefa já com a data de entrega: um único registro no journal e um único evento
+     * CREATED, sem uma segunda escrita para a data.
+     * @param deliveryDate Data de entrega (pode ser null).
+     * @return A tarefa criada ou null em caso de falha na validação.
+     */
+    public Task createTask(String title, String description, int priority, LocalDate deliveryDate) {
         try {
             // A validação do título e prioridade é feita no construtor da Task.
-            Task newTask = new Task(title, description, priority);
-            taskRepository.add(newTask);
+            Task newTask = new Task(title, description, priority, deliveryDate);
+            long position;
+            // A trava impede que uma atualização da nova tarefa chegue ao log antes da sua criação.
+            synchronized (lockFor(newTask.getIdHigh(), newTask.getIdLow())) {
+                position = journal.taskCreated(newTask.snapshot());
+                taskRepository.save(newTask);
+                idPrefixIndex.add(newTask);
+                recordChange(TaskChangeEvent.Type.CREATED, newTask, null, newTask.snapshot());
+            }
+            journal.awaitDurable(position);
             // Mensagem de sucesso para o console da aplicação
-            System.out.println("Tarefa criada com sucesso: " + newTask.getTitle());
+            log.info("Tarefa criada com sucesso: {}", newTask.getTitle());
             return newTask;
         } catch (IllegalArgumentException e) {
             // Mensagem de erro para o console
-            System.err.println("ERRO ao criar tarefa: " + e.getMessage());
+            log.error("ERRO ao criar tarefa: {}", e.getMessage());
             return null;
         }
     }
@@ -34,13 +159,47 @@ public class TaskService {
 
     /**
      * Retorna todas as tarefas, ordenadas decrescentemente por prioridade.
+     * A lista é uma cópia nova a cada chamada; para quadros grandes prefira getTaskPage ou streamTasks.
      *
      * @return Lista de tarefas.
      */
     public List<Task> getAllTasks() {
-        // Ordena as tarefas por prioridade (prioridade mais alta primeiro).
-        taskRepository.sort((t1, t2) -> Integer.compare(t2.getPriority(), t1.getPriority()));
-        return taskRepository;
+        // O repositório já mantém a ordem por prioridade (prioridade mais alta primeiro).
+        return taskRepository.findAll();
+    }
+
+    // READ (Paginado)
+
+    /**
+     * Página da listagem (mesma ordem de getAllTasks), por chave: cada página começa logo após o
+     * cursor devolvido pela anterior, sem percorrer as tarefas já vistas nem repetir ou pular
+     * tarefas quando outras são criadas ou excluídas entre uma página e outra.
+     *
+     * @param after Cursor da página anterior (TaskPage.next()); null para a primeira página.
+     * @param limit Máximo de tarefas na página.
+     * @return Tarefas da página e o cursor da próxima (null na última).
+     * @throws IllegalArgumentException se limit não for positivo.
+     */
+    public TaskPage getTaskPage(TaskCursor after, int limit) {
+        if (limit <= 0) {
+            throw new IllegalArgumentException("O tamanho da página deve ser maior que zero.");
+        }
+        return taskRepository.findPage(after, limit);
+    }
+
+    /**
+     * Percorre todas as tarefas na ordem de getAllTasks sem montar uma lista.
+     * Com .parallel(), o percurso é dividido entre os núcleos (ex.: relatórios sobre quadros grandes).
+     *
+     * Cada Task é a instância viva do repositório: leia task.snapshot() uma vez por tarefa para ter
+     * todos os campos de um mesmo instante. No modo concorrente o percurso não bloqueia escritores e é
+     * fracamente consistente; no repositório em memória padrão, criar, excluir ou mudar a prioridade de
+     * uma tarefa durante o percurso causa ConcurrentModificationException.
+     *
+     * @return Stream sequencial das tarefas.
+     */
+    public Stream<Task> streamTasks() {
+        return StreamSupport.stream(taskRepository.spliterator(), false);
     }
 
     // READ (Por ID)
@@ -52,9 +211,20 @@ public class TaskService {
      * @return Optional contendo a tarefa, se encontrada.
      */
     public Optional<Task> getTaskById(String id) {
-        return taskRepository.stream()
-                .filter(task -> task.getId().equals(id))
-                .findFirst();
+        return taskRepository.findById(id);
+    }
+
+    // READ (Por ID parcial)
+
+    /**
+     * Busca as tarefas cujo ID começa com o prefixo informado (ex.: os 4 dígitos exibidos na tela).
+     * Mais de um resultado indica colisão de prefixo, que deve ser tratada por quem chama.
+     *
+     * @param prefix Início do ID.
+     * @return Tarefas encontradas, em ordem de ID; lista vazia se nenhuma.
+     */
+    public List<Task> findByIdPrefix(String prefix) {
+        return idPrefixIndex.findByPrefix(prefix);
     }
 
     // UPDATE
@@ -65,14 +235,31 @@ public class TaskService {
      * @return true se a atualização foi bem-sucedida, false caso contrário.
      */
     public boolean updateTaskStatus(String id, Task.TaskStatus newStatus) {
-        Optional<Task> taskOpt = getTaskById(id);
+        // Rejeitado antes do journal e da tarefa: um status nulo não tem coluna no quadro.
+        if (newStatus == null) {
+            log.error("❌ ERRO ao atualizar status da tarefa {}: status não informado.", id);
+            return false;
+        }
+        Optional<Task> taskOpt;
+        long position = 0;
+        synchronized (lockFor(id)) {
+            taskOpt = getTaskById(id);
+            if (taskOpt.isPresent()) {
+                Task task = taskOpt.get();
+                TaskSnapshot before = task.snapshot();
+                position = journal.statusChanged(id, newStatus, before.version() + 1);
+                task.setStatus(newStatus);
+                taskRepository.save(task);
+                recordChange(TaskChangeEvent.Type.STATUS_CHANGED, task, before, task.snapshot());
+            }
+        }
         if (taskOpt.isPresent()) {
             Task task = taskOpt.get();
-            task.setStatus(newStatus);
-            System.out.println("Status da tarefa " + task.getTitle() + " atualizado para " + newStatus);
+            journal.awaitDurable(position);
+            log.info("Status da tarefa {} atualizado para {}", task.getTitle(), newStatus);
             return true;
         }
-        System.err.println("ERRO: Tarefa com ID " + id + " não encontrada para atualização.");
+        log.error("ERRO: Tarefa com ID {} não encontrada para atualização.", id);
         return false;
     }
 
@@ -83,14 +270,25 @@ public class TaskService {
      * @return true se a exclusão foi bem-sucedida, false caso contrário.
      */
     public boolean deleteTask(String id) {
-        Optional<Task> taskOpt = getTaskById(id);
+        Optional<Task> taskOpt;
+        long position = 0;
+        synchronized (lockFor(id)) {
+            if (getTaskById(id).isPresent()) {
+                position = journal.taskDeleted(id);
+            }
+            taskOpt = taskRepository.deleteById(id);
+            taskOpt.ifPresent(task -> {
+                idPrefixIndex.remove(id);
+                recordChange(TaskChangeEvent.Type.DELETED, task, task.snapshot(), null);
+            });
+        }
         if (taskOpt.isPresent()) {
             Task task = taskOpt.get();
-            taskRepository.remove(task);
-            System.out.println("Tarefa excluída com sucesso: " + task.getTitle());
+            journal.awaitDurable(position);
+            log.info("Tarefa excluída com sucesso: {}", task.getTitle());
             return true;
         }
-        System.err.println("ERRO: Tarefa com ID " + id + " não encontrada para exclusão.");
+        log.error("ERRO: Tarefa com ID {} não encontrada para exclusão.", id);
         return false;
     }
 
@@ -106,13 +304,18 @@ public class TaskService {
      * @return true se a atualização foi bem-sucedida, false caso contrário.
      */
     public boolean updateTaskDetails(String id, String newTitle, String newDescription, int newPriority) {
-        Optional<Task> taskOpt = getTaskById(id);
-
-        if (taskOpt.isPresent()) {
-            Task task = taskOpt.get();
+        Task task;
+        long position;
+        synchronized (lockFor(id)) {
+            Optional<Task> taskOpt = getTaskById(id);
+            if (taskOpt.isEmpty()) {
+                log.error("❌ ERRO: Tarefa com ID {} não encontrada para atualização de detalhes.", id);
+                return false;
+            }
+            task = taskOpt.get();
             try {
                 // Validação de Prioridade.
-                if (newPriority < 1 || newPriority > 5) {
+                if (newPriority < Task.MIN_PRIORITY || newPriority > Task.MAX_PRIORITY) {
                     throw new IllegalArgumentException("A prioridade deve ser entre 1 e 5.");
                 }
 
@@ -120,20 +323,538 @@ public class TaskService {
                 if (newTitle == null || newTitle.trim().isEmpty()) {
                     throw new IllegalArgumentException("O título da tarefa não pode ser vazio.");
                 }
+            } catch (IllegalArgumentException e) {
+                log.error("❌ ERRO ao atualizar detalhes da tarefa: {}", e.getMessage());
+                return false;
+            }
 
-                task.setTitle(newTitle);
-                task.setDescription(newDescription);
-                task.setPriority(newPriority);
+            TaskSnapshot before = task.snapshot();
+            position = journal.detailsChanged(id, newTitle, newDescription, newPriority, before.version() + 1);
+            // Título, descrição e prioridade mudam em uma única troca de estado.
+            task.updateDetails(newTitle, newDescription, newPriority);
+            taskRepository.save(task);
+            recordChange(TaskChangeEvent.Type.DETAILS_CHANGED, task, before, task.snapshot());
+        }
+        journal.awaitDurable(position);
 
-                System.out.println("Detalhes da tarefa " + task.getTitle() + " atualizados com sucesso.");
-                return true;
+        log.info("Detalhes da tarefa {} atualizados com sucesso.", task.getTitle());
+        return true;
+    }
 
-            } catch (IllegalArgumentException e) {
-                System.err.println("❌ ERRO ao atualizar detalhes da tarefa: " + e.getMessage());
-                return false;
+    // UPDATE (Data de Entrega)
+    /**
+     * Define (ou remove, com null) a data de entrega de uma tarefa.
+     * @param id ID da tarefa a ser atualizada.
+     * @param newDeliveryDate Nova data de entrega; null remove a data.
+     * @return true se a atualização foi bem-sucedida, false caso contrário.
+     */
+    public boolean updateTaskDeliveryDate(String id, LocalDate newDeliveryDate) {
+        Optional<Task> taskOpt;
+        long position = 0;
+        synchronized (lockFor(id)) {
+            taskOpt = getTaskById(id);
+            if (taskOpt.isPresent()) {
+                Task task = taskOpt.get();
+                TaskSnapshot before = task.snapshot();
+                position = journal.deliveryDateChanged(id, newDeliveryDate, before.version() + 1);
+                task.setDeliveryDate(newDeliveryDate);
+                taskRepository.save(task);
+                recordChange(TaskChangeEvent.Type.DELIVERY_DATE_CHANGED, task, before, task.snapshot());
             }
         }
-        System.err.println("❌ ERRO: Tarefa com ID " + id.substring(0, 4) + " não encontrada para atualização de detalhes.");
+        if (taskOpt.isPresent()) {
+            journal.awaitDurable(position);
+            log.info("Data de entrega da tarefa {} definida para {}", taskOpt.get().getTitle(), newDeliveryDate);
+            return true;
+        }
+        log.error("ERRO: Tarefa com ID {} não encontrada para atualização da data de entrega.", id);
         return false;
     }
+
+    // ATUALIZAÇÕES CONDICIONAIS (concorrência otimista)
+    // O cliente (operador na GUI, sistema na API) lê a tarefa, guarda a versão e envia a alteração
+    // junto com ela. Se outra alteração chegou nesse meio-tempo, nada é aplicado e o resultado traz
+    // o estado atual: ninguém sobrescreve sem saber, e ninguém segura trava enquanto edita. A
+    // conferência da versão e a troca do estado são o CAS de Task.updateIfVersion; a trava da
+    // faixa continua só ordenando journal, índices e assinantes, como nas demais escritas.
+
+    /**
+     * Atualiza o status se a tarefa ainda estiver na versão esperada.
+     * @param expectedVersion Versão lida antes da edição (Task.getVersion()).
+     * @return APPLIED com o novo estado, CONFLICT com o estado atual, ou NOT_FOUND.
+     */
+    public UpdateResult updateTaskStatus(String id, Task.TaskStatus newStatus, int expectedVersion) {
+        if (newStatus == null) {
+            return new UpdateResult(UpdateResult.Outcome.INVALID, null, "Status não informado.");
+        }
+        return updateIfVersion(id, expectedVersion, TaskChangeEvent.Type.STATUS_CHANGED,
+                state -> state.withStatus(newStatus), after -> journal.statusChanged(id, newStatus, after.version()));
+    }
+
+    /**
+     * Atualiza título, descrição e prioridade se a tarefa ainda estiver na versão esperada.
+     * @param expectedVersion Versão lida antes da edição (Task.getVersion()).
+     * @return APPLIED com o novo estado, CONFLICT com o estado atual, NOT_FOUND ou INVALID.
+     */
+    public UpdateResult updateTaskDetails(String id, String newTitle, String newDescription, int newPriority,
+                                          int expectedVersion) {
+        String error = Task.validationError(newTitle, newPriority);
+        if (error != null) {
+            log.error("❌ ERRO ao atualizar detalhes da tarefa: {}", error);
+            return new UpdateResult(UpdateResult.Outcome.INVALID, null, error);
+        }
+        return updateIfVersion(id, expectedVersion, TaskChangeEvent.Type.DETAILS_CHANGED,
+                state -> state.withDetails(newTitle, newDescription, newPriority),
+                after -> journal.detailsChanged(id, newTitle, newDescription, newPriority, after.version()));
+    }
+
+    /**
+     * Define (ou remove, com null) a data de entrega se a tarefa ainda estiver na versão esperada.
+     * @param expectedVersion Versão lida antes da edição (Task.getVersion()).
+     * @return APPLIED com o novo estado, CONFLICT com o estado atual, ou NOT_FOUND.
+     */
+    public UpdateResult updateTaskDeliveryDate(String id, LocalDate newDeliveryDate, int expectedVersion) {
+        return updateIfVersion(id, expectedVersion, TaskChangeEvent.Type.DELIVERY_DATE_CHANGED,
+                state -> state.withDeliveryDate(newDeliveryDate),
+                after -> journal.deliveryDateChanged(id, newDeliveryDate, after.version()));
+    }
+
+    /**
+     * Substitui todos os campos editáveis de uma vez se a tarefa ainda estiver na versão esperada:
+     * um único CAS, um registro no journal e uma notificação. Um conflito, portanto, nunca deixa
+     * parte dos campos aplicada. Campos que não mudam devem ser repassados com o valor atual
+     * (o da versão esperada).
+     * @param expectedVersion Versão lida antes da edição (Task.getVersion()).
+     * @return APPLIED com o novo estado, CONFLICT com o estado atual, NOT_FOUND ou INVALID.
+     */
+    public UpdateResult updateTask(String id, String newTitle, String newDescription, int newPriority,
+                                   Task.TaskStatus newStatus, LocalDate newDeliveryDate, int expectedVersion) {
+        String error = newStatus == null ? "Status não informado." : Task.validationError(newTitle, newPriority);
+        if (error != null) {
+            log.error("❌ ERRO ao atualizar a tarefa: {}", error);
+            return new UpdateResult(UpdateResult.Outcome.INVALID, null, error);
+        }
+        return updateIfVersion(id, expectedVersion, null,
+                state -> new TaskSnapshot(state.idHigh(), state.idLow(), newTitle, newDescription, newPriority,
+                        newStatus, state.createdAt(), newDeliveryDate, state.version() + 1),
+                journal::taskReplaced);
+    }
+
+    // type null: o tipo da notificação vem dos campos que de fato mudaram (ver changeType).
+    private UpdateResult updateIfVersion(String id, int expectedVersion, TaskChangeEvent.Type type,
+                                         UnaryOperator<TaskSnapshot> change, ToLongFunction<TaskSnapshot> journalEntry) {
+        TaskSnapshot after;
+        long position;
+        synchronized (lockFor(id)) {
+            Optional<Task> taskOpt = getTaskById(id);
+            if (taskOpt.isEmpty()) {
+                log.error("❌ ERRO: Tarefa com ID {} não encontrada para atualização.", id);
+                return new UpdateResult(UpdateResult.Outcome.NOT_FOUND, null, "Tarefa não encontrada.");
+            }
+            Task task = taskOpt.get();
+            TaskSnapshot before = task.snapshot();
+            if (before.version() != expectedVersion) {
+                return conflict(before, expectedVersion);
+            }
+            TaskSnapshot next = change.apply(before);
+            position = journalEntry.applyAsLong(next);
+            // As escritas do serviço passam todas por esta trava: aqui o CAS sempre encontra a
+            // versão conferida acima, e o estado gravado é o mesmo que foi para o journal.
+            after = task.updateIfVersion(expectedVersion, state -> next);
+            taskRepository.save(task);
+            recordChange(type != null ? type : changeType(before, after), task, before, after);
+        }
+        journal.awaitDurable(position);
+        if (log.isEnabled(LogLevel.INFO)) {
+            log.info("Tarefa {} atualizada para a versão {}.", after.title(), after.version());
+        }
+        return new UpdateResult(UpdateResult.Outcome.APPLIED, after, null);
+    }
+
+    private static TaskChangeEvent.Type changeType(TaskSnapshot before, TaskSnapshot after) {
+        boolean details = !Objects.equals(before.title(), after.title())
+                || !Objects.equals(before.description(), after.description()) || before.priority() != after.priority();
+        boolean status = before.status() != after.status();
+        boolean date = !Objects.equals(before.deliveryDate(), after.deliveryDate());
+        if (details && !status && !date) {
+            return TaskChangeEvent.Type.DETAILS_CHANGED;
+        }
+        if (status && !details && !date) {
+            return TaskChangeEvent.Type.STATUS_CHANGED;
+        }
+        if (date && !details && !status) {
+            return TaskChangeEvent.Type.DELIVERY_DATE_CHANGED;
+        }
+        return TaskChangeEvent.Type.UPDATED;
+    }
+
+    private UpdateResult conflict(TaskSnapshot current, int expectedVersion) {
+        String error = "A tarefa foi alterada por outra pessoa (versão esperada " + expectedVersion
+                + ", atual " + current.version() + ").";
+        log.warn("⚠ Conflito na tarefa {}: {}", current.title(), error);
+        return new UpdateResult(UpdateResult.Outcome.CONFLICT, current, error);
+    }
+
+    // CONSULTAS FILTRADAS
+    // Respondidas pelos índices secundários (sem percorrer todas as tarefas). Cada tarefa
+    // encontrada é conferida com seu estado atual, já que os índices podem ser lidos durante
+    // uma escrita.
+
+    /**
+     * Tarefas de uma coluna do Kanban.
+     * @param status Status procurado.
+     * @return Tarefas com o status, da prioridade mais alta para a mais baixa (empates pela data de criação).
+     */
+    public List<Task> findByStatus(Task.TaskStatus status) {
+        List<Found> found = resolve(queryIndex.withStatus(status), state -> state.status() == status);
+        found.sort(BY_PRIORITY);
+        return tasksOf(found);
+    }
+
+    /**
+     * Tarefas com entrega entre as datas, inclusive (ex.: hoje e daqui a 3 dias).
+     * @return Tarefas em ordem de data de entrega; no mesmo dia, da prioridade mais alta para a mais baixa.
+     */
+    public List<Task> findDueBetween(LocalDate from, LocalDate to) {
+        List<Found> found = resolve(queryIndex.dueBetween(from, to), state -> state.deliveryDate() != null
+                && !state.deliveryDate().isBefore(from) && !state.deliveryDate().isAfter(to));
+        found.sort(BY_DELIVERY_DATE);
+        return tasksOf(found);
+    }
+
+    /**
+     * Tarefas atrasadas: entrega antes da data informada e ainda não concluídas.
+     * @param today Data de referência (normalmente LocalDate.now()).
+     * @return Tarefas em ordem de data de entrega (as mais atrasadas primeiro).
+     */
+    public List<Task> findOverdue(LocalDate today) {
+        List<Found> found = resolve(queryIndex.dueBefore(today), state -> state.deliveryDate() != null
+                && state.deliveryDate().isBefore(today) && state.status() != Task.TaskStatus.DONE);
+        found.sort(BY_DELIVERY_DATE);
+        return tasksOf(found);
+    }
+
+    /**
+     * Busca textual no título e na descrição, sem diferenciar acentos nem maiúsculas.
+     * Todas as palavras precisam aparecer (E), cada uma como início de uma palavra da tarefa:
+     * "entreg sao" encontra "Entrega em São Paulo".
+     * @param query Texto digitado.
+     * @return Tarefas encontradas, da prioridade mais alta para a mais baixa; vazia se não houver palavras.
+     */
+    public List<Task> search(String query) {
+        return search(query, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Busca textual limitada, para sugestões enquanto se digita: para ao encontrar as primeiras
+     * tarefas da prioridade mais alta, sem visitar as demais correspondências.
+     * @param query Texto digitado.
+     * @param limit Máximo de tarefas devolvidas; na última prioridade incluída, quais entram não é definido.
+     * @return Tarefas encontradas, da prioridade mais alta para a mais baixa (empates pela data de criação).
+     */
+    public List<Task> search(String query, int limit) {
+        List<String> words = TaskTextIndex.queryTokens(query);
+        List<String> indexed = TaskTextIndex.indexedTokens(words);
+        // Uma palavra fora do índice só é conferida depois: o limite passa a valer no fim.
+        int indexLimit = indexed.size() < words.size() ? Integer.MAX_VALUE : limit;
+        List<Found> found = resolve(textIndex.search(indexed, indexLimit), state -> TaskTextIndex.matches(state, words));
+        found.sort(BY_PRIORITY);
+        return tasksOf(found.size() > limit ? found.subList(0, limit) : found);
+    }
+
+    // Tarefa encontrada e o estado com que foi conferida (a ordenação usa esse estado fixo).
+    private record Found(Task task, TaskSnapshot state) {
+    }
+
+    private static final Comparator<Found> BY_PRIORITY = Comparator
+            .comparingInt((Found f) -> -f.state().priority())
+            .thenComparing(f -> f.state().createdAt());
+
+    private static final Comparator<Found> BY_DELIVERY_DATE = Comparator
+            .comparing((Found f) -> f.state().deliveryDate())
+            .thenComparingInt(f -> -f.state().priority());
+
+    private List<Found> resolve(Collection<TaskQueryIndex.TaskKey> keys, Predicate<TaskSnapshot> stillMatches) {
+        List<Found> found = new ArrayList<>(keys.size());
+        for (TaskQueryIndex.TaskKey key : keys) {
+            taskRepository.findById(key.high(), key.low()).ifPresent(task -> {
+                TaskSnapshot state = task.snapshot();
+                if (stillMatches.test(state)) {
+                    found.add(new Found(task, state));
+                }
+            });
+        }
+        return found;
+    }
+
+    private static List<Task> tasksOf(List<Found> found) {
+        List<Task> tasks = new ArrayList<>(found.size());
+        for (Found f : found) {
+            tasks.add(f.task());
+        }
+        return tasks;
+    }
+
+    // QUADRO KANBAN
+
+    /**
+     * Contagem de tarefas por coluna (status) e prioridade, mantida a cada alteração:
+     * custa o mesmo com 10 ou 10 milhões de tarefas e não trava escritores.
+     * @return Retrato dos contadores no momento da chamada.
+     */
+    public BoardSummary getBoardSummary() {
+        return boardCounters.summary();
+    }
+
+    // NOTIFICAÇÕES
+
+    /**
+     * @return O log das operações deste serviço, para os componentes que o acompanham (ex.: a API
+     *     HTTP e o DeadlineScheduler) registrarem seus erros no mesmo destino e nível.
+     */
+    public EventLog getEventLog() {
+        return log;
+    }
+
+    /**
+     * Assina as alterações feitas por qualquer chamador deste serviço (criação, status, detalhes,
+     * exclusão), inclusive em lote. As alterações acumuladas chegam juntas, no executor informado
+     * (ex.: SwingUtilities::invokeLater para atualizar a GUI na EDT), sem bloquear quem as fez.
+     *
+     * @param executor Onde o assinante é chamado.
+     * @param listener Assinante.
+     * @return Assinatura; close() cancela as entregas futuras.
+     */
+    public TaskChangeFeed.Subscription subscribe(Executor executor, TaskChangeListener listener) {
+        return changeFeed.subscribe(executor, listener);
+    }
+
+    // OPERAÇÕES EM LOTE
+    // Cada lote valida as entradas, aplica as alterações válidas com todas as escritas suspensas
+    // (uma única barreira em vez de uma trava por tarefa) e espera a durabilidade do journal uma
+    // só vez. Entradas inválidas são rejeitadas individualmente, sem impedir as demais, e o
+    // console recebe uma única linha de resumo.
+
+    /**
+     * Cria várias tarefas de uma vez. A validação acontece antes da barreira, sem exceções.
+     * @param specs Dados das tarefas a criar.
+     * @return Um resultado por entrada, na ordem recebida.
+     */
+    public BatchResult createTasks(Collection<TaskSpec> specs) {
+        List<BatchResult.Item> items = new ArrayList<>(specs.size());
+        List<Task> accepted = new ArrayList<>(specs.size());
+        int index = 0;
+        for (TaskSpec spec : specs) {
+            String error = spec == null ? "Entrada vazia." : Task.validationError(spec.title(), spec.priority());
+            if (error == null) {
+                Task task = new Task(spec.title(), spec.description(), spec.priority());
+                accepted.add(task);
+                items.add(new BatchResult.Item(index, null, task, null));
+            } else {
+                items.add(new BatchResult.Item(index, null, null, error));
+            }
+            index++;
+        }
+
+        long[] position = new long[1];
+        runWithWritesPaused(() -> {
+            List<TaskSnapshot> states = new ArrayList<>(accepted.size());
+            for (Task task : accepted) {
+                TaskSnapshot state = task.snapshot();
+                position[0] = journal.taskCreated(state);
+                taskRepository.save(task);
+                states.add(state);
+            }
+            recordCreated(accepted, states);
+        });
+        journal.awaitDurable(position[0]);
+        return summarize("criação", new BatchResult(items));
+    }
+
+    /**
+     * Insere tarefas completas vindas de outro quadro (ex.: importação de arquivo), preservando
+     * ID, status e datas; a versão recomeça em 0. IDs já presentes no quadro, repetidos na
+     * entrada ou com uma metade igual a TaskIds.INVALID (que a forma textual não resolve) são
+     * rejeitados. As escritas ficam suspensas por fatias de IMPORT_SLICE tarefas, não pela
+     * importação inteira: entre uma fatia e outra, a GUI e a API continuam gravando.
+     * @param snapshots Estado completo de cada tarefa, na ordem em que devem entrar no quadro.
+     * @return Um resultado por entrada, na ordem recebida.
+     */
+    public BatchResult importTasks(Collection<TaskSnapshot> snapshots) {
+        BatchResult.Item[] items = new BatchResult.Item[snapshots.size()];
+        List<Task> accepted = new ArrayList<>(snapshots.size());
+        int[] acceptedIndex = new int[snapshots.size()];
+        int index = 0;
+        for (TaskSnapshot snapshot : snapshots) {
+            String error = snapshot == null ? "Entrada vazia." : Task.validationError(snapshot.title(), snapshot.priority());
+            if (error == null && (snapshot.status() == null || snapshot.createdAt() == null)) {
+                error = "Status e data de criação são obrigatórios.";
+            }
+            if (error == null && (snapshot.idHigh() == TaskIds.INVALID || snapshot.idLow() == TaskIds.INVALID)) {
+                error = "ID reservado: metades com todos os bits em 1 não são aceitas.";
+            }
+            if (error == null) {
+                acceptedIndex[accepted.size()] = index;
+                // A versão é do quadro de origem: aqui a tarefa recomeça, como na criação.
+                accepted.add(Task.restore(snapshot.version() == 0 ? snapshot : snapshot.withVersion(0)));
+            } else {
+                items[index] = new BatchResult.Item(index, null, null, error);
+            }
+            index++;
+        }
+
+        long[] position = new long[1];
+        for (int from = 0; from < accepted.size(); from += IMPORT_SLICE) {
+            int start = from;
+            int end = Math.min(from + IMPORT_SLICE, accepted.size());
+            runWithWritesPaused(() -> {
+                List<Task> inserted = new ArrayList<>(end - start);
+                List<TaskSnapshot> states = new ArrayList<>(end - start);
+                for (int i = start; i < end; i++) {
+                    Task task = accepted.get(i);
+                    int itemIndex = acceptedIndex[i];
+                    if (taskRepository.findById(task.getIdHigh(), task.getIdLow()).isPresent()) {
+                        items[itemIndex] = new BatchResult.Item(itemIndex, task.getId(), null, "ID já existe no quadro.");
+                        continue;
+                    }
+                    TaskSnapshot state = task.snapshot();
+                    position[0] = journal.taskCreated(state);
+                    taskRepository.save(task);
+                    inserted.add(task);
+                    states.add(state);
+                    items[itemIndex] = new BatchResult.Item(itemIndex, null, task, null);
+                }
+                recordCreated(inserted, states);
+            });
+        }
+        journal.awaitDurable(position[0]);
+        return summarize("importação", new BatchResult(Arrays.asList(items)));
+    }
+
+    /**
+     * Atualiza o status de várias tarefas de uma vez.
+     * @param changes Novo status por ID de tarefa.
+     * @return Um resultado por entrada, na ordem de iteração do mapa.
+     */
+    public BatchResult updateStatuses(Map<String, Task.TaskStatus> changes) {
+        List<BatchResult.Item> items = new ArrayList<>(changes.size());
+        long[] position = new long[1];
+        runWithWritesPaused(() -> {
+            int index = 0;
+            for (Map.Entry<String, Task.TaskStatus> change : changes.entrySet()) {
+                String id = change.getKey();
+                Task.TaskStatus newStatus = change.getValue();
+                Optional<Task> taskOpt = taskRepository.findById(id);
+                if (newStatus == null) {
+                    items.add(new BatchResult.Item(index, id, null, "Status não informado."));
+                } else if (taskOpt.isEmpty()) {
+                    items.add(new BatchResult.Item(index, id, null, "Tarefa não encontrada."));
+                } else {
+                    Task task = taskOpt.get();
+                    TaskSnapshot before = task.snapshot();
+                    position[0] = journal.statusChanged(id, newStatus, before.version() + 1);
+                    task.setStatus(newStatus);
+                    taskRepository.save(task);
+                    recordChange(TaskChangeEvent.Type.STATUS_CHANGED, task, before, task.snapshot());
+                    items.add(new BatchResult.Item(index, id, task, null));
+                }
+                index++;
+            }
+        });
+        journal.awaitDurable(position[0]);
+        return summarize("status", new BatchResult(items));
+    }
+
+    /**
+     * Remove várias tarefas de uma vez. IDs repetidos falham a partir da segunda ocorrência.
+     * @param ids IDs das tarefas a excluir.
+     * @return Um resultado por entrada, na ordem recebida.
+     */
+    public BatchResult deleteTasks(Collection<String> ids) {
+        List<BatchResult.Item> items = new ArrayList<>(ids.size());
+        long[] position = new long[1];
+        runWithWritesPaused(() -> {
+            int index = 0;
+            for (String id : ids) {
+                Optional<Task> taskOpt = taskRepository.findById(id);
+                if (taskOpt.isEmpty()) {
+                    items.add(new BatchResult.Item(index, id, null, "Tarefa não encontrada."));
+                } else {
+                    Task task = taskOpt.get();
+                    position[0] = journal.taskDeleted(id);
+                    taskRepository.deleteById(id);
+                    idPrefixIndex.remove(id);
+                    recordChange(TaskChangeEvent.Type.DELETED, task, task.snapshot(), null);
+                    items.add(new BatchResult.Item(index, id, task, null));
+                }
+                index++;
+            }
+        });
+        journal.awaitDurable(position[0]);
+        return summarize("exclusão", new BatchResult(items));
+    }
+
+    private BatchResult summarize(String operation, BatchResult result) {
+        if (log.isEnabled(LogLevel.INFO)) {
+            log.info("Lote de {}: {}", operation,
+                    result.successCount() + " aplicadas, " + result.failureCount() + " rejeitadas.");
+        }
+        return result;
+    }
+
+    // Como recordChange, para tarefas recém-inseridas em lote: os índices de texto e de consulta
+    // recebem a fatia inteira de uma vez, agrupada por termo, status e data.
+    private void recordCreated(List<Task> tasks, List<TaskSnapshot> states) {
+        for (int i = 0; i < tasks.size(); i++) {
+            idPrefixIndex.add(tasks.get(i));
+            boardCounters.apply(null, states.get(i));
+        }
+        queryIndex.addAll(states);
+        textIndex.addAll(states);
+        for (int i = 0; i < tasks.size(); i++) {
+            changeFeed.publish(TaskChangeEvent.Type.CREATED, tasks.get(i), null, states.get(i));
+        }
+    }
+
+    // Ponto único de saída de cada alteração aplicada: contadores do quadro e assinantes.
+    private void recordChange(TaskChangeEvent.Type type, Task task, TaskSnapshot before, TaskSnapshot after) {
+        boardCounters.apply(before, after);
+        queryIndex.apply(before, after);
+        textIndex.apply(before, after);
+        changeFeed.publish(type, task, before, after);
+    }
+
+    /**
+     * Executa a ação com todas as escritas momentaneamente suspensas: nenhuma alteração fica
+     * "no meio do caminho" entre o journal e a memória. Usado para trocar o segmento do log
+     * antes de um snapshot; leituras continuam livres.
+     * @param action Ação curta a ser executada.
+     */
+    public void runWithWritesPaused(Runnable action) {
+        runHoldingStripes(0, action);
+    }
+
+    private void runHoldingStripes(int stripe, Runnable action) {
+        if (stripe == LOCK_STRIPES) {
+            action.run();
+            return;
+        }
+        // Sempre na mesma ordem (0..63); escritores comuns seguram uma única trava, sem risco de deadlock.
+        synchronized (writeLocks[stripe]) {
+            runHoldingStripes(stripe + 1, action);
+        }
+    }
+
+    private Object lockFor(String id) {
+        // A faixa sai dos bits do ID, e não do texto, para coincidir com a usada na criação.
+        // Um ID inválido não resolve nenhuma tarefa; qualquer faixa serve.
+        TaskIds.Parsed parsed = TaskIds.parse(id);
+        return parsed.valid() ? lockFor(parsed.high(), parsed.low()) : writeLocks[0];
+    }
+
+    private Object lockFor(long high, long low) {
+        long h = high ^ low;
+        int stripe = (int) (h ^ (h >>> 32));
+        return writeLocks[(stripe ^ (stripe >>> 16)) & (LOCK_STRIPES - 1)];
+    }
 }
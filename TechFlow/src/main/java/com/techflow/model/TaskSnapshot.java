@@ -0,0 +1,70 @@
+package com.techflow.model;
+
+import java.time.LocalDate;
+
+/**
+ * Estado imutável de uma tarefa em um dado instante.
+ * A Task publica seus campos através de um único TaskSnapshot volátil, de modo que
+ * qualquer thread lê sempre um estado completo (nunca um título novo com prioridade antiga).
+ * O ID fica nos dois longs do UUID (ver TaskIds); o texto é montado apenas em id().
+ *
+ * A versão começa em 0 e cada with*() devolve o estado seguinte, com a versão + 1: como toda
+ * alteração troca o snapshot inteiro, a versão identifica o estado para as atualizações
+ * condicionais (ver Task.updateIfVersion).
+ */
+public record TaskSnapshot(long idHigh,
+                           long idLow,
+                           String title,
+                           String description,
+                           int priority,
+                           Task.TaskStatus status,
+                           LocalDate createdAt,
+                           LocalDate deliveryDate,
+                           int version) {
+
+    /**
+     * Estado de uma tarefa ainda sem alterações (versão 0).
+     */
+    public TaskSnapshot(long idHigh, long idLow, String title, String description, int priority,
+                        Task.TaskStatus status, LocalDate createdAt, LocalDate deliveryDate) {
+        this(idHigh, idLow, title, description, priority, status, createdAt, deliveryDate, 0);
+    }
+
+    /**
+     * @return ID no formato textual, montado a cada chamada.
+     */
+    public String id() {
+        return TaskIds.format(idHigh, idLow);
+    }
+
+    public TaskSnapshot withTitle(String newTitle) {
+        return new TaskSnapshot(idHigh, idLow, newTitle, description, priority, status, createdAt, deliveryDate, version + 1);
+    }
+
+    public TaskSnapshot withDescription(String newDescription) {
+        return new TaskSnapshot(idHigh, idLow, title, newDescription, priority, status, createdAt, deliveryDate, version + 1);
+    }
+
+    public TaskSnapshot withPriority(int newPriority) {
+        return new TaskSnapshot(idHigh, idLow, title, description, newPriority, status, createdAt, deliveryDate, version + 1);
+    }
+
+    public TaskSnapshot withStatus(Task.TaskStatus newStatus) {
+        return new TaskSnapshot(idHigh, idLow, title, description, priority, newStatus, createdAt, deliveryDate, version + 1);
+    }
+
+    public TaskSnapshot withDeliveryDate(LocalDate newDeliveryDate) {
+        return new TaskSnapshot(idHigh, idLow, title, description, priority, status, createdAt, newDeliveryDate, version + 1);
+    }
+
+    public TaskSnapshot withDetails(String newTitle, String newDescription, int newPriority) {
+        return new TaskSnapshot(idHigh, idLow, newTitle, newDescription, newPriority, status, createdAt, deliveryDate, version + 1);
+    }
+
+    /**
+     * @return O mesmo estado com outra versão (ex.: tarefas importadas, que recomeçam em 0).
+     */
+    public TaskSnapshot withVersion(int newVersion) {
+        return new TaskSnapshot(idHigh, idLow, title, description, priority, status, createdAt, deliveryDate, newVersion);
+    }
+}
@@ -0,0 +1,10 @@
+package com.techflow.model;
+
+/**
+ * Dados de entrada para criar uma tarefa em lote (TaskService.createTasks).
+ * @param title Título da tarefa (não pode ser vazio).
+ * @param description Descrição.
+ * @param priority Prioridade (de 1 a 5).
+ */
+public record TaskSpec(String title, String description, int priority) {
+}
@@ -0,0 +1,444 @@
+package com.techflow.model;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Índice invertido de palavras do título e da descrição, para a busca textual do TaskService.
+ *
+ * As palavras são normalizadas sem acentos e em minúsculas ("Ação" e "acao" são o mesmo termo);
+ * artigos e preposições comuns do português não são indexados. Cada termo aponta para o conjunto
+ * de IDs que o contêm; os termos também são agrupados pelos 2 e 3 primeiros caracteres, de onde
+ * saem as buscas por prefixo ("entreg" -> entrega, entregar, entregue) sem um dicionário ordenado,
+ * caro de manter com muitos termos únicos (números, códigos). Palavras de um caractere só
+ * encontram o termo exato. Uma consulta com várias palavras é a interseção (E) delas, partindo
+ * da mais seletiva.
+ *
+ * O índice é dividido por prioridade: as tarefas saem da prioridade mais alta para a mais baixa
+ * e uma busca com limite (ex.: sugestões enquanto se digita) para assim que o atinge, sem visitar
+ * as demais correspondências.
+ *
+ * Mantido pelo TaskService a cada alteração (ver recordChange), só quando o texto ou a prioridade
+ * mudam. Como os demais índices, guarda apenas IDs e pode ser lido durante as escritas: quem
+ * consulta confere o texto atual das tarefas devolvidas (ver matches).
+ */
+class TaskTextIndex {
+
+    // Palavras frequentes demais para ajudar em uma busca; indexá-las só aumentaria as listas.
+    private static final Set<String> STOPWORDS = Set.of(
+            "a", "o", "as", "os", "e", "de", "da", "do", "das", "dos", "em", "na", "no", "nas", "nos",
+            "um", "uma", "para", "por", "com", "que", "se", "ao", "aos", "ou");
+
+    // Palavras mais curtas que isso não valem como prefixo: "1" abrangeria todos os números.
+    private static final int MIN_PREFIX = 2;
+    private static final int MAX_PREFIX = 3;
+
+    private final Partition[] byPriority = new Partition[Task.MAX_PRIORITY - Task.MIN_PRIORITY + 1];
+
+    TaskTextIndex() {
+        for (int i = 0; i < byPriority.length; i++) {
+            byPriority[i] = new Partition();
+        }
+    }
+
+    /**
+     * Aplica uma alteração de tarefa: before null = criação; after null = exclusão.
+     */
+    void apply(TaskSnapshot before, TaskSnapshot after) {
+        if (before != null && after != null && before.priority() == after.priority()
+                && equalsText(before.title(), after.title()) && equalsText(before.description(), after.description())) {
+            return;
+        }
+        TaskSnapshot any = after != null ? after : before;
+        TaskQueryIndex.TaskKey key = new TaskQueryIndex.TaskKey(any.idHigh(), any.idLow());
+        Set<String> oldTerms = before == null ? Set.of() : termsOf(before);
+        Set<String> newTerms = after == null ? Set.of() : termsOf(after);
+        boolean samePriority = before != null && after != null && before.priority() == after.priority();
+        if (before != null) {
+            Partition partition = partition(before.priority());
+            for (String term : oldTerms) {
+                if (!samePriority || !newTerms.contains(term)) {
+                    partition.remove(term, key);
+                }
+            }
+        }
+        if (after != null) {
+            Partition partition = partition(after.priority());
+            for (String term : newTerms) {
+                if (!samePriority || !oldTerms.contains(term)) {
+                    partition.add(term, key);
+                }
+            }
+        }
+    }
+
+    /**
+     * Indexa várias tarefas novas de uma vez (ex.: importação). Os IDs são agrupados por termo
+     * antes: cada termo passa por um único compute, e um conjunto novo já nasce do tamanho do
+     * grupo em vez de crescer tarefa a tarefa.
+     */
+    void addAll(List<TaskSnapshot> created) {
+        List<Map<String, List<TaskQueryIndex.TaskKey>>> groups = new ArrayList<>(byPriority.length);
+        for (int i = 0; i < byPriority.length; i++) {
+            groups.add(new HashMap<>());
+        }
+        for (TaskSnapshot state : created) {
+            TaskQueryIndex.TaskKey key = new TaskQueryIndex.TaskKey(state.idHigh(), state.idLow());
+            Map<String, List<TaskQueryIndex.TaskKey>> group = groups.get(state.priority() - Task.MIN_PRIORITY);
+            for (String term : termsOf(state)) {
+                group.computeIfAbsent(term, t -> new ArrayList<>(1)).add(key);
+            }
+        }
+        for (int i = 0; i < byPriority.length; i++) {
+            groups.get(i).forEach(byPriority[i]::addAll);
+        }
+    }
+
+    /**
+     * Tarefas que contêm todas as palavras da consulta, cada uma como prefixo de algum termo.
+     * @param query Palavras já normalizadas (ver queryTokens).
+     * @param limit Máximo de IDs devolvidos.
+     * @return IDs encontrados, da prioridade mais alta para a mais baixa (sem ordem dentro da mesma prioridade).
+     */
+    List<TaskQueryIndex.TaskKey> search(List<String> query, int limit) {
+        List<TaskQueryIndex.TaskKey> found = new ArrayList<>();
+        if (query.isEmpty()) {
+            return found;
+        }
+        for (int i = byPriority.length - 1; i >= 0 && found.size() < limit; i--) {
+            byPriority[i].search(query, limit, found);
+        }
+        return found;
+    }
+
+    /**
+     * Confere se o estado atual da tarefa ainda contém todas as palavras (como prefixos).
+     */
+    static boolean matches(TaskSnapshot state, List<String> query) {
+        List<String> title = tokenize(state.title());
+        List<String> description = tokenize(state.description());
+        for (String word : query) {
+            if (!startsAny(title, word) && !startsAny(description, word)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean startsAny(List<String> terms, String prefix) {
+        for (String term : terms) {
+            if (matchesWord(term, prefix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean matchesWord(String term, String word) {
+        return word.length() < MIN_PREFIX ? term.equals(word) : term.startsWith(word);
+    }
+
+    /**
+     * Palavras de uma consulta, normalizadas como no índice. As palavras comuns são descartadas,
+     * exceto a última com mais de um caractere, que pode ser o início de outra palavra ainda sendo
+     * digitada ("de" -> "desenvolver"). Ela vale na conferência (matches), mas nem sempre no
+     * índice: ver indexedTokens.
+     */
+    static List<String> queryTokens(String query) {
+        List<String> tokens = new ArrayList<>();
+        if (query == null) {
+            return tokens;
+        }
+        List<String> words = tokenize(query);
+        for (int i = 0; i < words.size(); i++) {
+            String word = words.get(i);
+            boolean typing = i == words.size() - 1 && word.length() >= MIN_PREFIX;
+            if ((typing || !STOPWORDS.contains(word)) && !tokens.contains(word)) {
+                tokens.add(word);
+            }
+        }
+        return tokens;
+    }
+
+    /**
+     * Palavras da consulta que o índice consegue responder. Uma palavra comum no fim ("entrega de")
+     * fica de fora quando há outras: ela mesma nunca é indexada, e a busca por ela como prefixo
+     * esconderia "Entrega de projeto" até a próxima palavra ser digitada. Sozinha, continua
+     * buscando as palavras que começam com ela.
+     * @param query Palavras de queryTokens.
+     */
+    static List<String> indexedTokens(List<String> query) {
+        int last = query.size() - 1;
+        return last > 0 && STOPWORDS.contains(query.get(last)) ? query.subList(0, last) : query;
+    }
+
+    private Partition partition(int priority) {
+        return byPriority[priority - Task.MIN_PRIORITY];
+    }
+
+    private static Set<String> termsOf(TaskSnapshot state) {
+        Set<String> result = new LinkedHashSet<>();
+        for (String word : tokenize(state.title())) {
+            if (!STOPWORDS.contains(word)) {
+                result.add(word);
+            }
+        }
+        for (String word : tokenize(state.description())) {
+            if (!STOPWORDS.contains(word)) {
+                result.add(word);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Separa o texto em palavras (letras e dígitos), sem acentos e em minúsculas.
+     */
+    static List<String> tokenize(String text) {
+        List<String> words = new ArrayList<>();
+        if (text == null || text.isEmpty()) {
+            return words;
+        }
+        StringBuilder word = new StringBuilder();
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c >= FOLD.length && (Character.isLetterOrDigit(c) || Character.getType(c) == Character.NON_SPACING_MARK)) {
+                // Letra fora do alfabeto latino (ou já decomposta): normalização completa, mais lenta.
+                // Pontuação como "—" ou "•" é só um separador e não passa por aqui.
+                return tokenizeDecomposed(text);
+            }
+            char folded = c < FOLD.length ? FOLD[c] : 0;
+            if (folded != 0) {
+                word.append(folded);
+            } else if (word.length() > 0) {
+                words.add(word.toString());
+                word.setLength(0);
+            }
+        }
+        if (word.length() > 0) {
+            words.add(word.toString());
+        }
+        return words;
+    }
+
+    private static List<String> tokenizeDecomposed(String text) {
+        String decomposed = Normalizer.normalize(text, Normalizer.Form.NFD);
+        StringBuilder plain = new StringBuilder(decomposed.length());
+        for (int i = 0; i < decomposed.length(); i++) {
+            char c = decomposed.charAt(i);
+            if (Character.getType(c) != Character.NON_SPACING_MARK) {
+                plain.append(Character.isLetterOrDigit(c) ? Character.toLowerCase(c) : ' ');
+            }
+        }
+        List<String> words = new ArrayList<>();
+        for (String word : plain.toString().split(" +")) {
+            if (!word.isEmpty()) {
+                words.add(word);
+            }
+        }
+        return words;
+    }
+
+    // Letra ou dígito já sem acento e em minúscula para cada caractere latino ('Ç' -> 'c'); 0 = separador.
+    private static final char[] FOLD = new char[0x180];
+
+    static {
+        for (char c = 0; c < FOLD.length; c++) {
+            char base = Normalizer.normalize(String.valueOf(c), Normalizer.Form.NFD).charAt(0);
+            if (Character.isLetterOrDigit(base)) {
+                FOLD[c] = Character.toLowerCase(base);
+            }
+        }
+    }
+
+    private static boolean equalsText(String a, String b) {
+        return a == null ? b == null : a.equals(b);
+    }
+
+    // Índice invertido das tarefas de uma prioridade.
+    private static final class Partition {
+        // Termo -> um único TaskKey (a maioria: números, códigos, nomes) ou um conjunto de TaskKey.
+        // Guardar o ID sozinho evita um conjunto inteiro por termo único e reduz bastante a memória.
+        private final Map<String, Object> postings = new ConcurrentHashMap<>();
+        // Termos com pelo menos uma tarefa, pelos seus 2 e 3 primeiros caracteres.
+        private final Map<String, Set<String>> termsByPrefix = new ConcurrentHashMap<>();
+
+        void add(String term, TaskQueryIndex.TaskKey key) {
+            // compute trava só este termo: a troca entre ID único e conjunto e os grupos de prefixo ficam coerentes.
+            postings.compute(term, (t, current) -> {
+                if (current == null) {
+                    addPrefixes(t);
+                    return key;
+                }
+                if (current instanceof TaskQueryIndex.TaskKey single) {
+                    if (single.equals(key)) {
+                        return single;
+                    }
+                    Set<TaskQueryIndex.TaskKey> keys = ConcurrentHashMap.newKeySet();
+                    keys.add(single);
+                    keys.add(key);
+                    return keys;
+                }
+                keysOf(current).add(key);
+                return current;
+            });
+        }
+
+        // Como add, com todos os IDs de um termo em um único compute.
+        void addAll(String term, List<TaskQueryIndex.TaskKey> keys) {
+            if (keys.size() == 1) {
+                add(term, keys.get(0));
+                return;
+            }
+            postings.compute(term, (t, current) -> {
+                if (current == null) {
+                    addPrefixes(t);
+                }
+                if (current != null && !(current instanceof TaskQueryIndex.TaskKey)) {
+                    keysOf(current).addAll(keys);
+                    return current;
+                }
+                Set<TaskQueryIndex.TaskKey> created = ConcurrentHashMap.newKeySet(keys.size() + 1);
+                if (current != null) {
+                    created.add((TaskQueryIndex.TaskKey) current);
+                }
+                created.addAll(keys);
+                return created;
+            });
+        }
+
+        private void addPrefixes(String term) {
+            for (int length = MIN_PREFIX; length <= Math.min(MAX_PREFIX, term.length()); length++) {
+                termsByPrefix.computeIfAbsent(term.substring(0, length), p -> ConcurrentHashMap.newKeySet()).add(term);
+            }
+        }
+
+        void remove(String term, TaskQueryIndex.TaskKey key) {
+            postings.computeIfPresent(term, (t, current) -> {
+                if (current instanceof TaskQueryIndex.TaskKey single ? !single.equals(key) : !removeFrom(current, key)) {
+                    return current;
+                }
+                for (int length = MIN_PREFIX; length <= Math.min(MAX_PREFIX, t.length()); length++) {
+                    Set<String> group = termsByPrefix.get(t.substring(0, length));
+                    if (group != null) {
+                        group.remove(t);
+                    }
+                }
+                return null;
+            });
+        }
+
+        // Remove do conjunto; true se ele ficou vazio.
+        private static boolean removeFrom(Object current, TaskQueryIndex.TaskKey key) {
+            Set<TaskQueryIndex.TaskKey> keys = keysOf(current);
+            keys.remove(key);
+            return keys.isEmpty();
+        }
+
+        @SuppressWarnings("unchecked")
+        private static Set<TaskQueryIndex.TaskKey> keysOf(Object postingValue) {
+            return postingValue instanceof TaskQueryIndex.TaskKey single ? Set.of(single) : (Set<TaskQueryIndex.TaskKey>) postingValue;
+        }
+
+        void search(List<String> query, int limit, List<TaskQueryIndex.TaskKey> found) {
+            // Os conjuntos de cada palavra (um por termo com aquele prefixo), da palavra mais seletiva para a menos.
+            List<List<Set<TaskQueryIndex.TaskKey>>> matches = new ArrayList<>(query.size());
+            List<Long> sizes = new ArrayList<>(query.size());
+            for (String word : query) {
+                List<Set<TaskQueryIndex.TaskKey>> sets = new ArrayList<>();
+                long size = 0;
+                for (String term : termsMatching(word)) {
+                    Object value = postings.get(term);
+                    if (value != null) {
+                        Set<TaskQueryIndex.TaskKey> keys = keysOf(value);
+                        sets.add(keys);
+                        size += keys.size();
+                    }
+                }
+                if (size == 0) {
+                    return;
+                }
+                int at = 0;
+                while (at < sizes.size() && sizes.get(at) <= size) {
+                    at++;
+                }
+                matches.add(at, sets);
+                sizes.add(at, size);
+            }
+
+            // Uma palavra curta pode abranger muitos termos ("1" -> todos os números que começam com 1):
+            // conferir um candidato neles custaria uma consulta por termo. Nesse caso, se for mais
+            // barato, junta os conjuntos da palavra em um só.
+            long candidateCount = sizes.get(0);
+            for (int i = 1; i < matches.size(); i++) {
+                List<Set<TaskQueryIndex.TaskKey>> sets = matches.get(i);
+                if (sets.size() > 1 && sizes.get(i) < candidateCount * sets.size()) {
+                    Set<TaskQueryIndex.TaskKey> union = new HashSet<>();
+                    for (Set<TaskQueryIndex.TaskKey> keys : sets) {
+                        union.addAll(keys);
+                    }
+                    matches.set(i, List.of(union));
+                }
+            }
+
+            // Percorre os candidatos da palavra mais seletiva e confere as demais; uma tarefa com
+            // dois termos do mesmo prefixo ("entrega", "entregar") só é considerada uma vez.
+            List<Set<TaskQueryIndex.TaskKey>> candidates = matches.get(0);
+            Set<TaskQueryIndex.TaskKey> seen = candidates.size() > 1 ? new HashSet<>() : null;
+            for (Set<TaskQueryIndex.TaskKey> keys : candidates) {
+                for (TaskQueryIndex.TaskKey key : keys) {
+                    if (found.size() >= limit) {
+                        return;
+                    }
+                    if ((seen == null || seen.add(key)) && containedInAll(matches, key)) {
+                        found.add(key);
+                    }
+                }
+            }
+        }
+
+        private Collection<String> termsMatching(String word) {
+            if (word.length() < MIN_PREFIX) {
+                return List.of(word);
+            }
+            Set<String> group = termsByPrefix.get(word.substring(0, Math.min(MAX_PREFIX, word.length())));
+            if (group == null) {
+                return List.of();
+            }
+            if (word.length() <= MAX_PREFIX) {
+                return group;
+            }
+            List<String> matching = new ArrayList<>();
+            for (String term : group) {
+                if (term.startsWith(word)) {
+                    matching.add(term);
+                }
+            }
+            return matching;
+        }
+
+        private static boolean containedInAll(List<List<Set<TaskQueryIndex.TaskKey>>> matches, TaskQueryIndex.TaskKey key) {
+            for (int i = 1; i < matches.size(); i++) {
+                boolean contained = false;
+                for (Set<TaskQueryIndex.TaskKey> keys : matches.get(i)) {
+                    if (keys.contains(key)) {
+                        contained = true;
+                        break;
+                    }
+                }
+                if (!contained) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.techflow.model;
+
+/**
+ * Resultado de uma atualização condicional do TaskService (com a versão lida pelo cliente).
+ * Em um conflito, traz o estado atual, para o cliente mostrar a diferença ou tentar de novo.
+ *
+ * @param outcome Desfecho da atualização.
+ * @param task Estado depois da tentativa: o novo, se aplicada; o atual, em um conflito;
+ *             null se a tarefa não existe ou os dados são inválidos.
+ * @param error Motivo da recusa; null se aplicada.
+ */
+public record UpdateResult(Outcome outcome, TaskSnapshot task, String error) {
+
+    public enum Outcome {
+        APPLIED,
+        CONFLICT,   // Outra alteração chegou antes: a versão esperada não é mais a atual
+        NOT_FOUND,
+        INVALID
+    }
+
+    public boolean applied() {
+        return outcome == Outcome.APPLIED;
+    }
+}
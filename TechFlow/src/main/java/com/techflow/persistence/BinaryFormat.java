@@ -0,0 +1,77 @@
+package com.techflow.persistence;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Codificação binária compartilhada pelos arquivos de persistência (log e snapshots).
+ * IDs viram dois longs, datas viram epoch-day e textos UTF-8 prefixados pelo tamanho.
+ */
+final class BinaryFormat {
+
+    static final int NULL_LENGTH = -1;
+    static final int NULL_DATE = Integer.MIN_VALUE;
+
+    private BinaryFormat() {
+    }
+
+    static void putId(ByteBuffer buffer, String id) {
+        UUID uuid = UUID.fromString(id);
+        putId(buffer, uuid.getMostSignificantBits(), uuid.getLeastSignificantBits());
+    }
+
+    static void putId(ByteBuffer buffer, long high, long low) {
+        buffer.putLong(high);
+        buffer.putLong(low);
+    }
+
+    static byte[] utf8(String value) {
+        return value == null ? null : value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    static int stringSize(byte[] bytes) {
+        return Integer.BYTES + (bytes == null ? 0 : bytes.length);
+    }
+
+    static void putString(ByteBuffer buffer, byte[] bytes) {
+        if (bytes == null) {
+            buffer.putInt(NULL_LENGTH);
+        } else {
+            buffer.putInt(bytes.length);
+            buffer.put(bytes);
+        }
+    }
+
+    static String getString(ByteBuffer buffer) {
+        return getString(buffer, buffer.getInt());
+    }
+
+    /**
+     * Lê um texto de tamanho já conhecido (ex.: colunas de tamanhos no snapshot).
+     */
+    static String getString(ByteBuffer buffer, int length) {
+        if (length == NULL_LENGTH) {
+            return null;
+        }
+        String value;
+        if (buffer.hasArray()) {
+            value = new String(buffer.array(), buffer.arrayOffset() + buffer.position(), length, StandardCharsets.UTF_8);
+            buffer.position(buffer.position() + length);
+        } else {
+            byte[] bytes = new byte[length];
+            buffer.get(bytes);
+            value = new String(bytes, StandardCharsets.UTF_8);
+        }
+        return value;
+    }
+
+    static int epochDay(LocalDate date) {
+        return date == null ? NULL_DATE : (int) date.toEpochDay();
+    }
+
+    static LocalDate date(int epochDay) {
+        return epochDay == NULL_DATE ? null : LocalDate.ofEpochDay(epochDay);
+    }
+}
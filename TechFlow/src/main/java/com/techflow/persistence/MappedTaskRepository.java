@@ -0,0 +1,645 @@
+package com.techflow.persistence;
+
+import com.techflow.model.Task;
+import com.techflow.model.TaskCursor;
+import com.techflow.model.TaskIdMap;
+import com.techflow.model.TaskIds;
+import com.techflow.model.TaskPage;
+import com.techflow.model.TaskRepository;
+import com.techflow.model.TaskSnapshot;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+import static com.techflow.persistence.BinaryFormat.NULL_LENGTH;
+import static com.techflow.persistence.BinaryFormat.date;
+import static com.techflow.persistence.BinaryFormat.epochDay;
+import static com.techflow.persistence.BinaryFormat.utf8;
+
+/**
+ * Repositório cujo armazenamento primário são dois arquivos mapeados em memória,
+ * fora do heap da JVM:
+ *
+ * - tasks.dat: cabeçalho de 64 bytes seguido de registros de tamanho fixo (RECORD_BYTES),
+ *   um por slot, com ID (dois longs), sequência de criação, prioridade, status, datas
+ *   em epoch-day, a posição/tamanho do título e da descrição e a versão da tarefa;
+ * - strings.dat: "heap" de textos UTF-8 onde os registros apontam. Textos alterados são
+ *   acrescentados no fim; quando o heap precisa crescer e ao menos metade dele é de textos
+ *   antigos, os textos vivos são compactados no início (o arquivo não encolhe, mas o espaço
+ *   volta a ser usado e os offsets de 32 bits não se esgotam com edições).
+ *
+ * No heap ficam só índices (ID -> slot no TaskIdMap, baldes de prioridade com sequência e slot
+ * e a pilha de slots livres), algumas dezenas de bytes por tarefa. As instâncias de Task são
+ * montadas sob demanda a partir do registro e não são retidas: cada leitura devolve uma cópia nova,
+ * e as alterações só valem depois de save(task), como manda o contrato do TaskRepository.
+ * Abrir um quadro grande é mapear os arquivos e percorrer os registros, sem desserializar textos.
+ *
+ * Os dados chegam ao cache de páginas do sistema a cada escrita (sobrevivem à queda do processo);
+ * para sobreviver à queda da máquina chame force(). Não é thread-safe, como o InMemoryTaskRepository.
+ */
+public class MappedTaskRepository implements TaskRepository, Closeable {
+
+    static final String RECORDS_FILE = "tasks.dat";
+    static final String STRINGS_FILE = "strings.dat";
+
+    private static final int MAGIC = 0x5446524D; // "TFRM"
+    private static final int VERSION = 1;
+
+    private static final int HEADER_BYTES = 64;
+    private static final int HEADER_MAGIC = 0;
+    private static final int HEADER_VERSION = 4;
+    private static final int HEADER_SLOTS = 8;
+    private static final int HEADER_STRINGS_END = 12;
+    private static final int HEADER_NEXT_SEQUENCE = 16;
+
+    static final int RECORD_BYTES = 56;
+    private static final int ID_HIGH = 0;
+    private static final int ID_LOW = 8;
+    private static final int SEQUENCE = 16;
+    private static final int LIVE = 24;
+    private static final int PRIORITY = 25;
+    private static final int STATUS = 26;
+    private static final int CREATED_AT = 28;
+    private static final int DELIVERY_DATE = 32;
+    private static final int TITLE_OFFSET = 36;
+    private static final int TITLE_LENGTH = 40;
+    private static final int DESCRIPTION_OFFSET = 44;
+    private static final int DESCRIPTION_LENGTH = 48;
+    private static final int TASK_VERSION = 52;
+
+    private static final int INITIAL_SLOTS = 1024;
+    private static final int INITIAL_STRING_BYTES = 64 * 1024;
+    private static final Task.TaskStatus[] STATUSES = Task.TaskStatus.values();
+
+    private final FileChannel recordChannel;
+    private final FileChannel stringChannel;
+    private MappedByteBuffer records;
+    private MappedByteBuffer strings;
+
+    private int slotCount;
+    private int stringsEnd;
+    private int liveStringBytes; // Bytes de textos apontados por registros vivos
+    private long nextSequence;
+    private int liveCount;
+
+    private final TaskIdMap<Integer> slotsById = new TaskIdMap<>();
+    private final SlotBucket[] buckets = new SlotBucket[Task.MAX_PRIORITY - Task.MIN_PRIORITY + 1];
+    private int[] freeSlots = new int[16];
+    private int freeCount;
+
+    private MappedTaskRepository(FileChannel recordChannel, FileChannel stringChannel) {
+        this.recordChannel = recordChannel;
+        this.stringChannel = stringChannel;
+        for (int i = 0; i < buckets.length; i++) {
+            buckets[i] = new SlotBucket();
+        }
+    }
+
+    /**
+     * Abre (ou cria) o quadro mapeado no diretório e reconstrói os índices em memória
+     * percorrendo os registros.
+     * @param directory Diretório dos arquivos tasks.dat e strings.dat.
+     * @return Repositório pronto para uso; feche-o com close().
+     */
+    public static MappedTaskRepository open(Path directory) throws IOException {
+        Files.createDirectories(directory);
+        FileChannel recordChannel = FileChannel.open(directory.resolve(RECORDS_FILE),
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        FileChannel stringChannel = FileChannel.open(directory.resolve(STRINGS_FILE),
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        MappedTaskRepository repository = new MappedTaskRepository(recordChannel, stringChannel);
+        try {
+            repository.load();
+        } catch (IOException | RuntimeException e) {
+            repository.close();
+            throw e;
+        }
+        return repository;
+    }
+
+    private void load() throws IOException {
+        boolean fresh = recordChannel.size() == 0;
+        records = recordChannel.map(FileChannel.MapMode.READ_WRITE, 0,
+                Math.max(recordChannel.size(), HEADER_BYTES + (long) INITIAL_SLOTS * RECORD_BYTES));
+        strings = stringChannel.map(FileChannel.MapMode.READ_WRITE, 0,
+                Math.max(stringChannel.size(), INITIAL_STRING_BYTES));
+        if (fresh) {
+            records.putInt(HEADER_MAGIC, MAGIC);
+            records.putInt(HEADER_VERSION, VERSION);
+            writeHeader();
+            return;
+        }
+        if (records.getInt(HEADER_MAGIC) != MAGIC || records.getInt(HEADER_VERSION) != VERSION) {
+            throw new IOException("Arquivo de tarefas inválido: " + RECORDS_FILE);
+        }
+        slotCount = records.getInt(HEADER_SLOTS);
+        stringsEnd = records.getInt(HEADER_STRINGS_END);
+        nextSequence = records.getLong(HEADER_NEXT_SEQUENCE);
+        if (slotCount < 0 || recordBase(slotCount) > records.capacity()
+                || stringsEnd < 0 || stringsEnd > strings.capacity()) {
+            throw new IOException("Cabeçalho do arquivo de tarefas corrompido: " + RECORDS_FILE);
+        }
+
+        // Percorre os registros em ordem de slot; os baldes são ordenados uma única vez no fim.
+        for (int slot = 0; slot < slotCount; slot++) {
+            int base = recordBase(slot);
+            if (records.get(base + LIVE) == 0) {
+                pushFreeSlot(slot);
+                continue;
+            }
+            slotsById.put(records.getLong(base + ID_HIGH), records.getLong(base + ID_LOW), slot);
+            bucket(records.get(base + PRIORITY)).append(records.getLong(base + SEQUENCE), slot);
+            liveStringBytes += stringBytes(base);
+            liveCount++;
+        }
+        for (SlotBucket bucket : buckets) {
+            bucket.sort();
+        }
+    }
+
+    @Override
+    public void save(Task task) {
+        long high = task.getIdHigh();
+        long low = task.getIdLow();
+        int slot = slotOf(high, low);
+        if (slot < 0) {
+            slot = allocateSlot();
+            long sequence = nextSequence++;
+            int base = recordBase(slot);
+            records.putLong(base + ID_HIGH, high);
+            records.putLong(base + ID_LOW, low);
+            records.putLong(base + SEQUENCE, sequence);
+            writeFields(base, task.snapshot(), true);
+            records.put(base + LIVE, (byte) 1);
+            slotsById.put(high, low, slot);
+            bucket(task.getPriority()).insert(sequence, slot);
+            liveCount++;
+            writeHeader();
+            return;
+        }
+        int base = recordBase(slot);
+        int indexedPriority = records.get(base + PRIORITY);
+        writeFields(base, task.snapshot(), false);
+        // A sequência original é mantida, preservando a ordem de criação.
+        if (indexedPriority != task.getPriority()) {
+            long sequence = records.getLong(base + SEQUENCE);
+            bucket(indexedPriority).remove(sequence);
+            bucket(task.getPriority()).insert(sequence, slot);
+        }
+        writeHeader();
+    }
+
+    @Override
+    public Optional<Task> findById(String id) {
+        TaskIds.Parsed parsed = TaskIds.parse(id);
+        return parsed.valid() ? findById(parsed.high(), parsed.low()) : Optional.empty();
+    }
+
+    @Override
+    public Optional<Task> findById(long high, long low) {
+        int slot = slotOf(high, low);
+        return slot < 0 ? Optional.empty() : Optional.of(Task.restore(readSnapshot(slot)));
+    }
+
+    @Override
+    public Optional<Task> deleteById(String id) {
+        int slot = slotOf(id);
+        if (slot < 0) {
+            return Optional.empty();
+        }
+        int base = recordBase(slot);
+        Task removed = Task.restore(readSnapshot(slot));
+        records.put(base + LIVE, (byte) 0);
+        liveStringBytes -= stringBytes(base);
+        slotsById.remove(records.getLong(base + ID_HIGH), records.getLong(base + ID_LOW));
+        bucket(records.get(base + PRIORITY)).remove(records.getLong(base + SEQUENCE));
+        pushFreeSlot(slot);
+        liveCount--;
+        return Optional.of(removed);
+    }
+
+    @Override
+    public List<Task> findAll() {
+        List<Task> ordered = new ArrayList<>(liveCount);
+        for (int p = Task.MAX_PRIORITY; p >= Task.MIN_PRIORITY; p--) {
+            SlotBucket bucket = bucket(p);
+            for (int i = 0; i < bucket.size; i++) {
+                ordered.add(Task.restore(readSnapshot(bucket.slots[i])));
+            }
+        }
+        return ordered;
+    }
+
+    @Override
+    public TaskPage findPage(TaskCursor after, int limit) {
+        // Só as tarefas da página são lidas do arquivo; o cursor é localizado por busca binária no balde.
+        List<Task> tasks = new ArrayList<>(Math.min(limit, liveCount));
+        int first = after == null ? Task.MAX_PRIORITY : after.priority();
+        int index = after == null ? 0 : bucket(first).indexAfter(after.sequence());
+        int lastPriority = 0;
+        long lastSequence = 0;
+        for (int p = first; p >= Task.MIN_PRIORITY; p--, index = 0) {
+            SlotBucket bucket = bucket(p);
+            for (; index < bucket.size; index++) {
+                if (tasks.size() == limit) {
+                    return new TaskPage(tasks, new TaskCursor(lastPriority, lastSequence));
+                }
+                tasks.add(Task.restore(readSnapshot(bucket.slots[index])));
+                lastPriority = p;
+                lastSequence = bucket.sequences[index];
+            }
+        }
+        return new TaskPage(tasks, null);
+    }
+
+    @Override
+    public List<TaskSnapshot> snapshotAll() {
+        // Intercala os cinco baldes (já ordenados pela sequência) para obter a ordem de criação.
+        List<TaskSnapshot> snapshots = new ArrayList<>(liveCount);
+        int[] cursors = new int[buckets.length];
+        for (int n = 0; n < liveCount; n++) {
+            int next = -1;
+            for (int b = 0; b < buckets.length; b++) {
+                if (cursors[b] < buckets[b].size && (next < 0
+                        || buckets[b].sequences[cursors[b]] < buckets[next].sequences[cursors[next]])) {
+                    next = b;
+                }
+            }
+            snapshots.add(readSnapshot(buckets[next].slots[cursors[next]++]));
+        }
+        return snapshots;
+    }
+
+    @Override
+    public int count() {
+        return liveCount;
+    }
+
+    /**
+     * Força as páginas alteradas dos dois arquivos ao disco.
+     */
+    public void force() {
+        strings.force();
+        records.force();
+    }
+
+    /**
+     * @return Bytes ocupados no heap de textos, incluindo versões antigas de textos alterados.
+     */
+    public long stringHeapBytes() {
+        return stringsEnd;
+    }
+
+    /**
+     * Reescreve os textos das tarefas vivas no início do heap, descartando as versões antigas.
+     * Chamado automaticamente quando o heap precisaria crescer com metade dele sem uso.
+     *
+     * Nenhum byte apontado por um registro é sobrescrito antes de o registro apontar para outra
+     * cópia: os textos vivos são acrescentados no fim, os registros passam a apontar para lá,
+     * o bloco é copiado para o início e os registros são ajustados de novo. Entre as etapas,
+     * force() garante essa mesma ordem no disco.
+     */
+    public void compactStrings() {
+        int oldEnd = stringsEnd;
+        if ((long) oldEnd + liveStringBytes > Integer.MAX_VALUE) {
+            throw new IllegalStateException("Sem espaço para compactar o heap de textos do arquivo mapeado: "
+                    + liveStringBytes + " bytes de textos vivos.");
+        }
+        if (oldEnd + liveStringBytes > strings.capacity()) {
+            strings = remap(stringChannel, oldEnd + liveStringBytes);
+        }
+
+        // 1. Cópia dos textos vivos depois do fim atual; o cabeçalho passa a cobri-la antes de
+        //    algum registro apontar para lá, para uma reabertura não escrever por cima.
+        MappedByteBuffer source = strings.duplicate();
+        int end = oldEnd;
+        for (int slot = 0; slot < slotCount; slot++) {
+            int base = recordBase(slot);
+            if (records.get(base + LIVE) != 0) {
+                end = copyString(source, base + TITLE_OFFSET, base + TITLE_LENGTH, end);
+                end = copyString(source, base + DESCRIPTION_OFFSET, base + DESCRIPTION_LENGTH, end);
+            }
+        }
+        strings.force();
+        stringsEnd = end;
+        writeHeader();
+        records.force();
+        pointStrings(oldEnd);
+        records.force();
+
+        // 2. O bloco volta para o início, que nenhum registro aponta mais.
+        int live = end - oldEnd;
+        strings.put(0, source, oldEnd, live);
+        strings.force();
+        pointStrings(0);
+        stringsEnd = live;
+        liveStringBytes = live;
+        writeHeader();
+    }
+
+    // Aponta os textos dos registros vivos, na ordem dos slots, para o bloco contíguo que começa em start.
+    private void pointStrings(int start) {
+        int cursor = start;
+        for (int slot = 0; slot < slotCount; slot++) {
+            int base = recordBase(slot);
+            if (records.get(base + LIVE) != 0) {
+                cursor = pointString(base + TITLE_OFFSET, base + TITLE_LENGTH, cursor);
+                cursor = pointString(base + DESCRIPTION_OFFSET, base + DESCRIPTION_LENGTH, cursor);
+            }
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            if (records != null) {
+                force();
+            }
+        } finally {
+            try {
+                recordChannel.close();
+            } finally {
+                stringChannel.close();
+            }
+        }
+    }
+
+    private int slotOf(String id) {
+        TaskIds.Parsed parsed = TaskIds.parse(id);
+        return parsed.valid() ? slotOf(parsed.high(), parsed.low()) : -1;
+    }
+
+    private int slotOf(long high, long low) {
+        Integer slot = slotsById.get(high, low);
+        return slot == null ? -1 : slot;
+    }
+
+    private TaskSnapshot readSnapshot(int slot) {
+        int base = recordBase(slot);
+        return new TaskSnapshot(
+                records.getLong(base + ID_HIGH),
+                records.getLong(base + ID_LOW),
+                readString(records.getInt(base + TITLE_OFFSET), records.getInt(base + TITLE_LENGTH)),
+                readString(records.getInt(base + DESCRIPTION_OFFSET), records.getInt(base + DESCRIPTION_LENGTH)),
+                records.get(base + PRIORITY),
+                STATUSES[records.get(base + STATUS)],
+                date(records.getInt(base + CREATED_AT)),
+                date(records.getInt(base + DELIVERY_DATE)),
+                records.getInt(base + TASK_VERSION));
+    }
+
+    private void writeFields(int base, TaskSnapshot task, boolean fresh) {
+        // Só textos diferentes dos já apontados são gravados no heap.
+        byte[] title = utf8(task.title());
+        byte[] description = utf8(task.description());
+        boolean newTitle = fresh || !sameString(records.getInt(base + TITLE_OFFSET), records.getInt(base + TITLE_LENGTH), title);
+        boolean newDescription = fresh
+                || !sameString(records.getInt(base + DESCRIPTION_OFFSET), records.getInt(base + DESCRIPTION_LENGTH), description);
+        // O espaço dos dois textos é reservado antes de o registro mudar: uma compactação
+        // disparada aqui nunca encontra um registro alterado pela metade.
+        ensureStringCapacity((newTitle ? byteCount(title) : 0) + (newDescription ? byteCount(description) : 0));
+
+        records.put(base + PRIORITY, (byte) task.priority());
+        records.put(base + STATUS, (byte) task.status().ordinal());
+        records.putInt(base + CREATED_AT, epochDay(task.createdAt()));
+        records.putInt(base + DELIVERY_DATE, epochDay(task.deliveryDate()));
+        records.putInt(base + TASK_VERSION, task.version());
+        if (newTitle) {
+            writeString(base + TITLE_OFFSET, base + TITLE_LENGTH, title, fresh);
+        }
+        if (newDescription) {
+            writeString(base + DESCRIPTION_OFFSET, base + DESCRIPTION_LENGTH, description, fresh);
+        }
+    }
+
+    /**
+     * Grava o texto no fim do heap, cujo espaço já foi reservado, e aponta o registro para ele.
+     */
+    private void writeString(int offsetField, int lengthField, byte[] bytes, boolean fresh) {
+        int previous = fresh ? NULL_LENGTH : records.getInt(lengthField);
+        liveStringBytes -= previous == NULL_LENGTH ? 0 : previous;
+        if (bytes == null) {
+            records.putInt(offsetField, 0);
+            records.putInt(lengthField, NULL_LENGTH);
+            return;
+        }
+        strings.put(stringsEnd, bytes);
+        records.putInt(offsetField, stringsEnd);
+        records.putInt(lengthField, bytes.length);
+        stringsEnd += bytes.length;
+        liveStringBytes += bytes.length;
+    }
+
+    private static int byteCount(byte[] bytes) {
+        return bytes == null ? 0 : bytes.length;
+    }
+
+    private int stringBytes(int base) {
+        int title = records.getInt(base + TITLE_LENGTH);
+        int description = records.getInt(base + DESCRIPTION_LENGTH);
+        return (title == NULL_LENGTH ? 0 : title) + (description == NULL_LENGTH ? 0 : description);
+    }
+
+    private int copyString(MappedByteBuffer source, int offsetField, int lengthField, int cursor) {
+        int length = records.getInt(lengthField);
+        if (length == NULL_LENGTH) {
+            return cursor;
+        }
+        strings.put(cursor, source, records.getInt(offsetField), length);
+        return cursor + length;
+    }
+
+    private int pointString(int offsetField, int lengthField, int cursor) {
+        int length = records.getInt(lengthField);
+        if (length == NULL_LENGTH) {
+            return cursor;
+        }
+        records.putInt(offsetField, cursor);
+        return cursor + length;
+    }
+
+    private boolean sameString(int offset, int length, byte[] bytes) {
+        if (bytes == null || length == NULL_LENGTH) {
+            return bytes == null && length == NULL_LENGTH;
+        }
+        if (length != bytes.length) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (strings.get(offset + i) != bytes[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private String readString(int offset, int length) {
+        if (length == NULL_LENGTH) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        strings.get(offset, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private int allocateSlot() {
+        if (freeCount > 0) {
+            return freeSlots[--freeCount];
+        }
+        if (recordBase(slotCount + 1) > records.capacity()) {
+            long size = HEADER_BYTES + 2L * slotCount * RECORD_BYTES;
+            if (size > Integer.MAX_VALUE) {
+                throw new IllegalStateException("Limite de tarefas do arquivo mapeado atingido.");
+            }
+            records = remap(recordChannel, size);
+        }
+        return slotCount++;
+    }
+
+    private void ensureStringCapacity(int length) {
+        long required = (long) stringsEnd + length;
+        if (required <= strings.capacity()) {
+            return;
+        }
+        // Antes de crescer (ou de esbarrar no limite dos offsets), reaproveita o espaço dos textos antigos.
+        if (liveStringBytes <= stringsEnd / 2 || required > Integer.MAX_VALUE) {
+            compactStrings();
+            required = (long) stringsEnd + length;
+            if (required <= strings.capacity()) {
+                return;
+            }
+        }
+        long size = Math.max(required, 2L * strings.capacity());
+        if (required > Integer.MAX_VALUE) {
+            throw new IllegalStateException("Limite do heap de textos do arquivo mapeado atingido: "
+                    + liveStringBytes + " bytes de textos vivos.");
+        }
+        strings = remap(stringChannel, Math.min(size, Integer.MAX_VALUE));
+    }
+
+    private static MappedByteBuffer remap(FileChannel channel, long size) {
+        try {
+            // Mapear além do fim estende o arquivo; o mapeamento antigo é liberado pelo GC.
+            return channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void pushFreeSlot(int slot) {
+        if (freeCount == freeSlots.length) {
+            freeSlots = Arrays.copyOf(freeSlots, freeCount * 2);
+        }
+        freeSlots[freeCount++] = slot;
+    }
+
+    private void writeHeader() {
+        records.putInt(HEADER_SLOTS, slotCount);
+        records.putInt(HEADER_STRINGS_END, stringsEnd);
+        records.putLong(HEADER_NEXT_SEQUENCE, nextSequence);
+    }
+
+    private static int recordBase(int slot) {
+        return HEADER_BYTES + slot * RECORD_BYTES;
+    }
+
+    private SlotBucket bucket(int priority) {
+        return buckets[priority - Task.MIN_PRIORITY];
+    }
+
+    /**
+     * Slots de uma mesma prioridade ordenados pela sequência de criação, como o
+     * PriorityBucket do InMemoryTaskRepository, mas guardando o slot em vez da Task.
+     */
+    private static final class SlotBucket {
+        private long[] sequences = new long[16];
+        private int[] slots = new int[16];
+        private int size;
+
+        void insert(long sequence, int slot) {
+            int index = size == 0 || sequences[size - 1] < sequence
+                    ? size
+                    : -Arrays.binarySearch(sequences, 0, size, sequence) - 1;
+            grow();
+            System.arraycopy(sequences, index, sequences, index + 1, size - index);
+            System.arraycopy(slots, index, slots, index + 1, size - index);
+            sequences[index] = sequence;
+            slots[index] = slot;
+            size++;
+        }
+
+        void remove(long sequence) {
+            int index = Arrays.binarySearch(sequences, 0, size, sequence);
+            if (index < 0) {
+                return;
+            }
+            System.arraycopy(sequences, index + 1, sequences, index, size - index - 1);
+            System.arraycopy(slots, index + 1, slots, index, size - index - 1);
+            size--;
+        }
+
+        /**
+         * @return Posição do primeiro slot com sequência maior que a informada.
+         */
+        int indexAfter(long sequence) {
+            int index = Arrays.binarySearch(sequences, 0, size, sequence);
+            return index >= 0 ? index + 1 : -index - 1;
+        }
+
+        /**
+         * Acrescenta sem manter a ordem; usado na carga, seguido de sort().
+         */
+        void append(long sequence, int slot) {
+            grow();
+            sequences[size] = sequence;
+            slots[size] = slot;
+            size++;
+        }
+
+        /**
+         * Merge sort sobre os arrays paralelos. Slots reaproveitados quebram a ordem de
+         * criação, então a carga não pode supor que os registros já estejam em sequência.
+         */
+        void sort() {
+            long[] sequenceBuffer = new long[size];
+            int[] slotBuffer = new int[size];
+            for (int width = 1; width < size; width *= 2) {
+                for (int from = 0; from < size; from += 2 * width) {
+                    int middle = Math.min(from + width, size);
+                    int to = Math.min(from + 2 * width, size);
+                    int left = from;
+                    int right = middle;
+                    for (int k = from; k < to; k++) {
+                        if (right >= to || (left < middle && sequences[left] <= sequences[right])) {
+                            sequenceBuffer[k] = sequences[left];
+                            slotBuffer[k] = slots[left++];
+                        } else {
+                            sequenceBuffer[k] = sequences[right];
+                            slotBuffer[k] = slots[right++];
+                        }
+                    }
+                }
+                System.arraycopy(sequenceBuffer, 0, sequences, 0, size);
+                System.arraycopy(slotBuffer, 0, slots, 0, size);
+            }
+        }
+
+        private void grow() {
+            if (size == slots.length) {
+                sequences = Arrays.copyOf(sequences, size * 2);
+                slots = Arrays.copyOf(slots, size * 2);
+            }
+        }
+    }
+}
@@ -0,0 +1,211 @@
+package com.techflow.persistence;
+
+import com.techflow.model.Task;
+import com.techflow.model.TaskRepository;
+import com.techflow.model.TaskSnapshot;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.zip.CRC32;
+
+import static com.techflow.persistence.BinaryFormat.NULL_LENGTH;
+import static com.techflow.persistence.BinaryFormat.date;
+import static com.techflow.persistence.BinaryFormat.epochDay;
+import static com.techflow.persistence.BinaryFormat.getString;
+import static com.techflow.persistence.BinaryFormat.utf8;
+
+/**
+ * Imagem completa do quadro em um arquivo binário colunar.
+ *
+ * Layout: [magic][versão][quantidade] seguido de uma coluna por campo (IDs como dois longs,
+ * prioridade e status em bytes, datas em epoch-day, versões das tarefas, tamanhos dos textos) e,
+ * por fim, os bytes UTF-8 dos títulos e descrições. Um CRC32 no final valida o arquivo inteiro
+ * antes da carga.
+ */
+final class TaskSnapshotFile {
+
+    private static final int MAGIC = 0x54465331; // "TFS1"
+    private static final int VERSION = 2;
+    private static final int HEADER_BYTES = 3 * Integer.BYTES;
+    private static final int BUFFER_BYTES = 1 << 20;
+
+    private TaskSnapshotFile() {
+    }
+
+    /**
+     * Grava os snapshots no arquivo (sobrescrevendo-o) e força o conteúdo ao disco.
+     */
+    static void write(Path path, List<TaskSnapshot> tasks) throws IOException {
+        int count = tasks.size();
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            ColumnWriter out = new ColumnWriter(channel);
+            out.ensure(HEADER_BYTES).putInt(MAGIC).putInt(VERSION).putInt(count);
+
+            for (TaskSnapshot task : tasks) {
+                out.ensure(Long.BYTES).putLong(task.idHigh());
+            }
+            for (TaskSnapshot task : tasks) {
+                out.ensure(Long.BYTES).putLong(task.idLow());
+            }
+            for (TaskSnapshot task : tasks) {
+                out.ensure(1).put((byte) task.priority());
+            }
+            for (TaskSnapshot task : tasks) {
+                out.ensure(1).put((byte) task.status().ordinal());
+            }
+            for (TaskSnapshot task : tasks) {
+                out.ensure(Integer.BYTES).putInt(epochDay(task.createdAt()));
+            }
+            for (TaskSnapshot task : tasks) {
+                out.ensure(Integer.BYTES).putInt(epochDay(task.deliveryDate()));
+            }
+            for (TaskSnapshot task : tasks) {
+                out.ensure(Integer.BYTES).putInt(task.version());
+            }
+
+            byte[][] titles = new byte[count][];
+            byte[][] descriptions = new byte[count][];
+            for (int i = 0; i < count; i++) {
+                titles[i] = utf8(tasks.get(i).title());
+                descriptions[i] = utf8(tasks.get(i).description());
+            }
+            // Colunas de tamanhos primeiro; os bytes dos textos ficam no fim do arquivo.
+            writeLengths(out, titles);
+            writeLengths(out, descriptions);
+            writeBytes(out, titles);
+            writeBytes(out, descriptions);
+
+            out.finish();
+            channel.force(true);
+        }
+    }
+
+    /**
+     * Valida o arquivo e carrega suas tarefas no repositório, na ordem em que foram gravadas.
+     * Nada é carregado se o arquivo estiver incompleto ou corrompido.
+     * @return Quantidade de tarefas carregadas.
+     * @throws IOException Se o arquivo for inválido.
+     */
+    static int read(Path path, TaskRepository target) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < HEADER_BYTES + Integer.BYTES) {
+                throw new IOException("Snapshot incompleto: " + path);
+            }
+            MappedByteBuffer file = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            CRC32 crc = new CRC32();
+            crc.update(file.duplicate().limit((int) size - Integer.BYTES));
+            if (file.getInt(0) != MAGIC || file.getInt(Integer.BYTES) != VERSION
+                    || (int) crc.getValue() != file.getInt((int) size - Integer.BYTES)) {
+                throw new IOException("Snapshot corrompido: " + path);
+            }
+
+            int count = file.getInt(2 * Integer.BYTES);
+            int highIds = HEADER_BYTES;
+            int lowIds = highIds + count * Long.BYTES;
+            int priorities = lowIds + count * Long.BYTES;
+            int statuses = priorities + count;
+            int createdDates = statuses + count;
+            int deliveryDates = createdDates + count * Integer.BYTES;
+            int taskVersions = deliveryDates + count * Integer.BYTES;
+            int titleLengths = taskVersions + count * Integer.BYTES;
+            int descriptionLengths = titleLengths + count * Integer.BYTES;
+
+            ByteBuffer titles = file.duplicate().position(descriptionLengths + count * Integer.BYTES);
+            int titleBytes = 0;
+            for (int i = 0; i < count; i++) {
+                titleBytes += Math.max(0, file.getInt(titleLengths + i * Integer.BYTES));
+            }
+            ByteBuffer descriptions = file.duplicate().position(titles.position() + titleBytes);
+
+            Task.TaskStatus[] statusValues = Task.TaskStatus.values();
+            for (int i = 0; i < count; i++) {
+                target.save(Task.restore(new TaskSnapshot(
+                        file.getLong(highIds + i * Long.BYTES),
+                        file.getLong(lowIds + i * Long.BYTES),
+                        getString(titles, file.getInt(titleLengths + i * Integer.BYTES)),
+                        getString(descriptions, file.getInt(descriptionLengths + i * Integer.BYTES)),
+                        file.get(priorities + i),
+                        statusValues[file.get(statuses + i)],
+                        date(file.getInt(createdDates + i * Integer.BYTES)),
+                        date(file.getInt(deliveryDates + i * Integer.BYTES)),
+                        file.getInt(taskVersions + i * Integer.BYTES))));
+            }
+            return count;
+        }
+    }
+
+    private static void writeLengths(ColumnWriter out, byte[][] values) throws IOException {
+        for (byte[] value : values) {
+            out.ensure(Integer.BYTES).putInt(value == null ? NULL_LENGTH : value.length);
+        }
+    }
+
+    private static void writeBytes(ColumnWriter out, byte[][] values) throws IOException {
+        for (byte[] value : values) {
+            if (value != null) {
+                out.put(value);
+            }
+        }
+    }
+
+    /**
+     * Escreve colunas por um buffer fixo, calculando o CRC do que for para o disco.
+     */
+    private static final class ColumnWriter {
+        private final FileChannel channel;
+        private final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_BYTES);
+        private final CRC32 crc = new CRC32();
+
+        private ColumnWriter(FileChannel channel) {
+            this.channel = channel;
+        }
+
+        ByteBuffer ensure(int bytes) throws IOException {
+            if (buffer.remaining() < bytes) {
+                drain();
+            }
+            return buffer;
+        }
+
+        void put(byte[] value) throws IOException {
+            if (value.length <= buffer.capacity()) {
+                ensure(value.length).put(value);
+                return;
+            }
+            // Texto maior que o buffer: grava direto no arquivo.
+            drain();
+            write(ByteBuffer.wrap(value));
+        }
+
+        /**
+         * Esvazia o buffer e grava o CRC32 de todo o conteúdo.
+         */
+        void finish() throws IOException {
+            drain();
+            ByteBuffer trailer = ByteBuffer.allocate(Integer.BYTES).putInt(0, (int) crc.getValue());
+            while (trailer.hasRemaining()) {
+                channel.write(trailer);
+            }
+        }
+
+        private void drain() throws IOException {
+            buffer.flip();
+            write(buffer);
+            buffer.clear();
+        }
+
+        private void write(ByteBuffer bytes) throws IOException {
+            crc.update(bytes.duplicate());
+            while (bytes.hasRemaining()) {
+                channel.write(bytes);
+            }
+        }
+    }
+}
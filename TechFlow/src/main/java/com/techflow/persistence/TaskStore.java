@@ -0,0 +1,291 @@
+package com.techflow.persistence;
+
+import com.techflow.logging.EventLog;
+import com.techflow.logging.LogLevel;
+import com.techflow.model.Task;
+import com.techflow.model.TaskJournal;
+import com.techflow.model.TaskRepository;
+import com.techflow.model.TaskService;
+import com.techflow.model.TaskSnapshot;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Persistência completa do quadro em um diretório: snapshots periódicos + write-ahead log.
+ *
+ * Os arquivos são numerados por geração: snapshot-N.bin contém o estado no início de wal-N.log.
+ * Um snapshot troca o log para a geração seguinte (com as escritas suspensas só durante a troca),
+ * grava a imagem de todas as tarefas enquanto os escritores seguem no novo log e, por fim, apaga
+ * as gerações anteriores. A inicialização carrega o snapshot mais recente e reaplica só o final do log.
+ *
+ * Snapshots em segundo plano exigem um repositório thread-safe (ex.: ConcurrentTaskRepository).
+ */
+public class TaskStore implements TaskJournal, Closeable {
+
+    private static final String SNAPSHOT_PREFIX = "snapshot-";
+    private static final String SNAPSHOT_SUFFIX = ".bin";
+    private static final String WAL_PREFIX = "wal-";
+    private static final String WAL_SUFFIX = ".log";
+    private static final String TEMP_SUFFIX = ".tmp";
+    private static final long DEFAULT_INTERVAL_MILLIS = 20;
+
+    private final Path directory;
+    private final WriteAheadLog.FsyncPolicy policy;
+    private final TaskRepository repository;
+    private final EventLog log;
+    private final Object snapshotLock = new Object();
+    private volatile WriteAheadLog currentLog;
+    private long generation; // Protegido por snapshotLock
+    private ScheduledExecutorService snapshotter;
+
+    private TaskStore(Path directory, WriteAheadLog.FsyncPolicy policy, TaskRepository repository, EventLog log,
+                      WriteAheadLog currentLog, long generation) {
+        this.directory = directory;
+        this.policy = policy;
+        this.repository = repository;
+        this.log = log;
+        this.currentLog = currentLog;
+        this.generation = generation;
+    }
+
+    /**
+     * Abre (ou cria) o diretório, carrega o snapshot mais recente e reaplica os logs posteriores.
+     * @param directory Diretório dos arquivos de persistência.
+     * @param policy Política de fsync do log.
+     * @param target Repositório (vazio) que receberá o estado recuperado.
+     * @return Store pronto para ser usado como TaskJournal do TaskService.
+     */
+    public static TaskStore open(Path directory, WriteAheadLog.FsyncPolicy policy, TaskRepository target) throws IOException {
+        return open(directory, policy, target, EventLog.console());
+    }
+
+    /**
+     * Igual a {@link #open(Path, WriteAheadLog.FsyncPolicy, TaskRepository)}, com o log que recebe os avisos do store.
+     */
+    public static TaskStore open(Path directory, WriteAheadLog.FsyncPolicy policy, TaskRepository target,
+                                 EventLog log) throws IOException {
+        Files.createDirectories(directory);
+        deleteTemporaryFiles(directory);
+
+        // 1. Snapshot válido mais recente (um snapshot corrompido é ignorado em favor do anterior).
+        long base = -1;
+        List<Long> snapshots = generations(directory, SNAPSHOT_PREFIX, SNAPSHOT_SUFFIX);
+        Collections.reverse(snapshots);
+        for (long candidate : snapshots) {
+            try {
+                long start = System.nanoTime();
+                int loaded = TaskSnapshotFile.read(snapshotPath(directory, candidate), target);
+                log.info("Snapshot {} carregado: {}", candidate,
+                        loaded + " tarefas em " + (System.nanoTime() - start) / 1_000_000 + " ms.");
+                base = candidate;
+                break;
+            } catch (IOException e) {
+                log.warn("⚠ Ignorando snapshot inválido: {}", e.getMessage());
+            }
+        }
+
+        // 2. Logs da mesma geração em diante; o último continua recebendo escritas.
+        List<Long> logs = new ArrayList<>();
+        for (long g : generations(directory, WAL_PREFIX, WAL_SUFFIX)) {
+            if (g >= base) {
+                logs.add(g);
+            }
+        }
+        long current = logs.isEmpty() ? Math.max(base, 1) : logs.get(logs.size() - 1);
+        for (long g : logs) {
+            if (g != current) {
+                WriteAheadLog.replay(walPath(directory, g), target);
+            }
+        }
+        WriteAheadLog wal = WriteAheadLog.open(walPath(directory, current), policy, DEFAULT_INTERVAL_MILLIS, 0, target, log);
+
+        TaskStore store = new TaskStore(directory, policy, target, log, wal, current);
+        if (base >= 0) {
+            store.deleteGenerationsBefore(base);
+        }
+        return store;
+    }
+
+    /**
+     * Grava um snapshot de todas as tarefas e descarta o histórico anterior a ele.
+     * As escritas do serviço ficam suspensas apenas durante a troca do segmento de log.
+     * @param service Serviço que escreve neste store.
+     */
+    public void snapshot(TaskService service) throws IOException {
+        synchronized (snapshotLock) {
+            long next = generation + 1;
+            long start = System.nanoTime();
+
+            // 1. Troca o log: tudo que vier depois deste ponto vai para wal-next. O segmento antigo
+            //    é fechado (fsync) antes da troca, então suas posições já são duráveis no novo.
+            WriteAheadLog previous = currentLog;
+            service.runWithWritesPaused(() -> {
+                try {
+                    previous.close();
+                    currentLog = WriteAheadLog.open(walPath(directory, next), policy, DEFAULT_INTERVAL_MILLIS,
+                            previous.appendedPosition(), repository, log);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+
+            // 2. Imagem das tarefas sem bloquear escritores; alterações concorrentes também
+            //    estão em wal-next e reaplicá-las sobre o snapshot leva ao mesmo estado, inclusive
+            //    a versão: cada registro traz a versão resultante, que a reaplicação define em vez
+            //    de contar de novo.
+            List<TaskSnapshot> tasks = repository.snapshotAll();
+            Path temporary = directory.resolve(snapshotPath(directory, next).getFileName() + TEMP_SUFFIX);
+            TaskSnapshotFile.write(temporary, tasks);
+            Files.move(temporary, snapshotPath(directory, next), StandardCopyOption.ATOMIC_MOVE);
+
+            // 3. Compactação: as gerações anteriores não são mais necessárias.
+            generation = next;
+            deleteGenerationsBefore(next);
+            // Em segundo plano há um snapshot a cada poucos megabytes de log: só em DEBUG.
+            if (log.isEnabled(LogLevel.DEBUG)) {
+                log.debug("Snapshot {} gravado: {}", next,
+                        tasks.size() + " tarefas em " + (System.nanoTime() - start) / 1_000_000 + " ms.");
+            }
+        }
+    }
+
+    /**
+     * Agenda snapshots periódicos, feitos apenas quando o log atual passou do tamanho mínimo.
+     * @param service Serviço que escreve neste store.
+     * @param intervalMillis Intervalo entre verificações.
+     * @param minLogBytes Tamanho do log a partir do qual vale a pena compactar.
+     */
+    public synchronized void startBackgroundSnapshots(TaskService service, long intervalMillis, long minLogBytes) {
+        if (snapshotter != null) {
+            return;
+        }
+        snapshotter = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "techflow-snapshotter");
+            t.setDaemon(true);
+            return t;
+        });
+        snapshotter.scheduleWithFixedDelay(() -> {
+            try {
+                if (currentLog.sizeInBytes() >= minLogBytes) {
+                    snapshot(service);
+                }
+            } catch (IOException | RuntimeException e) {
+                log.error("❌ ERRO ao gravar snapshot das tarefas: {}", e.getMessage());
+            }
+        }, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    // --- TaskJournal: delega ao segmento de log atual ---
+
+    @Override
+    public long taskCreated(TaskSnapshot task) {
+        return currentLog.taskCreated(task);
+    }
+
+    @Override
+    public long statusChanged(String id, Task.TaskStatus newStatus, int newVersion) {
+        return currentLog.statusChanged(id, newStatus, newVersion);
+    }
+
+    @Override
+    public long detailsChanged(String id, String newTitle, String newDescription, int newPriority, int newVersion) {
+        return currentLog.detailsChanged(id, newTitle, newDescription, newPriority, newVersion);
+    }
+
+    @Override
+    public long deliveryDateChanged(String id, LocalDate newDeliveryDate, int newVersion) {
+        return currentLog.deliveryDateChanged(id, newDeliveryDate, newVersion);
+    }
+
+    @Override
+    public long taskReplaced(TaskSnapshot task) {
+        return currentLog.taskReplaced(task);
+    }
+
+    @Override
+    public long taskDeleted(String id) {
+        return currentLog.taskDeleted(id);
+    }
+
+    @Override
+    public void awaitDurable(long position) {
+        // Posições de um segmento já fechado são duráveis; o novo segmento continua a numeração.
+        currentLog.awaitDurable(position);
+    }
+
+    @Override
+    public void close() throws IOException {
+        synchronized (this) {
+            if (snapshotter != null) {
+                snapshotter.shutdown();
+            }
+        }
+        synchronized (snapshotLock) {
+            currentLog.close();
+        }
+    }
+
+    // --- Arquivos ---
+
+    private void deleteGenerationsBefore(long keep) throws IOException {
+        for (long g : generations(directory, SNAPSHOT_PREFIX, SNAPSHOT_SUFFIX)) {
+            if (g < keep) {
+                Files.deleteIfExists(snapshotPath(directory, g));
+            }
+        }
+        for (long g : generations(directory, WAL_PREFIX, WAL_SUFFIX)) {
+            if (g < keep) {
+                Files.deleteIfExists(walPath(directory, g));
+            }
+        }
+    }
+
+    private static void deleteTemporaryFiles(Path directory) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                if (file.getFileName().toString().endsWith(TEMP_SUFFIX)) {
+                    Files.deleteIfExists(file);
+                }
+            }
+        }
+    }
+
+    private static List<Long> generations(Path directory, String prefix, String suffix) throws IOException {
+        List<Long> generations = new ArrayList<>();
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                String name = file.getFileName().toString();
+                if (name.startsWith(prefix) && name.endsWith(suffix)) {
+                    try {
+                        generations.add(Long.parseLong(name.substring(prefix.length(), name.length() - suffix.length())));
+                    } catch (NumberFormatException e) {
+                        // Arquivo que não segue o padrão de nomes: não pertence ao store.
+                    }
+                }
+            }
+        }
+        Collections.sort(generations);
+        return generations;
+    }
+
+    private static Path snapshotPath(Path directory, long generation) {
+        return directory.resolve(String.format("%s%012d%s", SNAPSHOT_PREFIX, generation, SNAPSHOT_SUFFIX));
+    }
+
+    private static Path walPath(Path directory, long generation) {
+        return directory.resolve(String.format("%s%012d%s", WAL_PREFIX, generation, WAL_SUFFIX));
+    }
+}
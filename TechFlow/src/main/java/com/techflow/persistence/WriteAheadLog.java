@@ -0,0 +1,481 @@
+package com.techflow.persistence;
+
+import com.techflow.logging.EventLog;
+import com.techflow.model.Task;
+import com.techflow.model.TaskIds;
+import com.techflow.model.TaskJournal;
+import com.techflow.model.TaskRepository;
+import com.techflow.model.TaskSnapshot;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.zip.CRC32;
+
+import static com.techflow.persistence.BinaryFormat.date;
+import static com.techflow.persistence.BinaryFormat.epochDay;
+import static com.techflow.persistence.BinaryFormat.getString;
+import static com.techflow.persistence.BinaryFormat.putId;
+import static com.techflow.persistence.BinaryFormat.putString;
+import static com.techflow.persistence.BinaryFormat.stringSize;
+import static com.techflow.persistence.BinaryFormat.utf8;
+
+/**
+ * Write-ahead log das alterações do TaskService, gravado com FileChannel (NIO).
+ *
+ * Cada alteração vira um registro binário compacto: [tamanho][tipo + dados][CRC32].
+ * Os registros são acumulados em um buffer e gravados em grupo ("group commit"): quem
+ * precisa de durabilidade grava e faz o fsync de todos os registros pendentes de uma vez,
+ * enquanto as outras threads continuam escrevendo no buffer seguinte.
+ *
+ * Na abertura o log é reaplicado sobre um repositório vazio; um registro cortado no meio
+ * (queda durante a escrita) é descartado e o arquivo é truncado no último registro válido.
+ * Uma falha de gravação em execução para o log: os registros seguintes são recusados e quem
+ * espera durabilidade recebe o erro, como se o processo tivesse caído naquele ponto.
+ *
+ * Cada registro termina com a versão da tarefa depois da alteração, que a reaplicação define
+ * (reaplicar sobre um snapshot que já contém a alteração não avança a versão de novo).
+ */
+public class WriteAheadLog implements TaskJournal, Closeable {
+
+    /**
+     * Quando os registros são forçados ao disco (fsync).
+     */
+    public enum FsyncPolicy {
+        ALWAYS,     // Cada operação só retorna após o fsync do seu grupo
+        INTERVAL,   // fsync periódico em segundo plano (perde no máximo um intervalo)
+        NEVER       // Grava periodicamente no SO, sem fsync
+    }
+
+    static final byte PUT_TASK = 1;
+    static final byte SET_STATUS = 2;
+    static final byte SET_DETAILS = 3;
+    static final byte DELETE_TASK = 4;
+    static final byte SET_DELIVERY_DATE = 5;
+
+    private static final int FRAME_OVERHEAD = Integer.BYTES + Integer.BYTES; // tamanho + CRC
+    private static final int MAX_PAYLOAD = 64 * 1024 * 1024;
+    private static final int BUFFER_BYTES = 1 << 20;
+    private static final long DEFAULT_INTERVAL_MILLIS = 20;
+
+    private final FileChannel channel;
+    private final FsyncPolicy policy;
+    private final EventLog log;
+    private final ReentrantLock appendLock = new ReentrantLock();
+    private final Object flushLock = new Object();
+    private final ScheduledExecutorService flusher;
+
+    // Protegidos por appendLock
+    private ByteBuffer active = ByteBuffer.allocateDirect(BUFFER_BYTES);
+    private long appendedPosition;
+    // Protegido por flushLock
+    private ByteBuffer spare = ByteBuffer.allocateDirect(BUFFER_BYTES);
+
+    private volatile long durablePosition;
+    private volatile boolean closed;
+    // Primeira falha ao gravar ou forçar o arquivo. Depois dela o fim do arquivo é incerto (um
+    // grupo pode ter sido gravado pela metade): o log para de aceitar registros e quem espera
+    // durabilidade recebe o erro, em vez de o grupo seguinte ser gravado por cima.
+    private volatile IOException failure;
+
+    private WriteAheadLog(FileChannel channel, FsyncPolicy policy, long intervalMillis, long basePosition,
+                          EventLog log) throws IOException {
+        this.channel = channel;
+        this.policy = policy;
+        this.log = log;
+        // As posições são lógicas: um novo segmento continua a numeração do anterior.
+        this.appendedPosition = basePosition + channel.size();
+        this.durablePosition = appendedPosition;
+        channel.position(channel.size());
+
+        if (policy == FsyncPolicy.ALWAYS) {
+            this.flusher = null;
+        } else {
+            this.flusher = Executors.newSingleThreadScheduledExecutor(r -> {
+                Thread t = new Thread(r, "techflow-wal-flusher");
+                t.setDaemon(true);
+                return t;
+            });
+            boolean sync = policy == FsyncPolicy.INTERVAL;
+            flusher.scheduleWithFixedDelay(() -> flushQuietly(sync), intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Abre (ou cria) o log, reaplica seus registros sobre o repositório e o deixa pronto para novas escritas.
+     * @param path Arquivo do log.
+     * @param policy Política de fsync.
+     * @param target Repositório (vazio) que receberá o estado recuperado.
+     * @return Log pronto para ser usado como TaskJournal.
+     */
+    public static WriteAheadLog open(Path path, FsyncPolicy policy, TaskRepository target) throws IOException {
+        return open(path, policy, DEFAULT_INTERVAL_MILLIS, target);
+    }
+
+    /**
+     * Igual a {@link #open(Path, FsyncPolicy, TaskRepository)}, com o intervalo de gravação em segundo plano.
+     */
+    public static WriteAheadLog open(Path path, FsyncPolicy policy, long intervalMillis, TaskRepository target) throws IOException {
+        return open(path, policy, intervalMillis, 0, target, EventLog.console());
+    }
+
+    /**
+     * Abre um segmento do log cujas posições começam em basePosition (usado pelo TaskStore ao rotacionar).
+     */
+    static WriteAheadLog open(Path path, FsyncPolicy policy, long intervalMillis, long basePosition,
+                              TaskRepository target, EventLog log) throws IOException {
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        return open(channel, policy, intervalMillis, basePosition, target, log);
+    }
+
+    // Sobre um canal já aberto (nos testes, um canal que simula falhas de disco); fecha-o se a abertura falhar.
+    static WriteAheadLog open(FileChannel channel, FsyncPolicy policy, long intervalMillis, long basePosition,
+                              TaskRepository target, EventLog log) throws IOException {
+        try {
+            long validEnd = replay(channel, target);
+            if (validEnd < channel.size()) {
+                log.warn("⚠ Log de tarefas com registro incompleto: descartando {} bytes finais.",
+                        channel.size() - validEnd);
+                channel.truncate(validEnd);
+                channel.force(true);
+            }
+            return new WriteAheadLog(channel, policy, intervalMillis, basePosition, log);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    // --- TaskJournal ---
+
+    @Override
+    public long taskCreated(TaskSnapshot task) {
+        return putTask(task);
+    }
+
+    // A reaplicação de PUT_TASK grava o estado inteiro, com ou sem a tarefa no repositório.
+    @Override
+    public long taskReplaced(TaskSnapshot task) {
+        return putTask(task);
+    }
+
+    private long putTask(TaskSnapshot task) {
+        byte[] title = utf8(task.title());
+        byte[] description = utf8(task.description());
+        ByteBuffer payload = ByteBuffer.allocate(1 + 16 + 1 + 1 + 4 + 4 + stringSize(title) + stringSize(description) + 4);
+        payload.put(PUT_TASK);
+        putId(payload, task.idHigh(), task.idLow());
+        payload.put((byte) task.priority());
+        payload.put((byte) task.status().ordinal());
+        payload.putInt(epochDay(task.createdAt()));
+        payload.putInt(epochDay(task.deliveryDate()));
+        putString(payload, title);
+        putString(payload, description);
+        payload.putInt(task.version());
+        return append(payload);
+    }
+
+    @Override
+    public long statusChanged(String id, Task.TaskStatus newStatus, int newVersion) {
+        ByteBuffer payload = ByteBuffer.allocate(1 + 16 + 1 + 4);
+        payload.put(SET_STATUS);
+        putId(payload, id);
+        payload.put((byte) newStatus.ordinal());
+        payload.putInt(newVersion);
+        return append(payload);
+    }
+
+    @Override
+    public long detailsChanged(String id, String newTitle, String newDescription, int newPriority, int newVersion) {
+        byte[] title = utf8(newTitle);
+        byte[] description = utf8(newDescription);
+        ByteBuffer payload = ByteBuffer.allocate(1 + 16 + 1 + stringSize(title) + stringSize(description) + 4);
+        payload.put(SET_DETAILS);
+        putId(payload, id);
+        payload.put((byte) newPriority);
+        putString(payload, title);
+        putString(payload, description);
+        payload.putInt(newVersion);
+        return append(payload);
+    }
+
+    @Override
+    public long deliveryDateChanged(String id, LocalDate newDeliveryDate, int newVersion) {
+        ByteBuffer payload = ByteBuffer.allocate(1 + 16 + 4 + 4);
+        payload.put(SET_DELIVERY_DATE);
+        putId(payload, id);
+        payload.putInt(epochDay(newDeliveryDate));
+        payload.putInt(newVersion);
+        return append(payload);
+    }
+
+    @Override
+    public long taskDeleted(String id) {
+        ByteBuffer payload = ByteBuffer.allocate(1 + 16);
+        payload.put(DELETE_TASK);
+        putId(payload, id);
+        return append(payload);
+    }
+
+    /**
+     * {@inheritDoc}
+     * @throws UncheckedIOException Se uma gravação do log falhou antes de a posição chegar ao disco.
+     */
+    @Override
+    public void awaitDurable(long position) {
+        if (policy != FsyncPolicy.ALWAYS || durablePosition >= position) {
+            return;
+        }
+        synchronized (flushLock) {
+            // Outro "líder" pode ter gravado este registro enquanto esperávamos a trava.
+            if (durablePosition < position) {
+                flush(true);
+            }
+        }
+    }
+
+    /**
+     * @return Posição lógica após o último registro aceito.
+     */
+    long appendedPosition() {
+        appendLock.lock();
+        try {
+            return appendedPosition;
+        } finally {
+            appendLock.unlock();
+        }
+    }
+
+    /**
+     * @return Tamanho atual do arquivo do log, incluindo registros ainda no buffer.
+     */
+    long sizeInBytes() throws IOException {
+        appendLock.lock();
+        try {
+            return channel.size() + active.position();
+        } finally {
+            appendLock.unlock();
+        }
+    }
+
+    /**
+     * Grava e força ao disco tudo o que foi registrado até agora, e fecha o arquivo.
+     * @throws IOException Se uma gravação anterior falhou (o arquivo é fechado mesmo assim).
+     */
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        if (flusher != null) {
+            flusher.shutdown();
+        }
+        synchronized (flushLock) {
+            try {
+                if (failure == null) {
+                    flush(true);
+                }
+            } finally {
+                channel.close();
+            }
+        }
+        // Um log que falhou não pode ser rotacionado em silêncio (ver TaskStore.snapshot).
+        if (failure != null) {
+            throw new IOException("O log de tarefas parou após uma falha de gravação.", failure);
+        }
+    }
+
+    // --- Escrita ---
+
+    private long append(ByteBuffer payload) {
+        payload.flip();
+        CRC32 crc = new CRC32();
+        crc.update(payload.duplicate());
+        int frameSize = FRAME_OVERHEAD + payload.remaining();
+
+        while (true) {
+            appendLock.lock();
+            try {
+                if (closed) {
+                    throw new IllegalStateException("O log de tarefas já foi fechado.");
+                }
+                if (failure != null) {
+                    throw new IllegalStateException("O log de tarefas parou após uma falha de gravação.", failure);
+                }
+                if (active.position() == 0 && active.capacity() < frameSize) {
+                    active = ByteBuffer.allocateDirect(frameSize);
+                }
+                if (active.remaining() >= frameSize) {
+                    active.putInt(payload.remaining());
+                    active.put(payload);
+                    active.putInt((int) crc.getValue());
+                    appendedPosition += frameSize;
+                    return appendedPosition;
+                }
+            } finally {
+                appendLock.unlock();
+            }
+            // Buffer cheio: grava o grupo atual (sem fsync, a política decide) e tenta de novo.
+            synchronized (flushLock) {
+                flush(false);
+            }
+        }
+    }
+
+    /**
+     * Troca o buffer ativo pelo reserva e grava o antigo no arquivo. Chamado com flushLock.
+     * Escritores só ficam bloqueados durante a troca, não durante a escrita em disco.
+     */
+    private void flush(boolean sync) {
+        if (failure != null) {
+            throw new UncheckedIOException("O log de tarefas parou após uma falha de gravação.", failure);
+        }
+        ByteBuffer pending;
+        long end;
+        appendLock.lock();
+        try {
+            pending = active;
+            active = spare;
+            end = appendedPosition;
+        } finally {
+            appendLock.unlock();
+        }
+        try {
+            pending.flip();
+            while (pending.hasRemaining()) {
+                channel.write(pending);
+            }
+            if (sync) {
+                channel.force(false);
+                durablePosition = end;
+            }
+        } catch (IOException e) {
+            failure = e;
+            throw new UncheckedIOException("Falha ao gravar o log de tarefas.", e);
+        } finally {
+            // Mesmo após uma falha, o reserva nunca pode ser o buffer em que os escritores acrescentam.
+            pending.clear();
+            spare = pending;
+        }
+    }
+
+    private void flushQuietly(boolean sync) {
+        try {
+            synchronized (flushLock) {
+                // Após uma falha o erro já foi registrado uma vez; não repete a cada intervalo.
+                if (!closed && failure == null) {
+                    flush(sync);
+                }
+            }
+        } catch (RuntimeException e) {
+            log.error("❌ ERRO ao gravar o log de tarefas: {}", e.getMessage());
+        }
+    }
+
+    // --- Recuperação ---
+
+    /**
+     * Reaplica um segmento antigo, somente leitura, sobre o repositório.
+     */
+    static void replay(Path path, TaskRepository target) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            replay(channel, target);
+        }
+    }
+
+    /**
+     * Reaplica os registros válidos do arquivo sobre o repositório.
+     * @return Posição do fim do último registro íntegro.
+     */
+    private static long replay(FileChannel channel, TaskRepository target) throws IOException {
+        long size = channel.size();
+        long position = 0;
+        ByteBuffer header = ByteBuffer.allocate(Integer.BYTES);
+        while (position + FRAME_OVERHEAD <= size) {
+            header.clear();
+            readFully(channel, header, position);
+            int length = header.getInt(0);
+            if (length <= 0 || length > MAX_PAYLOAD || position + FRAME_OVERHEAD + length > size) {
+                break;
+            }
+            ByteBuffer frame = ByteBuffer.allocate(length + Integer.BYTES);
+            readFully(channel, frame, position + Integer.BYTES);
+            CRC32 crc = new CRC32();
+            crc.update(frame.array(), 0, length);
+            if ((int) crc.getValue() != frame.getInt(length)) {
+                break;
+            }
+            frame.clear().limit(length);
+            apply(frame, target);
+            position += FRAME_OVERHEAD + length;
+        }
+        return position;
+    }
+
+    private static void apply(ByteBuffer record, TaskRepository target) {
+        byte type = record.get();
+        long high = record.getLong();
+        long low = record.getLong();
+        String id = type == PUT_TASK ? null : TaskIds.format(high, low);
+        switch (type) {
+            case PUT_TASK: {
+                int priority = record.get();
+                Task.TaskStatus status = Task.TaskStatus.values()[record.get()];
+                LocalDate createdAt = date(record.getInt());
+                LocalDate deliveryDate = date(record.getInt());
+                String title = getString(record);
+                String description = getString(record);
+                int version = record.getInt();
+                target.save(Task.restore(
+                        new TaskSnapshot(high, low, title, description, priority, status, createdAt, deliveryDate, version)));
+                break;
+            }
+            case SET_STATUS: {
+                Task.TaskStatus status = Task.TaskStatus.values()[record.get()];
+                int version = record.getInt();
+                target.findById(id).ifPresent(task -> target.save(
+                        Task.restore(task.snapshot().withStatus(status).withVersion(version))));
+                break;
+            }
+            case SET_DETAILS: {
+                int priority = record.get();
+                String title = getString(record);
+                String description = getString(record);
+                int version = record.getInt();
+                target.findById(id).ifPresent(task -> target.save(
+                        Task.restore(task.snapshot().withDetails(title, description, priority).withVersion(version))));
+                break;
+            }
+            case SET_DELIVERY_DATE: {
+                LocalDate deliveryDate = date(record.getInt());
+                int version = record.getInt();
+                target.findById(id).ifPresent(task -> target.save(
+                        Task.restore(task.snapshot().withDeliveryDate(deliveryDate).withVersion(version))));
+                break;
+            }
+            case DELETE_TASK:
+                target.deleteById(id);
+                break;
+            default:
+                throw new IllegalStateException("Tipo de registro desconhecido no log: " + type);
+        }
+    }
+
+    private static void readFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, position + buffer.position()) < 0) {
+                throw new IOException("Fim inesperado do log de tarefas.");
+            }
+        }
+    }
+}
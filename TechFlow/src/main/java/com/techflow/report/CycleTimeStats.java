@@ -0,0 +1,48 @@
+package com.techflow.report;
+
+/**
+ * Distribuição do tempo de ciclo das tarefas concluídas de uma prioridade, em dias.
+ *
+ * @param priority Prioridade (1 a 5).
+ * @param count Tarefas concluídas com data de entrega.
+ * @param meanDays Média exata, em dias; 0 se não houver tarefas.
+ * @param medianDays Mediana, em dias (limitada a TaskReport.MAX_CYCLE_DAYS).
+ * @param p90Days Percentil 90, em dias (limitado a TaskReport.MAX_CYCLE_DAYS).
+ * @param histogram histogram[d] = tarefas com ciclo de d dias; a última posição soma os ciclos maiores.
+ */
+public record CycleTimeStats(int priority, long count, double meanDays, int medianDays, int p90Days, long[] histogram) {
+
+    static CycleTimeStats of(int priority, long[] histogram, long daysSum) {
+        long count = 0;
+        for (long tasks : histogram) {
+            count += tasks;
+        }
+        double mean = count == 0 ? 0 : (double) daysSum / count;
+        return new CycleTimeStats(priority, count, mean, percentile(histogram, count, 50), percentile(histogram, count, 90),
+                histogram.clone());
+    }
+
+    /**
+     * @return Cópia do histograma.
+     */
+    @Override
+    public long[] histogram() {
+        return histogram.clone();
+    }
+
+    // Menor número de dias que cobre ao menos percent% das tarefas.
+    private static int percentile(long[] histogram, long count, int percent) {
+        if (count == 0) {
+            return 0;
+        }
+        long target = (count * percent + 99) / 100;
+        long seen = 0;
+        for (int days = 0; days < histogram.length; days++) {
+            seen += histogram[days];
+            if (seen >= target) {
+                return days;
+            }
+        }
+        return histogram.length - 1;
+    }
+}
@@ -0,0 +1,100 @@
+package com.techflow.report;
+
+import com.techflow.model.Task;
+import com.techflow.model.TaskSnapshot;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+
+/**
+ * Acumulador de um relatório, só com arrays e contadores primitivos (nada é encaixotado por tarefa).
+ * Cada parte de um stream paralelo recebe o seu; no fim as partes são somadas com merge().
+ */
+final class ReportAccumulator {
+
+    private static final int PRIORITIES = Task.MAX_PRIORITY - Task.MIN_PRIORITY + 1;
+
+    private final long today;
+    private long total;
+    // Ciclo (dias da criação até a entrega das concluídas): histograma por prioridade e soma exata.
+    private final long[][] cycleHistogram = new long[PRIORITIES][TaskReport.MAX_CYCLE_DAYS + 1];
+    private final long[] cycleDaysSum = new long[PRIORITIES];
+    // Tarefas com data de entrega e, entre elas, as atrasadas, por prioridade.
+    private final long[] withDeliveryDate = new long[PRIORITIES];
+    private final long[] overdue = new long[PRIORITIES];
+    // Criações por dia: counts[i] conta o epoch-day firstDay + i; cresce para os dois lados.
+    private long firstDay;
+    private long[] createdPerDay = new long[0];
+
+    ReportAccumulator(LocalDate today) {
+        this.today = today.toEpochDay();
+    }
+
+    void add(TaskSnapshot task) {
+        total++;
+        int p = task.priority() - Task.MIN_PRIORITY;
+        LocalDate createdAt = task.createdAt();
+        LocalDate deliveryDate = task.deliveryDate();
+        if (createdAt != null) {
+            addCreated(createdAt.toEpochDay(), 1);
+        }
+        if (deliveryDate == null) {
+            return;
+        }
+        long delivery = deliveryDate.toEpochDay();
+        withDeliveryDate[p]++;
+        if (task.status() == Task.TaskStatus.DONE) {
+            if (createdAt != null) {
+                long days = Math.max(0, delivery - createdAt.toEpochDay());
+                cycleHistogram[p][(int) Math.min(days, TaskReport.MAX_CYCLE_DAYS)]++;
+                cycleDaysSum[p] += days;
+            }
+        } else if (delivery < today) {
+            overdue[p]++;
+        }
+    }
+
+    ReportAccumulator merge(ReportAccumulator other) {
+        total += other.total;
+        for (int p = 0; p < PRIORITIES; p++) {
+            for (int d = 0; d <= TaskReport.MAX_CYCLE_DAYS; d++) {
+                cycleHistogram[p][d] += other.cycleHistogram[p][d];
+            }
+            cycleDaysSum[p] += other.cycleDaysSum[p];
+            withDeliveryDate[p] += other.withDeliveryDate[p];
+            overdue[p] += other.overdue[p];
+        }
+        for (int i = 0; i < other.createdPerDay.length; i++) {
+            if (other.createdPerDay[i] != 0) {
+                addCreated(other.firstDay + i, other.createdPerDay[i]);
+            }
+        }
+        return this;
+    }
+
+    TaskReport toReport() {
+        CycleTimeStats[] cycleTimes = new CycleTimeStats[PRIORITIES];
+        for (int p = 0; p < PRIORITIES; p++) {
+            cycleTimes[p] = CycleTimeStats.of(p + Task.MIN_PRIORITY, cycleHistogram[p], cycleDaysSum[p]);
+        }
+        return new TaskReport(LocalDate.ofEpochDay(today), total, cycleTimes, firstDay, createdPerDay,
+                withDeliveryDate.clone(), overdue.clone());
+    }
+
+    private void addCreated(long day, long count) {
+        if (createdPerDay.length == 0) {
+            firstDay = day;
+            createdPerDay = new long[16];
+        } else if (day < firstDay) {
+            // Abre espaço à esquerda (ao menos dobrando), sem perder as contagens já feitas.
+            int shift = (int) Math.max(firstDay - day, createdPerDay.length);
+            long[] grown = new long[createdPerDay.length + shift];
+            System.arraycopy(createdPerDay, 0, grown, shift, createdPerDay.length);
+            createdPerDay = grown;
+            firstDay -= shift;
+        } else if (day - firstDay >= createdPerDay.length) {
+            createdPerDay = Arrays.copyOf(createdPerDay, (int) Math.max(day - firstDay + 1, 2L * createdPerDay.length));
+        }
+        createdPerDay[(int) (day - firstDay)] += count;
+    }
+}
@@ -0,0 +1,88 @@
+package com.techflow.report;
+
+import com.techflow.model.Task;
+import com.techflow.model.TaskService;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.stream.Stream;
+
+/**
+ * Gera os relatórios gerenciais (TaskReport) com um stream paralelo em um ForkJoinPool próprio:
+ * as tarefas são divididas entre as threads, cada parte soma em um ReportAccumulator de arrays
+ * primitivos e as partes são combinadas no fim. Não trava o TaskService; cada tarefa é lida por
+ * um único snapshot(), de modo que seus campos vêm sempre do mesmo instante.
+ *
+ * Relatórios não disputam threads com o pool comum (usado por CompletableFuture.supplyAsync sem executor).
+ */
+public final class ReportEngine implements AutoCloseable {
+
+    private final ForkJoinPool pool;
+
+    /**
+     * Cria o motor com uma thread por processador.
+     */
+    public ReportEngine() {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * @param parallelism Threads do pool (threads daemon "techflow-report-N").
+     */
+    public ReportEngine(int parallelism) {
+        this.pool = new ForkJoinPool(parallelism, pool -> {
+            ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+            thread.setName("techflow-report-" + thread.getPoolIndex());
+            thread.setDaemon(true);
+            return thread;
+        }, null, false);
+    }
+
+    /**
+     * Relatório sobre as tarefas do serviço, percorridas com streamTasks() sem copiar a lista.
+     * Exige um repositório que admita leitura em outras threads (ex.: TaskService.concurrent());
+     * para os demais, use generateAsync(Collection, LocalDate) com a lista obtida na thread do serviço.
+     * @param today Data de referência para os atrasos.
+     */
+    public TaskReport generate(TaskService service, LocalDate today) {
+        return run(service.streamTasks(), today).join();
+    }
+
+    /**
+     * Relatório sobre uma lista de tarefas já obtida (ex.: AsyncTaskService.getAllTasks()).
+     * @param today Data de referência para os atrasos.
+     */
+    public TaskReport generate(Collection<Task> tasks, LocalDate today) {
+        return generateAsync(tasks, today).join();
+    }
+
+    /**
+     * Como generate(Collection, LocalDate), sem bloquear quem chama (ex.: a EDT do Swing).
+     */
+    public CompletableFuture<TaskReport> generateAsync(Collection<Task> tasks, LocalDate today) {
+        return run(tasks.stream(), today);
+    }
+
+    /**
+     * @return Threads usadas pelo motor.
+     */
+    public int parallelism() {
+        return pool.getParallelism();
+    }
+
+    @Override
+    public void close() {
+        pool.shutdown();
+    }
+
+    // Um stream paralelo iniciado dentro do pool usa as threads dele, e não as do pool comum.
+    private CompletableFuture<TaskReport> run(Stream<Task> tasks, LocalDate today) {
+        return CompletableFuture.supplyAsync(() -> tasks.parallel()
+                .map(Task::snapshot)
+                .collect(() -> new ReportAccumulator(today), ReportAccumulator::add, ReportAccumulator::merge)
+                .toReport(), pool);
+    }
+}
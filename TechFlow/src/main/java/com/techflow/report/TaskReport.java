@@ -0,0 +1,122 @@
+package com.techflow.report;
+
+import com.techflow.model.Task;
+
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+ * Relatório gerencial do quadro em uma data de referência (ver ReportEngine):
+ * tempo de ciclo por prioridade, tarefas criadas por dia e proporção de atrasadas.
+ *
+ * O tempo de ciclo de uma tarefa concluída vai da data de criação até a data de entrega;
+ * a tarefa não guarda a data em que foi concluída. Atrasada é a tarefa não concluída cuja
+ * entrega já passou (como em TaskService.findOverdue).
+ */
+public final class TaskReport {
+
+    /**
+     * Maior ciclo com posição própria no histograma; ciclos maiores somam na última posição.
+     */
+    public static final int MAX_CYCLE_DAYS = 365;
+
+    private final LocalDate today;
+    private final long total;
+    private final CycleTimeStats[] cycleTimes;
+    private final long firstCreatedDay;
+    private final long[] createdPerDay;
+    private final long[] withDeliveryDate;
+    private final long[] overdue;
+
+    TaskReport(LocalDate today, long total, CycleTimeStats[] cycleTimes, long firstCreatedDay, long[] createdPerDay,
+               long[] withDeliveryDate, long[] overdue) {
+        this.today = today;
+        this.total = total;
+        this.cycleTimes = cycleTimes;
+        this.firstCreatedDay = firstCreatedDay;
+        this.createdPerDay = createdPerDay;
+        this.withDeliveryDate = withDeliveryDate;
+        this.overdue = overdue;
+    }
+
+    /**
+     * @return Data de referência usada para decidir o que está atrasado.
+     */
+    public LocalDate today() {
+        return today;
+    }
+
+    /**
+     * @return Tarefas consideradas no relatório.
+     */
+    public long total() {
+        return total;
+    }
+
+    /**
+     * @return Distribuição do tempo de ciclo das tarefas concluídas da prioridade.
+     */
+    public CycleTimeStats cycleTime(int priority) {
+        return cycleTimes[index(priority)];
+    }
+
+    /**
+     * @return Tarefas criadas por dia, em ordem de data; dias sem criações não aparecem.
+     */
+    public NavigableMap<LocalDate, Long> createdPerDay() {
+        NavigableMap<LocalDate, Long> days = new TreeMap<>();
+        for (int i = 0; i < createdPerDay.length; i++) {
+            if (createdPerDay[i] != 0) {
+                days.put(LocalDate.ofEpochDay(firstCreatedDay + i), createdPerDay[i]);
+            }
+        }
+        return Collections.unmodifiableNavigableMap(days);
+    }
+
+    /**
+     * @return Tarefas da prioridade com data de entrega definida.
+     */
+    public long withDeliveryDate(int priority) {
+        return withDeliveryDate[index(priority)];
+    }
+
+    /**
+     * @return Tarefas da prioridade atrasadas na data de referência.
+     */
+    public long overdue(int priority) {
+        return overdue[index(priority)];
+    }
+
+    /**
+     * @return Atrasadas / tarefas com data de entrega, na prioridade; 0 se nenhuma tiver data.
+     */
+    public double overdueRatio(int priority) {
+        return ratio(overdue(priority), withDeliveryDate(priority));
+    }
+
+    /**
+     * @return Atrasadas / tarefas com data de entrega, no quadro inteiro; 0 se nenhuma tiver data.
+     */
+    public double overdueRatio() {
+        long dated = 0;
+        long late = 0;
+        for (int i = 0; i < overdue.length; i++) {
+            dated += withDeliveryDate[i];
+            late += overdue[i];
+        }
+        return ratio(late, dated);
+    }
+
+    private static double ratio(long part, long whole) {
+        return whole == 0 ? 0 : (double) part / whole;
+    }
+
+    private static int index(int priority) {
+        if (priority < Task.MIN_PRIORITY || priority > Task.MAX_PRIORITY) {
+            throw new IllegalArgumentException("A prioridade deve ser entre 1 e 5.");
+        }
+        return priority - Task.MIN_PRIORITY;
+    }
+}
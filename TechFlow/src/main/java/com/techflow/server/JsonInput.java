@@ -0,0 +1,180 @@
+package com.techflow.server;
+
+/**
+ * Leitor de JSON por percurso (sem árvore e sem reflexão) para os corpos das requisições:
+ * quem chama pede o próximo nome, string, número ou null, na ordem em que aparecem.
+ * Erros de sintaxe viram IllegalArgumentException, respondida como 400 pelo servidor.
+ */
+final class JsonInput {
+
+    private final String text;
+    private int position;
+    // Verdadeiro logo após '{' ou '[': o primeiro membro não é precedido de vírgula.
+    private boolean first;
+
+    JsonInput(String text) {
+        this.text = text;
+    }
+
+    void beginObject() {
+        expect('{');
+        first = true;
+    }
+
+    /**
+     * @return true se o objeto atual ainda tem membros; consome a vírgula entre eles.
+     */
+    boolean hasNext() {
+        skipWhitespace();
+        if (position < text.length() && text.charAt(position) == '}') {
+            return false;
+        }
+        if (!first) {
+            expect(',');
+        }
+        first = false;
+        return true;
+    }
+
+    void endObject() {
+        expect('}');
+    }
+
+    String nextName() {
+        String name = nextString();
+        expect(':');
+        return name;
+    }
+
+    /**
+     * @return true (e consome o valor) se o próximo valor é null.
+     */
+    boolean nextIsNull() {
+        skipWhitespace();
+        if (text.startsWith("null", position)) {
+            position += 4;
+            return true;
+        }
+        return false;
+    }
+
+    String nextString() {
+        skipWhitespace();
+        if (position >= text.length() || text.charAt(position) != '"') {
+            throw error("texto entre aspas");
+        }
+        int start = ++position;
+        // Caminho rápido: sem escapes, o texto é um único substring.
+        while (position < text.length()) {
+            char c = text.charAt(position);
+            if (c == '"') {
+                return text.substring(start, position++);
+            }
+            if (c == '\\') {
+                break;
+            }
+            if (c < 0x20) {
+                throw error("texto sem caracteres de controle");
+            }
+            position++;
+        }
+        StringBuilder value = new StringBuilder(position - start + 16).append(text, start, position);
+        while (position < text.length()) {
+            char c = text.charAt(position++);
+            if (c == '"') {
+                return value.toString();
+            }
+            if (c != '\\') {
+                if (c < 0x20) {
+                    throw error("texto sem caracteres de controle");
+                }
+                value.append(c);
+                continue;
+            }
+            if (position >= text.length()) {
+                break;
+            }
+            char escaped = text.charAt(position++);
+            switch (escaped) {
+                case '"', '\\', '/' -> value.append(escaped);
+                case 'n' -> value.append('\n');
+                case 'r' -> value.append('\r');
+                case 't' -> value.append('\t');
+                case 'b' -> value.append('\b');
+                case 'f' -> value.append('\f');
+                case 'u' -> value.append(unicodeEscape());
+                default -> throw error("escape válido");
+            }
+        }
+        throw error("fim do texto (\")");
+    }
+
+    long nextLong() {
+        skipWhitespace();
+        int start = position;
+        if (position < text.length() && text.charAt(position) == '-') {
+            position++;
+        }
+        long value = 0;
+        int digits = 0;
+        while (position < text.length() && text.charAt(position) >= '0' && text.charAt(position) <= '9') {
+            if (++digits > 18) {
+                throw error("número menor");
+            }
+            value = value * 10 + (text.charAt(position++) - '0');
+        }
+        if (digits == 0 || (position < text.length() && (text.charAt(position) == '.'
+                || text.charAt(position) == 'e' || text.charAt(position) == 'E'))) {
+            position = start;
+            throw error("número inteiro");
+        }
+        return text.charAt(start) == '-' ? -value : value;
+    }
+
+    /**
+     * Confirma que nada além de espaços segue o valor lido.
+     */
+    void end() {
+        skipWhitespace();
+        if (position != text.length()) {
+            throw error("fim do JSON");
+        }
+    }
+
+    private char unicodeEscape() {
+        if (position + 4 > text.length()) {
+            throw error("4 dígitos hexadecimais");
+        }
+        int code = 0;
+        for (int i = 0; i < 4; i++) {
+            int digit = Character.digit(text.charAt(position++), 16);
+            if (digit < 0) {
+                throw error("4 dígitos hexadecimais");
+            }
+            code = code * 16 + digit;
+        }
+        return (char) code;
+    }
+
+    private void expect(char c) {
+        skipWhitespace();
+        if (position >= text.length() || text.charAt(position) != c) {
+            throw error("'" + c + "'");
+        }
+        position++;
+    }
+
+    private void skipWhitespace() {
+        while (position < text.length()) {
+            char c = text.charAt(position);
+            if (c != ' ' && c != '\n' && c != '\r' && c != '\t') {
+                return;
+            }
+            position++;
+        }
+    }
+
+    private IllegalArgumentException error(String expected) {
+        return new IllegalArgumentException("JSON inválido na posição " + position + ": esperado " + expected + ".");
+    }
+}
@@ -0,0 +1,206 @@
+package com.techflow.server;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Escritor de JSON direto para bytes UTF-8, sem reflexão e sem montar Strings intermediárias:
+ * cada resposta ocupa um único array, que cresce por dobra e é enviado de uma vez.
+ * As vírgulas entre membros são controladas por um bit por nível de aninhamento (até 64 níveis).
+ */
+final class JsonOutput {
+
+    private static final byte[] HEX = "0123456789abcdef".getBytes(StandardCharsets.US_ASCII);
+
+    private byte[] bytes = new byte[256];
+    private int size;
+    private int depth;
+    // Bit n ligado: o container do nível n já tem um membro (o próximo precisa de vírgula).
+    private long hasMembers;
+    private boolean afterName;
+
+    JsonOutput beginObject() {
+        return open('{');
+    }
+
+    JsonOutput endObject() {
+        return close('}');
+    }
+
+    JsonOutput beginArray() {
+        return open('[');
+    }
+
+    JsonOutput endArray() {
+        return close(']');
+    }
+
+    JsonOutput name(String name) {
+        separate();
+        quoted(name);
+        write(':');
+        afterName = true;
+        return this;
+    }
+
+    JsonOutput value(String value) {
+        if (value == null) {
+            return nullValue();
+        }
+        separate();
+        quoted(value);
+        return this;
+    }
+
+    JsonOutput value(long value) {
+        separate();
+        if (value == Long.MIN_VALUE) {
+            ascii(Long.toString(value));
+            return this;
+        }
+        if (value < 0) {
+            write('-');
+            value = -value;
+        }
+        // Dígitos escritos do fim para o começo, direto no array.
+        int digits = 1;
+        for (long rest = value / 10; rest != 0; rest /= 10) {
+            digits++;
+        }
+        ensure(digits);
+        for (int i = size + digits - 1; i >= size; i--) {
+            bytes[i] = (byte) ('0' + value % 10);
+            value /= 10;
+        }
+        size += digits;
+        return this;
+    }
+
+    JsonOutput value(boolean value) {
+        separate();
+        ascii(value ? "true" : "false");
+        return this;
+    }
+
+    JsonOutput nullValue() {
+        separate();
+        ascii("null");
+        return this;
+    }
+
+    int size() {
+        return size;
+    }
+
+    void writeTo(OutputStream out) throws IOException {
+        out.write(bytes, 0, size);
+    }
+
+    @Override
+    public String toString() {
+        return new String(bytes, 0, size, StandardCharsets.UTF_8);
+    }
+
+    private JsonOutput open(char bracket) {
+        separate();
+        write(bracket);
+        depth++;
+        hasMembers &= ~(1L << depth);
+        return this;
+    }
+
+    private JsonOutput close(char bracket) {
+        depth--;
+        write(bracket);
+        return this;
+    }
+
+    // Vírgula antes de um membro que não é o primeiro; o valor logo após um nome não leva vírgula.
+    private void separate() {
+        if (afterName) {
+            afterName = false;
+            return;
+        }
+        long bit = 1L << depth;
+        if ((hasMembers & bit) != 0) {
+            write(',');
+        }
+        hasMembers |= bit;
+    }
+
+    private void quoted(String text) {
+        ensure(text.length() + 2);
+        bytes[size++] = '"';
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c >= 0x20 && c < 0x80 && c != '"' && c != '\\') {
+                ensure(1);
+                bytes[size++] = (byte) c;
+            } else if (c == '"' || c == '\\') {
+                write('\\');
+                write(c);
+            } else if (c < 0x20) {
+                escapeControl(c);
+            } else if (c < 0x800) {
+                ensure(2);
+                bytes[size++] = (byte) (0xC0 | (c >> 6));
+                bytes[size++] = (byte) (0x80 | (c & 0x3F));
+            } else if (Character.isHighSurrogate(c) && i + 1 < text.length() && Character.isLowSurrogate(text.charAt(i + 1))) {
+                int codePoint = Character.toCodePoint(c, text.charAt(++i));
+                ensure(4);
+                bytes[size++] = (byte) (0xF0 | (codePoint >> 18));
+                bytes[size++] = (byte) (0x80 | ((codePoint >> 12) & 0x3F));
+                bytes[size++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+                bytes[size++] = (byte) (0x80 | (codePoint & 0x3F));
+            } else if (Character.isSurrogate(c)) {
+                // Surrogate sem par: não é um caractere válido; vira o caractere de substituição.
+                quotedChar('\uFFFD');
+            } else {
+                quotedChar(c);
+            }
+        }
+        write('"');
+    }
+
+    private void quotedChar(char c) {
+        ensure(3);
+        bytes[size++] = (byte) (0xE0 | (c >> 12));
+        bytes[size++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+        bytes[size++] = (byte) (0x80 | (c & 0x3F));
+    }
+
+    private void escapeControl(char c) {
+        switch (c) {
+            case '\n' -> ascii("\\n");
+            case '\r' -> ascii("\\r");
+            case '\t' -> ascii("\\t");
+            case '\b' -> ascii("\\b");
+            case '\f' -> ascii("\\f");
+            default -> {
+                ascii("\\u00");
+                write((char) HEX[c >> 4]);
+                write((char) HEX[c & 0xF]);
+            }
+        }
+    }
+
+    private void ascii(String text) {
+        ensure(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            bytes[size++] = (byte) text.charAt(i);
+        }
+    }
+
+    private void write(char c) {
+        ensure(1);
+        bytes[size++] = (byte) c;
+    }
+
+    private void ensure(int extra) {
+        if (size + extra > bytes.length) {
+            bytes = Arrays.copyOf(bytes, Math.max(bytes.length * 2, size + extra));
+        }
+    }
+}
@@ -0,0 +1,489 @@
+package com.techflow.server;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import com.techflow.logging.EventLog;
+import com.techflow.model.Task;
+import com.techflow.model.TaskCursor;
+import com.techflow.model.TaskIds;
+import com.techflow.model.TaskPage;
+import com.techflow.model.TaskService;
+import com.techflow.model.TaskSnapshot;
+import com.techflow.model.UpdateResult;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * API HTTP/JSON sobre o TaskService, para integração com os sistemas de despacho, usando o
+ * servidor embutido do JDK (com.sun.net.httpserver). O JSON é escrito e lido à mão (JsonOutput,
+ * JsonInput), direto em bytes, sem reflexão.
+ *
+ * Rotas:
+ * - GET    /tasks?limit=N&after=CURSOR          página da listagem (prioridade decrescente), com "next"
+ * - GET    /tasks?status=TO_DO|IN_PROGRESS|DONE tarefas de um status
+ * - GET    /tasks?prefix=ab12                   busca por ID parcial (ex.: os 4 dígitos exibidos)
+ * - GET    /tasks?q=entreg+sao                  busca textual
+ * - GET    /tasks?overdue=AAAA-MM-DD            atrasadas na data (vazio = hoje)
+ * - GET    /tasks?dueFrom=AAAA-MM-DD&dueTo=AAAA-MM-DD  entregas no intervalo
+ * - GET    /tasks/{id}                          uma tarefa
+ * - POST   /tasks                               cria: {"title","description","priority","deliveryDate"}
+ * - PATCH  /tasks/{id}                          altera qualquer um de: status, title, description, priority, deliveryDate
+ *                                               (com "version": só se a tarefa ainda estiver nela; senão 409)
+ * - DELETE /tasks/{id}                          exclui
+ *
+ * Cada requisição roda em uma thread virtual quando a JVM oferece (Java 21+); no Java 17 usa um
+ * pool fixo de threads de plataforma. Para repositórios que não são thread-safe, passe um executor
+ * de uma única thread.
+ */
+public final class TaskHttpServer implements AutoCloseable {
+
+    static final int DEFAULT_LIMIT = 100;
+    static final int MAX_LIMIT = 1_000;
+    private static final int PLATFORM_THREADS = 64;
+    // Fila de conexões aceitas pelo SO; o padrão (50) recusa conexões em rajadas de carga.
+    private static final int BACKLOG = 1_024;
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final TaskService service;
+    private final EventLog log;
+
+    private TaskHttpServer(TaskService service, InetSocketAddress address, ExecutorService executor) throws IOException {
+        this.service = service;
+        this.executor = executor;
+        this.log = service.getEventLog();
+        this.server = HttpServer.create(address, BACKLOG);
+        server.createContext("/tasks", this::handle);
+        server.setExecutor(executor);
+        server.start();
+    }
+
+    /**
+     * Inicia o servidor com uma thread (virtual, quando disponível) por requisição.
+     * @param address Endereço e porta; porta 0 escolhe uma porta livre (ver port()).
+     */
+    public static TaskHttpServer start(TaskService service, InetSocketAddress address) throws IOException {
+        return new TaskHttpServer(service, address, requestExecutor());
+    }
+
+    /**
+     * Inicia o servidor com um executor específico (ex.: uma única thread para o repositório mapeado).
+     * O executor é encerrado em close().
+     */
+    public static TaskHttpServer start(TaskService service, InetSocketAddress address, ExecutorService executor)
+            throws IOException {
+        return new TaskHttpServer(service, address, executor);
+    }
+
+    /**
+     * @return Porta em que o servidor atende.
+     */
+    public int port() {
+        return server.getAddress().getPort();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdown();
+    }
+
+    private static ExecutorService requestExecutor() {
+        try {
+            // Java 21+: uma thread virtual por requisição; chamado por reflexão porque o build mira o Java 17.
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            AtomicInteger counter = new AtomicInteger();
+            ThreadFactory factory = runnable -> {
+                Thread thread = new Thread(runnable, "techflow-http-" + counter.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            };
+            return Executors.newFixedThreadPool(PLATFORM_THREADS, factory);
+        }
+    }
+
+    // --- Roteamento ---
+
+    private void handle(HttpExchange exchange) throws IOException {
+        Response response;
+        try {
+            response = route(exchange);
+        } catch (IllegalArgumentException e) {
+            response = error(400, e.getMessage());
+        } catch (RuntimeException e) {
+            log.error("❌ ERRO na requisição HTTP {}: {}", exchange.getRequestMethod() + " " + exchange.getRequestURI(), e);
+            response = error(500, "Erro interno.");
+        }
+        try {
+            send(exchange, response);
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private Response route(HttpExchange exchange) throws IOException {
+        String path = exchange.getRequestURI().getRawPath();
+        String rest = path.length() > "/tasks".length() ? path.substring("/tasks".length() + 1) : "";
+        String method = exchange.getRequestMethod();
+        if (rest.isEmpty()) {
+            return switch (method) {
+                case "GET" -> list(parseQuery(exchange.getRequestURI().getRawQuery()));
+                case "POST" -> create(readBody(exchange));
+                default -> methodNotAllowed(exchange, "GET, POST");
+            };
+        }
+        if (!path.startsWith("/tasks/") || rest.indexOf('/') >= 0) {
+            return error(404, "Rota não encontrada.");
+        }
+        String id = URLDecoder.decode(rest, StandardCharsets.UTF_8);
+        return switch (method) {
+            case "GET" -> get(id);
+            case "PATCH" -> update(id, readBody(exchange));
+            case "DELETE" -> delete(id);
+            default -> methodNotAllowed(exchange, "GET, PATCH, DELETE");
+        };
+    }
+
+    // --- Operações ---
+
+    private Response get(String id) {
+        return service.getTaskById(id)
+                .map(task -> ok(200, task(new JsonOutput(), task.snapshot())))
+                .orElseGet(() -> notFound(id));
+    }
+
+    private Response list(Map<String, String> query) {
+        int limit = limit(query.get("limit"));
+        String filter = null;
+        for (String name : List.of("status", "prefix", "q", "overdue", "dueFrom")) {
+            if (query.containsKey(name)) {
+                if (filter != null) {
+                    throw new IllegalArgumentException("Use um filtro por vez (" + filter + " e " + name + ").");
+                }
+                filter = name;
+            }
+        }
+        if (filter == null && query.containsKey("dueTo")) {
+            throw new IllegalArgumentException("dueTo exige dueFrom.");
+        }
+        if (filter == null) {
+            TaskPage page = service.getTaskPage(cursor(query.get("after")), limit);
+            JsonOutput json = new JsonOutput().beginObject().name("tasks");
+            tasks(json, page.tasks(), limit);
+            json.name("next").value(page.hasNext() ? token(page.next()) : null);
+            return ok(200, json.endObject());
+        }
+        List<Task> found = switch (filter) {
+            case "status" -> service.findByStatus(status(query.get("status")));
+            case "prefix" -> service.findByIdPrefix(query.get("prefix"));
+            case "q" -> service.search(query.get("q"), limit);
+            case "overdue" -> service.findOverdue(query.get("overdue").isEmpty() ? LocalDate.now() : date(query.get("overdue")));
+            default -> service.findDueBetween(date(query.get("dueFrom")),
+                    query.containsKey("dueTo") ? date(query.get("dueTo")) : LocalDate.MAX);
+        };
+        JsonOutput json = new JsonOutput().beginObject().name("tasks");
+        tasks(json, found, limit);
+        json.name("count").value(found.size());
+        return ok(200, json.endObject());
+    }
+
+    private Response create(String body) {
+        TaskFields fields = TaskFields.parse(body);
+        if (fields.title == null || fields.priority == null) {
+            throw new IllegalArgumentException("Informe title e priority.");
+        }
+        Task task = service.createTask(fields.title, fields.description, fields.priority, fields.deliveryDate);
+        if (task == null) {
+            return error(422, "Título vazio ou prioridade fora de 1 a 5.");
+        }
+        return ok(201, task(new JsonOutput(), task.snapshot()));
+    }
+
+    // Cada campo é uma operação do serviço: a alteração não é atômica entre campos.
+    private Response update(String id, String body) {
+        TaskFields fields = TaskFields.parse(body);
+        Optional<Task> existing = service.getTaskById(id);
+        if (existing.isEmpty()) {
+            return notFound(id);
+        }
+        if (fields.version != null) {
+            return updateIfVersion(id, fields, existing.get().snapshot());
+        }
+        if (fields.title != null || fields.hasDescription || fields.priority != null) {
+            TaskSnapshot current = existing.get().snapshot();
+            boolean updated = service.updateTaskDetails(id,
+                    fields.title != null ? fields.title : current.title(),
+                    fields.hasDescription ? fields.description : current.description(),
+                    fields.priority != null ? fields.priority : current.priority());
+            if (!updated) {
+                return service.getTaskById(id).isEmpty()
+                        ? notFound(id)
+                        : error(422, "Título vazio ou prioridade fora de 1 a 5.");
+            }
+        }
+        if (fields.status != null && !service.updateTaskStatus(id, fields.status)) {
+            return notFound(id);
+        }
+        if (fields.hasDeliveryDate && !service.updateTaskDeliveryDate(id, fields.deliveryDate)) {
+            return notFound(id);
+        }
+        return get(id);
+    }
+
+    // Atualização condicional: todos os campos em um único CAS (TaskService.updateTask). Os campos
+    // ausentes vêm do estado lido, que é o da versão esperada; se ela mudou, nada é aplicado.
+    private Response updateIfVersion(String id, TaskFields fields, TaskSnapshot current) {
+        int version = fields.version;
+        if (current.version() != version) {
+            return conflict(current, "A tarefa foi alterada por outra pessoa (versão esperada " + version
+                    + ", atual " + current.version() + ").");
+        }
+        UpdateResult result = service.updateTask(id,
+                fields.title != null ? fields.title : current.title(),
+                fields.hasDescription ? fields.description : current.description(),
+                fields.priority != null ? fields.priority : current.priority(),
+                fields.status != null ? fields.status : current.status(),
+                fields.hasDeliveryDate ? fields.deliveryDate : current.deliveryDate(), version);
+        return result.applied() ? ok(200, task(new JsonOutput(), result.task())) : rejected(id, result);
+    }
+
+    private static Response rejected(String id, UpdateResult result) {
+        return switch (result.outcome()) {
+            case CONFLICT -> conflict(result.task(), result.error());
+            case NOT_FOUND -> notFound(id);
+            default -> error(422, result.error());
+        };
+    }
+
+    // 409 com o estado atual, para o cliente mostrar a diferença ou tentar de novo com a versão nova.
+    private static Response conflict(TaskSnapshot current, String message) {
+        JsonOutput json = new JsonOutput().beginObject().name("error").value(message).name("task");
+        return new Response(409, task(json, current).endObject());
+    }
+
+    private Response delete(String id) {
+        return service.deleteTask(id) ? new Response(204, null) : notFound(id);
+    }
+
+    // --- JSON das tarefas ---
+
+    // Um snapshot por tarefa: todos os campos do mesmo instante.
+    static JsonOutput task(JsonOutput json, TaskSnapshot task) {
+        return json.beginObject()
+                .name("id").value(task.id())
+                .name("shortId").value(TaskIds.shortId(task.idHigh()))
+                .name("title").value(task.title())
+                .name("description").value(task.description())
+                .name("priority").value(task.priority())
+                .name("status").value(task.status().name())
+                .name("createdAt").value(task.createdAt() == null ? null : task.createdAt().toString())
+                .name("deliveryDate").value(task.deliveryDate() == null ? null : task.deliveryDate().toString())
+                .name("version").value(task.version())
+                .endObject();
+    }
+
+    private static void tasks(JsonOutput json, List<Task> tasks, int limit) {
+        json.beginArray();
+        int count = Math.min(limit, tasks.size());
+        for (int i = 0; i < count; i++) {
+            task(json, tasks.get(i).snapshot());
+        }
+        json.endArray();
+    }
+
+    // --- Parâmetros ---
+
+    static Map<String, String> parseQuery(String rawQuery) {
+        Map<String, String> query = new HashMap<>();
+        if (rawQuery == null || rawQuery.isEmpty()) {
+            return query;
+        }
+        int start = 0;
+        while (start <= rawQuery.length()) {
+            int end = rawQuery.indexOf('&', start);
+            if (end < 0) {
+                end = rawQuery.length();
+            }
+            if (end > start) {
+                int equals = rawQuery.indexOf('=', start);
+                String name;
+                String value;
+                if (equals < 0 || equals > end) {
+                    name = rawQuery.substring(start, end);
+                    value = "";
+                } else {
+                    name = rawQuery.substring(start, equals);
+                    value = rawQuery.substring(equals + 1, end);
+                }
+                query.put(URLDecoder.decode(name, StandardCharsets.UTF_8), URLDecoder.decode(value, StandardCharsets.UTF_8));
+            }
+            start = end + 1;
+        }
+        return query;
+    }
+
+    private static int limit(String value) {
+        if (value == null) {
+            return DEFAULT_LIMIT;
+        }
+        int limit = parseInt(value, "limit");
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new IllegalArgumentException("limit deve ser entre 1 e " + MAX_LIMIT + ".");
+        }
+        return limit;
+    }
+
+    // O cursor vai para o cliente como "prioridade-sequência" (ex.: "5-1024").
+    static String token(TaskCursor cursor) {
+        return cursor.priority() + "-" + cursor.sequence();
+    }
+
+    static TaskCursor cursor(String token) {
+        if (token == null || token.isEmpty()) {
+            return null;
+        }
+        int dash = token.indexOf('-');
+        if (dash <= 0) {
+            throw new IllegalArgumentException("Cursor inválido: " + token);
+        }
+        try {
+            return new TaskCursor(Integer.parseInt(token, 0, dash, 10), Long.parseLong(token, dash + 1, token.length(), 10));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Cursor inválido: " + token);
+        }
+    }
+
+    static Task.TaskStatus status(String value) {
+        try {
+            return Task.TaskStatus.valueOf(value);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Status inválido: " + value + " (use TO_DO, IN_PROGRESS ou DONE).");
+        }
+    }
+
+    static LocalDate date(String value) {
+        try {
+            return LocalDate.parse(value);
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Data inválida: " + value + " (use AAAA-MM-DD).");
+        }
+    }
+
+    private static int parseInt(String value, String name) {
+        try {
+            return Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(name + " deve ser um número inteiro.");
+        }
+    }
+
+    // --- Respostas ---
+
+    private record Response(int status, JsonOutput body) {
+    }
+
+    private static Response ok(int status, JsonOutput body) {
+        return new Response(status, body);
+    }
+
+    private static Response error(int status, String message) {
+        return new Response(status, new JsonOutput().beginObject().name("error").value(message).endObject());
+    }
+
+    private static Response notFound(String id) {
+        return error(404, "Tarefa com ID " + id + " não encontrada.");
+    }
+
+    private static Response methodNotAllowed(HttpExchange exchange, String allowed) {
+        exchange.getResponseHeaders().set("Allow", allowed);
+        return error(405, "Método não permitido.");
+    }
+
+    private static String readBody(HttpExchange exchange) throws IOException {
+        try (InputStream in = exchange.getRequestBody()) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+    private static void send(HttpExchange exchange, Response response) throws IOException {
+        if (response.body() == null) {
+            exchange.sendResponseHeaders(response.status(), -1);
+            return;
+        }
+        exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+        exchange.sendResponseHeaders(response.status(), response.body().size());
+        try (OutputStream out = exchange.getResponseBody()) {
+            response.body().writeTo(out);
+        }
+    }
+
+    /**
+     * Campos de uma tarefa no corpo de POST e PATCH. Para description e deliveryDate, null
+     * explícito (apagar) é diferente de ausente (manter).
+     */
+    static final class TaskFields {
+        String title;
+        String description;
+        boolean hasDescription;
+        Integer priority;
+        Task.TaskStatus status;
+        LocalDate deliveryDate;
+        boolean hasDeliveryDate;
+        Integer version;
+
+        static TaskFields parse(String body) {
+            TaskFields fields = new TaskFields();
+            JsonInput json = new JsonInput(body);
+            json.beginObject();
+            while (json.hasNext()) {
+                String name = json.nextName();
+                switch (name) {
+                    case "title" -> fields.title = json.nextIsNull() ? null : json.nextString();
+                    case "description" -> {
+                        fields.hasDescription = true;
+                        fields.description = json.nextIsNull() ? null : json.nextString();
+                    }
+                    case "priority" -> {
+                        long priority = json.nextLong();
+                        if (priority < Task.MIN_PRIORITY || priority > Task.MAX_PRIORITY) {
+                            throw new IllegalArgumentException("A prioridade deve ser entre 1 e 5.");
+                        }
+                        fields.priority = (int) priority;
+                    }
+                    case "status" -> fields.status = status(json.nextString());
+                    case "deliveryDate" -> {
+                        fields.hasDeliveryDate = true;
+                        fields.deliveryDate = json.nextIsNull() ? null : date(json.nextString());
+                    }
+                    case "version" -> {
+                        long version = json.nextLong();
+                        if (version < 0 || version > Integer.MAX_VALUE) {
+                            throw new IllegalArgumentException("Versão inválida: " + version);
+                        }
+                        fields.version = (int) version;
+                    }
+                    default -> throw new IllegalArgumentException("Campo desconhecido: " + name);
+                }
+            }
+            json.endObject();
+            json.end();
+            return fields;
+        }
+    }
+}
@@ -0,0 +1,137 @@
+package com.techflow.transfer;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.time.LocalDate;
+
+/**
+ * Saída da exportação: os registros são codificados direto em um array de 1 MB, enviado ao
+ * canal quando enche. Nenhuma String intermediária é montada por registro.
+ */
+final class ByteSink {
+
+    private static final int BUFFER_BYTES = 1 << 20;
+    private static final byte[] HEX = {'0', '1', '2', '3', '4', '5', '6', '7', '8', '9', 'a', 'b', 'c', 'd', 'e', 'f'};
+
+    private final WritableByteChannel channel;
+    private final byte[] buffer = new byte[BUFFER_BYTES];
+    private int size;
+
+    ByteSink(WritableByteChannel channel) {
+        this.channel = channel;
+    }
+
+    /**
+     * Garante espaço para mais bytes, enviando o conteúdo atual ao canal se preciso.
+     */
+    void ensure(int bytes) throws IOException {
+        if (size + bytes > buffer.length) {
+            flush();
+        }
+    }
+
+    /**
+     * Escreve um caractere ASCII.
+     */
+    void put(char c) throws IOException {
+        ensure(1);
+        buffer[size++] = (byte) c;
+    }
+
+    void putAscii(String text) throws IOException {
+        ensure(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            buffer[size++] = (byte) text.charAt(i);
+        }
+    }
+
+    void putInt(int value) throws IOException {
+        putAscii(Integer.toString(value));
+    }
+
+    /**
+     * UUID no formato textual (8-4-4-4-12), escrito a partir dos dois longs.
+     */
+    void putId(long high, long low) throws IOException {
+        ensure(36);
+        hex(high >>> 32, 8);
+        buffer[size++] = '-';
+        hex(high >>> 16, 4);
+        buffer[size++] = '-';
+        hex(high, 4);
+        buffer[size++] = '-';
+        hex(low >>> 48, 4);
+        buffer[size++] = '-';
+        hex(low, 12);
+    }
+
+    private void hex(long value, int digits) {
+        for (int i = size + digits - 1; i >= size; i--) {
+            buffer[i] = HEX[(int) (value & 0xF)];
+            value >>>= 4;
+        }
+        size += digits;
+    }
+
+    /**
+     * Data no formato AAAA-MM-DD.
+     */
+    void putDate(LocalDate date) throws IOException {
+        if (date.getYear() < 0 || date.getYear() > 9999) {
+            putAscii(date.toString());
+            return;
+        }
+        ensure(10);
+        digits(date.getYear(), 4);
+        buffer[size++] = '-';
+        digits(date.getMonthValue(), 2);
+        buffer[size++] = '-';
+        digits(date.getDayOfMonth(), 2);
+    }
+
+    private void digits(int value, int count) {
+        for (int i = size + count - 1; i >= size; i--) {
+            buffer[i] = (byte) ('0' + value % 10);
+            value /= 10;
+        }
+        size += count;
+    }
+
+    /**
+     * Escreve em UTF-8 o caractere em text[index] (o par inteiro, se for um surrogate alto).
+     * @return Índice do último char consumido.
+     */
+    int putUtf8(String text, int index) throws IOException {
+        ensure(4);
+        char c = text.charAt(index);
+        if (c < 0x80) {
+            buffer[size++] = (byte) c;
+        } else if (c < 0x800) {
+            buffer[size++] = (byte) (0xC0 | (c >> 6));
+            buffer[size++] = (byte) (0x80 | (c & 0x3F));
+        } else if (Character.isHighSurrogate(c) && index + 1 < text.length()
+                && Character.isLowSurrogate(text.charAt(index + 1))) {
+            int codePoint = Character.toCodePoint(c, text.charAt(++index));
+            buffer[size++] = (byte) (0xF0 | (codePoint >> 18));
+            buffer[size++] = (byte) (0x80 | ((codePoint >> 12) & 0x3F));
+            buffer[size++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+            buffer[size++] = (byte) (0x80 | (codePoint & 0x3F));
+        } else {
+            // Surrogate sem par não é um caractere válido: vira o caractere de substituição.
+            char valid = Character.isSurrogate(c) ? '\uFFFD' : c;
+            buffer[size++] = (byte) (0xE0 | (valid >> 12));
+            buffer[size++] = (byte) (0x80 | ((valid >> 6) & 0x3F));
+            buffer[size++] = (byte) (0x80 | (valid & 0x3F));
+        }
+        return index;
+    }
+
+    void flush() throws IOException {
+        ByteBuffer pending = ByteBuffer.wrap(buffer, 0, size);
+        while (pending.hasRemaining()) {
+            channel.write(pending);
+        }
+        size = 0;
+    }
+}
@@ -0,0 +1,273 @@
+package com.techflow.transfer;
+
+import com.techflow.model.Task;
+import com.techflow.model.TaskSnapshot;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+
+import static com.techflow.transfer.RecordBytes.malformed;
+
+/**
+ * CSV (RFC 4180) com cabeçalho fixo: id,title,description,priority,status,createdAt,deliveryDate.
+ * Campos com vírgula, aspas ou quebra de linha vão entre aspas (aspas internas dobradas).
+ * Descrição vazia sem aspas é null; "" é o texto vazio. Data de entrega vazia é null.
+ */
+final class CsvTaskCodec implements TaskCodec {
+
+    static final String HEADER = "id,title,description,priority,status,createdAt,deliveryDate";
+
+    private static final byte[] HEADER_BYTES = HEADER.getBytes(StandardCharsets.US_ASCII);
+
+    @Override
+    public int dataStart(ByteBuffer data) {
+        int start = skipByteOrderMark(data);
+        if (!RecordBytes.matches(data, start, HEADER_BYTES)) {
+            throw malformed(start, "Cabeçalho esperado: " + HEADER);
+        }
+        int position = start + HEADER_BYTES.length;
+        if (position < data.limit() && data.get(position) == '\r') {
+            position++;
+        }
+        if (position < data.limit()) {
+            if (data.get(position) != '\n') {
+                throw malformed(position, "Cabeçalho esperado: " + HEADER);
+            }
+            position++;
+        }
+        return position;
+    }
+
+    static int skipByteOrderMark(ByteBuffer data) {
+        return data.limit() >= 3 && data.get(0) == (byte) 0xEF && data.get(1) == (byte) 0xBB
+                && data.get(2) == (byte) 0xBF ? 3 : 0;
+    }
+
+    /**
+     * Uma quebra de linha só encerra um registro fora das aspas: a divisão exige uma varredura
+     * sequencial (só a paridade das aspas, bem mais barata que decodificar os campos).
+     */
+    @Override
+    public int[] split(ByteBuffer data, int start, int parts) {
+        int limit = data.limit();
+        int[] bounds = new int[parts + 1];
+        int count = 0;
+        bounds[count++] = start;
+        long step = (long) (limit - start) / parts;
+        long next = start + step;
+        boolean quoted = false;
+        for (int i = start; i < limit - 1 && count < parts && step > 0; i++) {
+            byte b = data.get(i);
+            if (b == '"') {
+                quoted = !quoted;
+            } else if (b == '\n' && !quoted && i >= next) {
+                bounds[count++] = i + 1;
+                next = i + 1 + step;
+            }
+        }
+        bounds[count++] = limit;
+        return Arrays.copyOf(bounds, count);
+    }
+
+    @Override
+    public void read(ByteBuffer data, int from, int to, List<TaskSnapshot> out) {
+        Fields fields = new Fields(data, to);
+        fields.position = from;
+        while (fields.position < to) {
+            if (fields.skipBlankLine()) {
+                continue;
+            }
+            fields.next(false);
+            long idHigh = RecordBytes.idHigh(data, fields.start, fields.end);
+            long idLow = RecordBytes.idLow(data, fields.start, fields.end);
+            fields.next(false);
+            String title = fields.text();
+            fields.next(false);
+            String description = fields.isEmpty() ? null : fields.text();
+            fields.next(false);
+            int priority = RecordBytes.integer(data, fields.start, fields.end, "Prioridade");
+            fields.next(false);
+            Task.TaskStatus status = RecordBytes.status(data, fields.start, fields.end);
+            fields.next(false);
+            LocalDate createdAt = RecordBytes.date(data, fields.start, fields.end);
+            fields.next(true);
+            LocalDate deliveryDate = fields.isEmpty() ? null : RecordBytes.date(data, fields.start, fields.end);
+            out.add(new TaskSnapshot(idHigh, idLow, title, description, priority, status, createdAt, deliveryDate));
+        }
+    }
+
+    /**
+     * Percorre os campos de um trecho; o campo atual fica em [start, end) ou, se tinha aspas
+     * dobradas, já decodificado no buffer de trabalho.
+     */
+    private static final class Fields {
+
+        private final ByteBuffer data;
+        private final int limit;
+        private final RecordBytes.Scratch scratch = new RecordBytes.Scratch();
+        int position;
+        int start;
+        int end;
+        private boolean quoted;
+        private boolean unescaped;
+
+        Fields(ByteBuffer data, int limit) {
+            this.data = data;
+            this.limit = limit;
+        }
+
+        boolean skipBlankLine() {
+            if (data.get(position) == '\n') {
+                position++;
+                return true;
+            }
+            if (data.get(position) == '\r' && position + 1 < limit && data.get(position + 1) == '\n') {
+                position += 2;
+                return true;
+            }
+            return false;
+        }
+
+        void next(boolean last) {
+            if (position < limit && data.get(position) == '"') {
+                quoted();
+            } else {
+                quoted = false;
+                unescaped = false;
+                start = position;
+                while (position < limit) {
+                    byte b = data.get(position);
+                    if (b == ',' || b == '\n' || b == '\r') {
+                        break;
+                    }
+                    if (b == '"') {
+                        throw malformed(position, "Aspas no meio de um campo sem aspas.");
+                    }
+                    position++;
+                }
+                end = position;
+            }
+            if (last) {
+                if (position < limit && data.get(position) == '\r') {
+                    position++;
+                }
+                if (position < limit) {
+                    if (data.get(position) != '\n') {
+                        throw malformed(position, "Campos demais no registro (esperados 7).");
+                    }
+                    position++;
+                }
+            } else {
+                if (position >= limit || data.get(position) != ',') {
+                    throw malformed(position, "Campos de menos no registro (esperados 7).");
+                }
+                position++;
+            }
+        }
+
+        private void quoted() {
+            int opening = position;
+            quoted = true;
+            unescaped = false;
+            start = ++position;
+            while (true) {
+                if (position >= limit) {
+                    throw malformed(opening, "Aspas sem fechamento.");
+                }
+                byte b = data.get(position);
+                if (b == '"') {
+                    if (position + 1 < limit && data.get(position + 1) == '"') {
+                        // Primeira aspa dobrada: o campo passa a ser montado no buffer de trabalho.
+                        if (!unescaped) {
+                            scratch.length = 0;
+                            scratch.append(data, start, position);
+                            unescaped = true;
+                        }
+                        scratch.append((byte) '"');
+                        position += 2;
+                        continue;
+                    }
+                    end = position++;
+                    return;
+                }
+                if (unescaped) {
+                    scratch.append(b);
+                }
+                position++;
+            }
+        }
+
+        boolean isEmpty() {
+            return !quoted && start == end;
+        }
+
+        String text() {
+            return unescaped ? scratch.text() : RecordBytes.text(data, start, end, scratch);
+        }
+    }
+
+    @Override
+    public void writeHeader(ByteSink out) throws IOException {
+        out.putAscii(HEADER);
+        out.put('\n');
+    }
+
+    @Override
+    public void write(TaskSnapshot task, ByteSink out) throws IOException {
+        out.putId(task.idHigh(), task.idLow());
+        out.put(',');
+        text(task.title(), out);
+        out.put(',');
+        if (task.description() != null) {
+            text(task.description(), out);
+        }
+        out.put(',');
+        out.putInt(task.priority());
+        out.put(',');
+        out.putAscii(task.status().name());
+        out.put(',');
+        out.putDate(task.createdAt());
+        out.put(',');
+        if (task.deliveryDate() != null) {
+            out.putDate(task.deliveryDate());
+        }
+        out.put('\n');
+    }
+
+    private static void text(String text, ByteSink out) throws IOException {
+        if (!needsQuotes(text)) {
+            for (int i = 0; i < text.length(); i++) {
+                i = out.putUtf8(text, i);
+            }
+            return;
+        }
+        out.put('"');
+        for (int i = 0; i < text.length(); i++) {
+            if (text.charAt(i) == '"') {
+                out.put('"');
+                out.put('"');
+            } else {
+                i = out.putUtf8(text, i);
+            }
+        }
+        out.put('"');
+    }
+
+    // O texto vazio também vai entre aspas, para não ser lido de volta como null.
+    private static boolean needsQuotes(String text) {
+        if (text.isEmpty()) {
+            return true;
+        }
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c == ',' || c == '"' || c == '\n' || c == '\r') {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,419 @@
+package com.techflow.transfer;
+
+import com.techflow.model.Task;
+import com.techflow.model.TaskSnapshot;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+
+import static com.techflow.transfer.RecordBytes.malformed;
+
+/**
+ * JSON Lines: um objeto por linha, com os mesmos nomes de campo da API HTTP
+ * (id, title, description, priority, status, createdAt, deliveryDate).
+ * Na leitura, os campos podem vir em qualquer ordem; description e deliveryDate são opcionais
+ * e campos desconhecidos com valores simples (ex.: shortId) são ignorados.
+ */
+final class JsonLinesTaskCodec implements TaskCodec {
+
+    private static final byte[] ID = ascii("id");
+    private static final byte[] TITLE = ascii("title");
+    private static final byte[] DESCRIPTION = ascii("description");
+    private static final byte[] PRIORITY = ascii("priority");
+    private static final byte[] STATUS = ascii("status");
+    private static final byte[] CREATED_AT = ascii("createdAt");
+    private static final byte[] DELIVERY_DATE = ascii("deliveryDate");
+    private static final byte[] NULL = ascii("null");
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    private static byte[] ascii(String text) {
+        return text.getBytes(StandardCharsets.US_ASCII);
+    }
+
+    @Override
+    public int dataStart(ByteBuffer data) {
+        return CsvTaskCodec.skipByteOrderMark(data);
+    }
+
+    /**
+     * Quebras de linha dentro de textos JSON são sempre escapadas: toda quebra encerra um registro.
+     */
+    @Override
+    public int[] split(ByteBuffer data, int start, int parts) {
+        int limit = data.limit();
+        int[] bounds = new int[parts + 1];
+        int count = 0;
+        bounds[count++] = start;
+        long step = (long) (limit - start) / parts;
+        for (int part = 1; part < parts && step > 0; part++) {
+            int position = (int) Math.max(start + part * step, bounds[count - 1]);
+            while (position < limit && data.get(position) != '\n') {
+                position++;
+            }
+            if (position + 1 >= limit) {
+                break;
+            }
+            if (position + 1 > bounds[count - 1]) {
+                bounds[count++] = position + 1;
+            }
+        }
+        bounds[count++] = limit;
+        return Arrays.copyOf(bounds, count);
+    }
+
+    @Override
+    public void read(ByteBuffer data, int from, int to, List<TaskSnapshot> out) {
+        Parser parser = new Parser(data, to);
+        parser.position = from;
+        while (true) {
+            parser.skipWhitespace();
+            if (parser.position >= to) {
+                return;
+            }
+            if (data.get(parser.position) == '\n') {
+                parser.position++;
+                continue;
+            }
+            out.add(parser.record());
+        }
+    }
+
+    /**
+     * Leitor de um trecho; valores de texto ficam em [start, end) ou, se tinham escapes,
+     * já decodificados no buffer de trabalho.
+     */
+    private static final class Parser {
+
+        private final ByteBuffer data;
+        private final int limit;
+        private final RecordBytes.Scratch scratch = new RecordBytes.Scratch();
+        int position;
+        private int start;
+        private int end;
+        private boolean unescaped;
+
+        Parser(ByteBuffer data, int limit) {
+            this.data = data;
+            this.limit = limit;
+        }
+
+        TaskSnapshot record() {
+            int recordStart = position;
+            expect('{');
+            long idHigh = 0;
+            long idLow = 0;
+            boolean hasId = false;
+            String title = null;
+            String description = null;
+            int priority = 0;
+            boolean hasPriority = false;
+            Task.TaskStatus status = null;
+            LocalDate createdAt = null;
+            LocalDate deliveryDate = null;
+
+            skipWhitespace();
+            boolean more = position < limit && data.get(position) != '}';
+            while (more) {
+                string();
+                boolean simpleName = !unescaped;
+                int nameStart = start;
+                int nameLength = end - start;
+                expect(':');
+                skipWhitespace();
+                if (simpleName && is(nameStart, nameLength, ID)) {
+                    plainString("id");
+                    idHigh = RecordBytes.idHigh(data, start, end);
+                    idLow = RecordBytes.idLow(data, start, end);
+                    hasId = true;
+                } else if (simpleName && is(nameStart, nameLength, TITLE)) {
+                    title = nullOrText();
+                } else if (simpleName && is(nameStart, nameLength, DESCRIPTION)) {
+                    description = nullOrText();
+                } else if (simpleName && is(nameStart, nameLength, PRIORITY)) {
+                    number();
+                    priority = RecordBytes.integer(data, start, end, "Prioridade");
+                    hasPriority = true;
+                } else if (simpleName && is(nameStart, nameLength, STATUS)) {
+                    plainString("status");
+                    status = RecordBytes.status(data, start, end);
+                } else if (simpleName && is(nameStart, nameLength, CREATED_AT)) {
+                    plainString("createdAt");
+                    createdAt = RecordBytes.date(data, start, end);
+                } else if (simpleName && is(nameStart, nameLength, DELIVERY_DATE)) {
+                    if (!nullLiteral()) {
+                        plainString("deliveryDate");
+                        deliveryDate = RecordBytes.date(data, start, end);
+                    }
+                } else {
+                    skipValue();
+                }
+                skipWhitespace();
+                more = position < limit && data.get(position) == ',';
+                if (more) {
+                    position++;
+                    skipWhitespace();
+                }
+            }
+            expect('}');
+            skipWhitespace();
+            if (position < limit) {
+                if (data.get(position) != '\n') {
+                    throw malformed(position, "Esperado um único objeto por linha.");
+                }
+                position++;
+            }
+            if (!hasId || title == null || !hasPriority || status == null || createdAt == null) {
+                throw malformed(recordStart, "Campos obrigatórios: id, title, priority, status e createdAt.");
+            }
+            return new TaskSnapshot(idHigh, idLow, title, description, priority, status, createdAt, deliveryDate);
+        }
+
+        private boolean is(int nameStart, int nameLength, byte[] name) {
+            return nameLength == name.length && RecordBytes.matches(data, nameStart, name);
+        }
+
+        private String nullOrText() {
+            if (nullLiteral()) {
+                return null;
+            }
+            string();
+            return unescaped ? scratch.text() : RecordBytes.text(data, start, end, scratch);
+        }
+
+        // IDs, status e datas nunca têm escapes: são lidos direto do arquivo.
+        private void plainString(String field) {
+            int valueStart = position;
+            string();
+            if (unescaped) {
+                throw malformed(valueStart, "Escape inesperado no campo " + field + ".");
+            }
+        }
+
+        private boolean nullLiteral() {
+            if (RecordBytes.matches(data, position, NULL)) {
+                position += NULL.length;
+                return true;
+            }
+            return false;
+        }
+
+        private void number() {
+            start = position;
+            while (position < limit && data.get(position) >= '0' && data.get(position) <= '9') {
+                position++;
+            }
+            end = position;
+        }
+
+        private void skipValue() {
+            if (position < limit && data.get(position) == '"') {
+                string();
+                return;
+            }
+            int valueStart = position;
+            while (position < limit) {
+                byte b = data.get(position);
+                if (b == ',' || b == '}' || b == ' ' || b == '\t' || b == '\r' || b == '\n') {
+                    break;
+                }
+                if (b == '{' || b == '[' || b == '"') {
+                    throw malformed(position, "Valores aninhados não são aceitos.");
+                }
+                position++;
+            }
+            if (position == valueStart) {
+                throw malformed(position, "Valor esperado.");
+            }
+        }
+
+        /**
+         * Lê um texto entre aspas. Sem escapes, fica só o intervalo no arquivo; com escapes,
+         * o texto decodificado (em UTF-8) vai para o buffer de trabalho.
+         */
+        private void string() {
+            skipWhitespace();
+            if (position >= limit || data.get(position) != '"') {
+                throw malformed(position, "Texto entre aspas esperado.");
+            }
+            int opening = position;
+            unescaped = false;
+            start = ++position;
+            while (position < limit) {
+                byte b = data.get(position);
+                if (b == '"') {
+                    end = position++;
+                    return;
+                }
+                if (b == '\n') {
+                    break;
+                }
+                if (b == '\\') {
+                    if (!unescaped) {
+                        scratch.length = 0;
+                        scratch.append(data, start, position);
+                        unescaped = true;
+                    }
+                    escape();
+                    continue;
+                }
+                if (unescaped) {
+                    scratch.append(b);
+                }
+                position++;
+            }
+            throw malformed(opening, "Texto sem aspas de fechamento.");
+        }
+
+        private void escape() {
+            if (position + 1 >= limit) {
+                throw malformed(position, "Escape incompleto.");
+            }
+            byte escaped = data.get(position + 1);
+            position += 2;
+            switch (escaped) {
+                case '"', '\\', '/' -> scratch.append(escaped);
+                case 'n' -> scratch.append((byte) '\n');
+                case 'r' -> scratch.append((byte) '\r');
+                case 't' -> scratch.append((byte) '\t');
+                case 'b' -> scratch.append((byte) '\b');
+                case 'f' -> scratch.append((byte) '\f');
+                case 'u' -> unicodeEscape();
+                default -> throw malformed(position - 2, "Escape inválido.");
+            }
+        }
+
+        private void unicodeEscape() {
+            int c = hex4();
+            // Par de surrogates (ex.: emojis): vira um único caractere de 4 bytes.
+            if (Character.isHighSurrogate((char) c) && position + 1 < limit
+                    && data.get(position) == '\\' && data.get(position + 1) == 'u') {
+                position += 2;
+                int low = hex4();
+                if (Character.isLowSurrogate((char) low)) {
+                    utf8(Character.toCodePoint((char) c, (char) low));
+                    return;
+                }
+                utf8(c);
+                utf8(low);
+                return;
+            }
+            utf8(c);
+        }
+
+        private int hex4() {
+            if (position + 4 > limit) {
+                throw malformed(position, "Escape \\u incompleto.");
+            }
+            int value = 0;
+            for (int i = 0; i < 4; i++) {
+                int digit = Character.digit(data.get(position++), 16);
+                if (digit < 0) {
+                    throw malformed(position - 1, "Escape \\u inválido.");
+                }
+                value = value << 4 | digit;
+            }
+            return value;
+        }
+
+        private void utf8(int codePoint) {
+            if (codePoint < 0x80) {
+                scratch.append((byte) codePoint);
+            } else if (codePoint < 0x800) {
+                scratch.append((byte) (0xC0 | (codePoint >> 6)));
+                scratch.append((byte) (0x80 | (codePoint & 0x3F)));
+            } else if (codePoint < 0x10000) {
+                // Surrogate sem par: o decodificador UTF-8 o troca pelo caractere de substituição.
+                scratch.append((byte) (0xE0 | (codePoint >> 12)));
+                scratch.append((byte) (0x80 | ((codePoint >> 6) & 0x3F)));
+                scratch.append((byte) (0x80 | (codePoint & 0x3F)));
+            } else {
+                scratch.append((byte) (0xF0 | (codePoint >> 18)));
+                scratch.append((byte) (0x80 | ((codePoint >> 12) & 0x3F)));
+                scratch.append((byte) (0x80 | ((codePoint >> 6) & 0x3F)));
+                scratch.append((byte) (0x80 | (codePoint & 0x3F)));
+            }
+        }
+
+        private void expect(char c) {
+            skipWhitespace();
+            if (position >= limit || data.get(position) != c) {
+                throw malformed(position, "Esperado '" + c + "'.");
+            }
+            position++;
+        }
+
+        // Espaços dentro da linha; a quebra de linha encerra o registro e não é pulada aqui.
+        void skipWhitespace() {
+            while (position < limit) {
+                byte b = data.get(position);
+                if (b != ' ' && b != '\t' && b != '\r') {
+                    return;
+                }
+                position++;
+            }
+        }
+    }
+
+    @Override
+    public void writeHeader(ByteSink out) {
+        // JSON Lines não tem cabeçalho.
+    }
+
+    @Override
+    public void write(TaskSnapshot task, ByteSink out) throws IOException {
+        out.putAscii("{\"id\":\"");
+        out.putId(task.idHigh(), task.idLow());
+        out.putAscii("\",\"title\":");
+        text(task.title(), out);
+        out.putAscii(",\"description\":");
+        text(task.description(), out);
+        out.putAscii(",\"priority\":");
+        out.putInt(task.priority());
+        out.putAscii(",\"status\":\"");
+        out.putAscii(task.status().name());
+        out.putAscii("\",\"createdAt\":\"");
+        out.putDate(task.createdAt());
+        if (task.deliveryDate() == null) {
+            out.putAscii("\",\"deliveryDate\":null}\n");
+        } else {
+            out.putAscii("\",\"deliveryDate\":\"");
+            out.putDate(task.deliveryDate());
+            out.putAscii("\"}\n");
+        }
+    }
+
+    private static void text(String text, ByteSink out) throws IOException {
+        if (text == null) {
+            out.putAscii("null");
+            return;
+        }
+        out.put('"');
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c == '"' || c == '\\') {
+                out.put('\\');
+                out.put(c);
+            } else if (c < 0x20) {
+                switch (c) {
+                    case '\n' -> out.putAscii("\\n");
+                    case '\r' -> out.putAscii("\\r");
+                    case '\t' -> out.putAscii("\\t");
+                    case '\b' -> out.putAscii("\\b");
+                    case '\f' -> out.putAscii("\\f");
+                    default -> {
+                        out.putAscii("\\u00");
+                        out.put(HEX[c >> 4]);
+                        out.put(HEX[c & 0xF]);
+                    }
+                }
+            } else {
+                i = out.putUtf8(text, i);
+            }
+        }
+        out.put('"');
+    }
+}
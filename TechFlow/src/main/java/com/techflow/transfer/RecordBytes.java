@@ -0,0 +1,181 @@
+package com.techflow.transfer;
+
+import com.techflow.model.Task;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.util.Arrays;
+
+/**
+ * Decodificação dos campos de um registro direto dos bytes do arquivo (mapeado), sem passar
+ * por Strings: IDs viram os dois longs do UUID, datas e status são lidos byte a byte.
+ * Só títulos e descrições viram String, copiados uma única vez para um buffer reaproveitado.
+ */
+final class RecordBytes {
+
+    static final int ID_LENGTH = 36;
+
+    private static final Task.TaskStatus[] STATUSES = Task.TaskStatus.values();
+    private static final byte[][] STATUS_NAMES = new byte[STATUSES.length][];
+
+    static {
+        for (int i = 0; i < STATUSES.length; i++) {
+            STATUS_NAMES[i] = STATUSES[i].name().getBytes(StandardCharsets.US_ASCII);
+        }
+    }
+
+    private RecordBytes() {
+    }
+
+    /**
+     * Registro inválido; position é o byte do arquivo em que o problema foi encontrado.
+     */
+    static final class MalformedRecordException extends RuntimeException {
+
+        final int position;
+
+        MalformedRecordException(int position, String reason) {
+            super(reason, null, false, false);
+            this.position = position;
+        }
+    }
+
+    static MalformedRecordException malformed(int position, String reason) {
+        return new MalformedRecordException(position, reason);
+    }
+
+    /**
+     * @return Os 64 bits mais significativos do UUID em [from, to).
+     */
+    static long idHigh(ByteBuffer data, int from, int to) {
+        checkId(data, from, to);
+        return hex(data, from, 8) << 32 | hex(data, from + 9, 4) << 16 | hex(data, from + 14, 4);
+    }
+
+    /**
+     * @return Os 64 bits menos significativos do UUID em [from, to).
+     */
+    static long idLow(ByteBuffer data, int from, int to) {
+        return hex(data, from + 19, 4) << 48 | hex(data, from + 24, 12);
+    }
+
+    private static void checkId(ByteBuffer data, int from, int to) {
+        if (to - from != ID_LENGTH || data.get(from + 8) != '-' || data.get(from + 13) != '-'
+                || data.get(from + 18) != '-' || data.get(from + 23) != '-') {
+            throw malformed(from, "ID inválido (esperado um UUID de 36 caracteres).");
+        }
+    }
+
+    private static long hex(ByteBuffer data, int from, int digits) {
+        long value = 0;
+        for (int i = from; i < from + digits; i++) {
+            int b = data.get(i);
+            int digit;
+            if (b >= '0' && b <= '9') {
+                digit = b - '0';
+            } else if (b >= 'a' && b <= 'f') {
+                digit = b - 'a' + 10;
+            } else if (b >= 'A' && b <= 'F') {
+                digit = b - 'A' + 10;
+            } else {
+                throw malformed(i, "ID inválido (dígito hexadecimal esperado).");
+            }
+            value = value << 4 | digit;
+        }
+        return value;
+    }
+
+    static int integer(ByteBuffer data, int from, int to, String field) {
+        if (from == to || to - from > 9) {
+            throw malformed(from, field + " inválida.");
+        }
+        int value = 0;
+        for (int i = from; i < to; i++) {
+            int b = data.get(i);
+            if (b < '0' || b > '9') {
+                throw malformed(i, field + " inválida.");
+            }
+            value = value * 10 + (b - '0');
+        }
+        return value;
+    }
+
+    static Task.TaskStatus status(ByteBuffer data, int from, int to) {
+        for (int s = 0; s < STATUSES.length; s++) {
+            byte[] name = STATUS_NAMES[s];
+            if (name.length == to - from && matches(data, from, name)) {
+                return STATUSES[s];
+            }
+        }
+        throw malformed(from, "Status inválido (use TO_DO, IN_PROGRESS ou DONE).");
+    }
+
+    static boolean matches(ByteBuffer data, int from, byte[] expected) {
+        if (from + expected.length > data.limit()) {
+            return false;
+        }
+        for (int i = 0; i < expected.length; i++) {
+            if (data.get(from + i) != expected[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Data no formato AAAA-MM-DD.
+     */
+    static LocalDate date(ByteBuffer data, int from, int to) {
+        if (to - from != 10 || data.get(from + 4) != '-' || data.get(from + 7) != '-') {
+            throw malformed(from, "Data inválida (use AAAA-MM-DD).");
+        }
+        try {
+            return LocalDate.of(integer(data, from, from + 4, "Data"), integer(data, from + 5, from + 7, "Data"),
+                    integer(data, from + 8, to, "Data"));
+        } catch (DateTimeException e) {
+            throw malformed(from, "Data inválida: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Copia [from, to) para o buffer de trabalho e decodifica como UTF-8.
+     */
+    static String text(ByteBuffer data, int from, int to, Scratch scratch) {
+        int length = to - from;
+        byte[] bytes = scratch.ensure(length);
+        data.get(from, bytes, 0, length);
+        return new String(bytes, 0, length, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Buffer de bytes reaproveitado por um leitor (um por trecho do arquivo, nunca compartilhado).
+     */
+    static final class Scratch {
+
+        byte[] bytes = new byte[256];
+        int length;
+
+        byte[] ensure(int capacity) {
+            if (bytes.length < capacity) {
+                bytes = Arrays.copyOf(bytes, Math.max(capacity, bytes.length * 2));
+            }
+            return bytes;
+        }
+
+        void append(byte b) {
+            ensure(length + 1)[length++] = b;
+        }
+
+        void append(ByteBuffer data, int from, int to) {
+            ensure(length + to - from);
+            data.get(from, bytes, length, to - from);
+            length += to - from;
+        }
+
+        String text() {
+            return new String(bytes, 0, length, StandardCharsets.UTF_8);
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.techflow.transfer;
+
+import com.techflow.model.TaskSnapshot;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.List;
+
+/**
+ * Um formato de arquivo de tarefas (CSV, JSON Lines), lido e escrito direto em bytes.
+ * A leitura trabalha sobre o arquivo mapeado inteiro, em trechos independentes, para que
+ * cada trecho seja decodificado em uma thread.
+ */
+interface TaskCodec {
+
+    /**
+     * @return Posição do primeiro registro (após o cabeçalho, se o formato tiver um).
+     */
+    int dataStart(ByteBuffer data);
+
+    /**
+     * Divide [start, limit) em até parts trechos que começam, cada um, no início de um registro.
+     * @return Posições de início dos trechos, seguidas de limit.
+     */
+    int[] split(ByteBuffer data, int start, int parts);
+
+    /**
+     * Decodifica os registros de [from, to), na ordem do arquivo.
+     */
+    void read(ByteBuffer data, int from, int to, List<TaskSnapshot> out);
+
+    void writeHeader(ByteSink out) throws IOException;
+
+    void write(TaskSnapshot task, ByteSink out) throws IOException;
+}
@@ -0,0 +1,48 @@
+package com.techflow.transfer;
+
+import com.techflow.model.Task;
+import com.techflow.model.TaskService;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Iterator;
+
+/**
+ * Exportação do quadro para CSV ou JSON Lines (ver TaskFileFormat), na ordem da listagem.
+ * As tarefas são percorridas pelo stream do serviço (sem copiar a lista) e codificadas direto
+ * em bytes, em blocos de 1 MB.
+ */
+public final class TaskExporter {
+
+    private TaskExporter() {
+    }
+
+    /**
+     * Exporta com o formato escolhido pela extensão do arquivo (sobrescrito se existir).
+     * @return Quantidade de tarefas exportadas.
+     */
+    public static long exportFile(TaskService service, Path file) throws IOException {
+        return exportFile(service, file, TaskFileFormat.of(file));
+    }
+
+    /**
+     * @return Quantidade de tarefas exportadas.
+     */
+    public static long exportFile(TaskService service, Path file, TaskFileFormat format) throws IOException {
+        TaskCodec codec = format.codec();
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            ByteSink out = new ByteSink(channel);
+            codec.writeHeader(out);
+            long count = 0;
+            for (Iterator<Task> tasks = service.streamTasks().iterator(); tasks.hasNext(); ) {
+                codec.write(tasks.next().snapshot(), out);
+                count++;
+            }
+            out.flush();
+            return count;
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.techflow.transfer;
+
+import java.nio.file.Path;
+import java.util.Locale;
+
+/**
+ * Formatos de arquivo aceitos na importação e exportação do quadro.
+ */
+public enum TaskFileFormat {
+
+    /** CSV com cabeçalho (id,title,description,priority,status,createdAt,deliveryDate). */
+    CSV(new CsvTaskCodec()),
+    /** JSON Lines: um objeto por linha, com os campos da API HTTP. */
+    JSON_LINES(new JsonLinesTaskCodec());
+
+    private final TaskCodec codec;
+
+    TaskFileFormat(TaskCodec codec) {
+        this.codec = codec;
+    }
+
+    TaskCodec codec() {
+        return codec;
+    }
+
+    /**
+     * Escolhe o formato pela extensão: .csv, ou .jsonl/.ndjson.
+     * @throws IllegalArgumentException Se a extensão não for reconhecida.
+     */
+    public static TaskFileFormat of(Path file) {
+        String name = file.getFileName().toString().toLowerCase(Locale.ROOT);
+        if (name.endsWith(".csv")) {
+            return CSV;
+        }
+        if (name.endsWith(".jsonl") || name.endsWith(".ndjson")) {
+            return JSON_LINES;
+        }
+        throw new IllegalArgumentException("Formato desconhecido (use .csv ou .jsonl): " + file.getFileName());
+    }
+}
@@ -0,0 +1,149 @@
+package com.techflow.transfer;
+
+import com.techflow.model.BatchResult;
+import com.techflow.model.TaskService;
+import com.techflow.model.TaskSnapshot;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Importação do quadro a partir de CSV ou JSON Lines (ver TaskFileFormat).
+ *
+ * O arquivo é mapeado em memória (fora do heap) e dividido em trechos que começam no início
+ * de um registro; cada trecho é decodificado em uma thread, direto dos bytes mapeados. Os
+ * registros, na ordem do arquivo, entram no quadro em uma única inserção em lote, que preserva
+ * ID, status e datas e rejeita IDs repetidos.
+ */
+public final class TaskImporter {
+
+    // Trechos de pelo menos 1 MB: abaixo disso, dividir custa mais do que decodificar.
+    private static final int MIN_CHUNK_BYTES = 1 << 20;
+    // Mais trechos que threads, para que um trecho lento não segure as demais threads ociosas.
+    private static final int CHUNKS_PER_THREAD = 4;
+
+    private TaskImporter() {
+    }
+
+    /**
+     * Importa o arquivo, com o formato escolhido pela extensão e uma thread por processador.
+     * @return Um resultado por registro, na ordem do arquivo.
+     */
+    public static BatchResult importFile(TaskService service, Path file) throws IOException {
+        return importFile(service, file, TaskFileFormat.of(file), Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * @param parallelism Threads de decodificação (1 decodifica na thread que chama).
+     * @return Um resultado por registro, na ordem do arquivo.
+     * @throws IOException Se o arquivo não puder ser lido ou tiver um registro malformado
+     *                     (a mensagem indica a linha); nesse caso nada é importado.
+     */
+    public static BatchResult importFile(TaskService service, Path file, TaskFileFormat format, int parallelism)
+            throws IOException {
+        return service.importTasks(read(file, format, parallelism));
+    }
+
+    /**
+     * Decodifica o arquivo sem alterar nenhum quadro.
+     * @return Os registros, na ordem do arquivo.
+     */
+    public static List<TaskSnapshot> read(Path file, TaskFileFormat format, int parallelism) throws IOException {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("É necessária ao menos uma thread de decodificação.");
+        }
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                throw new IOException("Arquivos de importação devem ter até 2 GB: " + file);
+            }
+            MappedByteBuffer data = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            try {
+                return read(data, format.codec(), parallelism);
+            } catch (RecordBytes.MalformedRecordException e) {
+                throw new IOException(file.getFileName() + ", linha " + line(data, e.position) + ": " + e.getMessage());
+            }
+        }
+    }
+
+    private static List<TaskSnapshot> read(ByteBuffer data, TaskCodec codec, int parallelism) throws IOException {
+        int start = codec.dataStart(data);
+        long chunks = Math.min((long) parallelism * CHUNKS_PER_THREAD, (data.limit() - start) / MIN_CHUNK_BYTES);
+        int[] bounds = codec.split(data, start, (int) Math.max(1, chunks));
+        if (parallelism == 1 || bounds.length == 2) {
+            List<TaskSnapshot> tasks = new ArrayList<>();
+            for (int i = 0; i + 1 < bounds.length; i++) {
+                codec.read(data, bounds[i], bounds[i + 1], tasks);
+            }
+            return tasks;
+        }
+
+        List<Callable<List<TaskSnapshot>>> parts = new ArrayList<>(bounds.length - 1);
+        for (int i = 0; i + 1 < bounds.length; i++) {
+            int from = bounds[i];
+            int to = bounds[i + 1];
+            parts.add(() -> {
+                List<TaskSnapshot> tasks = new ArrayList<>();
+                codec.read(data, from, to, tasks);
+                return tasks;
+            });
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(parallelism, parts.size()), daemonThreads());
+        try {
+            List<List<TaskSnapshot>> decoded = new ArrayList<>(parts.size());
+            int total = 0;
+            // Os trechos são conferidos em ordem: o erro relatado é o primeiro do arquivo.
+            for (Future<List<TaskSnapshot>> part : executor.invokeAll(parts)) {
+                List<TaskSnapshot> tasks = part.get();
+                decoded.add(tasks);
+                total += tasks.size();
+            }
+            List<TaskSnapshot> tasks = new ArrayList<>(total);
+            decoded.forEach(tasks::addAll);
+            return tasks;
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IOException(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Importação interrompida.", e);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static ThreadFactory daemonThreads() {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, "techflow-import-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    // Só no caminho de erro: conta as quebras de linha até a posição do problema.
+    private static long line(ByteBuffer data, int position) {
+        long line = 1;
+        for (int i = 0; i < position && i < data.limit(); i++) {
+            if (data.get(i) == '\n') {
+                line++;
+            }
+        }
+        return line;
+    }
+}
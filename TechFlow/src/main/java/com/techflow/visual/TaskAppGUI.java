@@ -1,37 +1,60 @@
 package com.techflow.visual;
 
+import com.techflow.model.AsyncTaskService;
+import com.techflow.model.BoardSummary;
 import com.techflow.model.Task;
-import com.techflow.model.TaskService;
 import com.techflow.model.Task.TaskStatus;
+import com.techflow.model.TaskIdMap;
+import com.techflow.model.TaskSnapshot;
+import com.techflow.model.TaskSpec;
+import com.techflow.model.UpdateResult;
+import com.techflow.report.CycleTimeStats;
+import com.techflow.report.ReportEngine;
+import com.techflow.report.TaskReport;
 
 import javax.swing.*;
-import javax.swing.table.DefaultTableModel;
+import javax.swing.event.DocumentEvent;
+import javax.swing.event.DocumentListener;
+import javax.swing.table.TableRowSorter;
 import java.awt.*;
 import java.awt.event.ActionEvent;
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
 
 /**
  * Interface Gráfica usando Swing para o gerenciamento de tarefas.
  * É instanciada APENAS pela classe App.java.
+ *
+ * Nenhuma ação chama o serviço na EDT: as operações rodam na AsyncTaskService e só o resultado
+ * (ex.: uma mensagem de erro) volta para a EDT; a tabela é atualizada pelas notificações do serviço.
  */
 public class TaskAppGUI extends JFrame {
 
-    private final TaskService taskService; // Recebido via construtor
+    private final AsyncTaskService taskService; // Recebido via construtor
+    // Relatórios rodam em um pool próprio, com uma thread por processador.
+    private final ReportEngine reportEngine = new ReportEngine();
     private JTable taskTable;
-    private DefaultTableModel tableModel;
-
-    // Construtor atualizado para receber o TaskService
-    public TaskAppGUI(TaskService service) {
+    private TaskTableModel tableModel;
+    private JLabel boardSummaryLabel;
+    private JTextField searchField;
+    private TableRowSorter<TaskTableModel> rowSorter;
+    // Incrementado a cada busca: uma resposta atrasada de um texto antigo é descartada.
+    private int searchGeneration;
+
+    // Construtor atualizado para receber a fachada assíncrona do TaskService
+    public TaskAppGUI(AsyncTaskService service) {
         super("Gerenciador de Tarefas - Swing Edition");
         this.taskService = service;
 
-        // 1. Configuração Inicial
-        initializeData();
-
-        // 2. Setup da Interface
+        // 1. Setup da Interface
         setupUI();
 
+        // 2. Configuração Inicial (em segundo plano; as tarefas de exemplo chegam pelas notificações)
+        initializeData();
+
         // 3. Configurações da Janela
         setDefaultCloseOperation(JFrame.EXIT_ON_CLOSE);
         setSize(800, 600);
@@ -39,31 +62,50 @@ public class TaskAppGUI extends JFrame {
         setVisible(true);
 
         // 4. Carregar Dados Iniciais
-        refreshTable();
+        tableModel.reload();
     }
 
-    // O restante dos métodos (initializeData, setupUI, refreshTable, etc.)
+    // O restante dos métodos (initializeData, setupUI, etc.)
     // permanece o mesmo da implementação anterior.
 
     private void initializeData() {
-        // Inicializa dados para teste
-        taskService.createTask("Aprender Swing", "Criar a nova interface gráfica.", 5);
-        taskService.createTask("Refatorar App Console", "Remover código antigo do App.java.", 3);
-        taskService.createTask("Entregar Projeto", "Finalizar documentação e build.", 4);
+        // Uma página de uma tarefa basta para saber se o quadro está vazio, sem copiar o quadro inteiro.
+        taskService.getTaskPage(null, 1).thenAccept(page -> {
+            // Com persistência ativa, não duplica os dados de exemplo a cada inicialização.
+            if (!page.tasks().isEmpty()) {
+                return;
+            }
+            // Inicializa dados para teste (em um lote, preservando a ordem de criação)
+            taskService.createTasks(List.of(
+                    new TaskSpec("Aprender Swing", "Criar a nova interface gráfica.", 5),
+                    new TaskSpec("Refatorar App Console", "Remover código antigo do App.java.", 3),
+                    new TaskSpec("Entregar Projeto", "Finalizar documentação e build.", 4)));
+        });
     }
 
     private void setupUI() {
         setLayout(new BorderLayout());
 
         // --- 1. Tabela de Tarefas (Centro) ---
-        String[] columnNames = {"ID", "Título", "Prioridade", "Status", "Criado em"};
-        tableModel = new DefaultTableModel(columnNames, 0) {
-            @Override
-            public boolean isCellEditable(int row, int column) {
-                return false;
+        // O modelo lê as células das próprias tarefas, só para as linhas visíveis.
+        tableModel = new TaskTableModel(taskService);
+        // Alterações de qualquer origem chegam agrupadas na EDT; a GUI não relê a lista após cada ação.
+        taskService.getTaskService().subscribe(SwingUtilities::invokeLater, tableModel);
+        // O cabeçalho lê os contadores mantidos pelo serviço: não percorre as tarefas.
+        // Com uma busca ativa, as alterações também refazem a busca (ex.: uma tarefa nova que combina).
+        taskService.getTaskService().subscribe(SwingUtilities::invokeLater, events -> {
+            updateBoardSummary();
+            if (!searchField.getText().isBlank()) {
+                applySearch();
             }
-        };
+        });
         taskTable = new JTable(tableModel);
+        // O sorter só filtra as linhas da busca; a ordem continua a do serviço.
+        rowSorter = new TableRowSorter<>(tableModel);
+        for (int column = 0; column < tableModel.getColumnCount(); column++) {
+            rowSorter.setSortable(column, false);
+        }
+        taskTable.setRowSorter(rowSorter);
 
         taskTable.getColumnModel().getColumn(0).setPreferredWidth(50);
 
@@ -75,48 +117,103 @@ public class TaskAppGUI extends JFrame {
         JButton btnUpdateStatus = new JButton("Mudar Status (P/ Próximo)");
         JButton btnEditDetails = new JButton("Editar Detalhes");
         JButton btnDelete = new JButton("Excluir Selecionada");
+        JButton btnReport = new JButton("Relatório");
 
         btnCreate.addActionListener(this::createTaskAction);
         btnUpdateStatus.addActionListener(this::updateTaskStatusAction);
         btnEditDetails.addActionListener(this::editTaskDetailsAction);
         btnDelete.addActionListener(this::deleteTaskAction);
+        btnReport.addActionListener(this::showReportAction);
 
         buttonPanel.add(btnCreate);
         buttonPanel.add(btnUpdateStatus);
         buttonPanel.add(btnEditDetails);
         buttonPanel.add(btnDelete);
+        buttonPanel.add(btnReport);
 
-        add(buttonPanel, BorderLayout.NORTH);
-    }
+        // --- Busca por palavras do título e da descrição, filtrando a tabela enquanto se digita ---
+        searchField = new JTextField(18);
+        searchField.setToolTipText("Palavras do título ou da descrição (ex.: entreg sao)");
+        searchField.getDocument().addDocumentListener(new DocumentListener() {
+            @Override
+            public void insertUpdate(DocumentEvent e) {
+                applySearch();
+            }
 
-    private void refreshTable() {
-        tableModel.setRowCount(0);
+            @Override
+            public void removeUpdate(DocumentEvent e) {
+                applySearch();
+            }
+
+            @Override
+            public void changedUpdate(DocumentEvent e) {
+                applySearch();
+            }
+        });
+        buttonPanel.add(new JLabel("Buscar:"));
+        buttonPanel.add(searchField);
+
+        // --- 3. Contagem por coluna do Kanban (abaixo dos botões) ---
+        boardSummaryLabel = new JLabel();
+        boardSummaryLabel.setBorder(BorderFactory.createEmptyBorder(0, 8, 4, 8));
+        updateBoardSummary();
+
+        JPanel northPanel = new JPanel(new BorderLayout());
+        northPanel.add(buttonPanel, BorderLayout.NORTH);
+        northPanel.add(boardSummaryLabel, BorderLayout.SOUTH);
+        add(northPanel, BorderLayout.NORTH);
+    }
 
-        List<Task> tasks = taskService.getAllTasks();
+    private void updateBoardSummary() {
+        BoardSummary summary = taskService.getTaskService().getBoardSummary();
+        boardSummaryLabel.setText("A Fazer: " + summary.count(TaskStatus.TO_DO)
+                + "   |   Em Progresso: " + summary.count(TaskStatus.IN_PROGRESS)
+                + "   |   Concluído: " + summary.count(TaskStatus.DONE)
+                + "   |   Total: " + summary.total());
+    }
 
-        for (Task task : tasks) {
-            tableModel.addRow(new Object[]{
-                    task.getId().substring(0, 4),
-                    task.getTitle(),
-                    task.getPriority(),
-                    task.getStatus(),
-                    task.getCreatedAt()
-            });
+    // A busca roda no índice do serviço, fora da EDT; a EDT só aplica o filtro com os IDs encontrados.
+    private void applySearch() {
+        int generation = ++searchGeneration;
+        String query = searchField.getText();
+        if (query.isBlank()) {
+            rowSorter.setRowFilter(null);
+            return;
         }
+        onEdt(taskService.search(query), found -> {
+            if (generation != searchGeneration) {
+                return;
+            }
+            // Chaveado pelos dois longs do ID: o filtro roda para cada linha a cada tecla, sem criar objetos.
+            TaskIdMap<Task> ids = new TaskIdMap<>();
+            for (Task task : found) {
+                ids.put(task.getIdHigh(), task.getIdLow(), task);
+            }
+            rowSorter.setRowFilter(new RowFilter<TaskTableModel, Integer>() {
+                @Override
+                public boolean include(Entry<? extends TaskTableModel, ? extends Integer> entry) {
+                    Task task = entry.getModel().getTaskAt(entry.getIdentifier());
+                    return ids.get(task.getIdHigh(), task.getIdLow()) != null;
+                }
+            });
+        });
     }
 
     private Optional<Task> getSelectedTask() {
-        int selectedRow = taskTable.getSelectedRow();
+        // A linha guarda a própria tarefa: não há busca pelo ID parcial exibido, nem ambiguidade.
+        int selectedRow = getSelectedRow();
         if (selectedRow >= 0) {
-            String partialId = (String) tableModel.getValueAt(selectedRow, 0);
-
-            return taskService.getAllTasks().stream()
-                    .filter(t -> t.getId().startsWith(partialId))
-                    .findFirst();
+            return Optional.of(tableModel.getTaskAt(selectedRow));
         }
         return Optional.empty();
     }
 
+    // Índice da linha selecionada no modelo, ou -1 se nenhuma.
+    private int getSelectedRow() {
+        int selectedRow = taskTable.getSelectedRow();
+        return selectedRow < 0 ? -1 : taskTable.convertRowIndexToModel(selectedRow);
+    }
+
     private void createTaskAction(ActionEvent e) {
         String title = JOptionPane.showInputDialog(this, "Título da Tarefa:");
         if (title != null && !title.trim().isEmpty()) {
@@ -125,17 +222,23 @@ public class TaskAppGUI extends JFrame {
 
             try {
                 int priority = Integer.parseInt(priorityStr);
-                taskService.createTask(title, description, priority);
-                refreshTable();
+                onEdt(taskService.createTask(title, description, priority), created -> {
+                    if (created == null) {
+                        JOptionPane.showMessageDialog(this, "Não foi possível criar a tarefa. Verifique o título e a prioridade.", "Erro", JOptionPane.ERROR_MESSAGE);
+                    }
+                });
             } catch (NumberFormatException ex) {
                 JOptionPane.showMessageDialog(this, "Prioridade inválida. Use um número de 1 a 5.", "Erro", JOptionPane.ERROR_MESSAGE);
             }
         }
     }
 
+    // Status e edição são condicionais à versão exibida: se outro operador alterou a tarefa
+    // nesse meio-tempo, nada é sobrescrito e o operador é avisado.
     private void updateTaskStatusAction(ActionEvent e) {
         getSelectedTask().ifPresentOrElse(task -> {
-            TaskStatus currentStatus = task.getStatus();
+            TaskSnapshot shown = task.snapshot();
+            TaskStatus currentStatus = shown.status();
             TaskStatus nextStatus;
 
             if (currentStatus == TaskStatus.TO_DO) {
@@ -146,24 +249,24 @@ public class TaskAppGUI extends JFrame {
                 nextStatus = TaskStatus.TO_DO;
             }
 
-            taskService.updateTaskStatus(task.getId(), nextStatus);
-            refreshTable();
+            onEdt(taskService.updateTaskStatus(shown.id(), nextStatus, shown.version()), this::showUpdateResult);
         }, () -> JOptionPane.showMessageDialog(this, "Selecione uma tarefa para mudar o status.", "Aviso", JOptionPane.WARNING_MESSAGE));
     }
 
     private void editTaskDetailsAction(ActionEvent e) {
         getSelectedTask().ifPresentOrElse(task -> {
-            String newTitle = JOptionPane.showInputDialog(this, "Novo Título:", task.getTitle());
+            TaskSnapshot shown = task.snapshot();
+            String newTitle = JOptionPane.showInputDialog(this, "Novo Título:", shown.title());
             if (newTitle == null) return;
 
-            String newDescription = JOptionPane.showInputDialog(this, "Nova Descrição:", task.getDescription());
-            String newPriorityStr = JOptionPane.showInputDialog(this, "Nova Prioridade (1-5):", String.valueOf(task.getPriority()));
+            String newDescription = JOptionPane.showInputDialog(this, "Nova Descrição:", shown.description());
+            String newPriorityStr = JOptionPane.showInputDialog(this, "Nova Prioridade (1-5):", String.valueOf(shown.priority()));
 
             try {
                 int newPriority = Integer.parseInt(newPriorityStr);
 
-                taskService.updateTaskDetails(task.getId(), newTitle, newDescription, newPriority);
-                refreshTable();
+                onEdt(taskService.updateTaskDetails(shown.id(), newTitle, newDescription, newPriority, shown.version()),
+                        this::showUpdateResult);
             } catch (IllegalArgumentException ex) {
                 JOptionPane.showMessageDialog(this, "Erro: " + ex.getMessage(), "Erro de Entrada", JOptionPane.ERROR_MESSAGE);
             }
@@ -178,11 +281,70 @@ public class TaskAppGUI extends JFrame {
                     JOptionPane.YES_NO_OPTION);
 
             if (result == JOptionPane.YES_OPTION) {
-                taskService.deleteTask(task.getId());
-                refreshTable();
+                onEdt(taskService.deleteTask(task.getId()), deleted -> {
+                    if (!deleted) {
+                        showNotFound();
+                    }
+                });
             }
         }, () -> JOptionPane.showMessageDialog(this, "Selecione uma tarefa para excluir.", "Aviso", JOptionPane.WARNING_MESSAGE));
     }
 
+    // A lista é obtida na thread do serviço (vale para qualquer repositório); a agregação roda no pool de relatórios.
+    private void showReportAction(ActionEvent e) {
+        LocalDate today = LocalDate.now();
+        onEdt(taskService.getAllTasks().thenCompose(tasks -> reportEngine.generateAsync(tasks, today)), report -> {
+            JTextArea text = new JTextArea(formatReport(report), 16, 60);
+            text.setEditable(false);
+            text.setFont(new Font(Font.MONOSPACED, Font.PLAIN, 12));
+            JOptionPane.showMessageDialog(this, new JScrollPane(text), "Relatório do Quadro", JOptionPane.INFORMATION_MESSAGE);
+        });
+    }
+
+    private static String formatReport(TaskReport report) {
+        StringBuilder text = new StringBuilder();
+        text.append(String.format("Tarefas: %d   |   Atrasadas: %.1f%% das que têm data de entrega (em %s)%n%n",
+                report.total(), 100 * report.overdueRatio(), report.today()));
+        text.append(String.format("%-11s %11s %11s %9s %9s %11s%n",
+                "Prioridade", "Concluídas", "Média (d)", "Mediana", "P90", "Atrasadas"));
+        for (int p = Task.MAX_PRIORITY; p >= Task.MIN_PRIORITY; p--) {
+            CycleTimeStats cycle = report.cycleTime(p);
+            text.append(String.format("%-11d %11d %11.1f %9d %9d %10.1f%%%n", p, cycle.count(), cycle.meanDays(),
+                    cycle.medianDays(), cycle.p90Days(), 100 * report.overdueRatio(p)));
+        }
+        text.append(String.format("%nCriadas por dia (últimos dias):%n"));
+        report.createdPerDay().descendingMap().entrySet().stream().limit(14)
+                .forEach(day -> text.append(String.format("  %s: %d%n", day.getKey(), day.getValue())));
+        return text.toString();
+    }
+
+    // Trata o resultado de uma operação na EDT; uma falha inesperada vira uma mensagem de erro.
+    private <T> void onEdt(CompletableFuture<T> operation, Consumer<T> handler) {
+        operation.whenCompleteAsync((result, error) -> {
+            if (error != null) {
+                JOptionPane.showMessageDialog(this, "Erro: " + error.getMessage(), "Erro", JOptionPane.ERROR_MESSAGE);
+            } else {
+                handler.accept(result);
+            }
+        }, SwingUtilities::invokeLater);
+    }
+
+    private void showNotFound() {
+        JOptionPane.showMessageDialog(this, "A tarefa não existe mais.", "Aviso", JOptionPane.WARNING_MESSAGE);
+    }
+
+    private void showUpdateResult(UpdateResult result) {
+        switch (result.outcome()) {
+            case APPLIED -> {
+            }
+            case NOT_FOUND -> showNotFound();
+            case CONFLICT -> JOptionPane.showMessageDialog(this,
+                    "Outra pessoa alterou esta tarefa enquanto você editava; nada foi sobrescrito.\n"
+                            + "Confira os dados atuais na tabela e tente de novo.", "Conflito", JOptionPane.WARNING_MESSAGE);
+            case INVALID -> JOptionPane.showMessageDialog(this, "Não foi possível atualizar a tarefa. " + result.error(),
+                    "Erro de Entrada", JOptionPane.ERROR_MESSAGE);
+        }
+    }
+
     // O método main FOI REMOVIDO para que a classe App seja o único ponto de entrada.
 }
\ No newline at end of file
@@ -0,0 +1,226 @@
+package com.techflow.visual;
+
+import com.techflow.model.AsyncTaskService;
+import com.techflow.model.Task;
+import com.techflow.model.TaskChangeEvent;
+import com.techflow.model.TaskChangeListener;
+import com.techflow.model.TaskService;
+
+import javax.swing.SwingUtilities;
+import javax.swing.table.AbstractTableModel;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+
+/**
+ * Modelo da tabela de tarefas lido diretamente da visão ordenada do TaskService.
+ *
+ * Guarda só as referências das tarefas, na ordem do serviço (prioridade mais alta primeiro):
+ * as células são lidas da tarefa apenas quando a JTable as desenha, ou seja, só das linhas
+ * visíveis. O modelo assina as alterações do serviço (TaskService.subscribe) e cada uma dispara
+ * um único evento de linha (inserida, atualizada ou removida) em vez de reconstruir a tabela.
+ *
+ * Deve ser usado somente na EDT, como todo modelo Swing: assine com SwingUtilities::invokeLater.
+ */
+public class TaskTableModel extends AbstractTableModel implements TaskChangeListener {
+
+    private static final String[] COLUMNS = {"ID", "Título", "Prioridade", "Status", "Criado em"};
+    // Acima disso, reler a visão inteira sai mais barato que localizar linha por linha.
+    static final int RELOAD_THRESHOLD = 64;
+
+    // Leitura da visão ordenada e onde aplicar o resultado (a EDT, quando a leitura é assíncrona).
+    private final Supplier<CompletableFuture<List<Task>>> loader;
+    private final Executor applyExecutor;
+    private List<Task> rows = new ArrayList<>();
+    // IDs das linhas (metades alta e baixa lado a lado), para localizar uma tarefa sem percorrer objetos.
+    private long[] rowIds = new long[0];
+    // Alterações recebidas enquanto uma releitura está em andamento; reaplicadas sobre o resultado.
+    private List<TaskChangeEvent> deferred;
+
+    /**
+     * Modelo que lê o serviço na própria thread (testes e uso fora da GUI).
+     */
+    public TaskTableModel(TaskService taskService) {
+        this(() -> CompletableFuture.completedFuture(taskService.getAllTasks()), Runnable::run);
+    }
+
+    /**
+     * Modelo que lê o serviço no executor da fachada e aplica o resultado na EDT:
+     * a EDT nunca acessa o repositório.
+     */
+    public TaskTableModel(AsyncTaskService taskService) {
+        this(taskService::getAllTasks, SwingUtilities::invokeLater);
+    }
+
+    private TaskTableModel(Supplier<CompletableFuture<List<Task>>> loader, Executor applyExecutor) {
+        this.loader = loader;
+        this.applyExecutor = applyExecutor;
+    }
+
+    /**
+     * Relê a visão ordenada do serviço. Custa uma cópia da lista de referências e um único evento.
+     */
+    public void reload() {
+        if (deferred != null) {
+            return;
+        }
+        deferred = new ArrayList<>();
+        loader.get().thenAcceptAsync(this::load, applyExecutor);
+    }
+
+    private void load(List<Task> tasks) {
+        rows = new ArrayList<>(tasks);
+        rowIds = new long[rows.size() * 2];
+        for (int row = 0; row < rows.size(); row++) {
+            rowIds[row * 2] = rows.get(row).getIdHigh();
+            rowIds[row * 2 + 1] = rows.get(row).getIdLow();
+        }
+        List<TaskChangeEvent> pending = deferred;
+        deferred = null;
+        fireTableDataChanged();
+        // As alterações podem ser anteriores ou posteriores à leitura; reaplicá-las é seguro
+        // porque cada uma só descreve o estado final da sua tarefa.
+        if (!pending.isEmpty()) {
+            tasksChanged(pending);
+        }
+    }
+
+    /**
+     * @param row Índice da linha no modelo.
+     * @return A tarefa exibida na linha.
+     */
+    public Task getTaskAt(int row) {
+        return rows.get(row);
+    }
+
+    /**
+     * Aplica as alterações publicadas pelo serviço (feitas por esta GUI ou por qualquer outro
+     * chamador). Cada alteração dispara um único evento de linha; uma rajada maior que
+     * RELOAD_THRESHOLD (ex.: uma importação) relê a visão inteira e dispara um só evento.
+     */
+    @Override
+    public void tasksChanged(List<TaskChangeEvent> events) {
+        if (deferred != null) {
+            deferred.addAll(events);
+            return;
+        }
+        if (events.size() > RELOAD_THRESHOLD) {
+            reload();
+            return;
+        }
+        for (int i = 0; i < events.size(); i++) {
+            if (deferred != null) {
+                // Uma mudança de prioridade disparou uma releitura assíncrona: o restante espera por ela.
+                deferred.addAll(events.subList(i, events.size()));
+                return;
+            }
+            TaskChangeEvent event = events.get(i);
+            int row = rowOf(event.task());
+            if (event.type() == TaskChangeEvent.Type.DELETED) {
+                if (row >= 0) {
+                    rows.remove(row);
+                    System.arraycopy(rowIds, (row + 1) * 2, rowIds, row * 2, (rows.size() - row) * 2);
+                    fireTableRowsDeleted(row, row);
+                }
+            } else if (row < 0) {
+                // Criada (ou ainda não exibida): entra no fim do grupo da sua prioridade,
+                // a mesma posição que ocupa na listagem do serviço.
+                row = endOfPriority(event.task().getPriority());
+                insertRow(row, event.task());
+                fireTableRowsInserted(row, row);
+            } else {
+                updated(row, event.task());
+            }
+        }
+    }
+
+    // Se a prioridade mudou, a posição dentro do novo grupo depende da ordem de criação, que só
+    // o repositório conhece: nesse caso (raro, vindo da edição de detalhes) a visão é relida.
+    private void updated(int row, Task task) {
+        // Repositórios fora do heap entregam uma nova instância a cada leitura.
+        rows.set(row, task);
+        if (fitsAt(row, task.getPriority())) {
+            fireTableRowsUpdated(row, row);
+        } else {
+            reload();
+        }
+    }
+
+    @Override
+    public int getRowCount() {
+        return rows.size();
+    }
+
+    @Override
+    public int getColumnCount() {
+        return COLUMNS.length;
+    }
+
+    @Override
+    public String getColumnName(int column) {
+        return COLUMNS[column];
+    }
+
+    @Override
+    public Object getValueAt(int row, int column) {
+        Task task = rows.get(row);
+        switch (column) {
+            case 0:
+                return task.getShortId();
+            case 1:
+                return task.getTitle();
+            case 2:
+                return task.getPriority();
+            case 3:
+                return task.getStatus();
+            default:
+                return task.getCreatedAt();
+        }
+    }
+
+    // Primeira linha com prioridade menor (as linhas estão em ordem decrescente de prioridade).
+    private int endOfPriority(int priority) {
+        int low = 0;
+        int high = rows.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (rows.get(mid).getPriority() >= priority) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private void insertRow(int row, Task task) {
+        if (rowIds.length < (rows.size() + 1) * 2) {
+            rowIds = Arrays.copyOf(rowIds, Math.max(16, rowIds.length * 2));
+        }
+        System.arraycopy(rowIds, row * 2, rowIds, (row + 1) * 2, (rows.size() - row) * 2);
+        rowIds[row * 2] = task.getIdHigh();
+        rowIds[row * 2 + 1] = task.getIdLow();
+        rows.add(row, task);
+    }
+
+    // Busca sequencial em um array contíguo de longs: sem textos nem objetos temporários.
+    private int rowOf(Task task) {
+        long high = task.getIdHigh();
+        long low = task.getIdLow();
+        int end = rows.size() * 2;
+        for (int i = 0; i < end; i += 2) {
+            if (rowIds[i] == high && rowIds[i + 1] == low) {
+                return i / 2;
+            }
+        }
+        return -1;
+    }
+
+    private boolean fitsAt(int row, int priority) {
+        return (row == 0 || rows.get(row - 1).getPriority() >= priority)
+                && (row == rows.size() - 1 || rows.get(row + 1).getPriority() <= priority);
+    }
+}
@@ -0,0 +1,171 @@
+package com.techflow.audit;
+
+import com.techflow.logging.EventLog;
+import com.techflow.model.ConcurrentTaskRepository;
+import com.techflow.model.Task;
+import com.techflow.model.TaskJournal;
+import com.techflow.model.TaskService;
+import com.techflow.model.TaskSnapshot;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes do histórico de alterações: estado de uma tarefa no tempo, mudanças de status por
+ * intervalo (atravessando vários blocos do log) e tarefas anteriores ao início do log.
+ */
+public class AuditLogTest {
+
+    private static final Instant START = Instant.parse("2024-06-03T12:00:00Z");
+
+    @Test
+    void testStateAtReplaysEveryFieldTransition() {
+        MutableClock clock = new MutableClock(START);
+        TaskService service = newService(clock);
+        AuditLog audit = new AuditLog(service);
+
+        Task task = service.createTask("Separar pedido", "Doca 3", 2);
+        TaskSnapshot created = task.snapshot();
+        clock.advance(Duration.ofMinutes(10));
+        service.updateTaskStatus(task.getId(), Task.TaskStatus.IN_PROGRESS);
+        clock.advance(Duration.ofMinutes(5));
+        service.updateTaskDetails(task.getId(), "Separar pedido urgente", null, 5);
+        TaskSnapshot edited = task.snapshot();
+        clock.advance(Duration.ofMinutes(5));
+        service.updateTaskDeliveryDate(task.getId(), LocalDate.of(2024, 6, 10));
+        clock.advance(Duration.ofHours(1));
+        service.updateTaskStatus(task.getId(), Task.TaskStatus.DONE);
+        TaskSnapshot done = task.snapshot();
+        clock.advance(Duration.ofHours(1));
+        service.deleteTask(task.getId());
+        audit.awaitRecorded();
+
+        String id = task.getId();
+        assertEquals(Optional.empty(), audit.stateAt(id, START.minusMillis(1)), "Antes da criação.");
+        assertEquals(Optional.of(created), audit.stateAt(id, START));
+        assertEquals(Task.TaskStatus.IN_PROGRESS, audit.stateAt(id, START.plusSeconds(600)).orElseThrow().status());
+        assertEquals(Optional.of(edited), audit.stateAt(id, START.plusSeconds(900)));
+        assertNull(audit.stateAt(id, START.plusSeconds(1199)).orElseThrow().deliveryDate());
+        assertEquals(Optional.of(done), audit.stateAt(id, START.plusSeconds(4800)));
+        assertEquals(Optional.empty(), audit.stateAt(id, START.plusSeconds(8400)), "Depois da exclusão.");
+        assertEquals(Optional.empty(), audit.stateAt("não é um ID", START));
+
+        assertEquals(List.of(
+                new StatusTransition(id, START, null, Task.TaskStatus.TO_DO),
+                new StatusTransition(id, START.plusSeconds(600), Task.TaskStatus.TO_DO, Task.TaskStatus.IN_PROGRESS),
+                new StatusTransition(id, START.plusSeconds(4800), Task.TaskStatus.IN_PROGRESS, Task.TaskStatus.DONE)),
+                audit.statusHistory(id));
+        assertEquals(Duration.ofMinutes(70), audit.timeInStatus(id, Task.TaskStatus.IN_PROGRESS, START.plusSeconds(86_400)));
+        assertEquals(Duration.ofMinutes(20), audit.timeInStatus(id, Task.TaskStatus.IN_PROGRESS, START.plusSeconds(1800)));
+        assertEquals(Duration.ofHours(1), audit.timeInStatus(id, Task.TaskStatus.DONE, START.plusSeconds(86_400)),
+                "A exclusão encerra a contagem.");
+        assertEquals(6, audit.recordCount());
+
+        audit.close();
+        service.createTask("Depois do close", null, 1);
+        assertEquals(6, audit.recordCount());
+    }
+
+    @Test
+    void testStatusTransitionsInRangeMatchAFullScan() {
+        MutableClock clock = new MutableClock(START);
+        TaskService service = newService(clock);
+        AuditLog audit = new AuditLog(service);
+        List<Task> tasks = new ArrayList<>();
+        for (int i = 0; i < 2_000; i++) {
+            tasks.add(service.createTask("Tarefa " + i, null, 1 + i % 5));
+        }
+        Random random = new Random(24);
+        List<StatusTransition> expected = new ArrayList<>();
+        for (int i = 0; i < 100_000; i++) {
+            clock.advance(Duration.ofMillis(random.nextInt(3)));
+            Task task = tasks.get(random.nextInt(tasks.size()));
+            Task.TaskStatus from = task.getStatus();
+            Task.TaskStatus to = Task.TaskStatus.values()[(from.ordinal() + 1 + random.nextInt(2)) % 3];
+            service.updateTaskStatus(task.getId(), to);
+            expected.add(new StatusTransition(task.getId(), clock.instant(), from, to));
+        }
+        audit.awaitRecorded();
+        assertTrue(audit.encodedBytes() > 10 * DeltaBuffer.BLOCK_SIZE, "O log precisa de vários blocos.");
+
+        for (int i = 0; i < 20; i++) {
+            Instant from = START.plusMillis(random.nextInt(100_000));
+            Instant to = from.plusMillis(random.nextInt(20_000));
+            List<StatusTransition> inRange = expected.stream()
+                    .filter(t -> !t.at().isBefore(from) && t.at().isBefore(to)).toList();
+            assertEquals(inRange, audit.statusTransitions(from, to), from + " a " + to);
+        }
+        assertEquals(2_000, audit.statusTransitions(START, START.plusMillis(1)).stream()
+                .filter(t -> t.from() == null).count(), "Criações contam como mudança de status.");
+    }
+
+    @Test
+    void testTasksFromBeforeTheLogStartWithABaseline() {
+        MutableClock clock = new MutableClock(START.minusSeconds(3600));
+        TaskService service = newService(clock);
+        Task task = service.createTask("Anterior ao log", "Já existia", 3);
+        TaskSnapshot original = task.snapshot();
+        clock.advance(Duration.ofHours(1));
+        AuditLog audit = new AuditLog(service);
+
+        clock.advance(Duration.ofMinutes(1));
+        service.updateTaskStatus(task.getId(), Task.TaskStatus.IN_PROGRESS);
+        // Relógio que volta: o instante registrado não recua.
+        clock.advance(Duration.ofMinutes(-30));
+        service.updateTaskStatus(task.getId(), Task.TaskStatus.DONE);
+        audit.awaitRecorded();
+
+        Instant first = START.plusSeconds(60);
+        assertEquals(Optional.empty(), audit.stateAt(task.getId(), START), "Antes da primeira alteração observada.");
+        assertEquals(Optional.of(task.snapshot()), audit.stateAt(task.getId(), first));
+        assertEquals(List.of(
+                new StatusTransition(task.getId(), first, Task.TaskStatus.TO_DO, Task.TaskStatus.IN_PROGRESS),
+                new StatusTransition(task.getId(), first, Task.TaskStatus.IN_PROGRESS, Task.TaskStatus.DONE)),
+                audit.statusTransitions(START, first.plusMillis(1)));
+        assertEquals(Duration.ofMinutes(9), audit.timeInStatus(task.getId(), Task.TaskStatus.DONE, first.plusSeconds(540)));
+        assertEquals(original.title(), audit.stateAt(task.getId(), first).orElseThrow().title());
+    }
+
+    private static TaskService newService(Clock clock) {
+        return new TaskService(new ConcurrentTaskRepository(), TaskJournal.NONE, EventLog.disabled(), clock);
+    }
+
+    // Relógio controlado pelo teste.
+    private static final class MutableClock extends Clock {
+        private Instant instant;
+
+        MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.techflow.benchmark;
+
+import com.techflow.logging.EventLog;
+import com.techflow.logging.LogLevel;
+import com.techflow.model.ConcurrentTaskRepository;
+import com.techflow.model.TaskService;
+import com.techflow.model.TaskSpec;
+import com.techflow.persistence.WriteAheadLog;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Importação de 1M de tarefas: createTask uma a uma x createTasks em um único lote,
+ * somente em memória e com o write-ahead log (fsync INTERVAL). O log de eventos fica
+ * desligado, o que favorece o caminho individual (uma mensagem por tarefa).
+ *
+ * Não é um teste unitário; execute manualmente (requer ~2 GB de heap):
+ * mvn test-compile exec:exec -Dexec.classpathScope=test -Dexec.executable=java
+ *     -Dexec.args="-Xms2g -Xmx2g -cp %classpath com.techflow.benchmark.BatchImportBenchmark"
+ */
+public class BatchImportBenchmark {
+
+    private static final int TASKS = 1_000_000;
+
+    public static void main(String[] args) throws IOException {
+        List<TaskSpec> specs = new ArrayList<>(TASKS);
+        for (int i = 0; i < TASKS; i++) {
+            specs.add(new TaskSpec("Importada " + i, "Pedido " + (i % 1000) + " - cliente " + i, 1 + i % 5));
+        }
+        EventLog.console().setLevel(LogLevel.OFF);
+        Path dir = Files.createTempDirectory("techflow-batch-bench");
+        try {
+            for (int round = 1; round <= 3; round++) {
+                System.out.printf("rodada %d: memória individual %d ms, lote %d ms | log individual %d ms, lote %d ms%n", round,
+                        importOneByOne(new TaskService(new ConcurrentTaskRepository()), specs),
+                        importBatch(new TaskService(new ConcurrentTaskRepository()), specs),
+                        withLog(dir.resolve(round + "-single.wal"), service -> importOneByOne(service, specs)),
+                        withLog(dir.resolve(round + "-batch.wal"), service -> importBatch(service, specs)));
+            }
+        } finally {
+            try (var files = Files.list(dir)) {
+                for (Path p : (Iterable<Path>) files::iterator) {
+                    Files.deleteIfExists(p);
+                }
+            }
+            Files.deleteIfExists(dir);
+        }
+    }
+
+    private static long importOneByOne(TaskService service, List<TaskSpec> specs) {
+        long start = System.nanoTime();
+        for (TaskSpec spec : specs) {
+            service.createTask(spec.title(), spec.description(), spec.priority());
+        }
+        return (System.nanoTime() - start) / 1_000_000;
+    }
+
+    private static long importBatch(TaskService service, List<TaskSpec> specs) {
+        long start = System.nanoTime();
+        service.createTasks(specs);
+        return (System.nanoTime() - start) / 1_000_000;
+    }
+
+    private interface Import {
+        long run(TaskService service);
+    }
+
+    private static long withLog(Path file, Import importer) throws IOException {
+        ConcurrentTaskRepository repository = new ConcurrentTaskRepository();
+        try (WriteAheadLog wal = WriteAheadLog.open(file, WriteAheadLog.FsyncPolicy.INTERVAL, repository)) {
+            return importer.run(new TaskService(repository, wal));
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package com.techflow.benchmark;
+
+import com.techflow.logging.EventLog;
+import com.techflow.logging.LogLevel;
+import com.techflow.model.DeadlineScheduler;
+import com.techflow.model.Task;
+import com.techflow.model.TaskService;
+import com.techflow.model.TaskSpec;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Custo de detectar os prazos de um dia com 500k tarefas com data de entrega ao longo de 2 anos:
+ * varrer a lista inteira a cada verificação (polling) x DeadlineScheduler (roda de tempo).
+ *
+ * Não é um teste unitário; execute manualmente:
+ * mvn test-compile exec:java -Dexec.classpathScope=test -Dexec.mainClass="com.techflow.benchmark.DeadlineBenchmark"
+ */
+public class DeadlineBenchmark {
+
+    private static final int TASKS = 500_000;
+    private static final int DAYS = 730;
+    private static final int DUE_SOON_DAYS = 3;
+    private static final int POLLING_ROUNDS = 5;
+    private static final LocalDate START = LocalDate.of(2024, 1, 1);
+
+    public static void main(String[] args) throws Exception {
+        EventLog.console().setLevel(LogLevel.OFF);
+        TaskService service = TaskService.concurrent();
+        List<TaskSpec> specs = new ArrayList<>(TASKS);
+        for (int i = 0; i < TASKS; i++) {
+            specs.add(new TaskSpec("Tarefa " + i, "Benchmark de prazos", 1 + i % 5));
+        }
+        service.createTasks(specs);
+        Random random = new Random(7);
+        for (Task task : service.getAllTasks()) {
+            service.updateTaskDeliveryDate(task.getId(), START.plusDays(random.nextInt(DAYS)));
+        }
+
+        // Polling: a cada verificação, percorre todas as tarefas procurando prazos atingidos.
+        long pollingNanos = 0;
+        long pollingHits = 0;
+        for (int round = 0; round < POLLING_ROUNDS; round++) {
+            LocalDate today = START.plusDays(round * 100L);
+            long start = System.nanoTime();
+            for (Task task : service.getAllTasks()) {
+                LocalDate delivery = task.getDeliveryDate();
+                if (delivery != null && task.getStatus() != Task.TaskStatus.DONE
+                        && !delivery.minusDays(DUE_SOON_DAYS).isAfter(today)) {
+                    pollingHits++;
+                }
+            }
+            pollingNanos += System.nanoTime() - start;
+        }
+
+        // Roda de tempo: carga inicial uma vez, depois uma verificação por dia.
+        MutableClock clock = new MutableClock(START);
+        AtomicLong fired = new AtomicLong();
+        long start = System.nanoTime();
+        try (DeadlineScheduler scheduler = new DeadlineScheduler(service, DUE_SOON_DAYS, clock,
+                events -> fired.addAndGet(events.size()))) {
+            int tracked = scheduler.trackedCount().get();
+            long loadNanos = System.nanoTime() - start;
+
+            long worstNanos = 0;
+            start = System.nanoTime();
+            for (int day = 0; day <= DAYS + 1; day++) {
+                clock.set(START.plusDays(day));
+                long checkStart = System.nanoTime();
+                scheduler.check().get();
+                worstNanos = Math.max(worstNanos, System.nanoTime() - checkStart);
+            }
+            long wheelNanos = System.nanoTime() - start;
+
+            System.out.printf("Tarefas acompanhadas: %d; avisos disparados: %d (polling encontrou %d em %d rodadas)%n",
+                    tracked, fired.get(), pollingHits, POLLING_ROUNDS);
+            System.out.printf("Polling:       %8.2f ms por verificação%n", pollingNanos / 1e6 / POLLING_ROUNDS);
+            System.out.printf("Roda de tempo: %8.3f ms por verificação diária (pior: %.2f ms), carga inicial %d ms%n",
+                    wheelNanos / 1e6 / (DAYS + 2), worstNanos / 1e6, loadNanos / 1_000_000);
+        }
+    }
+
+    private static final class MutableClock extends Clock {
+        private volatile Instant instant;
+
+        MutableClock(LocalDate date) {
+            set(date);
+        }
+
+        void set(LocalDate date) {
+            instant = date.atStartOfDay(ZoneOffset.UTC).toInstant();
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
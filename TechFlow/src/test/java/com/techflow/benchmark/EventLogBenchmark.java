@@ -0,0 +1,75 @@
+package com.techflow.benchmark;
+
+import com.techflow.logging.EventLog;
+import com.techflow.logging.LogLevel;
+import com.techflow.model.ConcurrentTaskRepository;
+import com.techflow.model.TaskJournal;
+import com.techflow.model.TaskService;
+
+import java.io.FileOutputStream;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Custo das mensagens de console em createTask com várias threads: println síncrono
+ * (como antes do EventLog) x EventLog assíncrono x EventLog desligado. As mensagens vão
+ * para um arquivo temporário com autoflush, como um console: uma escrita no SO por linha.
+ *
+ * Não é um teste unitário; execute manualmente:
+ * mvn test-compile exec:java -Dexec.classpathScope=test -Dexec.mainClass="com.techflow.benchmark.EventLogBenchmark"
+ */
+public class EventLogBenchmark {
+
+    private static final int THREADS = 4;
+    private static final int TASKS_PER_THREAD = 100_000;
+    private static final int ROUNDS = 5;
+
+    public static void main(String[] args) throws Exception {
+        Path file = Files.createTempFile("techflow-log-bench", ".log");
+        file.toFile().deleteOnExit();
+        PrintStream discard = new PrintStream(new FileOutputStream(file.toFile()), true);
+        EventLog async = new EventLog((level, message) -> discard.println(message), LogLevel.INFO, EventLog.DEFAULT_CAPACITY);
+        System.out.printf("%-8s %18s %18s %18s%n", "rodada", "println/s", "EventLog/s", "desligado/s");
+        for (int round = 1; round <= ROUNDS; round++) {
+            double println = run(EventLog.disabled(), discard);
+            double logged = run(async, null);
+            async.flush();
+            double off = run(EventLog.disabled(), null);
+            System.out.printf("%-8d %18.0f %18.0f %18.0f%n", round, println, logged, off);
+        }
+        System.out.printf("mensagens descartadas pelo EventLog (buffer cheio): %d%n", async.droppedCount());
+        async.close();
+        discard.close();
+    }
+
+    private static double run(EventLog log, PrintStream synchronous) throws Exception {
+        TaskService service = new TaskService(new ConcurrentTaskRepository(), TaskJournal.NONE, log);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        long start = System.nanoTime();
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < THREADS; t++) {
+            int thread = t;
+            futures.add(executor.submit(() -> {
+                for (int i = 0; i < TASKS_PER_THREAD; i++) {
+                    String title = "Tarefa " + thread + "-" + i;
+                    service.createTask(title, "Benchmark do log", 1 + i % 5);
+                    if (synchronous != null) {
+                        synchronous.println("Tarefa criada com sucesso: " + title);
+                    }
+                }
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        double perSecond = THREADS * TASKS_PER_THREAD / ((System.nanoTime() - start) / 1_000_000_000.0);
+        executor.shutdown();
+        return perSecond;
+    }
+}
@@ -0,0 +1,132 @@
+package com.techflow.benchmark;
+
+import com.techflow.logging.EventLog;
+import com.techflow.logging.LogLevel;
+import com.techflow.model.Task;
+import com.techflow.model.TaskService;
+import com.techflow.model.TaskSpec;
+import com.techflow.server.TaskHttpServer;
+
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Carga aberta na API HTTP em localhost: as requisições saem em horários fixos (por padrão
+ * 10k req/s), sem esperar as anteriores, e a latência conta a partir do horário previsto —
+ * uma fila no servidor aparece no p99 em vez de apenas reduzir a taxa enviada.
+ * Mistura: 80% GET por ID, 10% páginas de 50 tarefas e 10% PATCH de status, sobre 10k tarefas.
+ * Argumentos opcionais: taxa (req/s) e duração (s).
+ *
+ * Não é um teste unitário; execute manualmente:
+ * mvn test-compile exec:java -Dexec.classpathScope=test -Dexec.mainClass="com.techflow.benchmark.HttpLoadBenchmark"
+ */
+public class HttpLoadBenchmark {
+
+    private static final int TASKS = 10_000;
+    private static final int WARMUP_SECONDS = 3;
+    private static final String[] STATUSES = {"TO_DO", "IN_PROGRESS", "DONE"};
+
+    public static void main(String[] args) throws Exception {
+        int rate = args.length > 0 ? Integer.parseInt(args[0]) : 10_000;
+        int seconds = args.length > 1 ? Integer.parseInt(args[1]) : 10;
+
+        EventLog.console().setLevel(LogLevel.OFF);
+        TaskService service = TaskService.concurrent();
+        List<TaskSpec> specs = new ArrayList<>(TASKS);
+        for (int i = 0; i < TASKS; i++) {
+            specs.add(new TaskSpec("Tarefa " + i, "Carga HTTP", 1 + i % 5));
+        }
+        service.createTasks(specs);
+        String[] ids = service.getAllTasks().stream().map(Task::getId).toArray(String[]::new);
+
+        try (TaskHttpServer server = TaskHttpServer.start(service, new InetSocketAddress("localhost", 0))) {
+            String base = "http://localhost:" + server.port() + "/tasks";
+            HttpClient client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+            System.out.printf("Processadores: %d, taxa alvo: %d req/s%n", Runtime.getRuntime().availableProcessors(), rate);
+
+            run(client, base, ids, rate, WARMUP_SECONDS);
+            long[] latencies = run(client, base, ids, rate, seconds);
+            report(latencies, seconds);
+        }
+    }
+
+    // Envia rate * seconds requisições em horários fixos; devolve as latências em nanossegundos
+    // (negativas para requisições que falharam).
+    private static long[] run(HttpClient client, String base, String[] ids, int rate, int seconds)
+            throws InterruptedException {
+        int total = rate * seconds;
+        long interval = TimeUnit.SECONDS.toNanos(1) / rate;
+        long[] latencies = new long[total];
+        CountDownLatch done = new CountDownLatch(total);
+        AtomicInteger failures = new AtomicInteger();
+        Random random = new Random(21);
+        long start = System.nanoTime();
+        for (int i = 0; i < total; i++) {
+            long intended = start + i * interval;
+            long wait = intended - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            int index = i;
+            client.sendAsync(request(base, ids, random), HttpResponse.BodyHandlers.discarding())
+                    .whenComplete((response, error) -> {
+                        long latency = System.nanoTime() - intended;
+                        boolean ok = error == null && response.statusCode() < 300;
+                        latencies[index] = ok ? latency : -latency;
+                        if (!ok) {
+                            failures.incrementAndGet();
+                        }
+                        done.countDown();
+                    });
+        }
+        if (!done.await(seconds + 60L, TimeUnit.SECONDS)) {
+            System.out.println("Tempo esgotado aguardando respostas.");
+        }
+        if (failures.get() > 0) {
+            System.out.printf("Falhas: %d%n", failures.get());
+        }
+        return latencies;
+    }
+
+    private static HttpRequest request(String base, String[] ids, Random random) {
+        int kind = random.nextInt(10);
+        String id = ids[random.nextInt(ids.length)];
+        if (kind < 8) {
+            return HttpRequest.newBuilder(URI.create(base + "/" + id)).GET().build();
+        }
+        if (kind == 8) {
+            return HttpRequest.newBuilder(URI.create(base + "?limit=50")).GET().build();
+        }
+        String body = "{\"status\":\"" + STATUSES[random.nextInt(STATUSES.length)] + "\"}";
+        return HttpRequest.newBuilder(URI.create(base + "/" + id))
+                .method("PATCH", HttpRequest.BodyPublishers.ofString(body))
+                .build();
+    }
+
+    private static void report(long[] latencies, int seconds) {
+        long[] ok = Arrays.stream(latencies).filter(latency -> latency > 0).sorted().toArray();
+        if (ok.length == 0) {
+            System.out.println("Nenhuma requisição concluída.");
+            return;
+        }
+        System.out.printf("Concluídas: %d (%.0f req/s)%n", ok.length, ok.length / (double) seconds);
+        System.out.printf("p50: %.2f ms, p99: %.2f ms, p99.9: %.2f ms, máx: %.2f ms%n",
+                percentile(ok, 0.50), percentile(ok, 0.99), percentile(ok, 0.999), ok[ok.length - 1] / 1e6);
+    }
+
+    private static double percentile(long[] sorted, double fraction) {
+        int index = (int) Math.ceil(fraction * sorted.length) - 1;
+        return sorted[Math.max(0, index)] / 1e6;
+    }
+}
@@ -0,0 +1,68 @@
+package com.techflow.benchmark;
+
+import com.techflow.model.InMemoryTaskRepository;
+import com.techflow.model.Task;
+import com.techflow.model.TaskRepository;
+import com.techflow.persistence.MappedTaskRepository;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.stream.Stream;
+
+/**
+ * Heap retido e tempo de abertura com 1M de tarefas: repositório em memória x arquivos mapeados.
+ *
+ * Não é um teste unitário; execute manualmente (requer ~2 GB de heap):
+ * mvn test-compile exec:exec -Dexec.classpathScope=test -Dexec.executable=java
+ *     -Dexec.args="-Xms2g -Xmx2g -cp %classpath com.techflow.benchmark.MappedRepositoryBenchmark"
+ */
+public class MappedRepositoryBenchmark {
+
+    private static final int TASKS = 1_000_000;
+
+    public static void main(String[] args) throws IOException {
+        long baseline = usedHeap();
+        TaskRepository inMemory = new InMemoryTaskRepository();
+        fill(inMemory);
+        System.out.printf("em memória: %d bytes de heap por tarefa%n", (usedHeap() - baseline) / TASKS);
+        inMemory = null;
+
+        Path dir = Files.createTempDirectory("techflow-mapped-bench");
+        try {
+            baseline = usedHeap();
+            try (MappedTaskRepository mapped = MappedTaskRepository.open(dir)) {
+                fill(mapped);
+                System.out.printf("mapeado: %d bytes de heap por tarefa%n", (usedHeap() - baseline) / TASKS);
+            }
+            for (int round = 0; round < 3; round++) {
+                long start = System.nanoTime();
+                try (MappedTaskRepository reopened = MappedTaskRepository.open(dir)) {
+                    System.out.printf("abertura: %d tarefas em %d ms%n", reopened.count(),
+                            (System.nanoTime() - start) / 1_000_000);
+                }
+            }
+        } finally {
+            try (Stream<Path> files = Files.walk(dir)) {
+                for (Path p : (Iterable<Path>) files.sorted(Comparator.reverseOrder())::iterator) {
+                    Files.deleteIfExists(p);
+                }
+            }
+        }
+    }
+
+    private static void fill(TaskRepository repository) {
+        for (int i = 0; i < TASKS; i++) {
+            repository.save(new Task("Entrega " + i, "Rota " + (i % 500) + " - cliente " + i, 1 + i % 5));
+        }
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
@@ -0,0 +1,97 @@
+package com.techflow.benchmark;
+
+import com.techflow.logging.EventLog;
+import com.techflow.logging.LogLevel;
+import com.techflow.model.Task;
+import com.techflow.model.TaskPage;
+import com.techflow.model.TaskService;
+import com.techflow.model.TaskSpec;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.LongSupplier;
+
+/**
+ * Leituras de um quadro com 1M tarefas no modo concorrente: a primeira tela (50 tarefas) e um
+ * relatório sobre todas as tarefas (quantas estão concluídas), com getAllTasks (lista copiada),
+ * com páginas por cursor e com streamTasks, sequencial e paralelo.
+ * Mostra o tempo e quanto cada leitura aloca na thread que chama.
+ *
+ * Não é um teste unitário; execute manualmente:
+ * mvn test-compile exec:java -Dexec.classpathScope=test -Dexec.mainClass="com.techflow.benchmark.PagedReadBenchmark"
+ */
+public class PagedReadBenchmark {
+
+    private static final int TASKS = 1_000_000;
+    private static final int SCREEN = 50;
+    private static final int PAGE = 1_000;
+    private static final int ROUNDS = 20;
+
+    public static void main(String[] args) {
+        EventLog.console().setLevel(LogLevel.OFF);
+        TaskService service = TaskService.concurrent();
+        List<TaskSpec> specs = new ArrayList<>(TASKS);
+        for (int i = 0; i < TASKS; i++) {
+            specs.add(new TaskSpec("Tarefa " + i, null, 1 + i % 5));
+        }
+        service.createTasks(specs);
+        List<Task> all = service.getAllTasks();
+        for (int i = 0; i < TASKS; i += 3) {
+            service.updateTaskStatus(all.get(i).getId(), Task.TaskStatus.DONE);
+        }
+        all = null;
+
+        System.out.printf("Processadores: %d%n", Runtime.getRuntime().availableProcessors());
+        System.out.printf("%-34s %12s %16s%n", "leitura", "ms", "alocado (MB)");
+        measure("primeira tela: getAllTasks", () -> service.getAllTasks().subList(0, SCREEN).size());
+        measure("primeira tela: getTaskPage", () -> service.getTaskPage(null, SCREEN).tasks().size());
+        measure("primeira tela: streamTasks", () -> service.streamTasks().limit(SCREEN).count());
+        measure("relatório: getAllTasks", () -> countDone(service.getAllTasks()));
+        measure("relatório: páginas de " + PAGE, () -> {
+            long done = 0;
+            TaskPage page = service.getTaskPage(null, PAGE);
+            done += countDone(page.tasks());
+            while (page.hasNext()) {
+                page = service.getTaskPage(page.next(), PAGE);
+                done += countDone(page.tasks());
+            }
+            return done;
+        });
+        measure("relatório: streamTasks", () -> service.streamTasks().filter(PagedReadBenchmark::isDone).count());
+        measure("relatório: streamTasks paralelo",
+                () -> service.streamTasks().parallel().filter(PagedReadBenchmark::isDone).count());
+    }
+
+    private static long countDone(List<Task> tasks) {
+        long done = 0;
+        for (Task task : tasks) {
+            if (isDone(task)) {
+                done++;
+            }
+        }
+        return done;
+    }
+
+    private static boolean isDone(Task task) {
+        return task.snapshot().status() == Task.TaskStatus.DONE;
+    }
+
+    // Média de ROUNDS rodadas, após o mesmo número de rodadas de aquecimento.
+    private static void measure(String label, LongSupplier read) {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long result = 0;
+        for (int i = 0; i < ROUNDS; i++) {
+            result += read.getAsLong();
+        }
+        long allocatedBefore = threads.getCurrentThreadAllocatedBytes();
+        long start = System.nanoTime();
+        for (int i = 0; i < ROUNDS; i++) {
+            result += read.getAsLong();
+        }
+        long nanos = System.nanoTime() - start;
+        long allocated = threads.getCurrentThreadAllocatedBytes() - allocatedBefore;
+        System.out.printf("%-34s %12.3f %16.2f   (%d)%n", label, nanos / 1e6 / ROUNDS,
+                allocated / 1e6 / ROUNDS, result / (2 * ROUNDS));
+    }
+}
@@ -0,0 +1,88 @@
+package com.techflow.benchmark;
+
+import com.techflow.model.InMemoryTaskRepository;
+import com.techflow.model.Task;
+import com.techflow.model.TaskService;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.function.IntSupplier;
+
+/**
+ * Benchmark simples da listagem por prioridade (getAllTasks).
+ * Compara a abordagem antiga (ArrayList reordenada a cada leitura) com o índice
+ * por prioridade mantido pelo InMemoryTaskRepository.
+ *
+ * Cada rodada simula uma ação da GUI: altera a prioridade de uma tarefa e relista o quadro.
+ *
+ * Não é um teste unitário; execute manualmente:
+ * mvn test-compile exec:java -Dexec.classpathScope=test -Dexec.mainClass="com.techflow.benchmark.PriorityOrderBenchmark"
+ */
+public class PriorityOrderBenchmark {
+
+    private static final int[] SIZES = {10_000, 100_000, 1_000_000};
+    private static final int WARMUP_ROUNDS = 20;
+    private static final int MEASURED_ROUNDS = 50;
+
+    public static void main(String[] args) {
+        System.out.printf("%-10s %20s %20s%n", "tarefas", "sort (ms/ação)", "índice (ms/ação)");
+        for (int size : SIZES) {
+            List<Task> tasks = generateTasks(size);
+            Random random = new Random(7);
+
+            // Abordagem antiga: lista única, reordenada em toda leitura.
+            List<Task> legacy = new ArrayList<>(tasks);
+            double sortMillis = measure(() -> {
+                legacy.get(random.nextInt(size)).setPriority(randomPriority(random));
+                legacy.sort((t1, t2) -> Integer.compare(t2.getPriority(), t1.getPriority()));
+                return legacy.size();
+            });
+
+            // Abordagem nova: índice por prioridade mantido nas escritas.
+            InMemoryTaskRepository repository = new InMemoryTaskRepository();
+            tasks.forEach(repository::save);
+            TaskService service = new TaskService(repository);
+            double indexMillis = measure(() -> {
+                Task task = tasks.get(random.nextInt(size));
+                task.setPriority(randomPriority(random));
+                repository.save(task);
+                return service.getAllTasks().size();
+            });
+
+            System.out.printf("%-10d %20.3f %20.3f%n", size, sortMillis, indexMillis);
+        }
+    }
+
+    private static List<Task> generateTasks(int size) {
+        Random random = new Random(42);
+        List<Task> tasks = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            tasks.add(new Task("Tarefa " + i, "Descrição " + i, randomPriority(random)));
+        }
+        // Embaralha para que a lista antiga não comece já ordenada.
+        Collections.shuffle(tasks, random);
+        return tasks;
+    }
+
+    private static int randomPriority(Random random) {
+        return Task.MIN_PRIORITY + random.nextInt(Task.MAX_PRIORITY - Task.MIN_PRIORITY + 1);
+    }
+
+    private static double measure(IntSupplier action) {
+        int sink = 0;
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            sink += action.getAsInt();
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < MEASURED_ROUNDS; i++) {
+            sink += action.getAsInt();
+        }
+        long elapsed = System.nanoTime() - start;
+        if (sink == 0) {
+            System.out.println("(nenhuma tarefa lida)");
+        }
+        return elapsed / 1_000_000.0 / MEASURED_ROUNDS;
+    }
+}
@@ -0,0 +1,70 @@
+package com.techflow.benchmark;
+
+import com.techflow.model.Task;
+import com.techflow.model.TaskSnapshot;
+import com.techflow.report.ReportEngine;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Relatório gerencial (ciclo por prioridade, criações por dia, atrasos) sobre 2M tarefas
+ * com datas espalhadas por 3 anos, com o ReportEngine de 1 até N threads (N = processadores).
+ *
+ * Não é um teste unitário; execute manualmente:
+ * mvn test-compile exec:java -Dexec.classpathScope=test -Dexec.mainClass="com.techflow.benchmark.ReportBenchmark"
+ */
+public class ReportBenchmark {
+
+    private static final int TASKS = 2_000_000;
+    private static final int ROUNDS = 10;
+    private static final LocalDate TODAY = LocalDate.of(2024, 6, 15);
+
+    public static void main(String[] args) {
+        Random random = new Random(5);
+        List<Task> tasks = new ArrayList<>(TASKS);
+        for (int i = 0; i < TASKS; i++) {
+            LocalDate created = TODAY.minusDays(random.nextInt(1_095));
+            LocalDate delivery = random.nextInt(4) == 0 ? null : created.plusDays(random.nextInt(120));
+            Task.TaskStatus status = Task.TaskStatus.values()[random.nextInt(3)];
+            tasks.add(Task.restore(new TaskSnapshot(random.nextLong(), random.nextLong(), "Tarefa " + i, null,
+                    1 + random.nextInt(5), status, created, delivery)));
+        }
+
+        int processors = Runtime.getRuntime().availableProcessors();
+        System.out.printf("%-8s %14s %10s%n", "threads", "ms/relatório", "speedup");
+        // 1, 2, 4, ... e o total de processadores.
+        List<Integer> threadCounts = new ArrayList<>();
+        for (int threads = 1; threads < processors; threads *= 2) {
+            threadCounts.add(threads);
+        }
+        threadCounts.add(processors);
+        double baseline = 0;
+        for (int threads : threadCounts) {
+            double millis = measure(tasks, threads);
+            baseline = threads == 1 ? millis : baseline;
+            System.out.printf("%-8d %14.1f %9.2fx%n", threads, millis, baseline / millis);
+        }
+    }
+
+    // Média de ROUNDS relatórios, após o mesmo número de rodadas de aquecimento.
+    private static double measure(List<Task> tasks, int threads) {
+        try (ReportEngine engine = new ReportEngine(threads)) {
+            long checksum = 0;
+            for (int i = 0; i < ROUNDS; i++) {
+                checksum += engine.generate(tasks, TODAY).overdue(5);
+            }
+            long start = System.nanoTime();
+            for (int i = 0; i < ROUNDS; i++) {
+                checksum += engine.generate(tasks, TODAY).overdue(5);
+            }
+            double millis = (System.nanoTime() - start) / 1e6 / ROUNDS;
+            if (checksum < 0) {
+                System.out.println(checksum);
+            }
+            return millis;
+        }
+    }
+}
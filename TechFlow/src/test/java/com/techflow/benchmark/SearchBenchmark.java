@@ -0,0 +1,87 @@
+package com.techflow.benchmark;
+
+import com.techflow.logging.EventLog;
+import com.techflow.logging.LogLevel;
+import com.techflow.model.Task;
+import com.techflow.model.TaskService;
+import com.techflow.model.TaskSpec;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+
+/**
+ * Busca textual com 300k tarefas: varredura com contains() em título e descrição x índice
+ * invertido do TaskService (prefixos, várias palavras, sem acentos), com todos os resultados
+ * e com as 50 primeiras sugestões (busca enquanto se digita).
+ *
+ * Não é um teste unitário; execute manualmente:
+ * mvn test-compile exec:java -Dexec.classpathScope=test -Dexec.mainClass="com.techflow.benchmark.SearchBenchmark"
+ */
+public class SearchBenchmark {
+
+    private static final int TASKS = 300_000;
+    private static final int ROUNDS = 20;
+    private static final int SUGGESTIONS = 50;
+    private static final String[] WORDS = {
+            "entrega", "coleta", "conferência", "inventário", "caminhão", "doca", "palete", "nota",
+            "fiscal", "cliente", "fornecedor", "devolução", "armazém", "separação", "embalagem", "rota",
+            "motorista", "agendamento", "urgente", "reposição", "estoque", "avaria", "seguro", "carga"};
+    private static final String[] CITIES = {
+            "São Paulo", "Belo Horizonte", "Curitiba", "Recife", "Porto Alegre", "Goiânia", "Manaus", "Salvador"};
+    private static final String[] QUERIES = {"caminhao", "nota fiscal", "entreg recife", "devolucao urgente manaus"};
+
+    public static void main(String[] args) {
+        EventLog.console().setLevel(LogLevel.OFF);
+        TaskService service = TaskService.concurrent();
+        Random random = new Random(11);
+        List<TaskSpec> specs = new ArrayList<>(TASKS);
+        for (int i = 0; i < TASKS; i++) {
+            String title = WORDS[random.nextInt(WORDS.length)] + " " + WORDS[random.nextInt(WORDS.length)] + " " + i;
+            String description = WORDS[random.nextInt(WORDS.length)] + " de " + WORDS[random.nextInt(WORDS.length)]
+                    + " em " + CITIES[random.nextInt(CITIES.length)] + " #" + random.nextInt(1_000_000);
+            specs.add(new TaskSpec(title, description, 1 + random.nextInt(5)));
+        }
+        long start = System.nanoTime();
+        service.createTasks(specs);
+        System.out.printf("Criação + indexação de %d tarefas: %d ms%n", TASKS, (System.nanoTime() - start) / 1_000_000);
+
+        System.out.printf("%-28s %10s %16s %16s %16s%n", "consulta", "resultados", "varredura (ms)", "índice (ms)",
+                "sugestões (ms)");
+        for (String query : QUERIES) {
+            int found = 0;
+            long scanNanos = 0;
+            long indexNanos = 0;
+            long suggestNanos = 0;
+            for (int round = 0; round < ROUNDS; round++) {
+                start = System.nanoTime();
+                scan(service, query);
+                scanNanos += System.nanoTime() - start;
+
+                start = System.nanoTime();
+                found = service.search(query).size();
+                indexNanos += System.nanoTime() - start;
+
+                start = System.nanoTime();
+                service.search(query, SUGGESTIONS);
+                suggestNanos += System.nanoTime() - start;
+            }
+            System.out.printf("%-28s %10d %16.2f %16.3f %16.3f%n", query, found, scanNanos / 1e6 / ROUNDS,
+                    indexNanos / 1e6 / ROUNDS, suggestNanos / 1e6 / ROUNDS);
+        }
+    }
+
+    // A abordagem ingênua: texto da consulta em qualquer posição do título ou da descrição.
+    private static List<Task> scan(TaskService service, String query) {
+        String needle = query.toLowerCase(Locale.ROOT);
+        List<Task> result = new ArrayList<>();
+        for (Task task : service.getAllTasks()) {
+            if (task.getTitle().toLowerCase(Locale.ROOT).contains(needle)
+                    || (task.getDescription() != null && task.getDescription().toLowerCase(Locale.ROOT).contains(needle))) {
+                result.add(task);
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,66 @@
+package com.techflow.benchmark;
+
+import com.techflow.model.ConcurrentTaskRepository;
+import com.techflow.model.Task;
+import com.techflow.model.TaskService;
+import com.techflow.persistence.TaskStore;
+import com.techflow.persistence.WriteAheadLog;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.stream.Stream;
+
+/**
+ * Tempo de gravação de um snapshot e de restauração (snapshot + final do log) para 1M de tarefas.
+ *
+ * Não é um teste unitário; execute manualmente (requer ~2 GB de heap):
+ * mvn test-compile exec:exec -Dexec.classpathScope=test -Dexec.executable=java
+ *     -Dexec.args="-Xms2g -Xmx2g -cp %classpath com.techflow.benchmark.SnapshotBenchmark"
+ */
+public class SnapshotBenchmark {
+
+    private static final int TASKS = 1_000_000;
+
+    public static void main(String[] args) throws IOException {
+        Path dir = Files.createTempDirectory("techflow-snapshot-bench");
+        try {
+            ConcurrentTaskRepository repository = new ConcurrentTaskRepository();
+            try (TaskStore store = TaskStore.open(dir, WriteAheadLog.FsyncPolicy.INTERVAL, repository)) {
+                for (int i = 0; i < TASKS; i++) {
+                    repository.save(new Task("Entrega " + i, "Rota " + (i % 500) + " - cliente " + i, 1 + i % 5));
+                }
+                TaskService service = new TaskService(repository, store);
+
+                long start = System.nanoTime();
+                store.snapshot(service);
+                System.out.printf("snapshot: %d tarefas em %d ms (%d MB)%n", TASKS,
+                        (System.nanoTime() - start) / 1_000_000, directorySize(dir) / (1024 * 1024));
+            }
+
+            for (int round = 0; round < 3; round++) {
+                ConcurrentTaskRepository restored = new ConcurrentTaskRepository();
+                long start = System.nanoTime();
+                TaskStore.open(dir, WriteAheadLog.FsyncPolicy.INTERVAL, restored).close();
+                System.out.printf("restauração: %d tarefas em %d ms%n", restored.count(), (System.nanoTime() - start) / 1_000_000);
+            }
+        } finally {
+            try (Stream<Path> files = Files.walk(dir)) {
+                for (Path p : (Iterable<Path>) files.sorted(Comparator.reverseOrder())::iterator) {
+                    Files.deleteIfExists(p);
+                }
+            }
+        }
+    }
+
+    private static long directorySize(Path dir) throws IOException {
+        try (Stream<Path> files = Files.list(dir)) {
+            long total = 0;
+            for (Path p : (Iterable<Path>) files::iterator) {
+                total += Files.size(p);
+            }
+            return total;
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.techflow.benchmark;
+
+import com.techflow.logging.EventLog;
+import com.techflow.logging.LogLevel;
+import com.techflow.model.Task;
+import com.techflow.model.TaskService;
+import com.techflow.visual.TaskTableModel;
+
+import javax.swing.JTable;
+import javax.swing.table.DefaultTableModel;
+import java.util.ArrayDeque;
+import java.util.Queue;
+
+/**
+ * Custo de refletir uma mudança de status na tabela com 100k tarefas: reconstrução completa
+ * do DefaultTableModel (uma linha e um evento por tarefa) x TaskTableModel assinando o serviço
+ * (um evento de linha).
+ * As tabelas não são exibidas; roda também em modo headless.
+ *
+ * Não é um teste unitário; execute manualmente:
+ * mvn test-compile exec:java -Dexec.classpathScope=test -Dexec.mainClass="com.techflow.benchmark.TableRefreshBenchmark"
+ */
+public class TableRefreshBenchmark {
+
+    private static final int TASKS = 100_000;
+    private static final int ROUNDS = 5;
+
+    public static void main(String[] args) {
+        EventLog.console().setLevel(LogLevel.OFF);
+        TaskService service = new TaskService();
+        for (int i = 0; i < TASKS; i++) {
+            service.createTask("Tarefa " + i, "Benchmark da tabela", 1 + i % 5);
+        }
+
+        DefaultTableModel legacy = new DefaultTableModel(new String[]{"ID", "Título", "Prioridade", "Status", "Criado em"}, 0);
+        new JTable(legacy);
+        TaskTableModel model = new TaskTableModel(service);
+        new JTable(model);
+        model.reload();
+        // Fila no papel da EDT: as entregas do serviço só rodam quando o benchmark as executa.
+        Queue<Runnable> edt = new ArrayDeque<>();
+        service.subscribe(edt::add, model);
+
+        System.out.printf("%-8s %20s %20s%n", "rodada", "reconstrução (ms)", "linha (µs)");
+        for (int round = 1; round <= ROUNDS; round++) {
+            int row = round * 997;
+            Task task = model.getTaskAt(row);
+            service.updateTaskStatus(task.getId(), Task.TaskStatus.values()[round % 3]);
+
+            long start = System.nanoTime();
+            legacy.setRowCount(0);
+            for (Task t : service.getAllTasks()) {
+                legacy.addRow(new Object[]{t.getShortId(), t.getTitle(), t.getPriority(), t.getStatus(), t.getCreatedAt()});
+            }
+            long rebuildNanos = System.nanoTime() - start;
+
+            start = System.nanoTime();
+            while (!edt.isEmpty()) {
+                edt.poll().run();
+            }
+            long rowNanos = System.nanoTime() - start;
+            System.out.printf("%-8d %20d %20d%n", round, rebuildNanos / 1_000_000, rowNanos / 1_000);
+        }
+    }
+}
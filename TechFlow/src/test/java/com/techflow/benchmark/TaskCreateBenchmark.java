@@ -0,0 +1,60 @@
+package com.techflow.benchmark;
+
+import com.techflow.logging.EventLog;
+import com.techflow.logging.LogLevel;
+import com.techflow.model.Task;
+import com.techflow.model.TaskService;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Vazão de criação de tarefas (new Task e TaskService.createTask) e de buscas por ID
+ * no repositório em memória. O log de eventos do serviço fica desligado.
+ * As buscas usam cópias novas dos IDs, como os que chegam digitados ou lidos de arquivos.
+ *
+ * Não é um teste unitário; execute manualmente:
+ * mvn test-compile exec:java -Dexec.classpathScope=test -Dexec.mainClass="com.techflow.benchmark.TaskCreateBenchmark"
+ */
+public class TaskCreateBenchmark {
+
+    private static final int TASKS = 500_000;
+    private static final int ROUNDS = 5;
+
+    public static void main(String[] args) {
+        EventLog.console().setLevel(LogLevel.OFF);
+        System.out.printf("%-8s %15s %15s %15s%n", "rodada", "new Task/s", "createTask/s", "getTaskById/s");
+        for (int round = 1; round <= ROUNDS; round++) {
+            long start = System.nanoTime();
+            List<Task> tasks = new ArrayList<>(TASKS);
+            for (int i = 0; i < TASKS; i++) {
+                tasks.add(new Task("Tarefa " + i, "Benchmark de criação", 1 + i % 5));
+            }
+            double constructed = perSecond(TASKS, start);
+
+            TaskService service = new TaskService();
+            List<String> ids = new ArrayList<>(TASKS);
+            List<String> lookups = new ArrayList<>(TASKS);
+            start = System.nanoTime();
+            for (int i = 0; i < TASKS; i++) {
+                ids.add(service.createTask("Tarefa " + i, "Benchmark de criação", 1 + i % 5).getId());
+            }
+            double created = perSecond(TASKS, start);
+            for (int i = 0; i < TASKS; i++) {
+                lookups.add(new String(ids.get((int) ((i * 7919L) % TASKS))));
+            }
+
+            start = System.nanoTime();
+            int found = 0;
+            for (int i = 0; i < TASKS; i++) {
+                found += service.getTaskById(lookups.get(i)).isPresent() ? 1 : 0;
+            }
+            double lookedUp = perSecond(found, start);
+            System.out.printf("%-8d %15.0f %15.0f %15.0f%n", round, constructed, created, lookedUp);
+        }
+    }
+
+    private static double perSecond(int operations, long startNanos) {
+        return operations / ((System.nanoTime() - startNanos) / 1_000_000_000.0);
+    }
+}
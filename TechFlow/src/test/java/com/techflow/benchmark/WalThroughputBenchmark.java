@@ -0,0 +1,72 @@
+package com.techflow.benchmark;
+
+import com.techflow.logging.EventLog;
+import com.techflow.logging.LogLevel;
+import com.techflow.model.ConcurrentTaskRepository;
+import com.techflow.model.Task;
+import com.techflow.model.TaskService;
+import com.techflow.persistence.WriteAheadLog;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Vazão de alterações (mutações/s) do TaskService com o write-ahead log, por política de fsync.
+ * O log de eventos do serviço fica desligado durante a medição.
+ *
+ * Não é um teste unitário; execute manualmente:
+ * mvn test-compile exec:java -Dexec.classpathScope=test -Dexec.mainClass="com.techflow.benchmark.WalThroughputBenchmark"
+ */
+public class WalThroughputBenchmark {
+
+    private static final int THREADS = 8;
+    private static final int TASKS = 1_000;
+    private static final int UPDATES_PER_THREAD = 20_000;
+
+    public static void main(String[] args) throws Exception {
+        EventLog.console().setLevel(LogLevel.OFF);
+        Path dir = Files.createTempDirectory("techflow-wal-bench");
+        System.out.printf("%-10s %15s%n", "política", "mutações/s");
+        for (WriteAheadLog.FsyncPolicy policy : WriteAheadLog.FsyncPolicy.values()) {
+            Path file = dir.resolve(policy.name() + ".wal");
+            ConcurrentTaskRepository repository = new ConcurrentTaskRepository();
+            double perSecond;
+            try (WriteAheadLog wal = WriteAheadLog.open(file, policy, repository)) {
+                perSecond = run(new TaskService(repository, wal));
+            }
+            System.out.printf("%-10s %15.0f%n", policy, perSecond);
+            Files.deleteIfExists(file);
+        }
+        Files.deleteIfExists(dir);
+    }
+
+    private static double run(TaskService service) throws Exception {
+        List<String> ids = new ArrayList<>(TASKS);
+        for (int i = 0; i < TASKS; i++) {
+            ids.add(service.createTask("Tarefa " + i, "Benchmark do log", 1 + i % 5).getId());
+        }
+        Task.TaskStatus[] statuses = Task.TaskStatus.values();
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        long start = System.nanoTime();
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < THREADS; t++) {
+            int offset = t;
+            futures.add(executor.submit(() -> {
+                for (int i = 0; i < UPDATES_PER_THREAD; i++) {
+                    service.updateTaskStatus(ids.get((offset * 131 + i) % TASKS), statuses[i % statuses.length]);
+                }
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        long elapsed = System.nanoTime() - start;
+        executor.shutdown();
+        return (double) THREADS * UPDATES_PER_THREAD / (elapsed / 1_000_000_000.0);
+    }
+}
@@ -0,0 +1,95 @@
+package com.techflow.controller;
+
+import com.techflow.logging.EventLog;
+import com.techflow.model.InMemoryTaskRepository;
+import com.techflow.model.Task;
+import com.techflow.model.TaskJournal;
+import com.techflow.model.TaskService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes do modo script da controladora: formato dos comandos, referências às tarefas e erros.
+ */
+public class TaskScriptTest {
+
+    private TaskService taskService;
+    private StringWriter out;
+
+    @BeforeEach
+    void setUp() {
+        taskService = new TaskService(new InMemoryTaskRepository(), TaskJournal.NONE, EventLog.disabled());
+        out = new StringWriter();
+    }
+
+    @Test
+    void testCommandsApplyInOrderWithReferencesToCreatedTasks() throws IOException {
+        TaskScript.Result result = run("""
+                # carga de exemplo
+                C|3|Coleta|Doca 3
+                C|5|Entrega \\| urgente
+
+                S|@1|done
+                U|@2||Entrega revisada|Linha 1\\nLinha 2
+                P|@1|2024-07-01
+                D|@2
+                """);
+
+        assertEquals(6, result.commands(), "Comentários e linhas em branco não contam como comandos.");
+        assertEquals(0, result.failures());
+        List<Task> tasks = taskService.getAllTasks();
+        assertEquals(1, tasks.size());
+        Task coleta = tasks.get(0);
+        assertEquals(Task.TaskStatus.DONE, coleta.getStatus());
+        assertEquals(LocalDate.of(2024, 7, 1), coleta.getDeliveryDate());
+        assertTrue(out.toString().startsWith("@1 " + coleta.getId() + System.lineSeparator()));
+        assertTrue(out.toString().contains("Comandos: 6 (0 com erro)"));
+    }
+
+    @Test
+    void testUpdateKeepsEmptyFieldsAndAcceptsIdPrefixes() throws IOException {
+        Task task = taskService.createTask("Inventário", "Galpão B", 2);
+        run("U|" + task.getShortId() + "||Inventário anual|\nU|" + task.getId() + "|4||\n");
+
+        assertEquals("Inventário anual", task.getTitle());
+        assertEquals("Galpão B", task.getDescription(), "Campo vazio mantém o valor atual.");
+        assertEquals(4, task.getPriority());
+    }
+
+    @Test
+    void testFailuresAreReportedPerLineAndDoNotStopTheScript() throws IOException {
+        TaskScript.Result result = run("""
+                C|9|Prioridade inválida
+                S|@1|DONE
+                C|1|Válida
+                S|@1|PRONTO
+                X|1
+                C|1|a|b|c|d|e
+                P|@1|01/07/2024
+                L
+                """);
+
+        assertEquals(8, result.commands());
+        assertEquals(6, result.failures());
+        String output = out.toString();
+        assertTrue(output.contains("ERRO linha 1: tarefa não criada"));
+        assertTrue(output.contains("ERRO linha 2: referência inexistente: @1"));
+        assertTrue(output.contains("ERRO linha 4: status inválido: PRONTO"));
+        assertTrue(output.contains("ERRO linha 5: comando desconhecido: X"));
+        assertTrue(output.contains("ERRO linha 6: campos demais"));
+        assertTrue(output.contains("ERRO linha 7: data inválida"));
+        assertTrue(output.contains("Título: Válida"), "A listagem final ainda é executada.");
+    }
+
+    private TaskScript.Result run(String script) throws IOException {
+        return new TaskController(taskService).runScript(new StringReader(script), out);
+    }
+}
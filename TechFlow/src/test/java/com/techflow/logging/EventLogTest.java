@@ -0,0 +1,119 @@
+package com.techflow.logging;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes do log de eventos assíncrono (níveis, ordem de entrega e buffer cheio).
+ */
+public class EventLogTest {
+
+    @Test
+    void testEnabledMessagesAreFormattedAndDeliveredInOrder() {
+        List<String> delivered = Collections.synchronizedList(new ArrayList<>());
+        try (EventLog log = new EventLog((level, message) -> delivered.add(level + " " + message), LogLevel.INFO, 16)) {
+            log.debug("oculta {}", 1);
+            log.info("Tarefa criada com sucesso: {}", "Relatório");
+            log.error("Status da tarefa {} atualizado para {}", "A", "DONE");
+            log.warn("sem argumentos", null);
+            log.flush();
+
+            assertEquals(List.of("INFO Tarefa criada com sucesso: Relatório",
+                    "ERROR Status da tarefa A atualizado para DONE",
+                    "WARN sem argumentos"), delivered);
+        }
+    }
+
+    @Test
+    void testLevelCanBeChangedAtRuntime() {
+        List<String> delivered = Collections.synchronizedList(new ArrayList<>());
+        try (EventLog log = new EventLog((level, message) -> delivered.add(message), LogLevel.OFF, 16)) {
+            assertFalse(log.isEnabled(LogLevel.ERROR));
+            log.error("descartada {}", 1);
+            log.setLevel(LogLevel.WARN);
+            assertTrue(log.isEnabled(LogLevel.ERROR));
+            assertFalse(log.isEnabled(LogLevel.INFO));
+            log.info("descartada {}", 2);
+            log.warn("entregue {}", 3);
+            log.flush();
+            assertEquals(List.of("entregue 3"), delivered);
+        }
+        assertFalse(EventLog.disabled().isEnabled(LogLevel.ERROR));
+    }
+
+    @Test
+    void testExceptionAsLastArgumentKeepsTheStackTrace() {
+        String message = EventLog.format("Falha em {}: {}", "GET /tasks", new IllegalStateException("quebrou"));
+        assertTrue(message.startsWith("Falha em GET /tasks: java.lang.IllegalStateException: quebrou"), message);
+        assertTrue(message.contains("at com.techflow.logging.EventLogTest.testExceptionAsLastArgumentKeepsTheStackTrace"), message);
+        assertEquals("Falha em A: 2", EventLog.format("Falha em {}: {}", "A", 2));
+    }
+
+    @Test
+    void testLevelNamesIgnoreCaseAndUnknownNamesAreRejected() {
+        assertEquals(LogLevel.DEBUG, EventLog.parseLevel("debug"));
+        assertEquals(LogLevel.WARN, EventLog.parseLevel(" Warn "));
+        assertEquals(LogLevel.OFF, EventLog.parseLevel("OFF"));
+        assertNull(EventLog.parseLevel("INFOO"));
+        assertNull(EventLog.parseLevel(null));
+    }
+
+    @Test
+    void testIdleDrainerSleepsUntilAMessageArrives() throws InterruptedException {
+        List<String> delivered = Collections.synchronizedList(new ArrayList<>());
+        Thread[] drainer = new Thread[1];
+        try (EventLog log = new EventLog((level, message) -> {
+            drainer[0] = Thread.currentThread();
+            delivered.add(message);
+        }, LogLevel.INFO, 16)) {
+            log.info("primeira {}", 1);
+            log.flush();
+
+            // Ocioso, o escoamento dorme sem prazo (WAITING), em vez de acordar a cada intervalo.
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (drainer[0].getState() != Thread.State.WAITING && System.nanoTime() < deadline) {
+                Thread.sleep(1);
+            }
+            assertEquals(Thread.State.WAITING, drainer[0].getState());
+
+            log.info("segunda {}", 2);
+            log.flush();
+            assertEquals(List.of("primeira 1", "segunda 2"), delivered);
+        }
+    }
+
+    @Test
+    void testFullBufferDropsInsteadOfBlocking() throws InterruptedException {
+        CountDownLatch release = new CountDownLatch(1);
+        List<String> delivered = Collections.synchronizedList(new ArrayList<>());
+        // O destino trava na primeira mensagem, como um console lento.
+        EventSink slowSink = (level, message) -> {
+            try {
+                release.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            delivered.add(message);
+        };
+        try (EventLog log = new EventLog(slowSink, LogLevel.INFO, 4)) {
+            long start = System.nanoTime();
+            for (int i = 0; i < 100; i++) {
+                log.info("mensagem {}", i);
+            }
+            assertTrue(System.nanoTime() - start < TimeUnit.SECONDS.toNanos(5), "Quem registra não pode esperar pelo destino.");
+            assertTrue(log.droppedCount() >= 100 - 5, "Sem espaço no buffer, as mensagens devem ser descartadas.");
+
+            release.countDown();
+            log.flush();
+            assertEquals("mensagem 0", delivered.get(0));
+            assertEquals(100 - log.droppedCount(), delivered.stream().filter(m -> m.startsWith("mensagem")).count());
+        }
+    }
+}
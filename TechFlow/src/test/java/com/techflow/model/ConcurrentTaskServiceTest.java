@@ -0,0 +1,271 @@
+package com.techflow.model;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Teste de estresse do modo concorrente do TaskService.
+ * Várias threads criam, atualizam e excluem tarefas ao mesmo tempo enquanto
+ * leitores percorrem o quadro; cada operação deve ter efeito atômico e único.
+ */
+public class ConcurrentTaskServiceTest {
+
+    private static final int THREADS = 8;
+    private static final int TASKS_PER_THREAD = 500;
+
+    private TaskService taskService;
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        taskService = TaskService.concurrent();
+        executor = Executors.newFixedThreadPool(THREADS + 1);
+    }
+
+    @Test
+    void testConcurrentCreatesAreAllVisible() throws Exception {
+        ConcurrentLinkedQueue<String> createdIds = new ConcurrentLinkedQueue<>();
+        ConcurrentLinkedQueue<Throwable> readerErrors = new ConcurrentLinkedQueue<>();
+        AtomicBoolean writing = new AtomicBoolean(true);
+
+        // Leitor contínuo (papel da EDT): nunca deve falhar nem ver a ordem quebrada.
+        Future<?> reader = executor.submit(() -> {
+            while (writing.get()) {
+                try {
+                    List<Task> tasks = taskService.getAllTasks();
+                    for (int i = 1; i < tasks.size(); i++) {
+                        assertTrue(tasks.get(i - 1).getPriority() >= tasks.get(i).getPriority());
+                    }
+                } catch (Throwable t) {
+                    readerErrors.add(t);
+                }
+            }
+        });
+
+        runConcurrently(thread -> {
+            for (int i = 0; i < TASKS_PER_THREAD; i++) {
+                Task t = taskService.createTask("T" + thread + "-" + i, "Carga concorrente", 1 + (i % 5));
+                createdIds.add(t.getId());
+            }
+        });
+        writing.set(false);
+        reader.get(10, TimeUnit.SECONDS);
+
+        assertTrue(readerErrors.isEmpty(), "Leituras concorrentes não devem falhar: " + readerErrors.peek());
+        assertEquals(THREADS * TASKS_PER_THREAD, createdIds.size());
+        assertEquals(THREADS * TASKS_PER_THREAD, new HashSet<>(createdIds).size(), "IDs devem ser únicos.");
+
+        List<Task> all = taskService.getAllTasks();
+        assertEquals(createdIds.size(), all.size(), "Toda criação deve aparecer exatamente uma vez.");
+        for (String id : createdIds) {
+            assertTrue(taskService.getTaskById(id).isPresent());
+        }
+    }
+
+    @Test
+    void testConcurrentDetailUpdatesAreNeverTorn() throws Exception {
+        List<String> ids = createTasks(50);
+        ConcurrentLinkedQueue<String> tornReads = new ConcurrentLinkedQueue<>();
+        AtomicBoolean writing = new AtomicBoolean(true);
+
+        // O título sempre codifica a prioridade; um leitor nunca pode ver um sem o outro.
+        Future<?> reader = executor.submit(() -> {
+            while (writing.get()) {
+                for (Task task : taskService.getAllTasks()) {
+                    TaskSnapshot s = task.snapshot();
+                    if (!s.title().equals("P" + s.priority())) {
+                        tornReads.add(s.title() + "/" + s.priority());
+                    }
+                }
+            }
+        });
+
+        runConcurrently(thread -> {
+            Random random = new Random(thread);
+            for (int i = 0; i < TASKS_PER_THREAD; i++) {
+                String id = ids.get(random.nextInt(ids.size()));
+                int priority = 1 + random.nextInt(5);
+                assertTrue(taskService.updateTaskDetails(id, "P" + priority, "Editada por " + thread, priority));
+                taskService.updateTaskStatus(id, Task.TaskStatus.values()[random.nextInt(3)]);
+            }
+        });
+        writing.set(false);
+        reader.get(10, TimeUnit.SECONDS);
+
+        assertTrue(tornReads.isEmpty(), "Leituras parciais encontradas: " + tornReads.peek());
+
+        // Após as escritas, o índice por prioridade deve refletir o estado final de cada tarefa.
+        List<Task> all = taskService.getAllTasks();
+        assertEquals(ids.size(), all.size());
+        assertEquals(ids.size(), new HashSet<>(all).size());
+        for (int i = 1; i < all.size(); i++) {
+            assertTrue(all.get(i - 1).getPriority() >= all.get(i).getPriority());
+        }
+
+        // Os contadores do quadro, mantidos a cada escrita, devem coincidir com uma contagem completa.
+        BoardSummary summary = taskService.getBoardSummary();
+        for (Task.TaskStatus status : Task.TaskStatus.values()) {
+            for (int p = Task.MIN_PRIORITY; p <= Task.MAX_PRIORITY; p++) {
+                int priority = p;
+                long scanned = all.stream().filter(t -> t.getStatus() == status && t.getPriority() == priority).count();
+                assertEquals(scanned, summary.count(status, priority), "Contador divergente em " + status + "/" + priority);
+            }
+        }
+    }
+
+    @Test
+    void testConcurrentDeletesSucceedExactlyOnce() throws Exception {
+        List<String> ids = createTasks(THREADS * TASKS_PER_THREAD / 4);
+        AtomicInteger successfulDeletes = new AtomicInteger();
+
+        // Metade das threads exclui, a outra metade tenta atualizar as mesmas tarefas.
+        runConcurrently(thread -> {
+            List<String> shuffled = new ArrayList<>(ids);
+            Collections.shuffle(shuffled, new Random(thread));
+            for (String id : shuffled) {
+                if (thread % 2 == 0) {
+                    if (taskService.deleteTask(id)) {
+                        successfulDeletes.incrementAndGet();
+                    }
+                } else {
+                    taskService.updateTaskDetails(id, "Concorrente", "Pode perder para a exclusão", 5);
+                }
+            }
+        });
+
+        assertEquals(ids.size(), successfulDeletes.get(), "Cada tarefa deve ser excluída exatamente uma vez.");
+        assertTrue(taskService.getAllTasks().isEmpty(), "Nenhuma tarefa excluída pode reaparecer no índice.");
+        assertEquals(0, taskService.getBoardSummary().total(), "Exclusões concorrentes devem zerar os contadores do quadro.");
+        for (String id : ids) {
+            assertFalse(taskService.getTaskById(id).isPresent());
+        }
+    }
+
+    @Test
+    void testConditionalReadModifyWriteLosesNoUpdate() throws Exception {
+        List<String> ids = createTasks(4);
+        int increments = 250;
+        AtomicInteger conflicts = new AtomicInteger();
+
+        // Contador na descrição: lê, soma um e grava com a versão lida; em um conflito, relê e repete.
+        runConcurrently(thread -> {
+            Random random = new Random(thread);
+            for (int i = 0; i < increments; i++) {
+                String id = ids.get(random.nextInt(ids.size()));
+                UpdateResult result;
+                do {
+                    TaskSnapshot read = taskService.getTaskById(id).orElseThrow().snapshot();
+                    int count = read.description().equals("Inicial") ? 0 : Integer.parseInt(read.description());
+                    result = taskService.updateTaskDetails(id, read.title(), String.valueOf(count + 1),
+                            read.priority(), read.version());
+                    if (result.outcome() == UpdateResult.Outcome.CONFLICT) {
+                        conflicts.incrementAndGet();
+                    }
+                } while (!result.applied());
+            }
+        });
+
+        int total = 0;
+        for (String id : ids) {
+            Task task = taskService.getTaskById(id).orElseThrow();
+            assertEquals(Integer.parseInt(task.getDescription()), task.getVersion(), "Uma versão por incremento.");
+            total += Integer.parseInt(task.getDescription());
+        }
+        assertEquals(THREADS * increments, total, "Nenhum incremento pode se perder (" + conflicts + " conflitos).");
+    }
+
+    @Test
+    void testStreamsAndPagesSeeStableTasksExactlyOnceDuringWrites() throws Exception {
+        List<String> stable = createTasks(2_000);
+        AtomicBoolean failed = new AtomicBoolean();
+
+        // A thread 0 percorre o quadro; as demais criam, excluem e mudam o status de tarefas.
+        runConcurrently(thread -> {
+            if (thread != 0) {
+                for (int i = 0; i < TASKS_PER_THREAD; i++) {
+                    Task temporary = taskService.createTask("Temporária", null, 1 + i % 5);
+                    taskService.updateTaskStatus(stable.get((thread * 97 + i) % stable.size()), Task.TaskStatus.IN_PROGRESS);
+                    taskService.deleteTask(temporary.getId());
+                }
+                return;
+            }
+            for (int round = 0; round < 20; round++) {
+                List<String> streamed = taskService.streamTasks().parallel()
+                        .map(Task::getId).collect(Collectors.toList());
+                List<String> paged = new ArrayList<>();
+                TaskPage page = taskService.getTaskPage(null, 128);
+                page.tasks().forEach(t -> paged.add(t.getId()));
+                while (page.hasNext()) {
+                    page = taskService.getTaskPage(page.next(), 128);
+                    page.tasks().forEach(t -> paged.add(t.getId()));
+                }
+                if (!seenExactlyOnce(stable, streamed) || !seenExactlyOnce(stable, paged)) {
+                    failed.set(true);
+                }
+            }
+        });
+
+        assertFalse(failed.get(), "Tarefas que não mudam de prioridade devem aparecer exatamente uma vez.");
+    }
+
+    private static boolean seenExactlyOnce(List<String> expected, List<String> seen) {
+        Set<String> unique = new HashSet<>(seen);
+        if (unique.size() != seen.size()) {
+            return false;
+        }
+        return unique.containsAll(expected);
+    }
+
+    private List<String> createTasks(int count) {
+        List<String> ids = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            int priority = 1 + (i % 5);
+            ids.add(taskService.createTask("P" + priority, "Inicial", priority).getId());
+        }
+        return ids;
+    }
+
+    /**
+     * Executa a mesma ação em THREADS threads, liberadas ao mesmo tempo.
+     */
+    private void runConcurrently(ThreadAction action) throws Exception {
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < THREADS; t++) {
+            int thread = t;
+            futures.add(executor.submit(() -> {
+                start.await();
+                action.run(thread);
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(60, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+    }
+
+    @FunctionalInterface
+    private interface ThreadAction {
+        void run(int thread) throws Exception;
+    }
+}
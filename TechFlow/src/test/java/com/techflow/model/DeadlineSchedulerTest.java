@@ -0,0 +1,200 @@
+package com.techflow.model;
+
+import com.techflow.logging.EventLog;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes da roda de prazos e do DeadlineScheduler.
+ */
+public class DeadlineSchedulerTest {
+
+    private static final LocalDate START = LocalDate.of(2024, 1, 1);
+
+    @Test
+    void testWheelFiresEachDeadlineOnItsDayAcrossAllLevels() {
+        int dueSoonDays = 3;
+        Random random = new Random(42);
+        Map<TaskQueryIndex.TaskKey, LocalDate> deliveries = new HashMap<>();
+        DeadlineWheel stepped = new DeadlineWheel(dueSoonDays, START);
+        DeadlineWheel jumped = new DeadlineWheel(dueSoonDays, START);
+        for (int i = 0; i < 5_000; i++) {
+            // Datas no passado, no primeiro nível, no segundo e no terceiro (mais de 4096 dias).
+            LocalDate delivery = START.plusDays(random.nextInt(6_000) - 10);
+            TaskSnapshot state = new Task("Prazo " + i, null, 3).snapshot().withDeliveryDate(delivery);
+            TaskQueryIndex.TaskKey key = new TaskQueryIndex.TaskKey(state.idHigh(), state.idLow());
+            deliveries.put(key, delivery);
+            stepped.update(key, state);
+            jumped.update(key, state);
+        }
+
+        Map<TaskQueryIndex.TaskKey, List<String>> fired = new HashMap<>();
+        LocalDate day = START;
+        while (!day.isAfter(START.plusDays(6_100))) {
+            List<DeadlineEvent> events = new ArrayList<>();
+            stepped.advance(day, events);
+            for (DeadlineEvent event : events) {
+                assertFalse(event.date().isAfter(day));
+                fired.computeIfAbsent(key(event), k -> new ArrayList<>()).add(event.type() + "@" + event.date());
+            }
+            day = day.plusDays(1 + random.nextInt(3));
+        }
+        List<DeadlineEvent> all = new ArrayList<>();
+        jumped.advance(START.plusDays(6_100), all);
+
+        for (Map.Entry<TaskQueryIndex.TaskKey, LocalDate> entry : deliveries.entrySet()) {
+            LocalDate delivery = entry.getValue();
+            List<String> expected = new ArrayList<>();
+            if (!delivery.isBefore(START)) {
+                LocalDate soon = delivery.minusDays(dueSoonDays);
+                expected.add("DUE_SOON@" + (soon.isBefore(START) ? START : soon));
+            }
+            expected.add("OVERDUE@" + (delivery.isBefore(START) ? START : delivery.plusDays(1)));
+            // Mesmo verificando a cada 1 a 3 dias, cada aviso sai uma vez e com o dia em que o prazo foi atingido.
+            assertEquals(expected, fired.get(entry.getKey()));
+        }
+        assertEquals(0, stepped.size(), "Tarefas atrasadas deixam de ser acompanhadas.");
+
+        // Um único avanço (ex.: aplicação parada por anos) dispara os mesmos avisos.
+        Map<TaskQueryIndex.TaskKey, List<String>> firedAtOnce = new HashMap<>();
+        for (DeadlineEvent event : all) {
+            firedAtOnce.computeIfAbsent(key(event), k -> new ArrayList<>()).add(event.type() + "@" + event.date());
+        }
+        assertEquals(fired, firedAtOnce);
+
+        // Avançando dia a dia, cada aviso sai exatamente no dia esperado.
+        DeadlineWheel daily = new DeadlineWheel(dueSoonDays, START);
+        TaskSnapshot far = new Task("Daqui a 12 anos", null, 3).snapshot().withDeliveryDate(START.plusDays(4_500));
+        TaskQueryIndex.TaskKey farKey = new TaskQueryIndex.TaskKey(far.idHigh(), far.idLow());
+        daily.update(farKey, far);
+        List<String> dailyFired = new ArrayList<>();
+        for (LocalDate d = START; !d.isAfter(START.plusDays(4_600)); d = d.plusDays(1)) {
+            List<DeadlineEvent> events = new ArrayList<>();
+            daily.advance(d, events);
+            events.forEach(e -> dailyFired.add(e.type() + "@" + e.date()));
+        }
+        assertEquals(List.of("DUE_SOON@" + START.plusDays(4_497), "OVERDUE@" + START.plusDays(4_501)), dailyFired);
+    }
+
+    @Test
+    void testSchedulerFollowsDateStatusAndDeleteChanges() throws Exception {
+        TaskService service = new TaskService(new ConcurrentTaskRepository(), TaskJournal.NONE, EventLog.disabled());
+        Task loaded = service.createTask("Já existia", null, 3);
+        service.updateTaskDeliveryDate(loaded.getId(), START.minusDays(1));
+
+        MutableClock clock = new MutableClock(START);
+        List<String> fired = new CopyOnWriteArrayList<>();
+        try (DeadlineScheduler scheduler = new DeadlineScheduler(service, 2, clock,
+                events -> events.forEach(e -> fired.add(e.task().title() + ":" + e.type())))) {
+            Task done = service.createTask("Concluída antes do prazo", null, 4);
+            Task moved = service.createTask("Prazo adiado", null, 2);
+            Task deleted = service.createTask("Excluída", null, 1);
+            service.createTask("Sem data", null, 5);
+            service.updateTaskDeliveryDate(done.getId(), START.plusDays(1));
+            service.updateTaskDeliveryDate(moved.getId(), START.plusDays(1));
+            service.updateTaskDeliveryDate(deleted.getId(), START.plusDays(1));
+
+            assertEquals(4, scheduler.check().get());
+            assertEquals(Set.of("Já existia:OVERDUE", "Concluída antes do prazo:DUE_SOON", "Prazo adiado:DUE_SOON",
+                    "Excluída:DUE_SOON"), Set.copyOf(fired));
+            assertEquals(3, scheduler.trackedCount().get());
+
+            service.updateTaskStatus(done.getId(), Task.TaskStatus.DONE);
+            service.updateTaskDeliveryDate(moved.getId(), START.plusDays(10));
+            service.deleteTask(deleted.getId());
+            service.updateTaskDetails(moved.getId(), "Prazo adiado (editada)", null, 2);
+            fired.clear();
+
+            clock.set(START.plusDays(5));
+            assertEquals(0, scheduler.check().get(), "Concluídas, excluídas e adiadas não disparam no prazo antigo.");
+            clock.set(START.plusDays(8));
+            assertEquals(1, scheduler.check().get());
+            clock.set(START.plusDays(11));
+            assertEquals(1, scheduler.check().get());
+            assertEquals(List.of("Prazo adiado (editada):DUE_SOON", "Prazo adiado (editada):OVERDUE"), fired);
+            assertEquals(0, scheduler.trackedCount().get());
+        }
+    }
+
+    @Test
+    void testOverdueFiresOnceUntilTheDateChanges() {
+        DeadlineWheel wheel = new DeadlineWheel(2, START);
+        TaskSnapshot state = new Task("Atrasada", null, 3).snapshot().withDeliveryDate(START.minusDays(1));
+        TaskQueryIndex.TaskKey key = new TaskQueryIndex.TaskKey(state.idHigh(), state.idLow());
+        wheel.update(key, state);
+
+        List<DeadlineEvent> fired = new ArrayList<>();
+        wheel.advance(START, fired);
+        assertEquals(List.of(DeadlineEvent.Type.OVERDUE), fired.stream().map(DeadlineEvent::type).toList());
+        assertEquals(0, wheel.size());
+
+        // Editar título, prioridade ou status sem mudar a data não repete o aviso.
+        fired.clear();
+        wheel.update(key, state.withTitle("Atrasada (editada)"));
+        wheel.update(key, state.withPriority(5).withStatus(Task.TaskStatus.IN_PROGRESS));
+        wheel.advance(START, fired);
+        wheel.advance(START.plusDays(3), fired);
+        assertEquals(List.of(), fired);
+        assertEquals(0, wheel.size());
+
+        // Uma nova data volta a ser acompanhada e avisa de novo.
+        wheel.update(key, state.withDeliveryDate(START.plusDays(4)));
+        assertEquals(1, wheel.size());
+        wheel.advance(START.plusDays(5), fired);
+        assertEquals(List.of(DeadlineEvent.Type.DUE_SOON, DeadlineEvent.Type.OVERDUE),
+                fired.stream().map(DeadlineEvent::type).toList());
+
+        // Concluída e reaberta com a mesma data: o registro recomeça e o atraso é avisado outra vez.
+        fired.clear();
+        wheel.update(key, state.withDeliveryDate(START.plusDays(4)).withStatus(Task.TaskStatus.DONE));
+        wheel.update(key, state.withDeliveryDate(START.plusDays(4)));
+        wheel.advance(START.plusDays(5), fired);
+        assertEquals(List.of(DeadlineEvent.Type.OVERDUE), fired.stream().map(DeadlineEvent::type).toList());
+    }
+
+    private static TaskQueryIndex.TaskKey key(DeadlineEvent event) {
+        return new TaskQueryIndex.TaskKey(event.task().idHigh(), event.task().idLow());
+    }
+
+    // Relógio controlado pelo teste; lido na thread do scheduler.
+    private static final class MutableClock extends Clock {
+        private volatile Instant instant;
+
+        MutableClock(LocalDate date) {
+            set(date);
+        }
+
+        void set(LocalDate date) {
+            instant = date.atStartOfDay(ZoneOffset.UTC).toInstant();
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
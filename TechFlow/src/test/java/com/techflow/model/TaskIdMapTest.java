@@ -0,0 +1,47 @@
+package com.techflow.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Compara o TaskIdMap com um HashMap sob inserções, substituições e remoções aleatórias.
+ */
+public class TaskIdMapTest {
+
+    @Test
+    void testMatchesHashMapUnderRandomOperations() {
+        Random random = new Random(42);
+        TaskIdMap<Integer> map = new TaskIdMap<>();
+        Map<List<Long>, Integer> expected = new HashMap<>();
+        List<long[]> keys = new ArrayList<>();
+        // Poucos valores distintos de "high" forçam colisões e cadeias de sondagem longas.
+        for (int i = 0; i < 2_000; i++) {
+            keys.add(new long[] {random.nextInt(8), random.nextLong()});
+        }
+
+        for (int op = 0; op < 50_000; op++) {
+            long[] key = keys.get(random.nextInt(keys.size()));
+            List<Long> boxed = List.of(key[0], key[1]);
+            if (random.nextInt(3) == 0) {
+                assertEquals(expected.remove(boxed), map.remove(key[0], key[1]));
+            } else {
+                assertEquals(expected.put(boxed, op), map.put(key[0], key[1], op));
+            }
+            assertEquals(expected.size(), map.size());
+        }
+        for (long[] key : keys) {
+            assertEquals(expected.get(List.of(key[0], key[1])), map.get(key[0], key[1]));
+        }
+        List<Integer> values = new ArrayList<>();
+        map.forEachValue(values::add);
+        assertEquals(expected.size(), values.size());
+        assertTrue(values.containsAll(expected.values()));
+    }
+}
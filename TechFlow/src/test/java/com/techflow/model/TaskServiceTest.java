@@ -3,8 +3,16 @@ package com.techflow.model;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.ConcurrentModificationException;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Spliterator;
+import java.util.UUID;
+import java.util.stream.Collectors;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -80,6 +88,40 @@ public class TaskServiceTest {
         assertFalse(notFound.isPresent(), "Nenhuma tarefa deve ser encontrada com ID inválido.");
     }
 
+    @Test
+    void testFindByIdPrefix() {
+        String id = highPriorityTask.getId();
+
+        List<Task> byDisplayPrefix = taskService.findByIdPrefix(id.substring(0, 4));
+        assertTrue(byDisplayPrefix.contains(highPriorityTask), "O prefixo de 4 dígitos deve encontrar a tarefa.");
+        assertTrue(byDisplayPrefix.stream().allMatch(t -> t.getId().startsWith(id.substring(0, 4))));
+
+        assertEquals(List.of(highPriorityTask), taskService.findByIdPrefix(id.toUpperCase()), "O ID completo deve ser único.");
+        assertTrue(taskService.findByIdPrefix("").isEmpty(), "Prefixo vazio não deve retornar tarefas.");
+
+        taskService.deleteTask(id);
+        assertFalse(taskService.findByIdPrefix(id).contains(highPriorityTask), "Tarefas excluídas saem do índice.");
+    }
+
+    @Test
+    void testTaskIdTextForm() {
+        String id = highPriorityTask.getId();
+
+        // O ID textual continua sendo um UUID versão 4 canônico, montado a partir dos dois longs.
+        assertEquals(id, UUID.fromString(id).toString());
+        assertEquals(4, UUID.fromString(id).version());
+        assertEquals(id.substring(0, 4), highPriorityTask.getShortId());
+        assertTrue(highPriorityTask.toString().startsWith("[ID: " + id.substring(0, 4) + "]"));
+        assertTrue(taskService.getTaskById(id.toUpperCase()).isPresent(), "A busca não diferencia maiúsculas.");
+        assertTrue(taskService.getTaskById("invalid-id").isEmpty());
+
+        assertEquals(new TaskIds.Parsed(highPriorityTask.getIdHigh(), highPriorityTask.getIdLow()), TaskIds.parse(id));
+        assertFalse(TaskIds.parse(id.replace('-', '_')).valid(), "Separadores fora do lugar.");
+        assertFalse(TaskIds.parse(id.substring(0, 35) + "g").valid(), "Dígito não hexadecimal no último grupo.");
+        assertFalse(TaskIds.parse("ffffffff-ffff-ffff-ffff-ffffffffffff").valid(), "Metade reservada (INVALID).");
+        assertFalse(TaskIds.parse(null).valid());
+    }
+
     // --- Testes de Atualização (UPDATE) ---
 
     @Test
@@ -90,6 +132,18 @@ public class TaskServiceTest {
         assertEquals(Task.TaskStatus.IN_PROGRESS, updatedTaskOpt.get().getStatus(), "O status deve ser alterado para IN_PROGRESS.");
     }
 
+    @Test
+    void testUpdateTaskStatusRejectsNullWithoutTouchingTheBoard() {
+        assertFalse(taskService.updateTaskStatus(highPriorityTask.getId(), null), "Status nulo deve ser rejeitado.");
+
+        assertEquals(Task.TaskStatus.TO_DO, taskService.getTaskById(highPriorityTask.getId()).get().getStatus());
+        assertEquals(0, taskService.getTaskById(highPriorityTask.getId()).get().getVersion());
+        BoardSummary summary = taskService.getBoardSummary();
+        assertEquals(3, summary.total());
+        assertEquals(3, summary.count(Task.TaskStatus.TO_DO));
+        assertEquals(3, taskService.findByStatus(Task.TaskStatus.TO_DO).size());
+    }
+
     @Test
     void testUpdateTaskDetailsSuccess() {
         String newTitle = "Título Editado";
@@ -111,6 +165,62 @@ public class TaskServiceTest {
         assertEquals(5, taskService.getTaskById(highPriorityTask.getId()).get().getPriority());
     }
 
+    @Test
+    void testConditionalUpdatesApplyOnlyOverTheExpectedVersion() {
+        String id = highPriorityTask.getId();
+        int version = highPriorityTask.getVersion();
+
+        UpdateResult applied = taskService.updateTaskStatus(id, Task.TaskStatus.IN_PROGRESS, version);
+        assertTrue(applied.applied());
+        assertEquals(version + 1, applied.task().version(), "Cada alteração avança a versão.");
+        assertEquals(applied.task(), highPriorityTask.snapshot());
+
+        // Segundo cliente, com a versão que leu antes da alteração acima.
+        UpdateResult stale = taskService.updateTaskDetails(id, "Editado em paralelo", null, 1, version);
+        assertEquals(UpdateResult.Outcome.CONFLICT, stale.outcome());
+        assertEquals(applied.task(), stale.task(), "O conflito traz o estado atual.");
+        assertEquals("Tarefa Importante", highPriorityTask.getTitle());
+
+        UpdateResult retried = taskService.updateTaskDetails(id, "Editado em paralelo", null, 1, stale.task().version());
+        assertTrue(retried.applied());
+        assertEquals(Task.TaskStatus.IN_PROGRESS, retried.task().status(), "A nova tentativa mantém o status.");
+
+        assertEquals(UpdateResult.Outcome.INVALID,
+                taskService.updateTaskDetails(id, "Novo", null, 99, retried.task().version()).outcome());
+        assertEquals(UpdateResult.Outcome.NOT_FOUND,
+                taskService.updateTaskDeliveryDate(UUID.randomUUID().toString(), LocalDate.now(), 0).outcome());
+        assertEquals(retried.task().version(), highPriorityTask.getVersion(), "Recusas não avançam a versão.");
+    }
+
+    @Test
+    void testUpdateTaskAppliesEveryFieldAsOneChange() {
+        String id = highPriorityTask.getId();
+        List<TaskChangeEvent> received = new ArrayList<>();
+        taskService.subscribe(Runnable::run, received::addAll);
+        LocalDate delivery = LocalDate.of(2024, 7, 1);
+
+        UpdateResult applied = taskService.updateTask(id, "Tudo de uma vez", "Nova", 2,
+                Task.TaskStatus.IN_PROGRESS, delivery, 0);
+        assertTrue(applied.applied());
+        assertEquals(1, applied.task().version(), "Uma alteração, uma versão.");
+        assertEquals(List.of(TaskChangeEvent.Type.UPDATED), received.stream().map(TaskChangeEvent::type).toList());
+        assertEquals(1, taskService.findDueBetween(delivery, delivery).size());
+        assertEquals(1, taskService.getBoardSummary().count(Task.TaskStatus.IN_PROGRESS, 2));
+
+        // Só o status mudou: a notificação usa o tipo específico.
+        taskService.updateTask(id, "Tudo de uma vez", "Nova", 2, Task.TaskStatus.DONE, delivery, 1);
+        assertEquals(TaskChangeEvent.Type.STATUS_CHANGED, received.get(1).type());
+
+        // Um campo inválido ou uma versão antiga recusam a alteração inteira.
+        assertEquals(UpdateResult.Outcome.INVALID,
+                taskService.updateTask(id, "Outro", null, 9, Task.TaskStatus.TO_DO, null, 2).outcome());
+        assertEquals(UpdateResult.Outcome.CONFLICT,
+                taskService.updateTask(id, "Outro", null, 1, Task.TaskStatus.TO_DO, null, 1).outcome());
+        assertEquals(highPriorityTask.snapshot(), taskService.getTaskById(id).orElseThrow().snapshot());
+        assertEquals("Tudo de uma vez", highPriorityTask.getTitle());
+        assertEquals(2, received.size());
+    }
+
     // --- Testes de Exclusão (DELETE) ---
 
     @Test
@@ -129,4 +239,326 @@ public class TaskServiceTest {
         assertFalse(taskService.deleteTask("non-existent-id"), "A exclusão deve falhar se o ID não existir.");
         assertEquals(3, taskService.getAllTasks().size(), "O número de tarefas não deve mudar.");
     }
+
+    // --- Testes de Operações em Lote ---
+
+    @Test
+    void testCreateTasksBatchReportsEachEntry() {
+        BatchResult result = taskService.createTasks(List.of(
+                new TaskSpec("Lote 1", "Válida", 4),
+                new TaskSpec("", "Título vazio", 2),
+                new TaskSpec("Lote 3", null, 9),
+                new TaskSpec("Lote 4", "Válida", 2)));
+
+        assertEquals(2, result.successCount());
+        assertEquals(2, result.failureCount());
+        assertEquals(List.of(1, 2), result.failures().stream().map(BatchResult.Item::index).toList());
+        assertEquals("A prioridade deve ser entre 1 e 5.", result.items().get(2).error());
+
+        Task created = result.items().get(0).task();
+        assertEquals(Optional.of(created), taskService.getTaskById(created.getId()));
+        assertEquals(5, taskService.getAllTasks().size(), "Somente as entradas válidas devem ser criadas.");
+        assertEquals(List.of(created), taskService.findByIdPrefix(created.getId()), "O lote também indexa os IDs.");
+    }
+
+    @Test
+    void testUpdateStatusesBatch() {
+        Map<String, Task.TaskStatus> changes = new LinkedHashMap<>();
+        changes.put(highPriorityTask.getId(), Task.TaskStatus.DONE);
+        changes.put("non-existent-id", Task.TaskStatus.DONE);
+        changes.put(lowPriorityTask.getId(), null);
+
+        BatchResult result = taskService.updateStatuses(changes);
+
+        assertEquals(List.of(true, false, false), result.items().stream().map(BatchResult.Item::succeeded).toList());
+        assertEquals(Task.TaskStatus.DONE, taskService.getTaskById(highPriorityTask.getId()).get().getStatus());
+        assertEquals(Task.TaskStatus.TO_DO, taskService.getTaskById(lowPriorityTask.getId()).get().getStatus());
+    }
+
+    @Test
+    void testDeleteTasksBatch() {
+        BatchResult result = taskService.deleteTasks(List.of(
+                lowPriorityTask.getId(), "non-existent-id", lowPriorityTask.getId()));
+
+        assertEquals(1, result.successCount());
+        assertEquals(lowPriorityTask, result.items().get(0).task());
+        assertEquals("Tarefa não encontrada.", result.items().get(2).error(), "A segunda exclusão do mesmo ID deve falhar.");
+        assertEquals(2, taskService.getAllTasks().size());
+        assertTrue(taskService.findByIdPrefix(lowPriorityTask.getId()).isEmpty());
+    }
+
+    // --- Testes de Notificações ---
+
+    @Test
+    void testSubscribersReceiveTypedChangesWithOldAndNewValues() {
+        List<TaskChangeEvent> received = new ArrayList<>();
+        taskService.subscribe(Runnable::run, received::addAll);
+
+        Task created = taskService.createTask("Notificada", null, 2);
+        taskService.updateTaskStatus(created.getId(), Task.TaskStatus.DONE);
+        taskService.updateTaskDetails(created.getId(), "Renomeada", "Nova descrição", 4);
+        taskService.deleteTask(created.getId());
+        taskService.updateTaskStatus("inexistente", Task.TaskStatus.DONE);
+
+        assertEquals(List.of(TaskChangeEvent.Type.CREATED, TaskChangeEvent.Type.STATUS_CHANGED,
+                        TaskChangeEvent.Type.DETAILS_CHANGED, TaskChangeEvent.Type.DELETED),
+                received.stream().map(TaskChangeEvent::type).collect(Collectors.toList()),
+                "Operações que falham não devem gerar notificações.");
+        assertNull(received.get(0).before());
+        assertEquals(Task.TaskStatus.TO_DO, received.get(1).before().status());
+        assertEquals(Task.TaskStatus.DONE, received.get(1).after().status());
+        assertEquals("Notificada", received.get(2).before().title());
+        assertEquals(4, received.get(2).after().priority());
+        assertEquals("Renomeada", received.get(3).before().title());
+        assertNull(received.get(3).after());
+        assertEquals(created.getId(), received.get(3).taskId());
+    }
+
+    @Test
+    void testBurstIsCoalescedUntilTheExecutorRuns() {
+        List<Runnable> executor = new ArrayList<>();
+        List<Integer> batchSizes = new ArrayList<>();
+        TaskChangeFeed.Subscription subscription = taskService.subscribe(executor::add, events -> batchSizes.add(events.size()));
+
+        for (int i = 0; i < 10_000; i++) {
+            taskService.createTask("Rajada " + i, null, 1 + i % 5);
+        }
+        assertEquals(1, executor.size(), "Enquanto a entrega não roda, novas alterações só se acumulam.");
+        executor.remove(0).run();
+        assertEquals(List.of(10_000), batchSizes);
+
+        subscription.close();
+        taskService.createTask("Depois do cancelamento", null, 1);
+        assertTrue(executor.isEmpty(), "Uma assinatura cancelada não recebe novas entregas.");
+    }
+
+    @Test
+    void testFailingSubscriberDoesNotAffectServiceOrOtherSubscribers() {
+        List<TaskChangeEvent> received = new ArrayList<>();
+        taskService.subscribe(Runnable::run, events -> {
+            throw new IllegalStateException("assinante com defeito");
+        });
+        taskService.subscribe(Runnable::run, received::addAll);
+
+        assertNotNull(taskService.createTask("Apesar do defeito", null, 3));
+        assertEquals(1, received.size());
+        assertTrue(taskService.updateTaskStatus(highPriorityTask.getId(), Task.TaskStatus.IN_PROGRESS));
+        assertEquals(2, received.size());
+    }
+
+    // --- Testes do Quadro Kanban ---
+
+    @Test
+    void testBoardSummaryFollowsEveryKindOfChange() {
+        BoardSummary initial = taskService.getBoardSummary();
+        assertEquals(3, initial.total());
+        assertEquals(3, initial.count(Task.TaskStatus.TO_DO));
+        assertEquals(1, initial.count(Task.TaskStatus.TO_DO, 5));
+
+        taskService.updateTaskStatus(highPriorityTask.getId(), Task.TaskStatus.IN_PROGRESS);
+        taskService.updateTaskDetails(lowPriorityTask.getId(), "Agora urgente", null, 5);
+        taskService.createTasks(List.of(new TaskSpec("Lote", null, 2), new TaskSpec("", null, 2)));
+        taskService.updateStatuses(Map.of(lowPriorityTask.getId(), Task.TaskStatus.DONE));
+        taskService.deleteTask(highPriorityTask.getId());
+
+        BoardSummary summary = taskService.getBoardSummary();
+        assertEquals(3, summary.total());
+        assertEquals(0, summary.count(Task.TaskStatus.IN_PROGRESS));
+        assertEquals(1, summary.count(Task.TaskStatus.DONE, 5));
+        assertEquals(0, summary.countByPriority(1));
+        assertEquals(1, summary.countByPriority(2));
+        assertEquals(2, summary.count(Task.TaskStatus.TO_DO));
+        assertEquals(summary.total(), taskService.getAllTasks().size());
+    }
+
+    @Test
+    void testBoardSummaryCountsTasksAlreadyInTheRepository() {
+        InMemoryTaskRepository repository = new InMemoryTaskRepository();
+        Task done = new Task("Carregada", null, 4);
+        done.setStatus(Task.TaskStatus.DONE);
+        repository.save(done);
+        repository.save(new Task("Outra", null, 4));
+
+        BoardSummary summary = new TaskService(repository).getBoardSummary();
+        assertEquals(1, summary.count(Task.TaskStatus.DONE, 4));
+        assertEquals(2, summary.countByPriority(4));
+    }
+
+    @Test
+    void testFindByStatusFollowsUpdatesAndDeletes() {
+        // Serviço vazio: as tarefas do setUp também estão em TO_DO.
+        TaskService service = new TaskService();
+        Task low = service.createTask("Baixa", null, 1);
+        Task high = service.createTask("Alta", null, 5);
+        Task moving = service.createTask("Em andamento", null, 3);
+        Task removed = service.createTask("Removida", null, 4);
+
+        service.updateTaskStatus(moving.getId(), Task.TaskStatus.IN_PROGRESS);
+        service.updateStatuses(Map.of(low.getId(), Task.TaskStatus.DONE));
+        service.deleteTask(removed.getId());
+
+        assertEquals(List.of(high), service.findByStatus(Task.TaskStatus.TO_DO));
+        assertEquals(List.of(moving), service.findByStatus(Task.TaskStatus.IN_PROGRESS));
+        assertEquals(List.of(low), service.findByStatus(Task.TaskStatus.DONE));
+
+        service.updateTaskStatus(moving.getId(), Task.TaskStatus.TO_DO);
+        assertTrue(service.findByStatus(Task.TaskStatus.IN_PROGRESS).isEmpty());
+        assertEquals(List.of(high, moving), service.findByStatus(Task.TaskStatus.TO_DO),
+                "A coluna deve vir da prioridade mais alta para a mais baixa.");
+    }
+
+    @Test
+    void testDeliveryDateQueriesFollowDateAndStatusChanges() {
+        LocalDate today = LocalDate.of(2024, 3, 10);
+        Task late = taskService.createTask("Atrasada", null, 2);
+        Task lateDone = taskService.createTask("Atrasada mas concluída", null, 5);
+        Task soon = taskService.createTask("Em dois dias", null, 3);
+        Task later = taskService.createTask("Mês que vem", null, 4);
+        taskService.createTask("Sem data", null, 5);
+
+        assertTrue(taskService.updateTaskDeliveryDate(late.getId(), today.minusDays(2)));
+        taskService.updateTaskDeliveryDate(lateDone.getId(), today.minusDays(5));
+        taskService.updateTaskStatus(lateDone.getId(), Task.TaskStatus.DONE);
+        taskService.updateTaskDeliveryDate(soon.getId(), today.plusDays(2));
+        taskService.updateTaskDeliveryDate(later.getId(), today.plusMonths(1));
+        assertFalse(taskService.updateTaskDeliveryDate(UUID.randomUUID().toString(), today));
+
+        assertEquals(List.of(late), taskService.findOverdue(today), "Tarefas concluídas não estão atrasadas.");
+        assertEquals(List.of(soon), taskService.findDueBetween(today, today.plusDays(3)));
+        assertEquals(List.of(lateDone, late, soon), taskService.findDueBetween(today.minusDays(5), today.plusDays(2)),
+                "Os limites são inclusivos e o resultado vem em ordem de entrega.");
+
+        // Mudar a data move a tarefa de faixa; remover a data tira a tarefa das consultas.
+        taskService.updateTaskDeliveryDate(later.getId(), today.plusDays(1));
+        taskService.updateTaskDeliveryDate(soon.getId(), null);
+        taskService.deleteTask(late.getId());
+        assertEquals(List.of(later), taskService.findDueBetween(today, today.plusDays(3)));
+        assertTrue(taskService.findOverdue(today).isEmpty());
+        assertNull(taskService.getTaskById(soon.getId()).orElseThrow().getDeliveryDate());
+    }
+
+    @Test
+    void testSearchIgnoresAccentsAndCaseAndMatchesAllWordsAsPrefixes() {
+        Task sp = taskService.createTask("Entrega em São Paulo", "Conferir a documentação do caminhão", 3);
+        Task rj = taskService.createTask("ENTREGAR no Rio", "Documentacao pendente", 4);
+        taskService.createTask("Reunião", "Sem relação com entregas", 2);
+
+        assertEquals(List.of(rj, sp), taskService.search("documentação"), "Acentos e maiúsculas não importam.");
+        assertEquals(List.of(sp), taskService.search("entreg sao"), "Todas as palavras precisam aparecer.");
+        assertEquals(List.of(sp), taskService.search("CAMINHAO  conferir"));
+        assertEquals(3, taskService.search("entreg").size(), "Cada palavra vale como prefixo.");
+        assertTrue(taskService.search("entrega de caminhao").contains(sp), "Palavras comuns no meio da consulta são ignoradas.");
+        assertEquals(List.of(sp), taskService.search("entrega em sa"), "Só a última palavra conta como início de outra.");
+        assertEquals(List.of(sp), taskService.search("entrega em"), "Uma palavra comum sendo digitada não esconde a tarefa.");
+        assertTrue(taskService.search("  ").isEmpty());
+        assertTrue(taskService.search("inexistente").isEmpty());
+    }
+
+    @Test
+    void testSearchFollowsDetailUpdatesAndDeletes() {
+        Task task = taskService.createTask("Inventário do depósito", "Contar paletes", 2);
+        assertEquals(List.of(task), taskService.search("paletes"));
+
+        taskService.updateTaskDetails(task.getId(), "Inventário da loja", "Contar caixas", 2);
+        assertTrue(taskService.search("paletes").isEmpty(), "Palavras removidas saem do índice.");
+        assertTrue(taskService.search("deposito").isEmpty());
+        assertEquals(List.of(task), taskService.search("inventario caixas"));
+
+        taskService.createTasks(List.of(new TaskSpec("Caixas extras", null, 5)));
+        assertEquals(2, taskService.search("caixa").size());
+
+        taskService.deleteTask(task.getId());
+        assertEquals(1, taskService.search("caixa").size());
+        assertTrue(taskService.search("inventario").isEmpty());
+    }
+
+    @Test
+    void testLimitedSearchReturnsHighestPrioritiesFirst() {
+        for (int i = 0; i < 30; i++) {
+            taskService.createTask("Pedido " + i, "Separação do pedido", 1 + i % 5);
+        }
+
+        List<Task> suggestions = taskService.search("pedi", 6);
+        assertEquals(6, suggestions.size());
+        assertTrue(suggestions.stream().allMatch(t -> t.getPriority() == 5), "As sugestões vêm da prioridade mais alta.");
+        assertEquals(30, taskService.search("pedido separacao").size());
+        assertEquals(6, taskService.search("separacao do", 6).size(), "O limite vale mesmo com a palavra comum fora do índice.");
+
+        // Palavras de um caractere não valem como prefixo: "1" é o número 1, não 10, 11...
+        assertEquals(List.of("Pedido 1"), taskService.search("pedido 1").stream().map(Task::getTitle).collect(Collectors.toList()));
+    }
+
+    // --- Testes de Paginação e Stream ---
+
+    @Test
+    void testPagesCoverTheListingInOrder() {
+        for (int i = 0; i < 20; i++) {
+            taskService.createTask("Paginada " + i, null, 1 + i % 5);
+        }
+
+        List<Task> paged = new ArrayList<>();
+        TaskPage page = taskService.getTaskPage(null, 4);
+        paged.addAll(page.tasks());
+        while (page.hasNext()) {
+            page = taskService.getTaskPage(page.next(), 4);
+            assertFalse(page.tasks().isEmpty(), "Uma página com cursor seguinte nunca termina vazia.");
+            paged.addAll(page.tasks());
+        }
+        assertEquals(taskService.getAllTasks(), paged);
+        assertThrows(IllegalArgumentException.class, () -> taskService.getTaskPage(null, 0));
+    }
+
+    @Test
+    void testCursorSurvivesDeletesAndCreatesBetweenPages() {
+        for (int i = 0; i < 20; i++) {
+            taskService.createTask("Paginada " + i, null, 1 + i % 5);
+        }
+        // Prioridade 5: a tarefa do setUp e mais 4; a primeira página termina nela.
+        TaskPage first = taskService.getTaskPage(null, 5);
+        assertTrue(first.tasks().stream().allMatch(t -> t.getPriority() == 5));
+        List<Task> expectedRest = new ArrayList<>(taskService.getAllTasks());
+        expectedRest.removeAll(first.tasks());
+
+        // A tarefa do cursor some e uma nova entra no fim da prioridade 5: nada se repete ou se perde.
+        taskService.deleteTask(first.tasks().get(4).getId());
+        Task created = taskService.createTask("Criada entre páginas", null, 5);
+        expectedRest.add(0, created);
+
+        List<Task> rest = new ArrayList<>();
+        TaskPage page = first;
+        while (page.hasNext()) {
+            page = taskService.getTaskPage(page.next(), 3);
+            rest.addAll(page.tasks());
+        }
+        assertEquals(expectedRest, rest);
+    }
+
+    @Test
+    void testStreamTasksFollowsListingAndSplitsForParallelStreams() {
+        for (int i = 0; i < 1_000; i++) {
+            taskService.createTask("Stream " + i, null, 1 + i % 5);
+        }
+        List<Task> all = taskService.getAllTasks();
+
+        assertEquals(all, taskService.streamTasks().collect(Collectors.toList()));
+        assertEquals(all, taskService.streamTasks().parallel().collect(Collectors.toList()),
+                "O stream paralelo deve manter a ordem da listagem.");
+        assertEquals(all.stream().filter(t -> t.getPriority() >= 4).count(),
+                taskService.streamTasks().parallel().filter(t -> t.getPriority() >= 4).count());
+
+        Spliterator<Task> spliterator = taskService.streamTasks().spliterator();
+        Spliterator<Task> prefix = spliterator.trySplit();
+        assertNotNull(prefix, "O percurso deve se dividir para os streams paralelos.");
+        assertEquals(all.size(), prefix.estimateSize() + spliterator.estimateSize());
+    }
+
+    @Test
+    void testStreamFailsFastWhenTasksAreCreatedDuringTraversal() {
+        // Mudanças de status não alteram a ordem: o percurso continua normalmente.
+        taskService.streamTasks().forEach(t -> taskService.updateTaskStatus(t.getId(), Task.TaskStatus.DONE));
+        assertEquals(3, taskService.findByStatus(Task.TaskStatus.DONE).size());
+
+        assertThrows(ConcurrentModificationException.class,
+                () -> taskService.streamTasks().forEach(t -> taskService.createTask("Durante o percurso", null, 2)));
+    }
 }
\ No newline at end of file
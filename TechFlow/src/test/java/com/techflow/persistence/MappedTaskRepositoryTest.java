@@ -0,0 +1,159 @@
+package com.techflow.persistence;
+
+import com.techflow.model.Task;
+import com.techflow.model.TaskPage;
+import com.techflow.model.TaskService;
+import com.techflow.model.TaskSnapshot;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes do repositório em arquivos mapeados (registros de tamanho fixo + heap de textos).
+ */
+public class MappedTaskRepositoryTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void testReopenRestoresTasksAndOrder() throws IOException {
+        List<TaskSnapshot> expected;
+        try (MappedTaskRepository repository = MappedTaskRepository.open(dir)) {
+            TaskService service = new TaskService(repository);
+            Task a = service.createTask("Primeira", "Descrição com acentuação", 2);
+            Task b = service.createTask("Segunda", null, 5);
+            service.createTask("Terceira", "Mantida", 2);
+            service.updateTaskStatus(a.getId(), Task.TaskStatus.IN_PROGRESS);
+            service.updateTaskDetails(b.getId(), "Segunda editada", "Agora com descrição", 1);
+
+            Task stored = service.getTaskById(b.getId()).orElseThrow();
+            assertEquals("Segunda editada", stored.getTitle());
+            assertEquals(1, stored.getPriority());
+            expected = snapshots(repository.findAll());
+        }
+
+        try (MappedTaskRepository reopened = MappedTaskRepository.open(dir)) {
+            assertEquals(expected, snapshots(reopened.findAll()));
+            assertEquals(List.of("Primeira", "Segunda editada", "Terceira"),
+                    reopened.snapshotAll().stream().map(TaskSnapshot::title).collect(Collectors.toList()),
+                    "A ordem de criação deve sobreviver à reabertura.");
+        }
+    }
+
+    @Test
+    void testDeletedSlotsAreReusedWithoutBreakingCreationOrder() throws IOException {
+        List<String> expectedTitles = new ArrayList<>();
+        try (MappedTaskRepository repository = MappedTaskRepository.open(dir)) {
+            List<Task> tasks = new ArrayList<>();
+            for (int i = 0; i < 10; i++) {
+                Task task = new Task("Tarefa " + i, null, 3);
+                repository.save(task);
+                tasks.add(task);
+            }
+            for (int i = 0; i < 10; i += 2) {
+                repository.deleteById(tasks.get(i).getId());
+            }
+            // As novas tarefas ocupam slots liberados, mas devem continuar no fim da listagem.
+            for (int i = 10; i < 13; i++) {
+                repository.save(new Task("Tarefa " + i, null, 3));
+            }
+            for (int i = 1; i < 10; i += 2) {
+                expectedTitles.add("Tarefa " + i);
+            }
+            expectedTitles.addAll(List.of("Tarefa 10", "Tarefa 11", "Tarefa 12"));
+            assertEquals(expectedTitles, titles(repository.findAll()));
+            assertTrue(repository.findById(tasks.get(0).getId()).isEmpty());
+        }
+
+        try (MappedTaskRepository reopened = MappedTaskRepository.open(dir)) {
+            assertEquals(expectedTitles, titles(reopened.findAll()));
+            assertEquals(8, reopened.count());
+        }
+    }
+
+    @Test
+    void testFilesGrowBeyondInitialMapping() throws IOException {
+        int total = 5_000;
+        try (MappedTaskRepository repository = MappedTaskRepository.open(dir)) {
+            for (int i = 0; i < total; i++) {
+                repository.save(new Task("Tarefa " + i, "Descrição longa o bastante para encher o heap de textos " + i, 1 + i % 5));
+            }
+        }
+        try (MappedTaskRepository reopened = MappedTaskRepository.open(dir)) {
+            assertEquals(total, reopened.count());
+            List<Task> all = reopened.findAll();
+            assertEquals(5, all.get(0).getPriority());
+            assertEquals("Tarefa 4", all.get(0).getTitle());
+            for (Task task : all) {
+                assertEquals(task.getTitle(), reopened.findById(task.getId()).orElseThrow().getTitle());
+            }
+        }
+    }
+
+    @Test
+    void testEditedTextsAreCompactedInsteadOfGrowingTheHeap() throws IOException {
+        String padding = "x".repeat(1_000);
+        List<TaskSnapshot> expected;
+        try (MappedTaskRepository repository = MappedTaskRepository.open(dir)) {
+            TaskService service = new TaskService(repository);
+            Task kept = service.createTask("Mantida", "Descrição que nunca muda", 4);
+            service.createTask("Sem descrição", null, 2);
+            Task edited = service.createTask("Editada", padding, 3);
+            // Cerca de 2 MB de textos gravados, com poucos KB vivos a cada momento.
+            for (int i = 0; i < 1_000; i++) {
+                service.updateTaskDetails(edited.getId(), "Editada " + i, padding + i, 1 + i % 5);
+            }
+            assertTrue(repository.stringHeapBytes() < 64 * 1024, "heap: " + repository.stringHeapBytes());
+            assertEquals("Descrição que nunca muda", repository.findById(kept.getId()).orElseThrow().getDescription());
+            assertEquals(padding + 999, repository.findById(edited.getId()).orElseThrow().getDescription());
+
+            repository.compactStrings();
+            assertEquals(("Mantida" + "Descrição que nunca muda" + "Sem descrição" + "Editada 999" + padding + 999)
+                    .getBytes(StandardCharsets.UTF_8).length, repository.stringHeapBytes());
+            expected = repository.snapshotAll();
+        }
+
+        try (MappedTaskRepository reopened = MappedTaskRepository.open(dir)) {
+            assertEquals(expected, reopened.snapshotAll());
+            assertNull(reopened.snapshotAll().get(1).description());
+        }
+    }
+
+    @Test
+    void testPagesFollowListingOrderAfterReopen() throws IOException {
+        try (MappedTaskRepository repository = MappedTaskRepository.open(dir)) {
+            for (int i = 0; i < 50; i++) {
+                repository.save(new Task("Tarefa " + i, null, 1 + i % 5));
+            }
+        }
+        try (MappedTaskRepository reopened = MappedTaskRepository.open(dir)) {
+            TaskService service = new TaskService(reopened);
+            List<Task> paged = new ArrayList<>();
+            TaskPage page = service.getTaskPage(null, 7);
+            paged.addAll(page.tasks());
+            while (page.hasNext()) {
+                page = service.getTaskPage(page.next(), 7);
+                paged.addAll(page.tasks());
+            }
+            assertEquals(titles(reopened.findAll()), titles(paged));
+            assertEquals(titles(reopened.findAll()), titles(service.streamTasks().collect(Collectors.toList())));
+        }
+    }
+
+    private static List<TaskSnapshot> snapshots(List<Task> tasks) {
+        return tasks.stream().map(Task::snapshot).collect(Collectors.toList());
+    }
+
+    private static List<String> titles(List<Task> tasks) {
+        return tasks.stream().map(Task::getTitle).collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,100 @@
+package com.techflow.persistence;
+
+import com.techflow.model.ConcurrentTaskRepository;
+import com.techflow.model.Task;
+import com.techflow.model.TaskService;
+import com.techflow.model.TaskSnapshot;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes de snapshot e compactação do log.
+ */
+public class TaskStoreTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void testSnapshotCompactsLogAndRestoresWithTail() throws IOException {
+        List<TaskSnapshot> expected;
+        ConcurrentTaskRepository repository = new ConcurrentTaskRepository();
+        try (TaskStore store = TaskStore.open(dir, WriteAheadLog.FsyncPolicy.ALWAYS, repository)) {
+            TaskService service = new TaskService(repository, store);
+            Task a = service.createTask("Antes do snapshot", "Fica no snapshot", 3);
+            Task b = service.createTask("Também antes", null, 3);
+            service.updateTaskStatus(a.getId(), Task.TaskStatus.DONE);
+
+            store.snapshot(service);
+
+            // Alterações depois do snapshot ficam apenas no final do log.
+            service.updateTaskDetails(b.getId(), "Editada depois", "No log", 1);
+            service.createTask("Depois do snapshot", "No log", 5);
+            expected = service.getAllTasks().stream().map(Task::snapshot).collect(Collectors.toList());
+        }
+
+        assertEquals(List.of("snapshot-000000000002.bin", "wal-000000000002.log"), fileNames(),
+                "O histórico anterior ao snapshot deve ser descartado.");
+
+        ConcurrentTaskRepository recovered = new ConcurrentTaskRepository();
+        TaskStore.open(dir, WriteAheadLog.FsyncPolicy.ALWAYS, recovered).close();
+        assertEquals(expected, recovered.findAll().stream().map(Task::snapshot).collect(Collectors.toList()));
+    }
+
+    @Test
+    void testSnapshotWhileWritersKeepGoing() throws Exception {
+        ConcurrentTaskRepository repository = new ConcurrentTaskRepository();
+        List<TaskSnapshot> expected;
+        try (TaskStore store = TaskStore.open(dir, WriteAheadLog.FsyncPolicy.NEVER, repository)) {
+            TaskService service = new TaskService(repository, store);
+            ExecutorService writers = Executors.newFixedThreadPool(4);
+            Future<?>[] futures = new Future<?>[4];
+            for (int t = 0; t < futures.length; t++) {
+                int thread = t;
+                futures[t] = writers.submit(() -> {
+                    for (int i = 0; i < 2_000; i++) {
+                        Task task = service.createTask("W" + thread + "-" + i, "Concorrente", 1 + i % 5);
+                        if (i % 3 == 0) {
+                            service.updateTaskDetails(task.getId(), "Editada " + i, "Durante o snapshot", 5 - i % 5);
+                        }
+                        if (i % 7 == 0) {
+                            service.deleteTask(task.getId());
+                        }
+                    }
+                });
+            }
+            for (int i = 0; i < 5; i++) {
+                store.snapshot(service);
+            }
+            for (Future<?> future : futures) {
+                future.get(60, TimeUnit.SECONDS);
+            }
+            writers.shutdown();
+            expected = repository.snapshotAll();
+        }
+
+        ConcurrentTaskRepository recovered = new ConcurrentTaskRepository();
+        TaskStore.open(dir, WriteAheadLog.FsyncPolicy.NEVER, recovered).close();
+        assertEquals(expected.stream().collect(Collectors.toSet()), recovered.snapshotAll().stream().collect(Collectors.toSet()),
+                "Snapshot + final do log deve reproduzir exatamente o estado em memória.");
+    }
+
+    private List<String> fileNames() throws IOException {
+        try (Stream<Path> files = Files.list(dir)) {
+            return files.map(p -> p.getFileName().toString()).sorted().collect(Collectors.toList());
+        }
+    }
+}
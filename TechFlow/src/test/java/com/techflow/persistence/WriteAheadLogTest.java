@@ -0,0 +1,323 @@
+package com.techflow.persistence;
+
+import com.techflow.logging.EventLog;
+import com.techflow.model.BatchResult;
+import com.techflow.model.InMemoryTaskRepository;
+import com.techflow.model.Task;
+import com.techflow.model.TaskService;
+import com.techflow.model.TaskSnapshot;
+import com.techflow.model.TaskSpec;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes de persistência e recuperação do write-ahead log.
+ */
+public class WriteAheadLogTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void testReplayRebuildsServiceState() throws IOException {
+        Path log = dir.resolve("tasks.wal");
+        List<TaskSnapshot> expected;
+        try (WriteAheadLog wal = WriteAheadLog.open(log, WriteAheadLog.FsyncPolicy.ALWAYS, new InMemoryTaskRepository())) {
+            TaskService service = new TaskService(new InMemoryTaskRepository(), wal);
+            Task a = service.createTask("Carregar caminhão", "Doca 3", 4);
+            Task b = service.createTask("Conferir nota", null, 2);
+            Task c = service.createTask("Descartar", "Será excluída", 1);
+            service.updateTaskStatus(a.getId(), Task.TaskStatus.IN_PROGRESS);
+            service.updateTaskDetails(b.getId(), "Conferir nota fiscal", "Entrega São Paulo", 5);
+            service.updateTask(a.getId(), "Carregar caminhão 2", null, 3, Task.TaskStatus.DONE,
+                    LocalDate.of(2024, 7, 1), a.getVersion());
+            service.deleteTask(c.getId());
+            expected = snapshots(service.getAllTasks());
+        }
+
+        InMemoryTaskRepository recovered = new InMemoryTaskRepository();
+        WriteAheadLog.open(log, WriteAheadLog.FsyncPolicy.ALWAYS, recovered).close();
+
+        assertEquals(expected, snapshots(recovered.findAll()), "O estado recuperado deve ser idêntico ao gravado.");
+    }
+
+    @Test
+    void testBatchOperationsAreReplayed() throws IOException {
+        Path log = dir.resolve("tasks.wal");
+        List<TaskSnapshot> expected;
+        try (WriteAheadLog wal = WriteAheadLog.open(log, WriteAheadLog.FsyncPolicy.ALWAYS, new InMemoryTaskRepository())) {
+            TaskService service = new TaskService(new InMemoryTaskRepository(), wal);
+            List<TaskSpec> specs = new ArrayList<>();
+            for (int i = 0; i < 100; i++) {
+                specs.add(new TaskSpec("Importada " + i, "Lote", 1 + i % 5));
+            }
+            List<Task> created = service.createTasks(specs).items().stream()
+                    .map(BatchResult.Item::task).collect(Collectors.toList());
+            Map<String, Task.TaskStatus> changes = new LinkedHashMap<>();
+            for (int i = 0; i < 100; i += 3) {
+                changes.put(created.get(i).getId(), Task.TaskStatus.DONE);
+            }
+            service.updateStatuses(changes);
+            service.deleteTasks(created.subList(90, 100).stream().map(Task::getId).collect(Collectors.toList()));
+            expected = snapshots(service.getAllTasks());
+        }
+
+        InMemoryTaskRepository recovered = new InMemoryTaskRepository();
+        WriteAheadLog.open(log, WriteAheadLog.FsyncPolicy.ALWAYS, recovered).close();
+
+        assertEquals(90, expected.size());
+        assertEquals(expected, snapshots(recovered.findAll()), "Os lotes devem ser recuperados como as operações individuais.");
+    }
+
+    @Test
+    void testDeliveryDateChangesAreReplayed() throws IOException {
+        Path log = dir.resolve("tasks.wal");
+        List<TaskSnapshot> expected;
+        try (WriteAheadLog wal = WriteAheadLog.open(log, WriteAheadLog.FsyncPolicy.ALWAYS, new InMemoryTaskRepository())) {
+            TaskService service = new TaskService(new InMemoryTaskRepository(), wal);
+            Task dated = service.createTask("Com prazo", null, 3);
+            Task cleared = service.createTask("Prazo removido", null, 2);
+            service.updateTaskDeliveryDate(dated.getId(), LocalDate.of(2024, 12, 24));
+            service.updateTaskDeliveryDate(cleared.getId(), LocalDate.of(2024, 1, 1));
+            service.updateTaskDeliveryDate(cleared.getId(), null);
+            expected = snapshots(service.getAllTasks());
+        }
+
+        InMemoryTaskRepository recovered = new InMemoryTaskRepository();
+        WriteAheadLog.open(log, WriteAheadLog.FsyncPolicy.ALWAYS, recovered).close();
+
+        assertEquals(expected, snapshots(recovered.findAll()), "As datas de entrega devem ser recuperadas do log.");
+        TaskService reopened = new TaskService(recovered);
+        assertEquals(1, reopened.findDueBetween(LocalDate.of(2024, 1, 1), LocalDate.of(2024, 12, 31)).size(),
+                "Os índices devem ser montados a partir das tarefas recuperadas.");
+    }
+
+    @Test
+    void testReplayOverAStateThatAlreadyHasTheChangesKeepsTheVersion() throws IOException {
+        // Como no snapshot do TaskStore: a imagem pode já conter alterações que também estão no log.
+        Path log = dir.resolve("tasks.wal");
+        TaskSnapshot created = new Task("Separar pedido", null, 3).snapshot();
+        TaskSnapshot captured = created.withStatus(Task.TaskStatus.IN_PROGRESS).withPriority(5);
+        try (WriteAheadLog wal = WriteAheadLog.open(log, WriteAheadLog.FsyncPolicy.ALWAYS, new InMemoryTaskRepository())) {
+            wal.statusChanged(created.id(), Task.TaskStatus.IN_PROGRESS, 1);
+            wal.detailsChanged(created.id(), created.title(), null, 5, 2);
+            wal.deliveryDateChanged(created.id(), LocalDate.of(2024, 9, 2), 3);
+        }
+
+        InMemoryTaskRepository recovered = new InMemoryTaskRepository();
+        recovered.save(Task.restore(captured));
+        WriteAheadLog.replay(log, recovered);
+
+        TaskSnapshot replayed = recovered.findById(created.id()).orElseThrow().snapshot();
+        assertEquals(captured.withDeliveryDate(LocalDate.of(2024, 9, 2)), replayed);
+        assertEquals(3, replayed.version(), "A versão reaplicada é a gravada, não uma contagem a mais.");
+    }
+
+    @Test
+    void testRecoveryDiscardsRecordTruncatedMidWrite() throws IOException {
+        Path log = dir.resolve("tasks.wal");
+        String lastId;
+        try (WriteAheadLog wal = WriteAheadLog.open(log, WriteAheadLog.FsyncPolicy.INTERVAL, new InMemoryTaskRepository())) {
+            TaskService service = new TaskService(new InMemoryTaskRepository(), wal);
+            service.createTask("Primeira", "Íntegra", 3);
+            service.createTask("Segunda", "Íntegra", 3);
+            lastId = service.createTask("Terceira", "Cortada na queda", 3).getId();
+        }
+        long fullSize = Files.size(log);
+
+        // Simula uma queda no meio da escrita do último registro.
+        try (FileChannel channel = FileChannel.open(log, StandardOpenOption.WRITE)) {
+            channel.truncate(fullSize - 7);
+        }
+
+        InMemoryTaskRepository recovered = new InMemoryTaskRepository();
+        try (WriteAheadLog wal = WriteAheadLog.open(log, WriteAheadLog.FsyncPolicy.ALWAYS, recovered)) {
+            assertEquals(2, recovered.count(), "Somente os registros completos devem ser reaplicados.");
+            assertTrue(recovered.findById(lastId).isEmpty());
+            assertTrue(Files.size(log) < fullSize - 7, "O registro parcial deve ser removido do arquivo.");
+
+            // O log continua utilizável após a recuperação.
+            new TaskService(recovered, wal).createTask("Depois da queda", "Nova", 5);
+        }
+
+        InMemoryTaskRepository again = new InMemoryTaskRepository();
+        WriteAheadLog.open(log, WriteAheadLog.FsyncPolicy.ALWAYS, again).close();
+        assertEquals(List.of("Depois da queda", "Primeira", "Segunda"),
+                again.findAll().stream().map(Task::getTitle).collect(Collectors.toList()));
+    }
+
+    @Test
+    void testRecoveryStopsAtCorruptedChecksum() throws IOException {
+        Path log = dir.resolve("tasks.wal");
+        try (WriteAheadLog wal = WriteAheadLog.open(log, WriteAheadLog.FsyncPolicy.NEVER, new InMemoryTaskRepository())) {
+            TaskService service = new TaskService(new InMemoryTaskRepository(), wal);
+            service.createTask("Válida", "Íntegra", 2);
+            service.createTask("Corrompida", "Byte alterado", 2);
+        }
+
+        // Altera o último byte de dados do segundo registro (antes do CRC).
+        byte[] bytes = Files.readAllBytes(log);
+        bytes[bytes.length - 5] ^= 0x5A;
+        Files.write(log, bytes);
+
+        InMemoryTaskRepository recovered = new InMemoryTaskRepository();
+        WriteAheadLog.open(log, WriteAheadLog.FsyncPolicy.ALWAYS, recovered).close();
+        assertEquals(List.of("Válida"), recovered.findAll().stream().map(Task::getTitle).collect(Collectors.toList()));
+    }
+
+    @Test
+    void testWriteFailureStopsTheLogInsteadOfLosingRecordsSilently() throws IOException {
+        Path log = dir.resolve("tasks.wal");
+        FailingChannel channel = new FailingChannel(FileChannel.open(log,
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE));
+        WriteAheadLog wal = WriteAheadLog.open(channel, WriteAheadLog.FsyncPolicy.ALWAYS, 20, 0,
+                new InMemoryTaskRepository(), EventLog.disabled());
+        TaskService service = new TaskService(new InMemoryTaskRepository(), wal, EventLog.disabled());
+        Task kept = service.createTask("Gravada antes da falha", null, 3);
+
+        channel.failWrites = true;
+        UncheckedIOException error = assertThrows(UncheckedIOException.class,
+                () -> service.createTask("Perdida na falha", null, 3), "Quem espera durabilidade recebe a falha.");
+        assertEquals("disco cheio", error.getCause().getMessage());
+
+        // Depois da falha nada mais é aceito, nem se o disco voltar: o fim do arquivo é incerto.
+        channel.failWrites = false;
+        assertThrows(IllegalStateException.class, () -> wal.taskDeleted(kept.getId()));
+        assertThrows(UncheckedIOException.class, () -> wal.awaitDurable(Long.MAX_VALUE));
+        assertThrows(IOException.class, wal::close);
+
+        InMemoryTaskRepository recovered = new InMemoryTaskRepository();
+        WriteAheadLog.open(log, WriteAheadLog.FsyncPolicy.ALWAYS, recovered).close();
+        assertEquals(List.of("Gravada antes da falha"), recovered.findAll().stream().map(Task::getTitle).toList());
+    }
+
+    private static List<TaskSnapshot> snapshots(List<Task> tasks) {
+        return tasks.stream().map(Task::snapshot).collect(Collectors.toList());
+    }
+
+    // Canal de arquivo real cujas escritas passam a falhar quando o teste pede (disco cheio).
+    private static final class FailingChannel extends FileChannel {
+        private final FileChannel file;
+        volatile boolean failWrites;
+
+        FailingChannel(FileChannel file) {
+            this.file = file;
+        }
+
+        @Override
+        public int write(ByteBuffer src) throws IOException {
+            if (failWrites) {
+                throw new IOException("disco cheio");
+            }
+            return file.write(src);
+        }
+
+        @Override
+        public long write(ByteBuffer[] srcs, int offset, int length) throws IOException {
+            if (failWrites) {
+                throw new IOException("disco cheio");
+            }
+            return file.write(srcs, offset, length);
+        }
+
+        @Override
+        public int write(ByteBuffer src, long position) throws IOException {
+            if (failWrites) {
+                throw new IOException("disco cheio");
+            }
+            return file.write(src, position);
+        }
+
+        @Override
+        public int read(ByteBuffer dst) throws IOException {
+            return file.read(dst);
+        }
+
+        @Override
+        public long read(ByteBuffer[] dsts, int offset, int length) throws IOException {
+            return file.read(dsts, offset, length);
+        }
+
+        @Override
+        public int read(ByteBuffer dst, long position) throws IOException {
+            return file.read(dst, position);
+        }
+
+        @Override
+        public long position() throws IOException {
+            return file.position();
+        }
+
+        @Override
+        public FileChannel position(long newPosition) throws IOException {
+            file.position(newPosition);
+            return this;
+        }
+
+        @Override
+        public long size() throws IOException {
+            return file.size();
+        }
+
+        @Override
+        public FileChannel truncate(long size) throws IOException {
+            file.truncate(size);
+            return this;
+        }
+
+        @Override
+        public void force(boolean metaData) throws IOException {
+            file.force(metaData);
+        }
+
+        @Override
+        public long transferTo(long position, long count, WritableByteChannel target) throws IOException {
+            return file.transferTo(position, count, target);
+        }
+
+        @Override
+        public long transferFrom(ReadableByteChannel src, long position, long count) throws IOException {
+            return file.transferFrom(src, position, count);
+        }
+
+        @Override
+        public MappedByteBuffer map(MapMode mode, long position, long size) throws IOException {
+            return file.map(mode, position, size);
+        }
+
+        @Override
+        public FileLock lock(long position, long size, boolean shared) throws IOException {
+            return file.lock(position, size, shared);
+        }
+
+        @Override
+        public FileLock tryLock(long position, long size, boolean shared) throws IOException {
+            return file.tryLock(position, size, shared);
+        }
+
+        @Override
+        protected void implCloseChannel() throws IOException {
+            file.close();
+        }
+    }
+}
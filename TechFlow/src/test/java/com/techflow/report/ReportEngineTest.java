@@ -0,0 +1,126 @@
+package com.techflow.report;
+
+import com.techflow.model.Task;
+import com.techflow.model.TaskService;
+import com.techflow.model.TaskSnapshot;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes dos relatórios gerenciais: valores conhecidos e equivalência entre o cálculo paralelo
+ * e uma contagem direta, sequencial.
+ */
+public class ReportEngineTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2024, 6, 15);
+
+    private static final AtomicLong IDS = new AtomicLong();
+
+    private final ReportEngine engine = new ReportEngine(4);
+
+    @AfterEach
+    void tearDown() {
+        engine.close();
+    }
+
+    @Test
+    void testReportOnKnownTasks() {
+        List<Task> tasks = List.of(
+                task(5, Task.TaskStatus.DONE, TODAY.minusDays(10), TODAY.minusDays(6)),   // ciclo de 4 dias
+                task(5, Task.TaskStatus.DONE, TODAY.minusDays(10), TODAY.minusDays(8)),   // ciclo de 2 dias
+                task(5, Task.TaskStatus.DONE, TODAY.minusDays(3), null),                  // concluída sem data: fora do ciclo
+                task(5, Task.TaskStatus.IN_PROGRESS, TODAY.minusDays(3), TODAY.minusDays(1)), // atrasada
+                task(5, Task.TaskStatus.TO_DO, TODAY.minusDays(3), TODAY),                // vence hoje: não atrasada
+                task(2, Task.TaskStatus.TO_DO, TODAY.minusDays(10), TODAY.minusDays(2))); // atrasada
+
+        TaskReport report = engine.generate(tasks, TODAY);
+
+        assertEquals(6, report.total());
+        CycleTimeStats cycle = report.cycleTime(5);
+        assertEquals(2, cycle.count());
+        assertEquals(3.0, cycle.meanDays());
+        assertEquals(2, cycle.medianDays());
+        assertEquals(4, cycle.p90Days());
+        assertEquals(0, report.cycleTime(2).count());
+
+        assertEquals(Map.of(TODAY.minusDays(10), 3L, TODAY.minusDays(3), 3L), report.createdPerDay());
+        assertEquals(4, report.withDeliveryDate(5));
+        assertEquals(1, report.overdue(5));
+        assertEquals(0.25, report.overdueRatio(5));
+        assertEquals(1.0, report.overdueRatio(2));
+        assertEquals(0.4, report.overdueRatio(), 1e-9);
+        assertEquals(0.0, report.overdueRatio(1), "Sem datas de entrega a proporção é zero.");
+    }
+
+    @Test
+    void testParallelReportMatchesSequentialCount() {
+        Random random = new Random(3);
+        List<Task> tasks = new ArrayList<>();
+        for (int i = 0; i < 20_000; i++) {
+            LocalDate created = TODAY.minusDays(random.nextInt(900));
+            LocalDate delivery = random.nextInt(4) == 0 ? null : created.plusDays(random.nextInt(500));
+            Task.TaskStatus status = Task.TaskStatus.values()[random.nextInt(3)];
+            tasks.add(task(1 + random.nextInt(5), status, created, delivery));
+        }
+
+        TaskReport report = engine.generate(tasks, TODAY);
+
+        Map<LocalDate, Long> createdPerDay = new TreeMap<>();
+        long[] done = new long[6];
+        long[] cycleDays = new long[6];
+        long[] overdue = new long[6];
+        for (Task task : tasks) {
+            createdPerDay.merge(task.getCreatedAt(), 1L, Long::sum);
+            int p = task.getPriority();
+            if (task.getDeliveryDate() == null) {
+                continue;
+            }
+            if (task.getStatus() == Task.TaskStatus.DONE) {
+                done[p]++;
+                cycleDays[p] += task.getDeliveryDate().toEpochDay() - task.getCreatedAt().toEpochDay();
+            } else if (task.getDeliveryDate().isBefore(TODAY)) {
+                overdue[p]++;
+            }
+        }
+        assertEquals(createdPerDay, report.createdPerDay());
+        for (int p = Task.MIN_PRIORITY; p <= Task.MAX_PRIORITY; p++) {
+            assertEquals(done[p], report.cycleTime(p).count());
+            assertEquals((double) cycleDays[p] / done[p], report.cycleTime(p).meanDays(), 1e-9);
+            assertEquals(overdue[p], report.overdue(p));
+        }
+        assertEquals(tasks.size(), report.total());
+    }
+
+    @Test
+    void testReportStreamsTheServiceTasks() {
+        TaskService service = TaskService.concurrent();
+        for (int i = 0; i < 100; i++) {
+            Task task = service.createTask("Relatório " + i, null, 1 + i % 5);
+            service.updateTaskDeliveryDate(task.getId(), LocalDate.now().minusDays(1));
+            if (i % 4 == 0) {
+                service.updateTaskStatus(task.getId(), Task.TaskStatus.DONE);
+            }
+        }
+
+        TaskReport report = engine.generate(service, LocalDate.now());
+
+        assertEquals(100, report.total());
+        assertEquals(Map.of(LocalDate.now(), 100L), report.createdPerDay());
+        assertEquals(0.75, report.overdueRatio(), 1e-9);
+    }
+
+    private static Task task(int priority, Task.TaskStatus status, LocalDate createdAt, LocalDate deliveryDate) {
+        long id = IDS.incrementAndGet();
+        return Task.restore(new TaskSnapshot(id, ~id, "Tarefa " + id, null, priority, status, createdAt, deliveryDate));
+    }
+}
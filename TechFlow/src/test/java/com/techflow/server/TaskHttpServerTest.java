@@ -0,0 +1,197 @@
+package com.techflow.server;
+
+import com.techflow.model.Task;
+import com.techflow.model.TaskService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes da API HTTP/JSON: rotas de CRUD, filtros, paginação e erros, contra um servidor
+ * real em uma porta livre de localhost.
+ */
+public class TaskHttpServerTest {
+
+    private TaskService service;
+    private TaskHttpServer server;
+    private HttpClient client;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        service = TaskService.concurrent();
+        server = TaskHttpServer.start(service, new InetSocketAddress("localhost", 0));
+        client = HttpClient.newHttpClient();
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.close();
+    }
+
+    @Test
+    void testCrudThroughTheApi() throws Exception {
+        HttpResponse<String> created = send("POST", "/tasks",
+                "{\"title\": \"Coleta \\\"urgente\\\"\", \"description\": \"Doca 3 — São Paulo\", \"priority\": 5,"
+                        + " \"deliveryDate\": \"2024-07-01\"}");
+        assertEquals(201, created.statusCode());
+        Task task = service.getAllTasks().get(0);
+        assertEquals("Coleta \"urgente\"", task.getTitle());
+        assertEquals("Doca 3 — São Paulo", task.getDescription());
+        assertEquals(LocalDate.of(2024, 7, 1), task.getDeliveryDate());
+        assertEquals(0, task.getVersion(), "A data vem na própria criação, sem uma segunda escrita.");
+        assertTrue(created.body().contains("\"id\":\"" + task.getId() + "\""));
+        assertTrue(created.body().contains("\"title\":\"Coleta \\\"urgente\\\"\""));
+
+        HttpResponse<String> fetched = send("GET", "/tasks/" + task.getId(), null);
+        assertEquals(200, fetched.statusCode());
+        assertEquals("{\"id\":\"" + task.getId() + "\",\"shortId\":\"" + task.getShortId() + "\","
+                + "\"title\":\"Coleta \\\"urgente\\\"\",\"description\":\"Doca 3 — São Paulo\",\"priority\":5,"
+                + "\"status\":\"TO_DO\",\"createdAt\":\"" + task.getCreatedAt() + "\",\"deliveryDate\":\"2024-07-01\",\"version\":0}",
+                fetched.body());
+
+        HttpResponse<String> patched = send("PATCH", "/tasks/" + task.getId(),
+                "{\"status\":\"IN_PROGRESS\",\"priority\":2,\"deliveryDate\":null}");
+        assertEquals(200, patched.statusCode());
+        assertEquals(Task.TaskStatus.IN_PROGRESS, task.getStatus());
+        assertEquals(2, task.getPriority());
+        assertEquals("Coleta \"urgente\"", task.getTitle(), "Campos ausentes no PATCH são mantidos.");
+        assertNull(task.getDeliveryDate(), "null explícito remove a data de entrega.");
+
+        assertEquals(204, send("DELETE", "/tasks/" + task.getId(), null).statusCode());
+        assertEquals(404, send("GET", "/tasks/" + task.getId(), null).statusCode());
+        assertEquals(404, send("DELETE", "/tasks/" + task.getId(), null).statusCode());
+    }
+
+    @Test
+    void testPatchWithAStaleVersionIsRejected() throws Exception {
+        Task task = service.createTask("Conferir carga", null, 3);
+        String path = "/tasks/" + task.getId();
+
+        HttpResponse<String> first = send("PATCH", path, "{\"status\":\"IN_PROGRESS\",\"priority\":4,\"version\":0}");
+        assertEquals(200, first.statusCode());
+        assertEquals(1, task.getVersion(), "Detalhes e status no mesmo PATCH: uma única alteração.");
+        assertTrue(first.body().contains("\"version\":1"));
+
+        HttpResponse<String> stale = send("PATCH", path, "{\"status\":\"DONE\",\"version\":0}");
+        assertEquals(409, stale.statusCode());
+        assertTrue(stale.body().contains("\"status\":\"IN_PROGRESS\""), "O conflito traz o estado atual.");
+        assertEquals(Task.TaskStatus.IN_PROGRESS, task.getStatus());
+
+        // Um campo inválido recusa o PATCH inteiro: o status que viria junto também não é aplicado.
+        assertEquals(422, send("PATCH", path, "{\"status\":\"DONE\",\"title\":\" \",\"version\":1}").statusCode());
+        assertEquals(Task.TaskStatus.IN_PROGRESS, task.getStatus());
+        assertEquals(1, task.getVersion());
+
+        assertEquals(200, send("PATCH", path, "{\"status\":\"DONE\",\"version\":1}").statusCode());
+        assertEquals(400, send("PATCH", path, "{\"version\":-1}").statusCode());
+        assertEquals(404, send("PATCH", "/tasks/" + UUID.randomUUID(), "{\"version\":0}").statusCode());
+    }
+
+    @Test
+    void testFilteredListingAndPartialIdLookup() throws Exception {
+        Task first = service.createTask("Entrega em Recife", null, 3);
+        service.createTask("Coleta em Manaus", null, 4);
+        service.updateTaskStatus(first.getId(), Task.TaskStatus.DONE);
+
+        String done = send("GET", "/tasks?status=DONE", null).body();
+        assertTrue(done.contains(first.getId()));
+        assertTrue(done.endsWith("\"count\":1}"));
+
+        String byPrefix = send("GET", "/tasks?prefix=" + first.getShortId(), null).body();
+        assertTrue(byPrefix.contains(first.getId()));
+
+        String searched = send("GET", "/tasks?q=entreg+recife", null).body();
+        assertTrue(searched.contains(first.getId()));
+        assertTrue(searched.endsWith("\"count\":1}"));
+
+        assertEquals(400, send("GET", "/tasks?status=PRONTO", null).statusCode());
+        assertEquals(400, send("GET", "/tasks?status=DONE&q=recife", null).statusCode(), "Um filtro por vez.");
+    }
+
+    @Test
+    void testPagesFollowTheNextCursor() throws Exception {
+        for (int i = 0; i < 25; i++) {
+            service.createTask("Tarefa " + i, null, 1 + i % 5);
+        }
+        List<String> ids = new ArrayList<>();
+        String after = "";
+        do {
+            String body = send("GET", "/tasks?limit=10&after=" + after, null).body();
+            int from = 0;
+            while ((from = body.indexOf("{\"id\":\"", from)) >= 0) {
+                from += 7;
+                ids.add(body.substring(from, from + 36));
+            }
+            int next = body.indexOf("\"next\":\"");
+            after = next < 0 ? null : body.substring(next + 8, body.indexOf('"', next + 8));
+        } while (after != null);
+
+        List<String> expected = new ArrayList<>();
+        service.getAllTasks().forEach(task -> expected.add(task.getId()));
+        assertEquals(expected, ids);
+    }
+
+    @Test
+    void testInvalidRequestsGetClearErrors() throws Exception {
+        HttpResponse<String> badJson = send("POST", "/tasks", "{\"title\": \"Sem fim\"");
+        assertEquals(400, badJson.statusCode());
+        assertTrue(badJson.body().startsWith("{\"error\":\"JSON inválido"));
+
+        assertEquals(400, send("POST", "/tasks", "{\"title\": \"Prioridade\", \"priority\": 9}").statusCode());
+        assertEquals(400, send("POST", "/tasks", "{\"titulo\": \"x\", \"priority\": 1}").statusCode());
+        assertEquals(422, send("POST", "/tasks", "{\"title\": \"  \", \"priority\": 1}").statusCode());
+        assertEquals(400, send("GET", "/tasks?limit=0", null).statusCode());
+
+        HttpResponse<String> notAllowed = send("PUT", "/tasks", "{}");
+        assertEquals(405, notAllowed.statusCode());
+        assertEquals("GET, POST", notAllowed.headers().firstValue("Allow").orElseThrow());
+        assertTrue(service.getAllTasks().isEmpty());
+    }
+
+    @Test
+    void testJsonOutputEscapesControlAndNonAsciiCharacters() {
+        JsonOutput json = new JsonOutput().beginObject()
+                .name("texto").value("linha\n\t\u0001 \"aspas\" \\ çã 😀")
+                .name("lista").beginArray().value(-42).value(0).value(true).nullValue().endArray()
+                .endObject();
+        assertEquals("{\"texto\":\"linha\\n\\t\\u0001 \\\"aspas\\\" \\\\ çã 😀\",\"lista\":[-42,0,true,null]}", json.toString());
+
+        JsonInput input = new JsonInput(" {\"a\" : \"x\\u00e7\\n\", \"b\": -7, \"c\": null} ");
+        input.beginObject();
+        assertTrue(input.hasNext());
+        assertEquals("a", input.nextName());
+        assertEquals("xç\n", input.nextString());
+        assertTrue(input.hasNext());
+        assertEquals("b", input.nextName());
+        assertEquals(-7, input.nextLong());
+        assertTrue(input.hasNext());
+        assertEquals("c", input.nextName());
+        assertTrue(input.nextIsNull());
+        assertFalse(input.hasNext());
+        input.endObject();
+        input.end();
+    }
+
+    private HttpResponse<String> send(String method, String path, String body) throws Exception {
+        HttpRequest.BodyPublisher publisher = body == null
+                ? HttpRequest.BodyPublishers.noBody()
+                : HttpRequest.BodyPublishers.ofString(body);
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + server.port() + path))
+                .method(method, publisher)
+                .build();
+        return client.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+}
@@ -0,0 +1,149 @@
+package com.techflow.transfer;
+
+import com.techflow.logging.EventLog;
+import com.techflow.model.BatchResult;
+import com.techflow.model.ConcurrentTaskRepository;
+import com.techflow.model.Task;
+import com.techflow.model.TaskJournal;
+import com.techflow.model.TaskService;
+import com.techflow.model.TaskSnapshot;
+import com.techflow.model.TaskSpec;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes da importação e exportação em CSV e JSON Lines: ida e volta sem perdas, leitura
+ * paralela em trechos e tratamento de registros inválidos.
+ */
+public class TaskTransferTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void testRoundTripPreservesEveryFieldInBothFormats() throws IOException {
+        TaskService source = newService();
+        source.createTask("Simples", "Sem nada especial", 3);
+        Task tricky = source.createTask("Vírgula, \"aspas\" e\nquebra", "Linha 1\r\nLinha 2\t😀 \\ \u0001", 5);
+        Task empty = source.createTask("Descrição vazia", "", 1);
+        Task none = source.createTask("Sem descrição", null, 2);
+        source.updateTaskStatus(tricky.getId(), Task.TaskStatus.DONE);
+        source.updateTaskDeliveryDate(empty.getId(), LocalDate.of(2024, 12, 31));
+        source.updateTaskStatus(none.getId(), Task.TaskStatus.IN_PROGRESS);
+
+        for (String name : List.of("quadro.csv", "quadro.jsonl")) {
+            Path file = dir.resolve(name);
+            assertEquals(4, TaskExporter.exportFile(source, file));
+
+            TaskService target = newService();
+            BatchResult result = TaskImporter.importFile(target, file);
+            assertEquals(4, result.successCount(), name);
+            assertEquals(snapshots(source), snapshots(target), name + ": mesmos campos, na mesma ordem.");
+        }
+    }
+
+    @Test
+    void testParallelImportMatchesSequentialImport() throws IOException {
+        TaskService source = newService();
+        List<TaskSpec> specs = new ArrayList<>();
+        for (int i = 0; i < 30_000; i++) {
+            // Descrições com quebras de linha e aspas: a divisão do CSV não pode cair dentro delas.
+            String description = i % 7 == 0 ? "Linha \"" + i + "\"\nsegunda, linha" : "Descrição " + i;
+            specs.add(new TaskSpec("Tarefa " + i, description, 1 + i % 5));
+        }
+        source.createTasks(specs);
+
+        for (TaskFileFormat format : TaskFileFormat.values()) {
+            Path file = dir.resolve("grande-" + format);
+            TaskExporter.exportFile(source, file, format);
+            assertTrue(Files.size(file) > 2 << 20, "O arquivo precisa de vários trechos.");
+
+            List<TaskSnapshot> sequential = TaskImporter.read(file, format, 1);
+            List<TaskSnapshot> parallel = TaskImporter.read(file, format, 4);
+            assertEquals(snapshots(source), sequential, format.name());
+            assertEquals(sequential, parallel, format.name());
+        }
+    }
+
+    @Test
+    void testJsonLinesAcceptsAnyFieldOrderEscapesAndUnknownFields() throws IOException {
+        Path file = dir.resolve("externo.jsonl");
+        Files.writeString(file, "\n"
+                + "{ \"status\" : \"TO_DO\", \"priority\": 4, \"title\": \"Inspe\\u00e7\\u00e3o \\ud83d\\ude00\","
+                + " \"shortId\": \"0a1b\", \"createdAt\": \"2024-02-29\", \"id\": \"0A1B2C3D-0000-4000-8000-00000000000F\" }\r\n"
+                + "{\"id\":\"0a1b2c3d-0000-4000-8000-000000000010\",\"title\":\"Outra\",\"description\":null,"
+                + "\"priority\":1,\"status\":\"DONE\",\"createdAt\":\"2024-03-01\",\"deliveryDate\":\"2024-03-10\"}",
+                StandardCharsets.UTF_8);
+
+        List<TaskSnapshot> tasks = TaskImporter.read(file, TaskFileFormat.JSON_LINES, 1);
+        assertEquals(2, tasks.size());
+        TaskSnapshot first = tasks.get(0);
+        assertEquals("0a1b2c3d-0000-4000-8000-00000000000f", first.id());
+        assertEquals("Inspeção 😀", first.title());
+        assertNull(first.description());
+        assertNull(first.deliveryDate());
+        assertEquals(LocalDate.of(2024, 2, 29), first.createdAt());
+        assertEquals(LocalDate.of(2024, 3, 10), tasks.get(1).deliveryDate());
+    }
+
+    @Test
+    void testMalformedRecordReportsTheLineAndImportsNothing() throws IOException {
+        Path file = dir.resolve("quebrado.csv");
+        Files.writeString(file, CsvTaskCodec.HEADER + "\n"
+                + "0a1b2c3d-0000-4000-8000-000000000001,Ok,,3,TO_DO,2024-01-01,\n"
+                + "0a1b2c3d-0000-4000-8000-000000000002,\"Com\nquebra\",,3,TO_DO,2024-01-01,\n"
+                + "0a1b2c3d-0000-4000-8000-000000000003,Data errada,,3,TO_DO,2024-02-30,\n", StandardCharsets.UTF_8);
+
+        TaskService target = newService();
+        IOException error = assertThrows(IOException.class, () -> TaskImporter.importFile(target, file));
+        assertTrue(error.getMessage().startsWith("quebrado.csv, linha 5: Data inválida"), error.getMessage());
+        assertTrue(target.getAllTasks().isEmpty());
+
+        Path noHeader = dir.resolve("sem-cabecalho.csv");
+        Files.writeString(noHeader, "0a1b2c3d-0000-4000-8000-000000000001,Ok,,3,TO_DO,2024-01-01,\n");
+        assertThrows(IOException.class, () -> TaskImporter.importFile(target, noHeader));
+        assertThrows(IllegalArgumentException.class, () -> TaskImporter.importFile(target, dir.resolve("quadro.txt")));
+    }
+
+    @Test
+    void testInvalidOrRepeatedTasksAreRejectedIndividually() throws IOException {
+        Path file = dir.resolve("lote.csv");
+        Files.writeString(file, CsvTaskCodec.HEADER + "\n"
+                + "0a1b2c3d-0000-4000-8000-000000000001,Primeira,,3,TO_DO,2024-01-01,\n"
+                + "0a1b2c3d-0000-4000-8000-000000000002,Prioridade alta demais,,9,TO_DO,2024-01-01,\n"
+                + "0a1b2c3d-0000-4000-8000-000000000001,Repetida,,2,DONE,2024-01-01,\n"
+                + "0a1b2c3d-0000-4000-8000-000000000003,\" \",,2,DONE,2024-01-01,\n"
+                + "ffffffff-ffff-ffff-8000-000000000004,Reservada,,2,DONE,2024-01-01,\n", StandardCharsets.UTF_8);
+
+        TaskService target = newService();
+        BatchResult result = TaskImporter.importFile(target, file);
+        assertEquals(1, result.successCount());
+        assertEquals("A prioridade deve ser entre 1 e 5.", result.items().get(1).error());
+        assertEquals("ID já existe no quadro.", result.items().get(2).error());
+        assertEquals("O título da tarefa não pode ser vazio.", result.items().get(3).error());
+        assertEquals("ID reservado: metades com todos os bits em 1 não são aceitas.", result.items().get(4).error());
+        assertEquals(List.of("Primeira"), target.getAllTasks().stream().map(Task::getTitle).toList());
+        assertEquals(1, target.getBoardSummary().total());
+
+        assertEquals(0, TaskImporter.importFile(target, file).successCount(), "Importar de novo não duplica tarefas.");
+    }
+
+    private static TaskService newService() {
+        return new TaskService(new ConcurrentTaskRepository(), TaskJournal.NONE, EventLog.disabled());
+    }
+
+    // A importação recomeça as versões: a comparação é só dos campos.
+    private static List<TaskSnapshot> snapshots(TaskService service) {
+        return service.getAllTasks().stream().map(task -> task.snapshot().withVersion(0)).toList();
+    }
+}
@@ -0,0 +1,159 @@
+package com.techflow.visual;
+
+import com.techflow.logging.EventLog;
+import com.techflow.model.AsyncTaskService;
+import com.techflow.model.ConcurrentTaskRepository;
+import com.techflow.model.Task;
+import com.techflow.model.TaskJournal;
+import com.techflow.model.TaskService;
+import com.techflow.model.TaskSnapshot;
+import org.junit.jupiter.api.Test;
+
+import javax.swing.SwingUtilities;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Mede o travamento da EDT quando os tratadores de botão chamam um serviço lento (journal com
+ * 20 ms de fsync por alteração): chamada direta na EDT x fachada assíncrona.
+ *
+ * O monitor agenda um "batimento" na EDT a cada 2 ms e registra o maior atraso até ele rodar,
+ * que é o tempo em que a interface ficaria sem responder.
+ */
+public class EdtStallTest {
+
+    private static final long FSYNC_MILLIS = 20;
+    private static final int ACTIONS = 15;
+
+    @Test
+    void testAsyncFacadeKeepsTheEdtResponsive() throws Exception {
+        TaskService service = new TaskService(new ConcurrentTaskRepository(), new SlowJournal(), EventLog.disabled());
+
+        long syncStall;
+        try (EdtStallMonitor monitor = new EdtStallMonitor()) {
+            SwingUtilities.invokeAndWait(() -> {
+                for (int i = 0; i < ACTIONS; i++) {
+                    service.createTask("Síncrona " + i, null, 3);
+                }
+            });
+            syncStall = monitor.maxStallMillis();
+        }
+
+        long asyncStall;
+        List<CompletableFuture<Task>> pending = new ArrayList<>();
+        try (AsyncTaskService async = new AsyncTaskService(service);
+             EdtStallMonitor monitor = new EdtStallMonitor()) {
+            SwingUtilities.invokeAndWait(() -> {
+                for (int i = 0; i < ACTIONS; i++) {
+                    pending.add(async.createTask("Assíncrona " + i, null, 3));
+                }
+            });
+            CompletableFuture.allOf(pending.toArray(new CompletableFuture[0])).get(30, TimeUnit.SECONDS);
+            asyncStall = monitor.maxStallMillis();
+        }
+
+        assertEquals(2 * ACTIONS, service.getAllTasks().size());
+        assertTrue(syncStall >= ACTIONS * FSYNC_MILLIS / 2,
+                "Chamadas diretas devem travar a EDT por todo o fsync (travou " + syncStall + " ms).");
+        assertTrue(asyncStall < syncStall / 2,
+                "A fachada assíncrona não pode travar a EDT (" + asyncStall + " ms x " + syncStall + " ms síncrono).");
+    }
+
+    /**
+     * Journal que simula um disco lento: cada alteração espera o "fsync" antes de retornar.
+     */
+    private static final class SlowJournal implements TaskJournal {
+        private final AtomicLong positions = new AtomicLong();
+
+        @Override
+        public long taskCreated(TaskSnapshot task) {
+            return positions.incrementAndGet();
+        }
+
+        @Override
+        public long statusChanged(String id, Task.TaskStatus newStatus, int newVersion) {
+            return positions.incrementAndGet();
+        }
+
+        @Override
+        public long detailsChanged(String id, String newTitle, String newDescription, int newPriority, int newVersion) {
+            return positions.incrementAndGet();
+        }
+
+        @Override
+        public long deliveryDateChanged(String id, LocalDate newDeliveryDate, int newVersion) {
+            return positions.incrementAndGet();
+        }
+
+        @Override
+        public long taskReplaced(TaskSnapshot task) {
+            return positions.incrementAndGet();
+        }
+
+        @Override
+        public long taskDeleted(String id) {
+            return positions.incrementAndGet();
+        }
+
+        @Override
+        public void awaitDurable(long position) {
+            try {
+                Thread.sleep(FSYNC_MILLIS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /**
+     * Agenda batimentos na EDT e guarda o maior atraso entre o agendamento e a execução.
+     */
+    private static final class EdtStallMonitor implements AutoCloseable {
+        private final AtomicLong maxStallNanos = new AtomicLong();
+        private final CountDownLatch firstBeat = new CountDownLatch(1);
+        private final Thread probe;
+        private volatile boolean running = true;
+
+        EdtStallMonitor() throws Exception {
+            // Aquece a EDT para que sua criação não conte como travamento.
+            SwingUtilities.invokeAndWait(() -> { });
+            probe = new Thread(() -> {
+                while (running) {
+                    long posted = System.nanoTime();
+                    try {
+                        SwingUtilities.invokeAndWait(() -> maxStallNanos.accumulateAndGet(System.nanoTime() - posted, Math::max));
+                        firstBeat.countDown();
+                        Thread.sleep(2);
+                    } catch (InterruptedException e) {
+                        return;
+                    } catch (Exception e) {
+                        throw new IllegalStateException(e);
+                    }
+                }
+            }, "edt-stall-probe");
+            probe.setDaemon(true);
+            probe.start();
+            // Só mede depois que o monitor já está batendo; senão um travamento inicial passaria despercebido.
+            firstBeat.await(5, TimeUnit.SECONDS);
+        }
+
+        long maxStallMillis() throws Exception {
+            // Um batimento que esperou o travamento ainda pode estar na fila: deixa-o registrar o atraso.
+            SwingUtilities.invokeAndWait(() -> { });
+            return maxStallNanos.get() / 1_000_000;
+        }
+
+        @Override
+        public void close() throws InterruptedException {
+            running = false;
+            probe.join();
+        }
+    }
+}
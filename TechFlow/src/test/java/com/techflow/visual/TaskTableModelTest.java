@@ -0,0 +1,113 @@
+package com.techflow.visual;
+
+import com.techflow.model.Task;
+import com.techflow.model.TaskService;
+import com.techflow.model.TaskSpec;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javax.swing.event.TableModelEvent;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes do modelo da tabela: mesma ordem do serviço e um evento de linha por alteração.
+ */
+public class TaskTableModelTest {
+
+    private TaskService taskService;
+    private TaskTableModel model;
+    private final List<TableModelEvent> events = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        taskService = new TaskService();
+        for (int i = 0; i < 10; i++) {
+            taskService.createTask("Tarefa " + i, null, 1 + i % 5);
+        }
+        model = new TaskTableModel(taskService);
+        model.reload();
+        // Entrega direta na thread do teste, no lugar da EDT.
+        taskService.subscribe(Runnable::run, model);
+        model.addTableModelListener(events::add);
+    }
+
+    @Test
+    void testCreatedTaskIsInsertedWhereTheServiceListsIt() {
+        Task created = taskService.createTask("Nova", null, 3);
+
+        assertRowsMatchService();
+        assertSingleEvent(TableModelEvent.INSERT, rowOf(created));
+    }
+
+    @Test
+    void testStatusChangeUpdatesOnlyItsRow() {
+        Task task = model.getTaskAt(4);
+        taskService.updateTaskStatus(task.getId(), Task.TaskStatus.DONE);
+
+        assertEquals(Task.TaskStatus.DONE, model.getValueAt(4, 3));
+        assertEquals(task.getShortId(), model.getValueAt(4, 0));
+        assertSingleEvent(TableModelEvent.UPDATE, 4);
+    }
+
+    @Test
+    void testPriorityChangeAndDeleteKeepServiceOrder() {
+        Task task = model.getTaskAt(0);
+        taskService.updateTaskDetails(task.getId(), task.getTitle(), null, 1);
+        assertRowsMatchService();
+
+        events.clear();
+        Task deleted = model.getTaskAt(2);
+        taskService.deleteTask(deleted.getId());
+        assertRowsMatchService();
+        assertSingleEvent(TableModelEvent.DELETE, 2);
+    }
+
+    @Test
+    void testImportBurstIsAppliedWithOneTableEvent() {
+        List<Runnable> edt = new ArrayList<>();
+        TaskTableModel deferred = new TaskTableModel(taskService);
+        deferred.reload();
+        taskService.subscribe(edt::add, deferred);
+        List<TableModelEvent> deferredEvents = new ArrayList<>();
+        deferred.addTableModelListener(deferredEvents::add);
+
+        List<TaskSpec> specs = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            specs.add(new TaskSpec("Importada " + i, null, 1 + i % 5));
+        }
+        taskService.createTasks(specs);
+        assertEquals(1, edt.size(), "A rajada deve gerar uma única entrega.");
+        edt.forEach(Runnable::run);
+
+        assertEquals(1, deferredEvents.size(), "A rajada deve gerar um único repaint.");
+        assertEquals(10_010, deferred.getRowCount());
+    }
+
+    private void assertRowsMatchService() {
+        List<Task> expected = taskService.getAllTasks();
+        assertEquals(expected.size(), model.getRowCount());
+        for (int row = 0; row < expected.size(); row++) {
+            assertSame(expected.get(row), model.getTaskAt(row), "Linha " + row + " fora da ordem do serviço.");
+        }
+    }
+
+    private void assertSingleEvent(int type, int row) {
+        assertEquals(1, events.size(), "Cada alteração deve disparar um único evento.");
+        TableModelEvent event = events.get(0);
+        assertEquals(type, event.getType());
+        assertEquals(row, event.getFirstRow());
+        assertEquals(row, event.getLastRow());
+    }
+
+    private int rowOf(Task task) {
+        for (int row = 0; row < model.getRowCount(); row++) {
+            if (model.getTaskAt(row) == task) {
+                return row;
+            }
+        }
+        return -1;
+    }
+}
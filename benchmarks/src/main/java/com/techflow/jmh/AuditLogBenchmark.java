@@ -0,0 +1,152 @@
+package com.techflow.jmh;
+
+import com.techflow.audit.AuditLog;
+import com.techflow.audit.StatusTransition;
+import com.techflow.model.Task;
+import com.techflow.model.TaskChangeEvent;
+import com.techflow.model.TaskSnapshot;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Histórico de alterações (AuditLog): ritmo de gravação em um log novo e, sobre um histórico
+ * com 1M tarefas e 20M alterações (status na maioria, também prioridade, título e data de
+ * entrega), a latência de "estado da tarefa em T" e de "mudanças de status no intervalo".
+ * O tamanho do log codificado é impresso na preparação.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms3g", "-Xmx3g"})
+public class AuditLogBenchmark {
+
+    private static final int TASKS = 1_000_000;
+    private static final int CHANGES = 20_000_000;
+    private static final long START = Instant.parse("2024-01-01T00:00:00Z").toEpochMilli();
+    private static final Task.TaskStatus[] STATUSES = Task.TaskStatus.values();
+
+    /**
+     * Histórico completo, gravado uma vez antes das medições.
+     */
+    @State(Scope.Benchmark)
+    public static class History {
+        AuditLog audit;
+        // Consultas de estado em T sobre as 1.000 primeiras tarefas.
+        String[] ids;
+        long span;
+
+        @Setup(Level.Trial)
+        public void record() {
+            Random random = new Random(24);
+            audit = new AuditLog();
+            TaskSnapshot[] states = new TaskSnapshot[TASKS];
+            ids = new String[1_000];
+            // Avança 1 ms a cada 4 registros: 20M alterações cobrem cerca de uma hora e meia.
+            long records = 0;
+            for (int i = 0; i < TASKS; i++) {
+                states[i] = new TaskSnapshot(random.nextLong(), random.nextLong(), "Entrega " + i, null,
+                        1 + random.nextInt(5), Task.TaskStatus.TO_DO, LocalDate.of(2024, 1, 1), null);
+                publish(audit, TaskChangeEvent.Type.CREATED, null, states[i], START + records++ / 4);
+                if (i < ids.length) {
+                    ids[i] = states[i].id();
+                }
+            }
+            for (int i = 0; i < CHANGES; i++) {
+                int index = random.nextInt(TASKS);
+                TaskSnapshot before = states[index];
+                int kind = random.nextInt(10);
+                TaskSnapshot after;
+                if (kind < 7) {
+                    after = before.withStatus(STATUSES[(before.status().ordinal() + 1) % 3]);
+                } else if (kind < 8) {
+                    after = before.withPriority(1 + random.nextInt(5));
+                } else if (kind < 9) {
+                    after = before.withTitle("Entrega " + index + " (rev. " + random.nextInt(4) + ")");
+                } else {
+                    after = before.withDeliveryDate(LocalDate.of(2024, 2, 1).plusDays(random.nextInt(90)));
+                }
+                states[index] = after;
+                publish(audit, TaskChangeEvent.Type.DETAILS_CHANGED, before, after, START + records++ / 4);
+            }
+            span = records / 4;
+            System.out.printf("%nLog codificado: %.0f MB, %.1f bytes por registro (%d registros)%n",
+                    audit.encodedBytes() / 1e6, (double) audit.encodedBytes() / audit.recordCount(), audit.recordCount());
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class Window {
+        @Param({"1000", "60000", "600000"})
+        long millis;
+    }
+
+    /**
+     * Log novo a cada iteração, com 1.000 tarefas cujo status avança em rodízio.
+     */
+    @State(Scope.Thread)
+    public static class Appending {
+        AuditLog audit;
+        TaskSnapshot[] states;
+        long records;
+        int next;
+
+        @Setup(Level.Iteration)
+        public void createLog() {
+            audit = new AuditLog();
+            states = new TaskSnapshot[1_000];
+            records = 0;
+            for (int i = 0; i < states.length; i++) {
+                states[i] = new Task("Entrega " + i, null, 1 + i % 5).snapshot();
+                publish(audit, TaskChangeEvent.Type.CREATED, null, states[i], START + records++ / 4);
+            }
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public void append(Appending log) {
+        int index = log.next++ % log.states.length;
+        TaskSnapshot before = log.states[index];
+        TaskSnapshot after = before.withStatus(STATUSES[(before.status().ordinal() + 1) % 3]);
+        log.states[index] = after;
+        publish(log.audit, TaskChangeEvent.Type.STATUS_CHANGED, before, after, START + log.records++ / 4);
+    }
+
+    @Benchmark
+    public Optional<TaskSnapshot> stateAt(History history) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        Instant at = Instant.ofEpochMilli(START + random.nextLong(history.span));
+        return history.audit.stateAt(history.ids[random.nextInt(history.ids.length)], at);
+    }
+
+    @Benchmark
+    public List<StatusTransition> statusTransitions(History history, Window window) {
+        long from = START + ThreadLocalRandom.current().nextLong(history.span - window.millis);
+        return history.audit.statusTransitions(Instant.ofEpochMilli(from), Instant.ofEpochMilli(from + window.millis));
+    }
+
+    private static void publish(AuditLog audit, TaskChangeEvent.Type type, TaskSnapshot before, TaskSnapshot after,
+                                long time) {
+        audit.tasksChanged(List.of(new TaskChangeEvent(type, null, before, after, time)));
+    }
+}
@@ -0,0 +1,67 @@
+package com.techflow.jmh;
+
+import com.techflow.logging.EventLog;
+import com.techflow.model.BatchResult;
+import com.techflow.model.ConcurrentTaskRepository;
+import com.techflow.model.InMemoryTaskRepository;
+import com.techflow.model.TaskJournal;
+import com.techflow.model.TaskRepository;
+import com.techflow.model.TaskService;
+import com.techflow.model.TaskSpec;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Quadros de tarefas usados pelos benchmarks: sem journal e sem log no console, para medir
+ * só o TaskService e os índices.
+ */
+final class Boards {
+
+    static final String MEMORY = "memory";
+    static final String CONCURRENT = "concurrent";
+
+    private static final String[] WORDS = {
+            "entrega", "coleta", "conferência", "inventário", "caminhão", "doca", "palete", "nota",
+            "fiscal", "cliente", "fornecedor", "devolução", "armazém", "separação", "rota", "carga"};
+
+    private Boards() {
+    }
+
+    /**
+     * @param repository MEMORY (InMemoryTaskRepository) ou CONCURRENT (ConcurrentTaskRepository).
+     */
+    static TaskService newService(String repository) {
+        TaskRepository tasks = switch (repository) {
+            case MEMORY -> new InMemoryTaskRepository();
+            case CONCURRENT -> new ConcurrentTaskRepository();
+            default -> throw new IllegalArgumentException("Repositório desconhecido: " + repository);
+        };
+        return new TaskService(tasks, TaskJournal.NONE, EventLog.disabled());
+    }
+
+    /**
+     * Cria as tarefas em um lote, com prioridades 1 a 5 alternadas.
+     * @return IDs das tarefas criadas, na ordem de criação.
+     */
+    static String[] populate(TaskService service, int size, String titlePrefix) {
+        List<TaskSpec> specs = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            specs.add(spec(titlePrefix, i));
+        }
+        BatchResult result = service.createTasks(specs);
+        String[] ids = new String[result.successCount()];
+        int next = 0;
+        for (BatchResult.Item item : result.items()) {
+            if (item.succeeded()) {
+                ids[next++] = item.task().getId();
+            }
+        }
+        return ids;
+    }
+
+    static TaskSpec spec(String titlePrefix, int i) {
+        return new TaskSpec(titlePrefix + " " + WORDS[i % WORDS.length] + " " + i,
+                WORDS[(i * 7) % WORDS.length] + " de " + WORDS[(i * 3) % WORDS.length], 1 + i % 5);
+    }
+}
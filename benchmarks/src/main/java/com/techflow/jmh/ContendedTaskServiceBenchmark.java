@@ -0,0 +1,104 @@
+package com.techflow.jmh;
+
+import com.techflow.model.Task;
+import com.techflow.model.TaskIds;
+import com.techflow.model.TaskService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * O modo concorrente (TaskService.concurrent()) com várias threads no mesmo quadro:
+ * cada operação sozinha com THREADS threads e um grupo misto de leitores e um escritor,
+ * como a GUI lendo enquanto uma ingestão atualiza. Use -t para mudar o número de threads.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms3g", "-Xmx3g"})
+@State(Scope.Benchmark)
+public class ContendedTaskServiceBenchmark {
+
+    private static final int THREADS = 4;
+    private static final Task.TaskStatus[] STATUSES = Task.TaskStatus.values();
+
+    @Param({"1000", "100000", "1000000"})
+    int size;
+
+    private TaskService service;
+    private String[] ids;
+    private String[] shortIds;
+
+    @Setup(Level.Trial)
+    public void createBoard() {
+        service = Boards.newService(Boards.CONCURRENT);
+        ids = Boards.populate(service, size, "Concorrente");
+        shortIds = new String[ids.length];
+        for (int i = 0; i < ids.length; i++) {
+            shortIds[i] = TaskIds.shortId(TaskIds.parse(ids[i]).high());
+        }
+    }
+
+    @Benchmark
+    @Threads(THREADS)
+    public Optional<Task> getTaskById() {
+        return service.getTaskById(randomId());
+    }
+
+    @Benchmark
+    @Threads(THREADS)
+    public List<Task> findByIdPrefix() {
+        return service.findByIdPrefix(shortIds[ThreadLocalRandom.current().nextInt(shortIds.length)]);
+    }
+
+    @Benchmark
+    @Threads(THREADS)
+    public boolean updateTaskStatus() {
+        return service.updateTaskStatus(randomId(), STATUSES[ThreadLocalRandom.current().nextInt(STATUSES.length)]);
+    }
+
+    @Benchmark
+    @Threads(THREADS)
+    public boolean updateTaskDetails() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int i = random.nextInt(ids.length);
+        return service.updateTaskDetails(ids[i], "Editada " + i, "Descrição revisada da carga " + i,
+                Task.MIN_PRIORITY + random.nextInt(Task.MAX_PRIORITY));
+    }
+
+    @Benchmark
+    @Group("readWhileWriting")
+    @GroupThreads(THREADS - 1)
+    public Optional<Task> reader() {
+        return service.getTaskById(randomId());
+    }
+
+    @Benchmark
+    @Group("readWhileWriting")
+    @GroupThreads(1)
+    public boolean writer() {
+        return service.updateTaskStatus(randomId(), STATUSES[ThreadLocalRandom.current().nextInt(STATUSES.length)]);
+    }
+
+    private String randomId() {
+        return ids[ThreadLocalRandom.current().nextInt(ids.length)];
+    }
+}
@@ -0,0 +1,71 @@
+package com.techflow.jmh;
+
+import com.techflow.model.Task;
+import com.techflow.model.TaskSnapshot;
+import com.techflow.report.ReportEngine;
+import com.techflow.report.TaskReport;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Escalabilidade do ReportEngine: o mesmo relatório sobre 2M tarefas com 1 a 8 threads.
+ * Com menos núcleos que threads, as linhas a mais mostram só o custo da divisão.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms3g", "-Xmx3g"})
+@State(Scope.Benchmark)
+public class ReportEngineBenchmark {
+
+    private static final int TASKS = 2_000_000;
+    private static final LocalDate TODAY = LocalDate.of(2024, 6, 15);
+
+    @Param({"1", "2", "4", "8"})
+    int threads;
+
+    private List<Task> tasks;
+    private ReportEngine engine;
+
+    @Setup(Level.Trial)
+    public void createTasks() {
+        // Datas de criação ao longo de 3 anos e entregas em até 4 meses, para encher os histogramas.
+        SplittableRandom random = new SplittableRandom(5);
+        tasks = new ArrayList<>(TASKS);
+        for (int i = 0; i < TASKS; i++) {
+            LocalDate created = TODAY.minusDays(random.nextInt(1_095));
+            LocalDate delivery = random.nextInt(4) == 0 ? null : created.plusDays(random.nextInt(120));
+            tasks.add(Task.restore(new TaskSnapshot(random.nextLong(), random.nextLong(), "Tarefa " + i, null,
+                    1 + random.nextInt(5), Task.TaskStatus.values()[random.nextInt(3)], created, delivery)));
+        }
+        engine = new ReportEngine(threads);
+    }
+
+    @TearDown(Level.Trial)
+    public void closeEngine() {
+        engine.close();
+    }
+
+    @Benchmark
+    public TaskReport generate() {
+        return engine.generate(tasks, TODAY);
+    }
+}
@@ -0,0 +1,172 @@
+package com.techflow.jmh;
+
+import com.techflow.controller.TaskController;
+import com.techflow.controller.TaskScript;
+import com.techflow.logging.EventLog;
+import com.techflow.logging.LogLevel;
+import com.techflow.model.Task;
+import com.techflow.model.TaskService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.io.StringReader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Reprodução de uma carga (4/7 criações, 2/7 mudanças de status e 1/7 exclusões) sobre um quadro
+ * com 5k tarefas: pelo menu interativo da controladora (Scanner, menu e listagem a cada comando)
+ * e pelo modo script, este também com 100k comandos. As saídas são descartadas, para medir apenas
+ * o processamento. Cada iteração reproduz a carga uma vez sobre um quadro novo (SingleShotTime).
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(value = 1, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+public class ScriptReplayBenchmark {
+
+    private static final int BOARD = 5_000;
+    private static final int MENU_COMMANDS = 3_500;
+
+    /**
+     * Quadro novo e entrada do menu no System.in, com System.out e System.err descartados
+     * durante a iteração.
+     */
+    @State(Scope.Thread)
+    public static class Menu {
+        TaskService service;
+        private InputStream originalIn;
+        private PrintStream originalOut;
+        private PrintStream originalErr;
+
+        @Setup(Level.Trial)
+        public void silenceConsoleLog() {
+            EventLog.console().setLevel(LogLevel.OFF);
+        }
+
+        @Setup(Level.Iteration)
+        public void prepare() {
+            service = newBoard();
+            List<String> ids = ids(service);
+            StringBuilder input = new StringBuilder();
+            for (int i = 0; i < creates(MENU_COMMANDS); i++) {
+                input.append("1\nTarefa ").append(i).append("\nCarga\n").append(1 + i % 5).append('\n');
+            }
+            int updates = updates(MENU_COMMANDS);
+            for (int i = 0; i < updates; i++) {
+                input.append("3\n").append(ids.get(i)).append("\nDONE\n");
+            }
+            for (int i = 0; i < deletes(MENU_COMMANDS); i++) {
+                input.append("5\n").append(ids.get(updates + i)).append('\n');
+            }
+            input.append("0\n");
+
+            originalIn = System.in;
+            originalOut = System.out;
+            originalErr = System.err;
+            PrintStream discard = new PrintStream(OutputStream.nullOutputStream());
+            System.setIn(new ByteArrayInputStream(input.toString().getBytes(StandardCharsets.UTF_8)));
+            System.setOut(discard);
+            System.setErr(discard);
+        }
+
+        @TearDown(Level.Iteration)
+        public void restore() {
+            System.setIn(originalIn);
+            System.setOut(originalOut);
+            System.setErr(originalErr);
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Script {
+        @Param({"3500", "100000"})
+        int commands;
+
+        TaskService service;
+        String script;
+
+        // Criações primeiro; status e exclusões usam as tarefas já existentes (e, acima de BOARD, as criadas, via @n).
+        @Setup(Level.Iteration)
+        public void prepare() {
+            service = newBoard();
+            List<String> ids = ids(service);
+            StringBuilder text = new StringBuilder();
+            for (int i = 0; i < creates(commands); i++) {
+                text.append("C|").append(1 + i % 5).append("|Tarefa ").append(i).append("|Carga\n");
+            }
+            int updates = updates(commands);
+            for (int i = 0; i < updates; i++) {
+                text.append("S|").append(reference(ids, i)).append("|DONE\n");
+            }
+            for (int i = 0; i < deletes(commands); i++) {
+                text.append("D|").append(reference(ids, updates + i)).append('\n');
+            }
+            script = text.toString();
+        }
+    }
+
+    // Cada reprodução pelo menu leva segundos (a listagem é impressa a cada comando): menos iterações.
+    @Benchmark
+    @Warmup(iterations = 2)
+    @Measurement(iterations = 5)
+    public TaskService menu(Menu menu) {
+        new TaskController(menu.service).start();
+        return menu.service;
+    }
+
+    @Benchmark
+    public TaskScript.Result script(Script script) throws IOException {
+        TaskScript.Result result = new TaskController(script.service)
+                .runScript(new StringReader(script.script), Writer.nullWriter());
+        if (result.failures() > 0) {
+            throw new IllegalStateException("Comandos com erro: " + result.failures());
+        }
+        return result;
+    }
+
+    private static TaskService newBoard() {
+        TaskService service = Boards.newService(Boards.CONCURRENT);
+        Boards.populate(service, BOARD, "Quadro");
+        return service;
+    }
+
+    private static List<String> ids(TaskService service) {
+        return service.getAllTasks().stream().map(Task::getId).toList();
+    }
+
+    private static int creates(int commands) {
+        return commands * 4 / 7;
+    }
+
+    private static int updates(int commands) {
+        return commands * 2 / 7;
+    }
+
+    private static int deletes(int commands) {
+        return commands - creates(commands) - updates(commands);
+    }
+
+    private static String reference(List<String> ids, int index) {
+        return index < ids.size() ? ids.get(index) : "@" + (index - ids.size() + 1);
+    }
+}
@@ -0,0 +1,96 @@
+package com.techflow.jmh;
+
+import com.techflow.model.Task;
+import com.techflow.model.TaskService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Criação e exclusão no TaskService em uma thread. Medidas em lotes de BATCH operações
+ * (SingleShotTime): ao fim de cada iteração o quadro volta ao tamanho inicial, então uma
+ * iteração longa não mede um quadro cada vez maior (ou vazio).
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 10, batchSize = TaskCreateDeleteBenchmark.BATCH)
+@Measurement(iterations = 20, batchSize = TaskCreateDeleteBenchmark.BATCH)
+@Fork(value = 1, jvmArgsAppend = {"-Xms3g", "-Xmx3g"})
+public class TaskCreateDeleteBenchmark {
+
+    static final int BATCH = 1_000;
+
+    @State(Scope.Benchmark)
+    public static class Board {
+        @Param({"1000", "100000", "1000000"})
+        int size;
+
+        @Param({Boards.MEMORY, Boards.CONCURRENT})
+        String repository;
+
+        TaskService service;
+
+        @Setup(Level.Trial)
+        public void createBoard() {
+            service = Boards.newService(repository);
+            Boards.populate(service, size, "Base");
+        }
+    }
+
+    /**
+     * Tarefas criadas durante a iteração, excluídas (fora da medição) ao fim dela.
+     */
+    @State(Scope.Thread)
+    public static class Created {
+        final List<String> ids = new ArrayList<>(BATCH);
+        int next;
+
+        @TearDown(Level.Iteration)
+        public void deleteCreated(Board board) {
+            board.service.deleteTasks(ids);
+            ids.clear();
+        }
+    }
+
+    /**
+     * Tarefas extras criadas (fora da medição) antes de cada iteração, para serem excluídas nela.
+     */
+    @State(Scope.Thread)
+    public static class Victims {
+        String[] ids;
+        int next;
+
+        @Setup(Level.Iteration)
+        public void createVictims(Board board) {
+            ids = Boards.populate(board.service, BATCH, "Excluir");
+            next = 0;
+        }
+    }
+
+    @Benchmark
+    public Task createTask(Board board, Created created) {
+        int i = created.next++;
+        Task task = board.service.createTask("Nova carga " + i, "Coleta de palete na doca " + i % 40, 1 + i % 5);
+        created.ids.add(task.getId());
+        return task;
+    }
+
+    @Benchmark
+    public boolean deleteTask(Board board, Victims victims) {
+        return board.service.deleteTask(victims.ids[victims.next++]);
+    }
+}
@@ -0,0 +1,71 @@
+package com.techflow.jmh;
+
+import com.techflow.model.Task;
+import com.techflow.model.TaskIds;
+import com.techflow.model.TaskService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Leituras do TaskService em uma thread: busca por ID, por ID parcial (os 4 dígitos exibidos
+ * na GUI) e a listagem completa, com cada repositório em memória e vários tamanhos de quadro.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms3g", "-Xmx3g"})
+@State(Scope.Benchmark)
+public class TaskReadBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    int size;
+
+    @Param({Boards.MEMORY, Boards.CONCURRENT})
+    String repository;
+
+    private TaskService service;
+    private String[] ids;
+    private String[] shortIds;
+
+    @Setup(Level.Trial)
+    public void createBoard() {
+        service = Boards.newService(repository);
+        ids = Boards.populate(service, size, "Leitura");
+        shortIds = new String[ids.length];
+        for (int i = 0; i < ids.length; i++) {
+            shortIds[i] = TaskIds.shortId(TaskIds.parse(ids[i]).high());
+        }
+    }
+
+    @Benchmark
+    public Optional<Task> getTaskById() {
+        return service.getTaskById(ids[ThreadLocalRandom.current().nextInt(ids.length)]);
+    }
+
+    @Benchmark
+    public List<Task> findByIdPrefix() {
+        return service.findByIdPrefix(shortIds[ThreadLocalRandom.current().nextInt(shortIds.length)]);
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public List<Task> getAllTasks() {
+        return service.getAllTasks();
+    }
+}
@@ -0,0 +1,64 @@
+package com.techflow.jmh;
+
+import com.techflow.model.Task;
+import com.techflow.model.TaskService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Atualizações do TaskService em uma thread, sobre tarefas escolhidas ao acaso: o quadro mantém
+ * o tamanho, então cada operação inclui a manutenção dos contadores e dos índices.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms3g", "-Xmx3g"})
+@State(Scope.Benchmark)
+public class TaskUpdateBenchmark {
+
+    private static final Task.TaskStatus[] STATUSES = Task.TaskStatus.values();
+
+    @Param({"1000", "100000", "1000000"})
+    int size;
+
+    @Param({Boards.MEMORY, Boards.CONCURRENT})
+    String repository;
+
+    private TaskService service;
+    private String[] ids;
+
+    @Setup(Level.Trial)
+    public void createBoard() {
+        service = Boards.newService(repository);
+        ids = Boards.populate(service, size, "Atualização");
+    }
+
+    @Benchmark
+    public boolean updateTaskStatus() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        return service.updateTaskStatus(ids[random.nextInt(ids.length)], STATUSES[random.nextInt(STATUSES.length)]);
+    }
+
+    @Benchmark
+    public boolean updateTaskDetails() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int i = random.nextInt(ids.length);
+        // Troca título, descrição e prioridade: reindexa a busca textual e muda a tarefa de balde.
+        return service.updateTaskDetails(ids[i], "Editada " + i, "Descrição revisada da carga " + i,
+                Task.MIN_PRIORITY + random.nextInt(Task.MAX_PRIORITY));
+    }
+}
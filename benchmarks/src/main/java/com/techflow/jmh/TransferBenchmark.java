@@ -0,0 +1,129 @@
+package com.techflow.jmh;
+
+import com.techflow.model.BatchResult;
+import com.techflow.model.Task;
+import com.techflow.model.TaskService;
+import com.techflow.model.TaskSnapshot;
+import com.techflow.transfer.TaskExporter;
+import com.techflow.transfer.TaskFileFormat;
+import com.techflow.transfer.TaskImporter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Exportação e importação de um quadro com 1M tarefas em CSV e JSON Lines: a exportação, a
+ * decodificação com 1 a 8 threads e a importação completa (decodificação + inserção em lote)
+ * em um quadro vazio. Cada operação leva segundos, então cada iteração mede uma só (SingleShotTime).
+ * Com menos núcleos que threads, as linhas a mais mostram só o custo da divisão.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = {"-Xms3g", "-Xmx3g"})
+public class TransferBenchmark {
+
+    private static final int TASKS = 1_000_000;
+
+    @State(Scope.Benchmark)
+    public static class Board {
+        @Param({"CSV", "JSON_LINES"})
+        TaskFileFormat format;
+
+        TaskService source;
+        Path dir;
+        // Exportado uma vez na preparação; é o arquivo lido pela decodificação e pela importação.
+        Path file;
+        Path exported;
+
+        @Setup(Level.Trial)
+        public void createBoard() throws IOException {
+            source = Boards.newService(Boards.CONCURRENT);
+            Random random = new Random(23);
+            LocalDate today = LocalDate.of(2024, 6, 15);
+            List<TaskSnapshot> snapshots = new ArrayList<>(TASKS);
+            for (int i = 0; i < TASKS; i++) {
+                LocalDate created = today.minusDays(random.nextInt(365));
+                snapshots.add(new TaskSnapshot(random.nextLong(), random.nextLong(), "Entrega " + i + " — São Paulo",
+                        i % 3 == 0 ? null : "Doca " + random.nextInt(40) + ", conferir \"lacre\"", 1 + random.nextInt(5),
+                        Task.TaskStatus.values()[random.nextInt(3)], created,
+                        random.nextBoolean() ? null : created.plusDays(random.nextInt(60))));
+            }
+            source.importTasks(snapshots);
+
+            dir = Files.createTempDirectory("techflow-transfer");
+            file = dir.resolve("quadro-" + format);
+            exported = dir.resolve("exportado-" + format);
+            TaskExporter.exportFile(source, file, format);
+        }
+
+        @TearDown(Level.Trial)
+        public void deleteFiles() throws IOException {
+            Files.deleteIfExists(file);
+            Files.deleteIfExists(exported);
+            Files.delete(dir);
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class Decoding {
+        @Param({"1", "2", "4", "8"})
+        int threads;
+    }
+
+    /**
+     * Quadro vazio recriado (fora da medição) antes de cada importação.
+     */
+    @State(Scope.Thread)
+    public static class Target {
+        TaskService service;
+
+        @Setup(Level.Iteration)
+        public void createEmptyBoard() {
+            service = Boards.newService(Boards.CONCURRENT);
+        }
+    }
+
+    @Benchmark
+    public long export(Board board) throws IOException {
+        return TaskExporter.exportFile(board.source, board.exported, board.format);
+    }
+
+    @Benchmark
+    public List<TaskSnapshot> read(Board board, Decoding decoding) throws IOException {
+        List<TaskSnapshot> tasks = TaskImporter.read(board.file, board.format, decoding.threads);
+        if (tasks.size() != TASKS) {
+            throw new IllegalStateException("Tarefas lidas: " + tasks.size());
+        }
+        return tasks;
+    }
+
+    @Benchmark
+    public BatchResult importFile(Board board, Decoding decoding, Target target) throws IOException {
+        BatchResult result = TaskImporter.importFile(target.service, board.file, board.format, decoding.threads);
+        if (result.successCount() != TASKS) {
+            throw new IllegalStateException("Tarefas importadas: " + result.successCount());
+        }
+        return result;
+    }
+}
@@ -0,0 +1,132 @@
+package com.techflow.jmh;
+
+import com.techflow.model.Task;
+import com.techflow.model.TaskService;
+import com.techflow.model.TaskSnapshot;
+import com.techflow.model.UpdateResult;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.UnaryOperator;
+
+/**
+ * Atualizações condicionais (ler a versão, alterar, gravar só se ninguém mudou antes) com
+ * THREADS threads disputando poucas tarefas: o CAS de Task.updateIfVersion contra a mesma
+ * regra sob um synchronized por tarefa, e o caminho completo do TaskService. Cada operação
+ * repete a leitura até ser aplicada, então a vazão conta só alterações efetivas.
+ * Com hot=4 quase toda operação disputa a tarefa com outra thread; com hot=1024, raramente.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+@State(Scope.Benchmark)
+public class VersionedUpdateBenchmark {
+
+    private static final int THREADS = 4;
+    private static final Task.TaskStatus[] STATUSES = Task.TaskStatus.values();
+
+    @Param({"4", "1024"})
+    int hot;
+
+    private TaskService service;
+    private String[] ids;
+    private Task[] tasks;
+    private LockedTask[] locked;
+
+    @Setup(Level.Trial)
+    public void createBoard() {
+        service = Boards.newService(Boards.CONCURRENT);
+        ids = Boards.populate(service, hot, "Disputada");
+        tasks = new Task[hot];
+        locked = new LockedTask[hot];
+        for (int i = 0; i < hot; i++) {
+            tasks[i] = service.getTaskById(ids[i]).orElseThrow();
+            locked[i] = new LockedTask(tasks[i].snapshot());
+        }
+    }
+
+    @Benchmark
+    @Threads(THREADS)
+    public TaskSnapshot lockFree() {
+        Task task = tasks[ThreadLocalRandom.current().nextInt(hot)];
+        UnaryOperator<TaskSnapshot> change = nextPriority();
+        TaskSnapshot applied;
+        do {
+            applied = task.updateIfVersion(task.getVersion(), change);
+        } while (applied == null);
+        return applied;
+    }
+
+    @Benchmark
+    @Threads(THREADS)
+    public TaskSnapshot synchronizedBaseline() {
+        LockedTask task = locked[ThreadLocalRandom.current().nextInt(hot)];
+        UnaryOperator<TaskSnapshot> change = nextPriority();
+        TaskSnapshot applied;
+        do {
+            applied = task.updateIfVersion(task.version(), change);
+        } while (applied == null);
+        return applied;
+    }
+
+    @Benchmark
+    @Threads(THREADS)
+    public UpdateResult serviceConditional() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int i = random.nextInt(hot);
+        Task.TaskStatus status = STATUSES[random.nextInt(STATUSES.length)];
+        UpdateResult result;
+        do {
+            result = service.updateTaskStatus(ids[i], status, tasks[i].getVersion());
+        } while (!result.applied());
+        return result;
+    }
+
+    @Benchmark
+    @Threads(THREADS)
+    public boolean serviceUnconditional() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        return service.updateTaskStatus(ids[random.nextInt(hot)], STATUSES[random.nextInt(STATUSES.length)]);
+    }
+
+    private static UnaryOperator<TaskSnapshot> nextPriority() {
+        int priority = Task.MIN_PRIORITY + ThreadLocalRandom.current().nextInt(Task.MAX_PRIORITY);
+        return s -> s.withPriority(priority);
+    }
+
+    // A mesma regra de Task.updateIfVersion, com o monitor da tarefa no lugar do CAS.
+    private static final class LockedTask {
+        private TaskSnapshot state;
+
+        LockedTask(TaskSnapshot state) {
+            this.state = state;
+        }
+
+        synchronized int version() {
+            return state.version();
+        }
+
+        synchronized TaskSnapshot updateIfVersion(int expectedVersion, UnaryOperator<TaskSnapshot> change) {
+            if (state.version() != expectedVersion) {
+                return null;
+            }
+            state = change.apply(state);
+            return state;
+        }
+    }
+}